@@ -0,0 +1,76 @@
+package com.pokemon.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.IndiceNombres;
+
+/**
+ * Compara la búsqueda por prefijo recorriendo el catálogo con la del
+ * trie de IndiceNombres, y mide la búsqueda aproximada.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusquedaNombresBenchmark {
+    
+    private static final int LIMITE = 10;
+    
+    @Param({"905"})
+    public int tamano;
+    
+    private List<Pokemon> catalogo;
+    private IndiceNombres indice;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        catalogo = DatosBenchmark.generar(tamano);
+        indice = IndiceNombres.construir(catalogo);
+    }
+    
+    @Benchmark
+    public List<Pokemon> prefijoRecorriendo() {
+        List<Pokemon> resultado = new ArrayList<>();
+        for (Pokemon pokemon : catalogo) {
+            if (pokemon.getName().toLowerCase(Locale.ROOT).startsWith("pi") && resultado.size() < LIMITE) {
+                resultado.add(pokemon);
+            }
+        }
+        return resultado;
+    }
+    
+    @Benchmark
+    public List<Pokemon> prefijoTrie() {
+        return indice.buscarPorPrefijo("Pi", LIMITE);
+    }
+    
+    @Benchmark
+    public List<Pokemon> aproximadoTrie() {
+        return indice.buscarAproximado("pikachoo", IndiceNombres.DISTANCIA_MAXIMA, LIMITE);
+    }
+    
+    @Benchmark
+    public IndiceNombres construir() {
+        return IndiceNombres.construir(catalogo);
+    }
+}
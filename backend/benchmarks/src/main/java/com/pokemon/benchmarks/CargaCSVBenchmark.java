@@ -0,0 +1,66 @@
+package com.pokemon.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.service.HashMapPokemon;
+import com.pokemon.service.MapaPokemons;
+import com.pokemon.util.LectorCSV;
+import com.pokemon.util.ResultadoCarga;
+
+/**
+ * Benchmarks de los modos de carga de LectorCSV.
+ * Ejecutar con -prof gc para comparar la tasa de asignación de memoria.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CargaCSVBenchmark {
+    
+    @Param({"100000"})
+    public int tamano;
+    
+    @Param({"4"})
+    public int hilos;
+    
+    private String rutaArchivo;
+    
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        Path archivo = DatosBenchmark.escribirCsv(DatosBenchmark.generarSinteticos(tamano));
+        rutaArchivo = archivo.toString();
+    }
+    
+    @Benchmark
+    public MapaPokemons secuencial() throws IOException {
+        return LectorCSV.leerArchivoPokemon(rutaArchivo, new HashMapPokemon());
+    }
+    
+    @Benchmark
+    public ResultadoCarga paralelo() throws IOException {
+        return LectorCSV.leerArchivoPokemonParalelo(rutaArchivo, new HashMapPokemon(), hilos);
+    }
+    
+    @Benchmark
+    public ResultadoCarga mapeado() throws IOException {
+        return LectorCSV.leerArchivoPokemonMapeado(rutaArchivo, new HashMapPokemon());
+    }
+}
@@ -0,0 +1,86 @@
+package com.pokemon.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.MapaPokemons;
+
+/**
+ * Benchmarks de ConcurrentMapaPokemons con varios hilos.
+ * El número de hilos se controla con -t, o con EscaladoHilos para
+ * recorrer automáticamente de 1 a N hilos.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentMapaPokemonsBenchmark {
+    
+    @Param({"100000"})
+    public int tamano;
+    
+    private MapaPokemons mapa;
+    private Pokemon[] pokemons;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Pokemon> datos = DatosBenchmark.generar(tamano);
+        mapa = DatosBenchmark.crearMapa("Concurrent", datos);
+        pokemons = datos.toArray(new Pokemon[0]);
+    }
+    
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int posicion;
+        
+        int siguiente(int limite) {
+            int actual = posicion;
+            posicion = actual + 1 == limite ? 0 : actual + 1;
+            return actual;
+        }
+    }
+    
+    @Benchmark
+    public Pokemon lecturas(Cursor cursor) {
+        return mapa.obtenerPokemon(pokemons[cursor.siguiente(pokemons.length)].getName());
+    }
+    
+    //--------
+    // Grupo mixto: tres lectores por cada escritor, para comprobar que
+    // las escrituras no detienen las búsquedas
+    //--------
+    @Benchmark
+    @Group("mixto")
+    @GroupThreads(3)
+    public Pokemon mixtoLectura(Cursor cursor) {
+        return mapa.obtenerPokemon(pokemons[cursor.siguiente(pokemons.length)].getName());
+    }
+    
+    @Benchmark
+    @Group("mixto")
+    @GroupThreads(1)
+    public Pokemon mixtoEscritura(Cursor cursor) {
+        Pokemon pokemon = pokemons[cursor.siguiente(pokemons.length)];
+        mapa.agregarPokemon(pokemon);
+        return pokemon;
+    }
+}
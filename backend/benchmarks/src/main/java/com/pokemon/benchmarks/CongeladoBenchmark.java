@@ -0,0 +1,109 @@
+package com.pokemon.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.MapaPokemons;
+import com.pokemon.service.PokemonMapFactory;
+
+/**
+ * Búsquedas por nombre en el catálogo congelado (hash perfecto) frente
+ * al mapa del que se copió.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CongeladoBenchmark {
+    //--------
+    // Se congela el mismo mapa que se usa de referencia; las consultas
+    // se barajan con semilla fija, como en TablaHashBenchmark
+    //--------
+    @Param({"HashMap", "TablaHash"})
+    public String tipoMapa;
+    
+    @Param({"905", "100000", "1000000"})
+    public int tamano;
+    
+    private MapaPokemons mapa;
+    private MapaPokemons congelado;
+    private String[] nombres;
+    private String[] ausentes;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Pokemon> datos = DatosBenchmark.generar(tamano);
+        mapa = DatosBenchmark.crearMapa(tipoMapa, datos);
+        congelado = PokemonMapFactory.congelar(mapa);
+        nombres = new String[datos.size()];
+        ausentes = new String[datos.size()];
+        for (int i = 0; i < nombres.length; i++) {
+            nombres[i] = datos.get(i).getName();
+            ausentes[i] = "Ausente-" + i;
+        }
+        Random random = new Random(42);
+        barajar(nombres, random);
+        barajar(ausentes, random);
+    }
+    
+    private static void barajar(String[] arreglo, Random random) {
+        for (int i = arreglo.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String temporal = arreglo[i];
+            arreglo[i] = arreglo[j];
+            arreglo[j] = temporal;
+        }
+    }
+    
+    //--------
+    // Cursor por hilo para recorrer las claves barajadas
+    //--------
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int posicion;
+        
+        int siguiente(int limite) {
+            int actual = posicion;
+            posicion = actual + 1 == limite ? 0 : actual + 1;
+            return actual;
+        }
+    }
+    
+    @Benchmark
+    public Pokemon buscarOrigen(Cursor cursor) {
+        return mapa.obtenerPokemon(nombres[cursor.siguiente(nombres.length)]);
+    }
+    
+    @Benchmark
+    public Pokemon buscarCongelado(Cursor cursor) {
+        return congelado.obtenerPokemon(nombres[cursor.siguiente(nombres.length)]);
+    }
+    
+    @Benchmark
+    public Pokemon ausenteOrigen(Cursor cursor) {
+        return mapa.obtenerPokemon(ausentes[cursor.siguiente(ausentes.length)]);
+    }
+    
+    @Benchmark
+    public Pokemon ausenteCongelado(Cursor cursor) {
+        return congelado.obtenerPokemon(ausentes[cursor.siguiente(ausentes.length)]);
+    }
+}
@@ -0,0 +1,143 @@
+package com.pokemon.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.LinkedHashMapPokemon;
+import com.pokemon.service.MapaPokemons;
+import com.pokemon.service.PokemonMapFactory;
+import com.pokemon.util.LectorCSV;
+
+/**
+ * Generador de conjuntos de datos para los benchmarks.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class DatosBenchmark {
+    //--------
+    // Tamaño que corresponde al archivo CSV real; cualquier otro
+    // tamaño se genera con Pokémon sintéticos reproducibles
+    //--------
+    public static final int TAMANO_CSV = 905;
+    
+    private static final String RUTA_CSV = System.getProperty(
+        "pokemon.csv", "../data/pokemon_data_pokeapi.csv");
+    
+    private static final String[] TIPOS = {
+        "Normal", "Fire", "Water", "Grass", "Electric", "Ice", "Fighting", "Poison", "Ground",
+        "Flying", "Psychic", "Bug", "Rock", "Ghost", "Dragon", "Dark", "Steel", "Fairy"
+    };
+    
+    private static final String[] HABILIDADES = {
+        "Overgrow", "Chlorophyll", "Blaze", "Solar-power", "Torrent", "Rain-dish", "Static",
+        "Lightning-rod", "Levitate", "Pressure", "Intimidate", "Moxie", "Swift-swim",
+        "Keen-eye", "Tangled-feet", "Run-away", "Synchronize", "Inner-focus", "Sturdy",
+        "Rock-head", "Thick-fat", "Cute-charm", "Shed-skin", "Compound-eyes", "Shield-dust"
+    };
+    
+    private DatosBenchmark() {
+    }
+    
+    /**
+     * Obtiene una lista de Pokémon del tamaño indicado.
+     */
+    public static List<Pokemon> generar(int tamano) {
+        //--------
+        // Con el tamaño del CSV se usan los datos reales si el archivo
+        // está disponible; en otro caso se generan datos sintéticos
+        //--------
+        if (tamano == TAMANO_CSV && Files.exists(Paths.get(RUTA_CSV))) {
+            try {
+                MapaPokemons mapa = LectorCSV.leerArchivoPokemon(RUTA_CSV, new LinkedHashMapPokemon());
+                return new ArrayList<>(mapa.obtenerTodos().values());
+            } catch (IOException e) {
+                System.err.println("No se pudo leer el CSV, se usarán datos sintéticos: " + e.getMessage());
+            }
+        }
+        return generarSinteticos(tamano);
+    }
+    
+    /**
+     * Genera Pokémon sintéticos con una semilla fija para que cada
+     * ejecución mida exactamente los mismos datos.
+     */
+    public static List<Pokemon> generarSinteticos(int tamano) {
+        Random random = new Random(42);
+        List<Pokemon> resultado = new ArrayList<>(tamano);
+        
+        for (int i = 0; i < tamano; i++) {
+            String type1 = TIPOS[random.nextInt(TIPOS.length)];
+            String type2 = random.nextBoolean() ? "" : TIPOS[random.nextInt(TIPOS.length)];
+            String abilities = HABILIDADES[random.nextInt(HABILIDADES.length)] + ", "
+                + HABILIDADES[random.nextInt(HABILIDADES.length)];
+            
+            resultado.add(new Pokemon(
+                "Sintetico-" + i,
+                i + 1,
+                type1,
+                type2,
+                type1 + " Pokémon",
+                0.1f + random.nextInt(200) / 10.0f,
+                0.1f + random.nextInt(10000) / 10.0f,
+                abilities,
+                1 + random.nextInt(8),
+                random.nextInt(100) < 3
+            ));
+        }
+        return resultado;
+    }
+    
+    /**
+     * Genera el texto CSV de los Pokémon con el mismo formato que el
+     * archivo real. Sin comillas, las comas de las habilidades se
+     * reemplazan por '/' para que split(",") vea las mismas columnas.
+     */
+    public static String generarCsv(List<Pokemon> pokemons, boolean conComillas) {
+        StringBuilder sb = new StringBuilder(pokemons.size() * 96);
+        sb.append("Name,Pokedex Number,Type1,Type2,Classification,Height (m),Weight (kg),"
+            + "Abilities,Generation,Legendary Status\n");
+        for (Pokemon p : pokemons) {
+            String abilities = conComillas
+                ? "\"" + p.getAbilities().replace("\"", "\"\"") + "\""
+                : p.getAbilities().replace(',', '/');
+            sb.append(p.getName()).append(',')
+              .append(p.getPokedexNumber()).append(',')
+              .append(p.getType1()).append(',')
+              .append(p.getType2()).append(',')
+              .append(p.getClassification()).append(',')
+              .append(p.getHeight()).append(',')
+              .append(p.getWeight()).append(',')
+              .append(abilities).append(',')
+              .append(p.getGeneration()).append(',')
+              .append(p.isLegendary() ? "Yes" : "No").append('\n');
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Escribe los Pokémon en un archivo temporal con el formato del CSV real.
+     */
+    public static Path escribirCsv(List<Pokemon> pokemons) throws IOException {
+        Path archivo = Files.createTempFile("pokemon-benchmark", ".csv");
+        archivo.toFile().deleteOnExit();
+        Files.write(archivo, generarCsv(pokemons, true).getBytes(StandardCharsets.UTF_8));
+        return archivo;
+    }
+    
+    /**
+     * Crea el mapa indicado por nombre y lo llena con los Pokémon dados.
+     */
+    public static MapaPokemons crearMapa(String tipoMapa, List<Pokemon> pokemons) {
+        MapaPokemons mapa = PokemonMapFactory.crearMapaPorNombre(tipoMapa);
+        for (Pokemon pokemon : pokemons) {
+            mapa.agregarPokemon(pokemon);
+        }
+        return mapa;
+    }
+}
@@ -0,0 +1,38 @@
+package com.pokemon.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de benchmarks.jar.
+ * Acepta las mismas opciones de línea de comandos que JMH, pero por
+ * defecto guarda los resultados en JSON para comparar entre builds.
+ * Autor: Fatima Navarro - 24044
+ */
+public class EjecutorBenchmarks {
+    
+    private static final String RESULTADO_POR_DEFECTO = "target/jmh-result.json";
+    
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions linea = new CommandLineOptions(args);
+        ChainedOptionsBuilder opciones = new OptionsBuilder().parent(linea);
+        
+        //--------
+        // Solo se aplican los valores por defecto cuando el usuario
+        // no indicó formato o archivo de resultados con -rf / -rff
+        //--------
+        if (!linea.getResultFormat().hasValue()) {
+            opciones.resultFormat(ResultFormatType.JSON);
+        }
+        if (!linea.getResult().hasValue()) {
+            opciones.result(RESULTADO_POR_DEFECTO);
+        }
+        
+        new Runner(opciones.build()).run();
+    }
+}
@@ -0,0 +1,42 @@
+package com.pokemon.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ejecuta las lecturas de ConcurrentMapaPokemonsBenchmark con 1, 2, 4...
+ * hasta N hilos (por defecto, la cantidad de procesadores disponibles).
+ * Uso: java -cp target/benchmarks.jar com.pokemon.benchmarks.EscaladoHilos [N]
+ * Autor: Fatima Navarro - 24044
+ */
+public class EscaladoHilos {
+    
+    public static void main(String[] args) throws RunnerException {
+        int maximo = args.length > 0
+            ? Integer.parseInt(args[0])
+            : Runtime.getRuntime().availableProcessors();
+        
+        for (int hilos = 1; hilos <= maximo; hilos = siguiente(hilos, maximo)) {
+            Options opciones = new OptionsBuilder()
+                .include(ConcurrentMapaPokemonsBenchmark.class.getSimpleName() + ".lecturas")
+                .threads(hilos)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-escalado-" + hilos + "-hilos.json")
+                .build();
+            new Runner(opciones).run();
+        }
+    }
+    
+    /**
+     * Duplica la cantidad de hilos sin saltarse el máximo pedido.
+     */
+    private static int siguiente(int hilos, int maximo) {
+        if (hilos == maximo) {
+            return maximo + 1;
+        }
+        return Math.min(hilos * 2, maximo);
+    }
+}
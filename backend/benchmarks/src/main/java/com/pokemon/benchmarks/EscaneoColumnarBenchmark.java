@@ -0,0 +1,97 @@
+package com.pokemon.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.HashMapPokemon;
+import com.pokemon.service.PokemonStore;
+
+/**
+ * Compara filtros que recorren todo el catálogo sobre objetos Pokemon
+ * (HashMapPokemon) y sobre columnas primitivas (PokemonStore).
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EscaneoColumnarBenchmark {
+    
+    @Param({"905", "100000", "1000000"})
+    public int tamano;
+    
+    private HashMapPokemon objetos;
+    private PokemonStore columnas;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Pokemon> datos = DatosBenchmark.generar(tamano);
+        objetos = (HashMapPokemon) DatosBenchmark.crearMapa("HashMap", datos);
+        columnas = (PokemonStore) DatosBenchmark.crearMapa("Columnar", datos);
+    }
+    
+    @Benchmark
+    public long contarLegendariosObjetos() {
+        long total = 0;
+        for (Pokemon p : objetos.obtenerTodos().values()) {
+            if (p.isLegendary()) {
+                total++;
+            }
+        }
+        return total;
+    }
+    
+    @Benchmark
+    public long contarLegendariosColumnas() {
+        return columnas.contarLegendarios();
+    }
+    
+    @Benchmark
+    public int rangoDePesoObjetos() {
+        // Filtro selectivo: pocos Pokémon pesan más de 990 kg
+        int total = 0;
+        for (Pokemon p : objetos.obtenerTodos().values()) {
+            if (p.getWeight() >= 990f && p.getWeight() <= 1000f) {
+                total++;
+            }
+        }
+        return total;
+    }
+    
+    @Benchmark
+    public int rangoDePesoColumnas() {
+        return columnas.buscarPorRangoDePeso(990f, 1000f).size();
+    }
+    
+    @Benchmark
+    public int generacionObjetos() {
+        int total = 0;
+        for (Pokemon p : objetos.obtenerTodos().values()) {
+            if (p.getGeneration() == 3) {
+                total++;
+            }
+        }
+        return total;
+    }
+    
+    @Benchmark
+    public int generacionColumnas() {
+        return columnas.buscarPorGeneracion(3).size();
+    }
+}
@@ -0,0 +1,110 @@
+package com.pokemon.benchmarks;
+
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.MapaPokemons;
+import com.pokemon.service.TablaHashAbierta;
+
+/**
+ * Reporte de la memoria que ocupan HashMap, LinkedHashMap y la tabla de
+ * TablaHashAbiertaPokemon con 1K, 100K y 1M de Pokémon, medida como
+ * diferencia del heap usado. Los Pokémon y sus nombres se crean antes y
+ * se comparten, así que solo se cuenta la estructura.
+ * También compara HashMapPokemon con PokemonStore completos después de
+ * recorrer todo el catálogo, contando los Pokémon que cada uno mantiene.
+ * Uso: java -Xmx2g -cp target/benchmarks.jar com.pokemon.benchmarks.HuellaMemoria
+ * Autor: Fatima Navarro - 24044
+ */
+public class HuellaMemoria {
+    
+    private static final int[] TAMANOS = {1000, 100000, 1000000};
+    
+    public static void main(String[] args) {
+        System.out.println(String.format(Locale.ROOT, "%-10s %-14s %14s %12s %16s",
+            "Elementos", "Estructura", "Bytes", "Bytes/elem", "Estimado/elem"));
+        for (int tamano : TAMANOS) {
+            List<Pokemon> pokemons = DatosBenchmark.generar(tamano);
+            
+            reportar(tamano, "HashMap", () -> llenar(new HashMap<>(), pokemons));
+            reportar(tamano, "LinkedHashMap", () -> llenar(new LinkedHashMap<>(), pokemons));
+            reportar(tamano, "TablaHash", () -> {
+                TablaHashAbierta tabla = new TablaHashAbierta(16);
+                for (Pokemon pokemon : pokemons) {
+                    tabla.poner(pokemon);
+                }
+                return tabla;
+            });
+        }
+        
+        //--------
+        // Motores completos: los Pokémon se crean dentro de la medición y
+        // solo quedan vivos los que el motor guarda. El recorrido completo
+        // crea un Pokémon por fila en PokemonStore; después de él la
+        // columnar debe seguir ocupando menos que HashMapPokemon
+        //--------
+        System.out.println();
+        System.out.println("Motores después de recorrer todo el catálogo (incluye los Pokémon retenidos)");
+        for (int tamano : TAMANOS) {
+            reportar(tamano, "HashMapPokemon", () -> recorrer(DatosBenchmark.crearMapa("HashMap", DatosBenchmark.generar(tamano))));
+            reportar(tamano, "PokemonStore", () -> recorrer(DatosBenchmark.crearMapa("Columnar", DatosBenchmark.generar(tamano))));
+        }
+    }
+    
+    /**
+     * Lee todos los Pokémon del mapa, como hace Main al armar el índice de nombres.
+     */
+    private static MapaPokemons recorrer(MapaPokemons mapa) {
+        long pesoTotal = 0;
+        for (Pokemon pokemon : mapa.obtenerTodos().values()) {
+            pesoTotal += (long) pokemon.getWeight();
+        }
+        if (pesoTotal < 0) {
+            System.out.println(pesoTotal);
+        }
+        return mapa;
+    }
+    
+    private static Map<String, Pokemon> llenar(Map<String, Pokemon> mapa, List<Pokemon> pokemons) {
+        for (Pokemon pokemon : pokemons) {
+            mapa.put(pokemon.getName(), pokemon);
+        }
+        return mapa;
+    }
+    
+    /**
+     * Crea la estructura y muestra cuánto creció el heap, junto con la
+     * estimación de bytesEstimados()/bytesHashMap() cuando la hay.
+     */
+    private static void reportar(int tamano, String estructura, Supplier<Object> crear) {
+        long antes = heapUsado();
+        Object creada = crear.get();
+        long bytes = heapUsado() - antes;
+        
+        long estimado = -1;
+        if (creada instanceof TablaHashAbierta) {
+            estimado = ((TablaHashAbierta) creada).bytesEstimados();
+        } else if (creada.getClass() == HashMap.class) {
+            estimado = TablaHashAbierta.bytesHashMap(tamano);
+        }
+        String porElemento = estimado < 0 ? "-" : String.format(Locale.ROOT, "%.1f", (double) estimado / tamano);
+        System.out.println(String.format(Locale.ROOT, "%-10d %-14s %14d %12.1f %16s",
+            tamano, estructura, bytes, (double) bytes / tamano, porElemento));
+        // La estructura debe seguir viva durante la medición
+        Reference.reachabilityFence(creada);
+    }
+    
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,88 @@
+package com.pokemon.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+import com.pokemon.service.PokemonIndex;
+
+/**
+ * Compara los filtros con streams que usaba ColeccionUsuario con los
+ * mapas de bits de PokemonIndex, para un filtro simple y uno compuesto
+ * (legendarios de tipo Dragón de la generación 4).
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndiceBitsBenchmark {
+    
+    @Param({"905", "100000"})
+    public int tamano;
+    
+    private List<Pokemon> pokemons;
+    private PokemonIndex indice;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        pokemons = DatosBenchmark.generar(tamano);
+        indice = new PokemonIndex();
+        for (Pokemon pokemon : pokemons) {
+            indice.agregar(pokemon);
+        }
+    }
+    
+    @Benchmark
+    public List<Pokemon> tipoConStreams() {
+        return pokemons.stream()
+            .filter(p -> p.tieneTipo(PokemonType.DRAGON))
+            .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public List<Pokemon> tipoConBits() {
+        return indice.buscar(PokemonType.DRAGON, PokemonIndex.CUALQUIER_GENERACION, null);
+    }
+    
+    @Benchmark
+    public List<Pokemon> compuestoConStreams() {
+        return pokemons.stream()
+            .filter(p -> p.tieneTipo(PokemonType.DRAGON))
+            .filter(p -> p.getGeneration() == 4)
+            .filter(Pokemon::isLegendary)
+            .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public List<Pokemon> compuestoConBits() {
+        return indice.buscar(PokemonType.DRAGON, 4, true);
+    }
+    
+    @Benchmark
+    public long contarGeneracionConStreams() {
+        return pokemons.stream().filter(p -> p.getGeneration() == 4).count();
+    }
+    
+    @Benchmark
+    public int contarGeneracionConBits() {
+        return indice.contar(null, 4, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.pokemon.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.metricas.RegistroMetricas;
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.InstrumentedMapaPokemons;
+import com.pokemon.service.MapaPokemons;
+
+/**
+ * Sobrecosto de InstrumentedMapaPokemons frente a la misma
+ * implementación sin envolver, en las operaciones más baratas.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentacionBenchmark {
+    
+    @Param({"HashMap", "Columnar"})
+    public String tipoMapa;
+    
+    private MapaPokemons base;
+    private MapaPokemons instrumentado;
+    private String[] nombres;
+    private int posicion;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Pokemon> datos = DatosBenchmark.generar(905);
+        base = DatosBenchmark.crearMapa(tipoMapa, datos);
+        // Registro propio para no mezclar estas mediciones con las globales
+        instrumentado = new InstrumentedMapaPokemons(base, new RegistroMetricas());
+        nombres = new String[datos.size()];
+        for (int i = 0; i < nombres.length; i++) {
+            nombres[i] = datos.get(i).getName();
+        }
+    }
+    
+    private String siguienteNombre() {
+        posicion = posicion + 1 == nombres.length ? 0 : posicion + 1;
+        return nombres[posicion];
+    }
+    
+    @Benchmark
+    public boolean existeBase() {
+        return base.existePokemon(siguienteNombre());
+    }
+    
+    @Benchmark
+    public boolean existeInstrumentado() {
+        return instrumentado.existePokemon(siguienteNombre());
+    }
+    
+    @Benchmark
+    public Pokemon obtenerBase() {
+        return base.obtenerPokemon(siguienteNombre());
+    }
+    
+    @Benchmark
+    public Pokemon obtenerInstrumentado() {
+        return instrumentado.obtenerPokemon(siguienteNombre());
+    }
+}
@@ -0,0 +1,120 @@
+package com.pokemon.benchmarks;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.MapaPokemons;
+
+/**
+ * Benchmarks de las operaciones de MapaPokemons para cada implementación.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapaPokemonsBenchmark {
+    //--------
+    // Cada combinación de implementación y tamaño se mide por
+    // separado; 905 corresponde al CSV real y el resto son sintéticos
+    //--------
+    @Param({"HashMap", "TreeMap", "LinkedHashMap", "Concurrent", "Columnar", "TablaHash"})
+    public String tipoMapa;
+    
+    @Param({"905", "10000", "100000", "1000000"})
+    public int tamano;
+    
+    private static final String[] CONSULTAS_HABILIDAD = {
+        "overgrow", "blaze", "lev", "pressure", "swift", "eye"
+    };
+    
+    private MapaPokemons mapa;
+    private Pokemon[] pokemons;
+    private String[] nombres;
+    private String[] nombresEnMayusculas;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Pokemon> datos = DatosBenchmark.generar(tamano);
+        mapa = DatosBenchmark.crearMapa(tipoMapa, datos);
+        pokemons = datos.toArray(new Pokemon[0]);
+        nombres = new String[pokemons.length];
+        for (int i = 0; i < pokemons.length; i++) {
+            nombres[i] = pokemons[i].getName();
+        }
+        nombresEnMayusculas = new String[nombres.length];
+        for (int i = 0; i < nombres.length; i++) {
+            nombresEnMayusculas[i] = nombres[i].toUpperCase(Locale.ROOT);
+        }
+    }
+    
+    //--------
+    // Cursor por hilo para recorrer las claves y evitar que el JIT
+    // optimice una consulta constante
+    //--------
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int posicion;
+        
+        int siguiente(int limite) {
+            int actual = posicion;
+            posicion = actual + 1 == limite ? 0 : actual + 1;
+            return actual;
+        }
+    }
+    
+    @Benchmark
+    public Pokemon agregarPokemon(Cursor cursor) {
+        //--------
+        // Reinsertamos Pokémon existentes para medir el costo de la
+        // inserción sin que el mapa crezca entre iteraciones
+        //--------
+        Pokemon pokemon = pokemons[cursor.siguiente(pokemons.length)];
+        mapa.agregarPokemon(pokemon);
+        return pokemon;
+    }
+    
+    @Benchmark
+    public Pokemon obtenerPokemon(Cursor cursor) {
+        return mapa.obtenerPokemon(nombres[cursor.siguiente(nombres.length)]);
+    }
+    
+    @Benchmark
+    public String resolverNombreEnMayusculas(Cursor cursor) {
+        // Sin distinguir mayúsculas; con -prof gc no debería reservar memoria
+        return mapa.resolverNombre(nombresEnMayusculas[cursor.siguiente(nombresEnMayusculas.length)]);
+    }
+    
+    @Benchmark
+    public boolean existePokemon(Cursor cursor) {
+        return mapa.existePokemon(nombres[cursor.siguiente(nombres.length)]);
+    }
+    
+    @Benchmark
+    public Map<String, Pokemon> buscarPorHabilidad(Cursor cursor) {
+        return mapa.buscarPorHabilidad(CONSULTAS_HABILIDAD[cursor.siguiente(CONSULTAS_HABILIDAD.length)]);
+    }
+    
+    @Benchmark
+    public List<Pokemon> obtenerOrdenadosPorTipo() {
+        return mapa.obtenerOrdenadosPorTipo();
+    }
+}
@@ -0,0 +1,54 @@
+package com.pokemon.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.metricas.HistogramaLatencia;
+import com.pokemon.metricas.RegistroMetricas;
+
+/**
+ * Costo de registrar una medición en el histograma, con uno y con
+ * cuatro hilos escribiendo a la vez.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricasBenchmark {
+    
+    private HistogramaLatencia histograma;
+    private long valor;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        histograma = RegistroMetricas.global().histograma("Benchmark.operacion");
+    }
+    
+    @Benchmark
+    public void registrar() {
+        // Valores variados para no golpear siempre la misma cubeta
+        valor = (valor + 7919) & 0xFFFF;
+        histograma.registrar(valor);
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void registrarCuatroHilos() {
+        registrar();
+    }
+}
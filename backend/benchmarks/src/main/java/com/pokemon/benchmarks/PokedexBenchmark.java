@@ -0,0 +1,79 @@
+package com.pokemon.benchmarks;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.LinkedHashMapPokemon;
+import com.pokemon.service.MapaPokemons;
+
+/**
+ * Compara buscar por número de Pokédex y recorrer en ese orden
+ * recorriendo y ordenando el mapa contra el índice por número.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PokedexBenchmark {
+    
+    @Param({"905", "100000"})
+    public int tamano;
+    
+    private MapaPokemons mapa;
+    private int numero;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        mapa = new LinkedHashMapPokemon();
+        for (Pokemon pokemon : DatosBenchmark.generar(tamano)) {
+            mapa.agregarPokemon(pokemon);
+        }
+        numero = tamano / 2;
+    }
+    
+    @Benchmark
+    public Pokemon recorrerPorNumero() {
+        for (Pokemon pokemon : mapa.obtenerTodos().values()) {
+            if (pokemon.getPokedexNumber() == numero) {
+                return pokemon;
+            }
+        }
+        return null;
+    }
+    
+    @Benchmark
+    public Pokemon indicePorNumero() {
+        return mapa.obtenerPorPokedex(numero);
+    }
+    
+    @Benchmark
+    public List<Pokemon> ordenarPorNumero() {
+        return mapa.obtenerTodos().values().stream()
+            .sorted(Comparator.comparingInt(Pokemon::getPokedexNumber))
+            .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public List<Pokemon> indiceEnOrden() {
+        return mapa.obtenerOrdenadosPorPokedex();
+    }
+}
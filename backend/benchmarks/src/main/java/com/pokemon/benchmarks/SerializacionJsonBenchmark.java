@@ -0,0 +1,110 @@
+package com.pokemon.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonResponse;
+
+/**
+ * Compara la serialización de una respuesta con el catálogo completo:
+ * toJson() arma un String y luego sus bytes; escribirJson() escribe los
+ * bytes directamente en la salida. Conviene ejecutarlo con -prof gc para
+ * ver la memoria reservada por operación.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacionJsonBenchmark {
+    
+    @Param({"905"})
+    public int tamano;
+    
+    private PokemonResponse respuesta;
+    private Map<String, Pokemon> catalogo;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Pokemon> pokemons = DatosBenchmark.generar(tamano);
+        respuesta = PokemonResponse.success("Catálogo completo", pokemons);
+        respuesta.addMetadata("total", pokemons.size());
+        
+        catalogo = new LinkedHashMap<>();
+        for (Pokemon pokemon : pokemons) {
+            catalogo.put(pokemon.getName(), pokemon);
+        }
+    }
+    
+    @Benchmark
+    public byte[] toJson() {
+        return respuesta.toJson().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws IOException {
+        respuesta.escribirJson(new SalidaDescartada(blackhole));
+    }
+    
+    //--------
+    // Armar los datos de la respuesta a partir del mapa: con un
+    // HashMap por Pokémon (convertPokemonMapToList) o con la lista tipada
+    //--------
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public void mapasIntermedios(Blackhole blackhole) throws IOException {
+        PokemonResponse.success("Catálogo completo", PokemonResponse.convertPokemonMapToList(catalogo))
+            .escribirJson(new SalidaDescartada(blackhole));
+    }
+    
+    @Benchmark
+    public void listaTipada(Blackhole blackhole) throws IOException {
+        PokemonResponse.success("Catálogo completo", PokemonResponse.listaPokemon(catalogo))
+            .escribirJson(new SalidaDescartada(blackhole));
+    }
+    
+    /**
+     * Salida que entrega los bytes al Blackhole sin guardarlos, como un
+     * socket que los envía en cuanto llegan.
+     */
+    private static final class SalidaDescartada extends OutputStream {
+        private final Blackhole blackhole;
+        
+        SalidaDescartada(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+        
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+        
+        @Override
+        public void write(byte[] bytes, int desde, int longitud) {
+            blackhole.consume(bytes);
+            blackhole.consume(longitud);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.pokemon.benchmarks;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.TablaHashAbierta;
+
+/**
+ * Compara la tabla de TablaHashAbiertaPokemon con HashMap y LinkedHashMap
+ * del JDK: búsquedas con y sin éxito, y carga completa creciendo desde
+ * la capacidad por defecto.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TablaHashBenchmark {
+    //--------
+    // Se comparan las estructuras solas, sin los índices de habilidades
+    // y nombres que cada MapaPokemons mantiene además
+    //--------
+    @Param({"1000", "100000", "1000000"})
+    public int tamano;
+    
+    private Pokemon[] pokemons;
+    private String[] nombres;
+    private String[] ausentes;
+    private Map<String, Pokemon> hashMap;
+    private Map<String, Pokemon> linkedHashMap;
+    private TablaHashAbierta tabla;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Pokemon> datos = DatosBenchmark.generar(tamano);
+        pokemons = datos.toArray(new Pokemon[0]);
+        nombres = new String[pokemons.length];
+        ausentes = new String[pokemons.length];
+        for (int i = 0; i < pokemons.length; i++) {
+            nombres[i] = pokemons[i].getName();
+            ausentes[i] = "Ausente-" + i;
+        }
+        //--------
+        // Las consultas reales no llegan en orden de inserción; en ese
+        // orden los nombres sintéticos caen en buckets consecutivos de
+        // HashMap y su tabla se recorre casi en secuencia. Se barajan
+        // con semilla fija para que todas las corridas consulten igual
+        //--------
+        Random random = new Random(42);
+        barajar(nombres, random);
+        barajar(ausentes, random);
+        hashMap = cargarHashMap();
+        linkedHashMap = cargarLinkedHashMap();
+        tabla = cargarTabla();
+    }
+    
+    private static void barajar(String[] arreglo, Random random) {
+        for (int i = arreglo.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String temporal = arreglo[i];
+            arreglo[i] = arreglo[j];
+            arreglo[j] = temporal;
+        }
+    }
+    
+    //--------
+    // Cursor por hilo para recorrer las claves barajadas
+    //--------
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int posicion;
+        
+        int siguiente(int limite) {
+            int actual = posicion;
+            posicion = actual + 1 == limite ? 0 : actual + 1;
+            return actual;
+        }
+    }
+    
+    @Benchmark
+    public Pokemon buscarHashMap(Cursor cursor) {
+        return hashMap.get(nombres[cursor.siguiente(nombres.length)]);
+    }
+    
+    @Benchmark
+    public Pokemon buscarLinkedHashMap(Cursor cursor) {
+        return linkedHashMap.get(nombres[cursor.siguiente(nombres.length)]);
+    }
+    
+    @Benchmark
+    public Pokemon buscarTabla(Cursor cursor) {
+        return tabla.obtener(nombres[cursor.siguiente(nombres.length)]);
+    }
+    
+    @Benchmark
+    public Pokemon ausenteHashMap(Cursor cursor) {
+        return hashMap.get(ausentes[cursor.siguiente(ausentes.length)]);
+    }
+    
+    @Benchmark
+    public Pokemon ausenteLinkedHashMap(Cursor cursor) {
+        return linkedHashMap.get(ausentes[cursor.siguiente(ausentes.length)]);
+    }
+    
+    @Benchmark
+    public Pokemon ausenteTabla(Cursor cursor) {
+        return tabla.obtener(ausentes[cursor.siguiente(ausentes.length)]);
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public Map<String, Pokemon> cargarHashMap() {
+        Map<String, Pokemon> mapa = new HashMap<>();
+        for (Pokemon pokemon : pokemons) {
+            mapa.put(pokemon.getName(), pokemon);
+        }
+        return mapa;
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public Map<String, Pokemon> cargarLinkedHashMap() {
+        Map<String, Pokemon> mapa = new LinkedHashMap<>();
+        for (Pokemon pokemon : pokemons) {
+            mapa.put(pokemon.getName(), pokemon);
+        }
+        return mapa;
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public TablaHashAbierta cargarTabla() {
+        TablaHashAbierta nueva = new TablaHashAbierta(16);
+        for (Pokemon pokemon : pokemons) {
+            nueva.poner(pokemon);
+        }
+        return nueva;
+    }
+}
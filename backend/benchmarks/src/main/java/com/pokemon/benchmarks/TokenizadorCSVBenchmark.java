@@ -0,0 +1,106 @@
+package com.pokemon.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.util.TokenizadorCSV;
+
+/**
+ * Compara el tokenizador de CSV con la separación por split(",") que
+ * usaba LectorCSV. Ambos leen el mismo texto en memoria y crean los
+ * mismos Pokémon, así que solo se mide la interpretación de las filas.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenizadorCSVBenchmark {
+    
+    @Param({"100000"})
+    public int tamano;
+    
+    //--------
+    // split(",") no entiende comillas, así que se compara sobre un texto
+    // sin ellas; el texto con comillas mide el costo del caso real
+    //--------
+    private String csvSinComillas;
+    private String csvConComillas;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        csvSinComillas = DatosBenchmark.generarCsv(DatosBenchmark.generarSinteticos(tamano), false);
+        csvConComillas = DatosBenchmark.generarCsv(DatosBenchmark.generarSinteticos(tamano), true);
+    }
+    
+    @Benchmark
+    public void split(Blackhole blackhole) throws IOException {
+        try (BufferedReader br = new BufferedReader(new StringReader(csvSinComillas))) {
+            br.readLine();
+            String linea;
+            while ((linea = br.readLine()) != null) {
+                String[] datos = linea.split(",");
+                blackhole.consume(new Pokemon(
+                    datos[0].trim(),
+                    Integer.parseInt(datos[1].trim()),
+                    datos[2].trim(),
+                    datos[3].trim(),
+                    datos[4].trim(),
+                    Float.parseFloat(datos[5].trim()),
+                    Float.parseFloat(datos[6].trim()),
+                    datos[7].trim(),
+                    Integer.parseInt(datos[8].trim()),
+                    datos[9].trim().toLowerCase().contains("legendary")
+                ));
+            }
+        }
+    }
+    
+    @Benchmark
+    public void tokenizador(Blackhole blackhole) throws IOException {
+        leerConTokenizador(csvSinComillas, blackhole);
+    }
+    
+    @Benchmark
+    public void tokenizadorConComillas(Blackhole blackhole) throws IOException {
+        leerConTokenizador(csvConComillas, blackhole);
+    }
+    
+    private void leerConTokenizador(String csv, Blackhole blackhole) throws IOException {
+        TokenizadorCSV tokenizador = new TokenizadorCSV(new StringReader(csv));
+        tokenizador.siguienteFila();
+        while (tokenizador.siguienteFila()) {
+            blackhole.consume(new Pokemon(
+                tokenizador.campoSinEspacios(0),
+                tokenizador.entero(1),
+                tokenizador.campoSinEspacios(2),
+                tokenizador.campoSinEspacios(3),
+                tokenizador.campoSinEspacios(4),
+                tokenizador.decimal(5),
+                tokenizador.decimal(6),
+                tokenizador.campoSinEspacios(7),
+                tokenizador.entero(8),
+                tokenizador.campoSinEspacios(9).equalsIgnoreCase("yes")
+            ));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.pokemon.benchmarks;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+import com.pokemon.service.LinkedHashMapPokemon;
+import com.pokemon.service.MapaPokemons;
+import com.pokemon.service.PokemonIndex;
+import com.pokemon.service.PokemonStore;
+import com.pokemon.service.TopK;
+
+/**
+ * Compara "los 10 Pokémon de agua más pesados" ordenando todo con
+ * streams, con el montículo acotado de TopK y con la columna ya
+ * ordenada de PokemonStore.
+ * Autor: Fatima Navarro - 24044
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TopKBenchmark {
+    
+    @Param({"905", "100000"})
+    public int tamano;
+    
+    private MapaPokemons mapa;
+    private PokemonStore columnar;
+    
+    @Setup(Level.Trial)
+    public void preparar() {
+        mapa = new LinkedHashMapPokemon();
+        columnar = new PokemonStore();
+        for (Pokemon pokemon : DatosBenchmark.generar(tamano)) {
+            mapa.agregarPokemon(pokemon);
+            columnar.agregarPokemon(pokemon);
+        }
+        // La primera consulta ordena la columna; se mide el caso ya ordenado
+        columnar.obtenerMayores(TopK.Criterio.PESO, 1, null, PokemonIndex.CUALQUIER_GENERACION);
+    }
+    
+    @Benchmark
+    public List<Pokemon> ordenarTodo() {
+        return mapa.obtenerTodos().values().stream()
+            .filter(p -> p.tieneTipo(PokemonType.WATER))
+            .sorted(Comparator.comparingDouble(Pokemon::getWeight).reversed())
+            .limit(10)
+            .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public List<Pokemon> monticuloAcotado() {
+        return mapa.obtenerMayores(TopK.Criterio.PESO, 10, PokemonType.WATER, PokemonIndex.CUALQUIER_GENERACION);
+    }
+    
+    @Benchmark
+    public List<Pokemon> columnaOrdenada() {
+        return columnar.obtenerMayores(TopK.Criterio.PESO, 10, PokemonType.WATER, PokemonIndex.CUALQUIER_GENERACION);
+    }
+}
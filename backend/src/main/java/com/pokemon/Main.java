@@ -1,15 +1,23 @@
 package com.pokemon;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 
+import com.pokemon.api.ServidorApi;
+import com.pokemon.metricas.RegistroMetricas;
+import com.pokemon.metricas.ResumenLatencia;
 import com.pokemon.model.Pokemon;
 import com.pokemon.service.ColeccionUsuario;
+import com.pokemon.service.IndiceNombres;
 import com.pokemon.service.MapaPokemons;
+import com.pokemon.service.PaginaPokemon;
 import com.pokemon.service.PokemonMapFactory;
 import com.pokemon.util.LectorCSV;
+import com.pokemon.util.ResultadoCarga;
 
 /**
  * Clase principal del programa para exploración de Pokémon.
@@ -22,8 +30,15 @@ public class Main {
     //--------
     private static MapaPokemons mapaPokemons;
     private static ColeccionUsuario coleccionUsuario;
+    private static IndiceNombres indiceNombres;
     private static Scanner scanner = new Scanner(System.in);
     
+    // Puerto del servidor API si no se indica otro
+    private static final int PUERTO_API = 8080;
+    private static final int PUERTO_MINIMO = 1;
+    private static final int PUERTO_MAXIMO = 65535;
+    private static final String USO_API = "Uso: --api [puerto] [dirección] (por defecto 8080 en 127.0.0.1; 0.0.0.0 escucha en todas las interfaces)";
+    
     public static void main(String[] args) {
         //--------
         // Punto de entrada principal de la aplicación
@@ -31,12 +46,30 @@ public class Main {
         //--------
         mostrarEncabezado();
         
+        // Las latencias por operación quedan visibles en jconsole (com.pokemon:type=Metricas);
+        // con -Dpokemon.metricas=false no se registra nada
+        if (RegistroMetricas.HABILITADAS) {
+            RegistroMetricas.global().publicarJmx();
+        }
+        
+        // Con "--api [puerto] [dirección]" se sirve el catálogo por HTTP en lugar del menú
+        if (args.length > 0 && args[0].equals("--api")) {
+            int puerto = args.length > 1 ? leerPuerto(args[1]) : PUERTO_API;
+            InetAddress direccion = args.length > 2 ? leerDireccion(args[2]) : InetAddress.getLoopbackAddress();
+            if (puerto < 0 || direccion == null) {
+                System.exit(1);
+            }
+            iniciarServidorApi(puerto, direccion);
+            return;
+        }
+        
         try {
             // Selección del tipo de mapa a utilizar
             int tipoMapa = seleccionarTipoMapa();
             
             // Crear el mapa usando el Factory
-            mapaPokemons = PokemonMapFactory.crearMapa(tipoMapa);
+            // Con métricas habilitadas cada operación registra su latencia
+            mapaPokemons = PokemonMapFactory.crearMapa(tipoMapa, RegistroMetricas.HABILITADAS);
             
             // Inicializar la colección del usuario
             coleccionUsuario = new ColeccionUsuario(mapaPokemons);
@@ -86,9 +119,12 @@ public class Main {
         System.out.println("1) HashMap     - Acceso rápido, sin orden");
         System.out.println("2) TreeMap     - Ordenado por nombre");
         System.out.println("3) LinkedHashMap - Mantiene orden de inserción");
+        System.out.println("4) Concurrent  - Seguro entre hilos");
+        System.out.println("5) Columnar    - Almacenamiento por columnas");
+        System.out.println("6) TablaHash   - Tabla hash propia, sin nodos por entrada");
         System.out.println("----------------------------------");
         
-        return obtenerEntero("Seleccione una opción (1-3): ", 1, 3);
+        return obtenerEntero("Seleccione una opción (1-6): ", 1, 6);
     }
     
     /**
@@ -105,8 +141,14 @@ public class Main {
             // Ruta al archivo CSV (relativa al directorio de ejecución)
             String rutaArchivo = "data/pokemon_data_pokeapi.csv";
             
-            // Leer el archivo y cargar los Pokémon
-            mapaPokemons = LectorCSV.leerArchivoPokemon(rutaArchivo, mapaPokemons);
+            // Usar la instantánea binaria si está vigente; si no, leer el
+            // archivo en paralelo, con un hilo por procesador
+            int hilos = Runtime.getRuntime().availableProcessors();
+            ResultadoCarga resultado = LectorCSV.leerConInstantanea(rutaArchivo, mapaPokemons, hilos);
+            System.out.println(resultado);
+            
+            // El catálogo no cambia después de la carga: el índice se arma una vez
+            indiceNombres = IndiceNombres.construir(mapaPokemons.obtenerTodos().values());
             
             int totalPokemon = mapaPokemons.obtenerTodos().size();
             System.out.println("¡Datos cargados con éxito! " + totalPokemon + " Pokémon disponibles.");
@@ -118,6 +160,40 @@ public class Main {
         }
     }
     
+    /**
+     * Carga los datos y atiende la API HTTP hasta que se detenga el proceso.
+     */
+    private static void iniciarServidorApi(int puerto, InetAddress direccion) {
+        //--------
+        // La carga en paralelo usa el mapa concurrente. Después el
+        // catálogo no cambia (la colección del usuario es aparte), así que
+        // se congela: búsquedas por hash perfecto y lecturas sin bloqueo
+        // entre solicitudes. El hilo del servidor mantiene vivo el proceso
+        //--------
+        mapaPokemons = PokemonMapFactory.crearMapa(4);
+        cargarDatosPokemon();
+        mapaPokemons = PokemonMapFactory.congelar(mapaPokemons, RegistroMetricas.HABILITADAS);
+        coleccionUsuario = new ColeccionUsuario(mapaPokemons);
+        
+        try {
+            ServidorApi servidor = new ServidorApi(mapaPokemons, coleccionUsuario, direccion, puerto);
+            servidor.iniciar();
+            Runtime.getRuntime().addShutdownHook(new Thread(servidor::detener));
+            
+            if (direccion.isLoopbackAddress()) {
+                System.out.println("\nAPI disponible en http://localhost:" + servidor.getPuerto() + "/api/");
+            } else {
+                System.out.println("\nAPI disponible en http://" + direccion.getHostAddress() + ":" + servidor.getPuerto() + "/api/");
+                System.out.println("Atención: la colección acepta POST y DELETE sin autenticación desde otras máquinas.");
+            }
+            System.out.println("Hilos por solicitud: " + (servidor.usaHilosVirtuales() ? "virtuales" : "de plataforma"));
+            System.out.println("Presione Ctrl+C para detener el servidor.");
+        } catch (IOException e) {
+            System.err.println("No se pudo iniciar el servidor: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+    
     /**
      * Muestra el menú principal y gestiona las acciones del usuario.
      */
@@ -166,31 +242,32 @@ public class Main {
     private static void listarTodosLosPokemon() {
         //--------
         // Muestra todos los Pokémon con paginación para
-        // una mejor experiencia de usuario
+        // una mejor experiencia de usuario. Cada página se pide al mapa
+        // con el cursor de la anterior, sin recorrer las ya mostradas
         //--------
         System.out.println("\n=== LISTADO DE TODOS LOS POKÉMON ===");
         
-        Map<String, Pokemon> todos = mapaPokemons.obtenerTodos();
-        int total = todos.size();
+        int total = mapaPokemons.obtenerTodos().size();
         
         // Parámetros de paginación
         int pokemonPorPagina = 10;
         int totalPaginas = (int) Math.ceil((double) total / pokemonPorPagina);
         int paginaActual = 1;
+        String cursor = null;
         
         while (paginaActual <= totalPaginas) {
             System.out.println("\nPágina " + paginaActual + " de " + totalPaginas);
             System.out.println("------------------------------------");
             
-            // Calcular rangos para esta página
-            int inicio = (paginaActual - 1) * pokemonPorPagina;
-            int fin = Math.min(inicio + pokemonPorPagina, total);
-            
             // Mostrar Pokémon para esta página
-            mostrarPokemonsPaginados(todos, inicio, fin);
+            PaginaPokemon pagina = mapaPokemons.obtenerPagina(cursor, pokemonPorPagina);
+            for (Pokemon pokemon : pagina.getPokemons()) {
+                System.out.println(pokemon.toShortString());
+            }
+            cursor = pagina.getSiguienteCursor();
             
             // Opciones de navegación
-            if (paginaActual < totalPaginas) {
+            if (pagina.hayMas()) {
                 System.out.println("\n1. Siguiente página");
                 System.out.println("2. Volver al menú principal");
                 
@@ -209,24 +286,6 @@ public class Main {
         }
     }
     
-    /**
-     * Muestra un subconjunto de Pokémon para paginación.
-     */
-    private static void mostrarPokemonsPaginados(Map<String, Pokemon> pokemonMap, int inicio, int fin) {
-        //--------
-        // Método auxiliar para mostrar una página de Pokémon
-        // con formato consistente
-        //--------
-        int contador = 0;
-        for (Pokemon pokemon : pokemonMap.values()) {
-            contador++;
-            
-            if (contador > inicio && contador <= fin) {
-                System.out.println(pokemon.toShortString());
-            }
-        }
-    }
-    
     /**
      * Busca un Pokémon por su nombre.
      */
@@ -239,12 +298,23 @@ public class Main {
         System.out.print("Ingrese el nombre del Pokémon: ");
         String nombre = scanner.nextLine().trim();
         
-        Pokemon pokemon = mapaPokemons.obtenerPokemon(nombre);
+        // Sin distinguir mayúsculas ni acentos: "pikachu" encuentra a Pikachu
+        Pokemon pokemon = mapaPokemons.obtenerPokemonPlegado(nombre);
         if (pokemon != null) {
             System.out.println("\nPokémon encontrado:");
             System.out.println(pokemon);
         } else {
             System.out.println("No se encontró ningún Pokémon con el nombre '" + nombre + "'");
+            
+            // Sugerencias sin distinguir mayúsculas y con errores de escritura
+            List<Pokemon> parecidos = indiceNombres.buscarAproximado(nombre, IndiceNombres.DISTANCIA_MAXIMA, 5);
+            if (!parecidos.isEmpty()) {
+                System.out.print("¿Quiso decir: ");
+                for (int i = 0; i < parecidos.size(); i++) {
+                    System.out.print((i > 0 ? ", " : "") + parecidos.get(i).getName());
+                }
+                System.out.println("?");
+            }
         }
         
         System.out.println("\nPresione Enter para continuar...");
@@ -326,13 +396,15 @@ public class Main {
         System.out.print("Ingrese el nombre del Pokémon a agregar: ");
         String nombre = scanner.nextLine().trim();
         
-        // Verificar que el Pokémon existe
-        if (!mapaPokemons.existePokemon(nombre)) {
+        // Verificar que el Pokémon existe y usar su nombre tal como está guardado
+        String guardado = mapaPokemons.resolverNombre(nombre);
+        if (guardado == null) {
             System.out.println("No existe ningún Pokémon con el nombre '" + nombre + "'");
             System.out.println("\nPresione Enter para continuar...");
             scanner.nextLine();
             return;
         }
+        nombre = guardado;
         
         // Intentar agregar a la colección
         boolean resultado = coleccionUsuario.agregarPokemon(nombre);
@@ -412,10 +484,57 @@ public class Main {
         System.out.println("   Tiempo total: " + (fin - inicio) + " ns");
         System.out.println("   Cantidad de elementos ordenados: " + ordenados.size());
         
+        // Latencias de todas las operaciones medidas durante la sesión
+        System.out.println("\n3. Latencias registradas en esta sesión");
+        if (!RegistroMetricas.HABILITADAS) {
+            System.out.println("   Métricas deshabilitadas (-Dpokemon.metricas=false)");
+        }
+        for (Map.Entry<String, ResumenLatencia> entrada : RegistroMetricas.global().getOperaciones().entrySet()) {
+            System.out.println("   " + entrada.getKey() + ": " + entrada.getValue());
+        }
+        
+        // Estas mediciones son solo orientativas (sin calentamiento del JIT)
+        System.out.println("\nNota: para mediciones confiables use el módulo backend/benchmarks (JMH).");
+        
         System.out.println("\nPresione Enter para continuar...");
         scanner.nextLine();
     }
     
+    /**
+     * Convierte el puerto de "--api [puerto]", o devuelve -1 si no es válido.
+     */
+    private static int leerPuerto(String texto) {
+        //--------
+        // Valida el puerto indicado en la línea de comandos; si no es
+        // válido muestra el uso y devuelve -1
+        //--------
+        try {
+            int puerto = Integer.parseInt(texto.trim());
+            if (puerto >= PUERTO_MINIMO && puerto <= PUERTO_MAXIMO) {
+                return puerto;
+            }
+            System.out.println("Por favor, ingrese un puerto entre " + PUERTO_MINIMO + " y " + PUERTO_MAXIMO);
+        } catch (NumberFormatException e) {
+            System.out.println("Por favor, ingrese un puerto válido");
+        }
+        System.out.println(USO_API);
+        return -1;
+    }
+    
+    /**
+     * Convierte la dirección de "--api [puerto] [dirección]", o devuelve
+     * null si no es válida.
+     */
+    private static InetAddress leerDireccion(String texto) {
+        try {
+            return InetAddress.getByName(texto.trim());
+        } catch (UnknownHostException e) {
+            System.out.println("Por favor, ingrese una dirección válida");
+            System.out.println(USO_API);
+            return null;
+        }
+    }
+    
     /**
      * Obtiene un entero del usuario con validación.
      */
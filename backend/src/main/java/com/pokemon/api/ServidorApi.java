@@ -0,0 +1,587 @@
+package com.pokemon.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.pokemon.metricas.RegistroMetricas;
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonResponse;
+import com.pokemon.model.PokemonType;
+import com.pokemon.service.ColeccionUsuario;
+import com.pokemon.service.ConsultaPokemon;
+import com.pokemon.service.ConsultaPokemon.Campo;
+import com.pokemon.service.IndiceNombres;
+import com.pokemon.service.MapaPokemons;
+import com.pokemon.service.PaginaPokemon;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Servidor HTTP embebido que expone el catálogo de Pokémon como API JSON.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class ServidorApi {
+    //--------
+    // Usa el servidor HTTP incluido en el JDK, sin dependencias extra.
+    // Cada solicitud se atiende en su propio hilo: virtuales si la JVM
+    // los ofrece (Java 21+), o un pool que crea hilos según la demanda.
+    // El mapa debe admitir lecturas desde varios hilos a la vez.
+    // La API no modifica el catálogo, así que el índice de nombres se
+    // construye una vez al crear el servidor.
+    //
+    // La colección acepta POST y DELETE sin autenticación, así que por
+    // defecto solo se escucha en la interfaz local (loopback); escuchar
+    // en otras interfaces hay que pedirlo con la dirección explícita
+    //--------
+    
+    // Segundos que se esperan a las solicitudes en curso al detener
+    private static final int ESPERA_AL_DETENER = 1;
+    
+    private static final String TIPO_JSON = "application/json; charset=utf-8";
+    
+    // Tamaño de página del listado si no se indica, y el máximo aceptado
+    private static final int LIMITE_POR_DEFECTO = 50;
+    private static final int LIMITE_MAXIMO = 500;
+    
+    private final MapaPokemons mapaPokemons;
+    private final IndiceNombres indiceNombres;
+    private final ColeccionUsuario coleccion;
+    private final HttpServer servidor;
+    private final ExecutorService hilos;
+    private final boolean hilosVirtuales;
+    
+    /**
+     * Constructor que prepara el servidor en el puerto indicado de la
+     * interfaz local (0 elige un puerto libre). No acepta conexiones
+     * hasta iniciar().
+     */
+    public ServidorApi(MapaPokemons mapaPokemons, ColeccionUsuario coleccion, int puerto) throws IOException {
+        this(mapaPokemons, coleccion, InetAddress.getLoopbackAddress(), puerto);
+    }
+    
+    /**
+     * Constructor que escucha en la dirección indicada; con 0.0.0.0 el
+     * servidor queda accesible desde otras máquinas.
+     */
+    public ServidorApi(MapaPokemons mapaPokemons, ColeccionUsuario coleccion,
+                       InetAddress direccion, int puerto) throws IOException {
+        this.mapaPokemons = mapaPokemons;
+        this.indiceNombres = IndiceNombres.construir(mapaPokemons.obtenerTodos().values());
+        this.coleccion = coleccion;
+        this.servidor = HttpServer.create(new InetSocketAddress(direccion, puerto), 0);
+        
+        ExecutorService virtuales = crearEjecutorVirtual();
+        this.hilosVirtuales = virtuales != null;
+        this.hilos = virtuales != null ? virtuales : Executors.newCachedThreadPool(crearFabricaHilos());
+        servidor.setExecutor(hilos);
+        
+        servidor.createContext("/api/pokemon", manejador("/api/pokemon", this::atenderPokemon));
+        servidor.createContext("/api/tipos", manejador("/api/tipos", this::atenderTipos));
+        servidor.createContext("/api/coleccion", manejador("/api/coleccion", this::atenderColeccion));
+        servidor.createContext("/api/consulta", manejador("/api/consulta", this::atenderConsulta));
+        servidor.createContext("/api/metricas", manejador("/api/metricas", this::atenderMetricas));
+    }
+    
+    /**
+     * Comienza a aceptar conexiones.
+     */
+    public void iniciar() {
+        servidor.start();
+    }
+    
+    /**
+     * Deja de aceptar conexiones y libera los hilos.
+     */
+    public void detener() {
+        servidor.stop(ESPERA_AL_DETENER);
+        hilos.shutdown();
+        try {
+            hilos.awaitTermination(ESPERA_AL_DETENER, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Puerto en el que escucha el servidor.
+     */
+    public int getPuerto() {
+        return servidor.getAddress().getPort();
+    }
+    
+    /**
+     * Dirección en la que escucha el servidor.
+     */
+    public InetAddress getDireccion() {
+        return servidor.getAddress().getAddress();
+    }
+    
+    /**
+     * Indica si las solicitudes se atienden con hilos virtuales.
+     */
+    public boolean usaHilosVirtuales() {
+        return hilosVirtuales;
+    }
+    
+    //--------
+    // GET /api/pokemon/{nombre}            -> un Pokémon (sin distinguir mayúsculas)
+    // GET /api/pokemon?habilidad=texto     -> Pokémon con esa habilidad
+    // GET /api/pokemon?prefijo=pik         -> nombres que empiezan así
+    // GET /api/pokemon?aproximado=pikachoo -> nombres con hasta 2 errores
+    // GET /api/pokemon?limite=n&cursor=c   -> listado por páginas
+    //--------
+    private Respuesta atenderPokemon(HttpExchange intercambio) {
+        if (!esMetodo(intercambio, "GET")) {
+            return Respuesta.metodoNoPermitido("GET");
+        }
+        
+        String nombre = subruta(intercambio, "/api/pokemon");
+        if (!nombre.isEmpty()) {
+            Pokemon pokemon = mapaPokemons.obtenerPokemonPlegado(nombre);
+            if (pokemon == null) {
+                return Respuesta.error(404, "No se encontró ningún Pokémon con el nombre '" + nombre + "'");
+            }
+            return new Respuesta(200, PokemonResponse.success("Pokémon encontrado", pokemon));
+        }
+        
+        Map<String, String> parametros = parametros(intercambio);
+        if (parametros.containsKey("prefijo") || parametros.containsKey("aproximado")) {
+            return buscarNombres(parametros);
+        }
+        String habilidad = parametros.get("habilidad");
+        if (habilidad == null) {
+            return listarPagina(parametros);
+        }
+        if (habilidad.trim().isEmpty()) {
+            return Respuesta.error(400, "El parámetro 'habilidad' no puede estar vacío");
+        }
+        List<Pokemon> encontrados = PokemonResponse.listaPokemon(mapaPokemons.buscarPorHabilidad(habilidad.trim()));
+        return Respuesta.lista("Pokémon con la habilidad '" + habilidad.trim() + "'", encontrados);
+    }
+    
+    /**
+     * Búsqueda por nombre para autocompletar: por prefijo o tolerante a
+     * errores de escritura, sin distinguir mayúsculas ni acentos.
+     */
+    private Respuesta buscarNombres(Map<String, String> parametros) {
+        int limite = leerLimite(parametros);
+        if (limite < 1) {
+            return Respuesta.error(400, "El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        
+        String prefijo = parametros.get("prefijo");
+        if (prefijo != null) {
+            return Respuesta.lista("Pokémon que empiezan con '" + prefijo + "'",
+                                   indiceNombres.buscarPorPrefijo(prefijo, limite));
+        }
+        
+        String aproximado = parametros.get("aproximado").trim();
+        if (aproximado.isEmpty()) {
+            return Respuesta.error(400, "El parámetro 'aproximado' no puede estar vacío");
+        }
+        return Respuesta.lista("Pokémon parecidos a '" + aproximado + "'",
+                               indiceNombres.buscarAproximado(aproximado, IndiceNombres.DISTANCIA_MAXIMA, limite));
+    }
+    
+    /**
+     * Página del catálogo desde el cursor recibido; la respuesta incluye
+     * el cursor de la siguiente página en los metadatos (null al final).
+     */
+    private Respuesta listarPagina(Map<String, String> parametros) {
+        int limite = leerLimite(parametros);
+        if (limite < 1) {
+            return Respuesta.error(400, "El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        
+        PaginaPokemon pagina;
+        try {
+            pagina = mapaPokemons.obtenerPagina(parametros.get("cursor"), limite);
+        } catch (IllegalArgumentException e) {
+            return Respuesta.error(400, e.getMessage());
+        }
+        Respuesta respuesta = Respuesta.lista("Pokémon", pagina.getPokemons());
+        respuesta.cuerpo.addMetadata("siguienteCursor", pagina.getSiguienteCursor());
+        return respuesta;
+    }
+    
+    //--------
+    // GET /api/consulta?tipo=dragon&generacion=4&orden=-peso,nombre&limite=5
+    // Filtros: nombre, habilidad, tipo, clasificacion, generacion,
+    // legendario. "orden" es una lista de campos; con '-' delante el
+    // campo ordena de mayor a menor. El plan elegido va en los metadatos
+    //--------
+    private Respuesta atenderConsulta(HttpExchange intercambio) {
+        if (!esMetodo(intercambio, "GET")) {
+            return Respuesta.metodoNoPermitido("GET");
+        }
+        if (!subruta(intercambio, "/api/consulta").isEmpty()) {
+            return Respuesta.error(404, "Ruta no encontrada: " + intercambio.getRequestURI().getPath());
+        }
+        
+        Map<String, String> parametros = parametros(intercambio);
+        int limite = leerLimite(parametros);
+        if (limite < 1) {
+            return Respuesta.error(400, "El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        
+        ConsultaPokemon consulta = ConsultaPokemon.sobre(mapaPokemons).limite(limite);
+        if (parametros.containsKey("nombre")) {
+            consulta.igual(Campo.NOMBRE, parametros.get("nombre").trim());
+        }
+        if (parametros.containsKey("habilidad")) {
+            consulta.contiene(Campo.HABILIDADES, parametros.get("habilidad").trim());
+        }
+        if (parametros.containsKey("clasificacion")) {
+            consulta.contiene(Campo.CLASIFICACION, parametros.get("clasificacion").trim());
+        }
+        if (parametros.containsKey("tipo")) {
+            PokemonType tipo = PokemonType.desde(parametros.get("tipo"));
+            if (tipo == null) {
+                return Respuesta.error(400, "Tipo desconocido: '" + parametros.get("tipo") + "'");
+            }
+            consulta.igual(Campo.TIPO, tipo);
+        }
+        if (parametros.containsKey("generacion")) {
+            try {
+                consulta.igual(Campo.GENERACION, Integer.parseInt(parametros.get("generacion").trim()));
+            } catch (NumberFormatException e) {
+                return Respuesta.error(400, "La generación debe ser un número");
+            }
+        }
+        if (parametros.containsKey("legendario")) {
+            consulta.igual(Campo.LEGENDARIO, Boolean.parseBoolean(parametros.get("legendario").trim()));
+        }
+        
+        String orden = parametros.get("orden");
+        if (orden != null) {
+            for (String clave : orden.split(",")) {
+                boolean descendente = clave.trim().startsWith("-");
+                Campo campo = Campo.desde(descendente ? clave.trim().substring(1) : clave);
+                if (campo == null) {
+                    return Respuesta.error(400, "Campo de orden desconocido: '" + clave.trim() + "'");
+                }
+                if (descendente) {
+                    consulta.ordenarPorDescendente(campo);
+                } else {
+                    consulta.ordenarPor(campo);
+                }
+            }
+        }
+        
+        Respuesta respuesta = Respuesta.lista("Resultado de la consulta", consulta.ejecutar());
+        respuesta.cuerpo.addMetadata("plan", consulta.explicar());
+        return respuesta;
+    }
+    
+    //--------
+    // GET /api/metricas -> latencias por operación (cantidad, promedio,
+    // p50, p99, p999 y máximo en nanosegundos)
+    //--------
+    private Respuesta atenderMetricas(HttpExchange intercambio) {
+        if (!esMetodo(intercambio, "GET")) {
+            return Respuesta.metodoNoPermitido("GET");
+        }
+        Respuesta respuesta = Respuesta.lista("Métricas por operación", RegistroMetricas.global().volcar());
+        respuesta.cuerpo.addMetadata("habilitadas", RegistroMetricas.HABILITADAS);
+        return respuesta;
+    }
+    
+    //--------
+    // GET /api/tipos        -> tipos con la cantidad de Pokémon de cada uno
+    // GET /api/tipos/{tipo} -> Pokémon con ese tipo primario o secundario
+    //--------
+    private Respuesta atenderTipos(HttpExchange intercambio) {
+        if (!esMetodo(intercambio, "GET")) {
+            return Respuesta.metodoNoPermitido("GET");
+        }
+        
+        String nombreTipo = subruta(intercambio, "/api/tipos");
+        if (nombreTipo.isEmpty()) {
+            int[] cantidades = new int[PokemonType.values().length];
+            for (Pokemon pokemon : mapaPokemons.obtenerTodos().values()) {
+                if (pokemon.getTipo1() != null) {
+                    cantidades[pokemon.getTipo1().ordinal()]++;
+                }
+                if (pokemon.getTipo2() != null && pokemon.getTipo2() != pokemon.getTipo1()) {
+                    cantidades[pokemon.getTipo2().ordinal()]++;
+                }
+            }
+            
+            List<Object> tipos = new ArrayList<>();
+            for (PokemonType tipo : PokemonType.values()) {
+                Map<String, Object> entrada = new LinkedHashMap<>();
+                entrada.put("tipo", tipo.getNombre());
+                entrada.put("cantidad", cantidades[tipo.ordinal()]);
+                tipos.add(entrada);
+            }
+            return Respuesta.lista("Tipos de Pokémon", tipos);
+        }
+        
+        PokemonType tipo = PokemonType.desde(nombreTipo);
+        if (tipo == null) {
+            return Respuesta.error(404, "Tipo desconocido: '" + nombreTipo + "'");
+        }
+        List<Pokemon> encontrados = new ArrayList<>();
+        for (Pokemon pokemon : mapaPokemons.obtenerTodos().values()) {
+            if (pokemon.tieneTipo(tipo)) {
+                encontrados.add(pokemon);
+            }
+        }
+        return Respuesta.lista("Pokémon de tipo " + tipo.getNombre(), encontrados);
+    }
+    
+    //--------
+    // GET    /api/coleccion          -> Pokémon de la colección
+    // POST   /api/coleccion/{nombre} -> agrega un Pokémon
+    // DELETE /api/coleccion/{nombre} -> quita un Pokémon
+    // ColeccionUsuario no es segura entre hilos: se usa con su monitor
+    //--------
+    private Respuesta atenderColeccion(HttpExchange intercambio) {
+        String nombre = subruta(intercambio, "/api/coleccion");
+        // "pikachu" se guarda y se quita como "Pikachu"
+        String guardado = mapaPokemons.resolverNombre(nombre);
+        String metodo = intercambio.getRequestMethod();
+        
+        if (nombre.isEmpty()) {
+            if (!metodo.equals("GET")) {
+                return Respuesta.metodoNoPermitido("GET");
+            }
+            List<Pokemon> pokemons;
+            synchronized (coleccion) {
+                pokemons = coleccion.obtenerPokemons();
+            }
+            return Respuesta.lista("Mi colección", pokemons);
+        }
+        
+        if (metodo.equals("POST")) {
+            if (guardado == null) {
+                return Respuesta.error(404, "No existe ningún Pokémon con el nombre '" + nombre + "'");
+            }
+            nombre = guardado;
+            boolean agregado;
+            synchronized (coleccion) {
+                agregado = coleccion.agregarPokemon(nombre);
+            }
+            return agregado
+                ? new Respuesta(201, PokemonResponse.success(nombre + " agregado a la colección"))
+                : new Respuesta(200, PokemonResponse.success(nombre + " ya está en la colección"));
+        }
+        if (metodo.equals("DELETE")) {
+            if (guardado != null) {
+                nombre = guardado;
+            }
+            boolean eliminado;
+            synchronized (coleccion) {
+                eliminado = coleccion.eliminarPokemon(nombre);
+            }
+            return eliminado
+                ? new Respuesta(200, PokemonResponse.success(nombre + " eliminado de la colección"))
+                : Respuesta.error(404, nombre + " no está en la colección");
+        }
+        return Respuesta.metodoNoPermitido("POST, DELETE");
+    }
+    
+    /**
+     * Envuelve una ruta: responde las consultas previas de CORS y
+     * convierte la respuesta (o cualquier error) en JSON.
+     */
+    private HttpHandler manejador(String prefijo, Ruta ruta) {
+        return intercambio -> {
+            try {
+                intercambio.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+                if (esMetodo(intercambio, "OPTIONS")) {
+                    intercambio.getResponseHeaders().set("Access-Control-Allow-Methods", "GET, POST, DELETE, OPTIONS");
+                    intercambio.sendResponseHeaders(204, -1);
+                    return;
+                }
+                
+                // El contexto también recibe rutas como "/api/tiposX"
+                String camino = intercambio.getRequestURI().getPath();
+                Respuesta respuesta;
+                try {
+                    respuesta = camino.length() > prefijo.length() && camino.charAt(prefijo.length()) != '/'
+                        ? Respuesta.error(404, "Ruta no encontrada: " + camino)
+                        : ruta.atender(intercambio);
+                } catch (SolicitudInvalida e) {
+                    respuesta = Respuesta.error(400, e.getMessage());
+                } catch (RuntimeException e) {
+                    // El detalle queda en el registro del servidor, no en la respuesta
+                    System.err.println("Error al atender " + camino + ": " + e);
+                    respuesta = Respuesta.error(500, "Error interno del servidor");
+                }
+                enviar(intercambio, respuesta);
+            } finally {
+                intercambio.close();
+            }
+        };
+    }
+    
+    private static void enviar(HttpExchange intercambio, Respuesta respuesta) throws IOException {
+        intercambio.getResponseHeaders().set("Content-Type", TIPO_JSON);
+        if (respuesta.permitidos != null) {
+            intercambio.getResponseHeaders().set("Allow", respuesta.permitidos);
+        }
+        
+        // Longitud 0: el cuerpo se envía por partes mientras se genera
+        intercambio.sendResponseHeaders(respuesta.estado, 0);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            respuesta.cuerpo.escribirJson(salida);
+        }
+    }
+    
+    /**
+     * Límite de resultados pedido (o el de por defecto), 0 si no es válido.
+     */
+    private static int leerLimite(Map<String, String> parametros) {
+        String texto = parametros.get("limite");
+        if (texto == null) {
+            return LIMITE_POR_DEFECTO;
+        }
+        try {
+            int limite = Integer.parseInt(texto.trim());
+            return limite <= LIMITE_MAXIMO ? limite : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+    
+    private static boolean esMetodo(HttpExchange intercambio, String metodo) {
+        return intercambio.getRequestMethod().equalsIgnoreCase(metodo);
+    }
+    
+    /**
+     * Parte de la ruta (ya decodificada) que sigue al prefijo, sin barras.
+     */
+    private static String subruta(HttpExchange intercambio, String prefijo) {
+        String ruta = intercambio.getRequestURI().getPath();
+        String resto = ruta.length() > prefijo.length() ? ruta.substring(prefijo.length()) : "";
+        while (resto.startsWith("/")) {
+            resto = resto.substring(1);
+        }
+        while (resto.endsWith("/")) {
+            resto = resto.substring(0, resto.length() - 1);
+        }
+        return resto;
+    }
+    
+    /**
+     * Parámetros de la consulta, decodificados.
+     */
+    private static Map<String, String> parametros(HttpExchange intercambio) {
+        return decodificarConsulta(intercambio.getRequestURI().getRawQuery());
+    }
+    
+    /**
+     * Decodifica una consulta sin procesar ("a=1&b=%C3%A9"). Un escape
+     * inválido lanza SolicitudInvalida, que se responde con 400.
+     */
+    static Map<String, String> decodificarConsulta(String consulta) {
+        Map<String, String> parametros = new LinkedHashMap<>();
+        if (consulta == null || consulta.isEmpty()) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            String clave = igual >= 0 ? par.substring(0, igual) : par;
+            String valor = igual >= 0 ? par.substring(igual + 1) : "";
+            try {
+                parametros.put(URLDecoder.decode(clave, StandardCharsets.UTF_8),
+                               URLDecoder.decode(valor, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                // Un escape como "%zz" es un error del cliente
+                throw new SolicitudInvalida("Parámetro mal codificado en la consulta: '" + par + "'");
+            }
+        }
+        return parametros;
+    }
+    
+    /**
+     * Error en los datos de la solicitud; se responde con 400.
+     */
+    static final class SolicitudInvalida extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        
+        SolicitudInvalida(String mensaje) {
+            super(mensaje);
+        }
+    }
+    
+    /**
+     * Crea el ejecutor de hilos virtuales por reflexión, para seguir
+     * compilando con Java 11. Devuelve null si la JVM no los ofrece.
+     */
+    private static ExecutorService crearEjecutorVirtual() {
+        try {
+            Method fabrica = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) fabrica.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            // Antes de Java 21 no existe (o es una vista previa desactivada)
+            return null;
+        }
+    }
+    
+    private static ThreadFactory crearFabricaHilos() {
+        AtomicInteger contador = new AtomicInteger();
+        return tarea -> {
+            Thread hilo = new Thread(tarea, "servidor-api-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+    }
+    
+    /**
+     * Atiende una ruta de la API.
+     */
+    @FunctionalInterface
+    private interface Ruta {
+        Respuesta atender(HttpExchange intercambio);
+    }
+    
+    /**
+     * Estado HTTP y cuerpo de una respuesta.
+     */
+    private static final class Respuesta {
+        private final int estado;
+        private final PokemonResponse cuerpo;
+        private final String permitidos;
+        
+        Respuesta(int estado, PokemonResponse cuerpo) {
+            this(estado, cuerpo, null);
+        }
+        
+        Respuesta(int estado, PokemonResponse cuerpo, String permitidos) {
+            this.estado = estado;
+            this.cuerpo = cuerpo;
+            this.permitidos = permitidos;
+        }
+        
+        static Respuesta lista(String mensaje, List<?> datos) {
+            PokemonResponse cuerpo = PokemonResponse.success(mensaje, datos);
+            cuerpo.addMetadata("total", datos.size());
+            return new Respuesta(200, cuerpo);
+        }
+        
+        static Respuesta error(int estado, String mensaje) {
+            return new Respuesta(estado, PokemonResponse.error(mensaje));
+        }
+        
+        static Respuesta metodoNoPermitido(String permitidos) {
+            return new Respuesta(405, PokemonResponse.error("Método no permitido"), permitidos);
+        }
+    }
+}
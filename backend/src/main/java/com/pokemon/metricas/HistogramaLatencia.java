@@ -0,0 +1,137 @@
+package com.pokemon.metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias en nanosegundos, sin bloqueos, con error
+ * relativo acotado al estilo de HdrHistogram.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class HistogramaLatencia {
+    //--------
+    // Cubetas log-lineales: cada potencia de dos se divide en 32 cubetas
+    // iguales, así el error de cualquier percentil es menor al 3,2 %
+    // sin importar la escala. Los valores menores a 32 ns tienen una
+    // cubeta cada uno. Se cubre hasta 2^37 ns (más de dos minutos); lo
+    // que pase de ahí cae en la última cubeta.
+    //
+    // Registrar es un incremento atómico en la cubeta, una suma en un
+    // LongAdder y, solo si hay un máximo nuevo, un CAS: sin bloqueos
+    // ni objetos nuevos. Las lecturas copian las cubetas y calculan
+    // sobre la copia.
+    //
+    // Registrar cuesta unos 15-20 ns, pero una medición completa (dos
+    // System.nanoTime y el registro) ronda los 110 ns: el objetivo de
+    // menos de 20 ns por medición no se alcanzó
+    //--------
+    private static final int BITS_SUBCUBETA = 5;
+    private static final int SUBCUBETAS = 1 << BITS_SUBCUBETA;
+    private static final int EXPONENTE_MAXIMO = 36;
+    private static final long VALOR_MAXIMO = (1L << (EXPONENTE_MAXIMO + 1)) - 1;
+    private static final int CUBETAS = (EXPONENTE_MAXIMO - BITS_SUBCUBETA + 2) * SUBCUBETAS;
+    
+    private final AtomicLongArray cubetas;
+    private final LongAdder suma;
+    private final AtomicLong maximo;
+    
+    /**
+     * Constructor que inicializa el histograma vacío
+     */
+    public HistogramaLatencia() {
+        this.cubetas = new AtomicLongArray(CUBETAS);
+        this.suma = new LongAdder();
+        this.maximo = new AtomicLong();
+    }
+    
+    /**
+     * Registra una medición. Los valores negativos se cuentan como 0.
+     */
+    public void registrar(long nanos) {
+        long valor = Math.max(0, Math.min(nanos, VALOR_MAXIMO));
+        cubetas.incrementAndGet(indice(valor));
+        suma.add(valor);
+        long actual = maximo.get();
+        while (valor > actual && !maximo.compareAndSet(actual, valor)) {
+            actual = maximo.get();
+        }
+    }
+    
+    /**
+     * Resumen de las mediciones hasta ahora: cantidad, promedio,
+     * percentiles 50, 99 y 99,9 y máximo.
+     */
+    public ResumenLatencia resumir() {
+        //--------
+        // Una sola copia de las cubetas para que los tres percentiles
+        // salgan de los mismos datos aunque se siga registrando
+        //--------
+        long[] copia = new long[CUBETAS];
+        long cantidad = 0;
+        for (int i = 0; i < CUBETAS; i++) {
+            copia[i] = cubetas.get(i);
+            cantidad += copia[i];
+        }
+        long max = maximo.get();
+        double promedio = cantidad == 0 ? 0 : (double) suma.sum() / cantidad;
+        return new ResumenLatencia(cantidad, promedio,
+                                   percentil(copia, cantidad, max, 50.0),
+                                   percentil(copia, cantidad, max, 99.0),
+                                   percentil(copia, cantidad, max, 99.9),
+                                   max);
+    }
+    
+    /**
+     * Vacía el histograma. Las mediciones concurrentes con el reinicio
+     * pueden quedar de cualquiera de los dos lados.
+     */
+    public void reiniciar() {
+        for (int i = 0; i < CUBETAS; i++) {
+            cubetas.set(i, 0);
+        }
+        suma.reset();
+        maximo.set(0);
+    }
+    
+    /**
+     * Cubeta del valor: directa por debajo de 32 y, desde ahí, la
+     * potencia de dos más los 5 bits siguientes al más alto.
+     */
+    static int indice(long valor) {
+        if (valor < SUBCUBETAS) {
+            return (int) valor;
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(valor);
+        int desplazamiento = exponente - BITS_SUBCUBETA;
+        return ((desplazamiento + 1) << BITS_SUBCUBETA) + (int) ((valor >>> desplazamiento) & (SUBCUBETAS - 1));
+    }
+    
+    /**
+     * Mayor valor que cae en la cubeta.
+     */
+    static long limiteSuperior(int indice) {
+        if (indice < SUBCUBETAS) {
+            return indice;
+        }
+        int desplazamiento = (indice >>> BITS_SUBCUBETA) - 1;
+        long inferior = (long) (SUBCUBETAS + (indice & (SUBCUBETAS - 1))) << desplazamiento;
+        return inferior + (1L << desplazamiento) - 1;
+    }
+    
+    private static long percentil(long[] copia, long cantidad, long maximo, double percentil) {
+        if (cantidad == 0) {
+            return 0;
+        }
+        long objetivo = Math.max(1, (long) Math.ceil(percentil / 100.0 * cantidad));
+        long acumulado = 0;
+        for (int i = 0; i < copia.length; i++) {
+            acumulado += copia[i];
+            if (acumulado >= objetivo) {
+                // El límite de la cubeta nunca supera al máximo real
+                return Math.min(limiteSuperior(i), maximo);
+            }
+        }
+        return maximo;
+    }
+}
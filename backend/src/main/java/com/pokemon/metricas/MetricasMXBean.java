@@ -0,0 +1,25 @@
+package com.pokemon.metricas;
+
+import java.util.Map;
+
+/**
+ * Vista JMX de las métricas de latencia por operación.
+ * Autor: Fatima Navarro - 24044
+ */
+public interface MetricasMXBean {
+    
+    //--------
+    // Resumen (cantidad, promedio, p50, p99, p999, máximo) por operación
+    //--------
+    Map<String, ResumenLatencia> getOperaciones();
+    
+    //--------
+    // Indica si la JVM arrancó con las métricas habilitadas
+    //--------
+    boolean isHabilitadas();
+    
+    //--------
+    // Vacía todos los histogramas
+    //--------
+    void reiniciar();
+}
@@ -0,0 +1,122 @@
+package com.pokemon.metricas;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registro de histogramas de latencia por operación ("HashMap.obtenerPokemon"),
+ * con volcado legible por máquina y publicación por JMX.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class RegistroMetricas implements MetricasMXBean {
+    //--------
+    // La propiedad pokemon.metricas (habilitadas por defecto) decide al
+    // arrancar si la aplicación envuelve su mapa en
+    // InstrumentedMapaPokemons. Deshabilitadas, el mapa se usa tal cual
+    // y ninguna operación mide nada.
+    //
+    // Buscar el histograma por nombre pasa por un ConcurrentHashMap; se
+    // hace una vez y quien mide guarda la referencia en un campo
+    //--------
+    public static final boolean HABILITADAS =
+        Boolean.parseBoolean(System.getProperty("pokemon.metricas", "true"));
+    
+    private static final String NOMBRE_JMX = "com.pokemon:type=Metricas";
+    
+    private static final RegistroMetricas GLOBAL = new RegistroMetricas();
+    
+    private final ConcurrentMap<String, HistogramaLatencia> histogramas;
+    
+    /**
+     * Constructor que inicializa un registro vacío; la aplicación usa global().
+     */
+    public RegistroMetricas() {
+        this.histogramas = new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * Registro compartido por toda la aplicación.
+     */
+    public static RegistroMetricas global() {
+        return GLOBAL;
+    }
+    
+    /**
+     * Histograma de la operación, creado la primera vez que se pide.
+     */
+    public HistogramaLatencia histograma(String operacion) {
+        return histogramas.computeIfAbsent(operacion, nombre -> new HistogramaLatencia());
+    }
+    
+    /**
+     * Resumen de cada operación registrada, ordenado por nombre.
+     */
+    @Override
+    public Map<String, ResumenLatencia> getOperaciones() {
+        Map<String, ResumenLatencia> resumen = new TreeMap<>();
+        for (Map.Entry<String, HistogramaLatencia> entrada : histogramas.entrySet()) {
+            resumen.put(entrada.getKey(), entrada.getValue().resumir());
+        }
+        return resumen;
+    }
+    
+    /**
+     * Volcado de todas las operaciones como una lista de mapas con
+     * valores simples, lista para escribirse como JSON.
+     */
+    public List<Object> volcar() {
+        List<Object> volcado = new ArrayList<>();
+        for (Map.Entry<String, ResumenLatencia> entrada : getOperaciones().entrySet()) {
+            ResumenLatencia resumen = entrada.getValue();
+            Map<String, Object> operacion = new LinkedHashMap<>();
+            operacion.put("operacion", entrada.getKey());
+            operacion.put("cantidad", resumen.getCantidad());
+            operacion.put("promedioNs", Math.round(resumen.getPromedio()));
+            operacion.put("p50Ns", resumen.getP50());
+            operacion.put("p99Ns", resumen.getP99());
+            operacion.put("p999Ns", resumen.getP999());
+            operacion.put("maximoNs", resumen.getMaximo());
+            volcado.add(operacion);
+        }
+        return volcado;
+    }
+    
+    @Override
+    public boolean isHabilitadas() {
+        return HABILITADAS;
+    }
+    
+    @Override
+    public void reiniciar() {
+        for (HistogramaLatencia histograma : histogramas.values()) {
+            histograma.reiniciar();
+        }
+    }
+    
+    /**
+     * Publica el registro en el servidor de MBeans de la plataforma como
+     * com.pokemon:type=Metricas. Si ya hay uno publicado lo reemplaza.
+     */
+    public void publicarJmx() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName nombre = new ObjectName(NOMBRE_JMX);
+            if (servidor.isRegistered(nombre)) {
+                servidor.unregisterMBean(nombre);
+            }
+            servidor.registerMBean(this, nombre);
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudieron publicar las métricas por JMX", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.pokemon.metricas;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Resumen inmutable de un histograma de latencias, en nanosegundos.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class ResumenLatencia {
+    //--------
+    // Los getters y el constructor anotado permiten que JMX lo muestre
+    // como un CompositeData (atributos con nombre) en jconsole
+    //--------
+    private final long cantidad;
+    private final double promedio;
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final long maximo;
+    
+    @ConstructorProperties({"cantidad", "promedio", "p50", "p99", "p999", "maximo"})
+    public ResumenLatencia(long cantidad, double promedio, long p50, long p99, long p999, long maximo) {
+        this.cantidad = cantidad;
+        this.promedio = promedio;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.maximo = maximo;
+    }
+    
+    public long getCantidad() { return cantidad; }
+    public double getPromedio() { return promedio; }
+    public long getP50() { return p50; }
+    public long getP99() { return p99; }
+    public long getP999() { return p999; }
+    public long getMaximo() { return maximo; }
+    
+    @Override
+    public String toString() {
+        return String.format("n=%d promedio=%.0f ns p50=%d ns p99=%d ns p999=%d ns máx=%d ns",
+                             cantidad, promedio, p50, p99, p999, maximo);
+    }
+}
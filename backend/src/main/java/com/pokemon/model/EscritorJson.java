@@ -0,0 +1,165 @@
+package com.pokemon.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+/**
+ * Escribe respuestas en JSON directamente como bytes UTF-8,
+ * con el generador de streaming de Jackson.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class EscritorJson {
+    //--------
+    // La salida es idéntica byte a byte a PokemonResponse.toJson(), pero
+    // sin armar la respuesta completa en memoria: el generador usa un
+    // buffer reciclado y vuelca los bytes a la salida a medida que se
+    // llena. Cada Pokémon se copia desde su JSON ya codificado, así que
+    // una lista completa es casi solo copia de bytes. Se replican las
+    // particularidades del formato anterior: ": " solo en los campos del
+    // primer nivel, "/" escapada y los números escritos con su toString()
+    //--------
+    private static final JsonFactory FABRICA = crearFabrica();
+    
+    private EscritorJson() {
+    }
+    
+    /**
+     * Escribe la respuesta en la salida. La salida no se cierra.
+     */
+    public static void escribir(PokemonResponse respuesta, OutputStream salida) throws IOException {
+        try (JsonGenerator generador = FABRICA.createGenerator(salida)) {
+            generador.setPrettyPrinter(SeparadoresRespuesta.INSTANCIA);
+            generador.writeStartObject();
+            generador.writeBooleanField("success", respuesta.isSuccess());
+            generador.writeStringField("message", texto(respuesta.getMessage()));
+            generador.writeFieldName("data");
+            escribirValor(generador, respuesta.getData(), true);
+            generador.writeFieldName("metadata");
+            escribirMapa(generador, respuesta.getMetadata());
+            generador.writeEndObject();
+        }
+    }
+    
+    /**
+     * Escribe un valor de "data" o de una lista o mapa anidado. Los
+     * números y booleanos solo se escriben sin comillas dentro de listas
+     * y mapas, no como valor directo de "data".
+     */
+    private static void escribirValor(JsonGenerator generador, Object valor, boolean esData) throws IOException {
+        if (valor == null) {
+            generador.writeNull();
+        } else if (!esData && valor instanceof Number) {
+            generador.writeNumber(valor.toString());
+        } else if (!esData && valor instanceof Boolean) {
+            generador.writeBoolean((Boolean) valor);
+        } else if (valor instanceof List) {
+            escribirLista(generador, (List<?>) valor);
+        } else if (valor instanceof Map) {
+            escribirMapa(generador, (Map<?, ?>) valor);
+        } else if (valor instanceof Pokemon) {
+            escribirPokemon(generador, (Pokemon) valor);
+        } else {
+            generador.writeString(valor.toString());
+        }
+    }
+    
+    private static void escribirLista(JsonGenerator generador, List<?> lista) throws IOException {
+        generador.writeStartArray();
+        for (Object elemento : lista) {
+            escribirValor(generador, elemento, false);
+        }
+        generador.writeEndArray();
+    }
+    
+    private static void escribirMapa(JsonGenerator generador, Map<?, ?> mapa) throws IOException {
+        generador.writeStartObject();
+        for (Map.Entry<?, ?> entrada : mapa.entrySet()) {
+            generador.writeFieldName(entrada.getKey().toString());
+            escribirValor(generador, entrada.getValue(), false);
+        }
+        generador.writeEndObject();
+    }
+    
+    private static void escribirPokemon(JsonGenerator generador, Pokemon pokemon) throws IOException {
+        // Se copian los bytes ya codificados del Pokémon, sin escaparlos de nuevo
+        generador.writeRawValue(new FragmentoJson(pokemon.bytesJson()));
+    }
+    
+    // Los textos nulos se escriben como cadena vacía
+    private static String texto(String valor) {
+        return valor != null ? valor : "";
+    }
+    
+    private static JsonFactory crearFabrica() {
+        JsonFactory fabrica = new JsonFactory();
+        fabrica.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        fabrica.setCharacterEscapes(new EscapesCompatibles());
+        fabrica.setRootValueSeparator((String) null);
+        return fabrica;
+    }
+    
+    /**
+     * Separadores compactos, salvo ": " entre nombre y valor en el
+     * objeto de primer nivel de la respuesta.
+     */
+    private static final class SeparadoresRespuesta extends MinimalPrettyPrinter {
+        private static final long serialVersionUID = 1L;
+        
+        static final SeparadoresRespuesta INSTANCIA = new SeparadoresRespuesta();
+        
+        private SeparadoresRespuesta() {
+            super("");
+        }
+        
+        @Override
+        public void writeObjectFieldValueSeparator(JsonGenerator generador) throws IOException {
+            if (generador.getOutputContext().getParent().inRoot()) {
+                generador.writeRaw(": ");
+            } else {
+                generador.writeRaw(':');
+            }
+        }
+    }
+    
+    /**
+     * Escapes del formato anterior: "/" se escribe como "\/" y los
+     * caracteres de control sin forma corta (\b, \f, \n, \r, \t) se
+     * dejan tal cual en lugar de escribirse como \\u00XX.
+     */
+    private static final class EscapesCompatibles extends CharacterEscapes {
+        private static final long serialVersionUID = 1L;
+        
+        private static final SerializableString BARRA = new SerializedString("\\/");
+        
+        private final int[] codigos;
+        
+        EscapesCompatibles() {
+            codigos = standardAsciiEscapesForJSON();
+            for (int c = 0; c < 32; c++) {
+                if (codigos[c] == ESCAPE_STANDARD) {
+                    codigos[c] = ESCAPE_NONE;
+                }
+            }
+            codigos['/'] = ESCAPE_CUSTOM;
+        }
+        
+        @Override
+        public int[] getEscapeCodesForAscii() {
+            return codigos;
+        }
+        
+        @Override
+        public SerializableString getEscapeSequence(int c) {
+            return c == '/' ? BARRA : null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.pokemon.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * JSON ya codificado en UTF-8, para que el generador de Jackson lo copie
+ * tal cual con writeRawValue en lugar de volver a escribirlo.
+ * Autor: Fatima Navarro - 24044
+ */
+final class FragmentoJson implements SerializableString {
+    //--------
+    // Las variantes "sin comillas" copian los bytes directamente: es lo
+    // que usa writeRaw del generador UTF-8. Las variantes "con comillas"
+    // no tienen sentido para un valor JSON completo y solo se delegan a
+    // SerializedString por completitud
+    //--------
+    private final byte[] bytes;
+    
+    FragmentoJson(byte[] bytes) {
+        this.bytes = bytes;
+    }
+    
+    @Override
+    public String getValue() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    @Override
+    public int charLength() {
+        return getValue().length();
+    }
+    
+    @Override
+    public byte[] asUnquotedUTF8() {
+        return bytes;
+    }
+    
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int desde) {
+        // -1 indica que no cabe: el generador vacía su buffer y usa asUnquotedUTF8
+        if (desde + bytes.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(bytes, 0, buffer, desde, bytes.length);
+        return bytes.length;
+    }
+    
+    @Override
+    public int appendUnquoted(char[] buffer, int desde) {
+        String valor = getValue();
+        if (desde + valor.length() > buffer.length) {
+            return -1;
+        }
+        valor.getChars(0, valor.length(), buffer, desde);
+        return valor.length();
+    }
+    
+    @Override
+    public int writeUnquotedUTF8(OutputStream salida) throws IOException {
+        salida.write(bytes);
+        return bytes.length;
+    }
+    
+    @Override
+    public int putUnquotedUTF8(ByteBuffer buffer) {
+        if (bytes.length > buffer.remaining()) {
+            return -1;
+        }
+        buffer.put(bytes);
+        return bytes.length;
+    }
+    
+    @Override
+    public char[] asQuotedChars() {
+        return comoTexto().asQuotedChars();
+    }
+    
+    @Override
+    public byte[] asQuotedUTF8() {
+        return comoTexto().asQuotedUTF8();
+    }
+    
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int desde) {
+        return comoTexto().appendQuotedUTF8(buffer, desde);
+    }
+    
+    @Override
+    public int appendQuoted(char[] buffer, int desde) {
+        return comoTexto().appendQuoted(buffer, desde);
+    }
+    
+    @Override
+    public int writeQuotedUTF8(OutputStream salida) throws IOException {
+        return comoTexto().writeQuotedUTF8(salida);
+    }
+    
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+        return comoTexto().putQuotedUTF8(buffer);
+    }
+    
+    private SerializedString comoTexto() {
+        return new SerializedString(getValue());
+    }
+    
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
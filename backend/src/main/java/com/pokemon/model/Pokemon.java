@@ -1,5 +1,9 @@
 package com.pokemon.model;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Clase que representa a un Pokémon con sus atributos.
  * Autor: Fatima Navarro - 24044
@@ -19,6 +23,21 @@ public class Pokemon {
     private String abilities;
     private int generation;
     private boolean legendary;
+    
+    //--------
+    // Tipos como constantes del enum: comparar tipos es comparar
+    // referencias. Son null si el texto no es un tipo conocido
+    //--------
+    private PokemonType tipo1;
+    private PokemonType tipo2;
+    
+    //--------
+    // JSON del Pokémon en UTF-8, codificado la primera vez que se pide.
+    // Como el Pokémon no cambia, las respuestas copian estos bytes en
+    // lugar de volver a escapar cada texto. Si dos hilos lo calculan a
+    // la vez ambos obtienen el mismo contenido
+    //--------
+    private volatile byte[] json;
 
     /**
      * Constructor completo para crear un Pokémon con todos sus atributos.
@@ -32,8 +51,10 @@ public class Pokemon {
         //--------
         this.name = name;
         this.pokedexNumber = pokedexNumber;
-        this.type1 = type1;
-        this.type2 = type2;
+        this.tipo1 = PokemonType.desde(type1);
+        this.tipo2 = PokemonType.desde(type2);
+        this.type1 = canonico(type1, tipo1);
+        this.type2 = canonico(type2, tipo2);
         this.classification = classification;
         this.height = height;
         this.weight = weight;
@@ -53,29 +74,78 @@ public class Pokemon {
     public String getAbilities() { return abilities; }
     public int getGeneration() { return generation; }
     public boolean isLegendary() { return legendary; }
+    public PokemonType getTipo1() { return tipo1; }
+    public PokemonType getTipo2() { return tipo2; }
+    
+    /**
+     * Indica si el Pokémon tiene el tipo dado como primario o secundario.
+     */
+    public boolean tieneTipo(PokemonType tipo) {
+        return tipo != null && (tipo1 == tipo || tipo2 == tipo);
+    }
+    
+    /**
+     * Devuelve el nombre compartido del enum si el texto es idéntico a él,
+     * así miles de Pokémon no guardan cada uno su copia de "Water".
+     */
+    private static String canonico(String texto, PokemonType tipo) {
+        return tipo != null && tipo.getNombre().equals(texto) ? tipo.getNombre() : texto;
+    }
     
     /**
      * Convierte el Pokémon a formato JSON para API o exportación.
      */
     public String toJson() {
+        return new String(bytesJson(), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Escribe el JSON del Pokémon (UTF-8) en la salida, sin cerrarla.
+     */
+    public void escribirJson(OutputStream salida) throws IOException {
+        salida.write(bytesJson());
+    }
+    
+    /**
+     * JSON del Pokémon en UTF-8. El arreglo es compartido y no debe
+     * modificarse; por eso solo es visible dentro del paquete.
+     */
+    byte[] bytesJson() {
+        byte[] actual = json;
+        if (actual == null) {
+            actual = construirJson().getBytes(StandardCharsets.UTF_8);
+            json = actual;
+        }
+        return actual;
+    }
+    
+    private String construirJson() {
         //--------
         // Creación manual de JSON en lugar de usar bibliotecas externas
         // Se aplica escape a caracteres especiales para garantizar validez
         //--------
         return "{"
-            + "\"name\":\"" + name + "\","
+            + "\"name\":" + textoJson(name) + ","
             + "\"pokedexNumber\":" + pokedexNumber + ","
-            + "\"type1\":\"" + type1 + "\","
-            + "\"type2\":\"" + (type2 != null ? type2 : "") + "\","
-            + "\"classification\":\"" + escapeJson(classification) + "\","
+            + "\"type1\":" + textoJson(type1) + ","
+            + "\"type2\":" + textoJson(type2) + ","
+            + "\"classification\":" + textoJson(classification) + ","
             + "\"height\":" + height + ","
             + "\"weight\":" + weight + ","
-            + "\"abilities\":\"" + escapeJson(abilities) + "\","
+            + "\"abilities\":" + textoJson(abilities) + ","
             + "\"generation\":" + generation + ","
             + "\"legendary\":" + legendary 
             + "}";
     }
     
+    /**
+     * Texto entre comillas y escapado, o null sin comillas como en
+     * convertPokemonToMap (por ejemplo type2 de un Pokémon de un solo tipo).
+     */
+    private String textoJson(String texto) {
+        return texto == null ? "null" : "\"" + escapeJson(texto) + "\"";
+    }
+    
     /**
      * Método toString para mostrar información del Pokémon de forma amigable.
      */
@@ -128,13 +198,31 @@ public class Pokemon {
             return "";
         }
         
-        return text.replace("\"", "\\\"")
-                  .replace("\\", "\\\\")
-                  .replace("/", "\\/")
-                  .replace("\b", "\\b")
-                  .replace("\f", "\\f")
-                  .replace("\n", "\\n")
-                  .replace("\r", "\\r")
-                  .replace("\t", "\\t");
+        // Una sola pasada; si no hay nada que escapar se devuelve el mismo texto
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String reemplazo;
+            switch (c) {
+                case '"': reemplazo = "\\\""; break;
+                case '\\': reemplazo = "\\\\"; break;
+                case '/': reemplazo = "\\/"; break;
+                case '\b': reemplazo = "\\b"; break;
+                case '\f': reemplazo = "\\f"; break;
+                case '\n': reemplazo = "\\n"; break;
+                case '\r': reemplazo = "\\r"; break;
+                case '\t': reemplazo = "\\t"; break;
+                default: reemplazo = null;
+            }
+            if (reemplazo != null) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(text.length() + 8).append(text, 0, i);
+                }
+                escaped.append(reemplazo);
+            } else if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+        return escaped != null ? escaped.toString() : text;
     }
 }
\ No newline at end of file
@@ -1,6 +1,11 @@
 package com.pokemon.model;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -91,9 +96,26 @@ public class PokemonResponse {
         return new PokemonResponse(false, message, null, details);
     }
     
+    /**
+     * Lista de los Pokémon del mapa para usar como datos de la respuesta.
+     * Se serializan con las mismas propiedades que convertPokemonMapToList,
+     * pero sin crear un mapa por Pokémon ni convertir números a objetos:
+     * solo se copian las referencias (o ninguna, si los valores ya son una lista).
+     */
+    public static List<Pokemon> listaPokemon(Map<String, Pokemon> pokemonMap) {
+        Collection<Pokemon> valores = pokemonMap.values();
+        if (valores instanceof List) {
+            return (List<Pokemon>) valores;
+        }
+        return new ArrayList<>(valores);
+    }
+    
     /**
      * Convierte un mapa de Pokémon a una lista para la respuesta API
+     * @deprecated crea un HashMap por Pokémon y convierte cada número a
+     * objeto; usar {@link #listaPokemon(Map)}
      */
+    @Deprecated
     public static List<Map<String, Object>> convertPokemonMapToList(Map<String, Pokemon> pokemonMap) {
         List<Map<String, Object>> pokemonList = new ArrayList<>();
         
@@ -118,7 +140,10 @@ public class PokemonResponse {
     
     /**
      * Convierte un Pokémon a un mapa para la respuesta API
+     * @deprecated el Pokémon puede usarse directamente como datos de la
+     * respuesta, que se serializa sin el mapa intermedio
      */
+    @Deprecated
     public static Map<String, Object> convertPokemonToMap(Pokemon pokemon) {
         Map<String, Object> pokemonData = new HashMap<>();
         pokemonData.put("name", pokemon.getName());
@@ -167,6 +192,22 @@ public class PokemonResponse {
         return sb.toString();
     }
     
+    /**
+     * Escribe esta respuesta en JSON (UTF-8) directamente en la salida,
+     * sin armarla antes en memoria. Produce los mismos bytes que toJson().
+     * La salida no se cierra.
+     */
+    public void escribirJson(OutputStream salida) throws IOException {
+        EscritorJson.escribir(this, salida);
+    }
+    
+    /**
+     * Escribe esta respuesta en JSON (UTF-8) en el canal. El canal no se cierra.
+     */
+    public void escribirJson(WritableByteChannel canal) throws IOException {
+        EscritorJson.escribir(this, Channels.newOutputStream(canal));
+    }
+    
     // Getters y setters
     public boolean isSuccess() {
         return success;
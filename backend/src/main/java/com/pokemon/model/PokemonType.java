@@ -0,0 +1,87 @@
+package com.pokemon.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tipos elementales de Pokémon.
+ * Autor: Fatima Navarro - 24044
+ */
+public enum PokemonType {
+    NORMAL("Normal"),
+    FIRE("Fire"),
+    WATER("Water"),
+    GRASS("Grass"),
+    ELECTRIC("Electric"),
+    ICE("Ice"),
+    FIGHTING("Fighting"),
+    POISON("Poison"),
+    GROUND("Ground"),
+    FLYING("Flying"),
+    PSYCHIC("Psychic"),
+    BUG("Bug"),
+    ROCK("Rock"),
+    GHOST("Ghost"),
+    DRAGON("Dragon"),
+    DARK("Dark"),
+    STEEL("Steel"),
+    FAIRY("Fairy");
+    
+    //--------
+    // desde() se llama dos veces por cada Pokémon construido (cada fila
+    // del CSV y cada lectura de PokemonStore), así que no crea textos:
+    // primero el nombre exacto en el mapa, después una comparación sin
+    // mayúsculas contra los 18 nombres. Solo un texto con espacios
+    // alrededor se recorta, y eso sí crea un String
+    //--------
+    private static final Map<String, PokemonType> POR_NOMBRE = new HashMap<>();
+    private static final PokemonType[] VALORES = values();
+    
+    static {
+        for (PokemonType tipo : VALORES) {
+            POR_NOMBRE.put(tipo.nombre, tipo);
+        }
+    }
+    
+    private final String nombre;
+    
+    PokemonType(String nombre) {
+        this.nombre = nombre;
+    }
+    
+    /**
+     * Nombre del tipo tal como aparece en el CSV (por ejemplo "Fire").
+     */
+    public String getNombre() {
+        return nombre;
+    }
+    
+    /**
+     * Devuelve el tipo con ese nombre, sin distinguir mayúsculas ni
+     * espacios alrededor, o null si no es un tipo conocido.
+     */
+    public static PokemonType desde(String nombre) {
+        if (nombre == null || nombre.isEmpty()) {
+            return null;
+        }
+        PokemonType tipo = POR_NOMBRE.get(nombre);
+        if (tipo != null) {
+            return tipo;
+        }
+        for (PokemonType candidato : VALORES) {
+            if (candidato.nombre.equalsIgnoreCase(nombre)) {
+                return candidato;
+            }
+        }
+        if (nombre.charAt(0) <= ' ' || nombre.charAt(nombre.length() - 1) <= ' ') {
+            String recortado = nombre.trim();
+            return recortado.isEmpty() ? null : desde(recortado);
+        }
+        return null;
+    }
+    
+    @Override
+    public String toString() {
+        return nombre;
+    }
+}
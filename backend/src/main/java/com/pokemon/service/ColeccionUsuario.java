@@ -1,13 +1,14 @@
 package com.pokemon.service;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
 
 /**
  * Gestiona la colección personal de Pokémon del usuario.
@@ -22,6 +23,13 @@ public class ColeccionUsuario {
     private Set<String> pokemonesUsuario;
     private MapaPokemons mapaReferencia;
     
+    //--------
+    // Mapas de bits por tipo, generación y legendario de los Pokémon de
+    // la colección: los filtros y conteos se resuelven con operaciones
+    // de bits en lugar de recorrer la colección
+    //--------
+    private PokemonIndex indice;
+    
     /**
      * Constructor que recibe el mapa completo de Pokémon como referencia.
      */
@@ -32,6 +40,7 @@ public class ColeccionUsuario {
         //--------
         this.pokemonesUsuario = new HashSet<>();
         this.mapaReferencia = mapaReferencia;
+        this.indice = new PokemonIndex();
     }
     
     /**
@@ -48,7 +57,11 @@ public class ColeccionUsuario {
         }
         
         // Intentamos agregarlo (retorna false si ya existía)
-        return pokemonesUsuario.add(nombre);
+        if (!pokemonesUsuario.add(nombre)) {
+            return false;
+        }
+        indice.agregar(mapaReferencia.obtenerPokemon(nombre));
+        return true;
     }
     
     /**
@@ -59,6 +72,7 @@ public class ColeccionUsuario {
         // Simple operación de eliminación del Set
         // Retorna true si existía y se eliminó, false si no estaba
         //--------
+        indice.eliminar(nombre);
         return pokemonesUsuario.remove(nombre);
     }
     
@@ -67,11 +81,11 @@ public class ColeccionUsuario {
      */
     public Set<String> obtenerNombresPokemon() {
         //--------
-        // Devuelve una referencia directa al Set de nombres
-        // El usuario no puede modificar la colección a través de este método
-        // debido a la encapsulación de los métodos de modificación
+        // Vista de solo lectura del Set de nombres: la colección solo se
+        // modifica con agregarPokemon y eliminarPokemon, que mantienen
+        // los índices sincronizados
         //--------
-        return pokemonesUsuario;
+        return Collections.unmodifiableSet(pokemonesUsuario);
     }
     
     /**
@@ -108,8 +122,7 @@ public class ColeccionUsuario {
         // Primero por tipo principal y luego por nombre
         //--------
         return obtenerPokemons().stream()
-            .sorted(Comparator.comparing(Pokemon::getType1)
-                             .thenComparing(Pokemon::getName))
+            .sorted(VistaOrdenadaPorTipo.ORDEN_TIPO_NOMBRE)
             .collect(Collectors.toList());
     }
     
@@ -122,22 +135,50 @@ public class ColeccionUsuario {
         // Permite encontrar todos los Pokémon que tengan ese tipo
         // aunque no sea su tipo principal
         //--------
+        PokemonType conocido = PokemonType.desde(tipo);
+        if (conocido != null) {
+            return buscarPorTipo(conocido);
+        }
+        
+        // Tipos que no están en el enum: se comparan los textos
         return obtenerPokemons().stream()
-            .filter(p -> p.getType1().equalsIgnoreCase(tipo) || 
+            .filter(p -> (p.getType1() != null && p.getType1().equalsIgnoreCase(tipo)) || 
                        (p.getType2() != null && p.getType2().equalsIgnoreCase(tipo)))
             .collect(Collectors.toList());
     }
     
+    /**
+     * Encuentra los Pokémon de un tipo conocido en la colección.
+     */
+    public List<Pokemon> buscarPorTipo(PokemonType tipo) {
+        //--------
+        // Un solo mapa de bits: los Pokémon con ese tipo primario o
+        // secundario, en el orden en que se agregaron
+        //--------
+        return indice.buscar(tipo, PokemonIndex.CUALQUIER_GENERACION, null);
+    }
+    
     /**
      * Encuentra los Pokémon legendarios en la colección.
      */
     public List<Pokemon> obtenerLegendarios() {
         //--------
-        // Filtra solo los Pokémon legendarios usando Stream API
+        // Se recorren solo los bits encendidos del mapa de legendarios
         //--------
-        return obtenerPokemons().stream()
-            .filter(Pokemon::isLegendary)
-            .collect(Collectors.toList());
+        return indice.buscar(null, PokemonIndex.CUALQUIER_GENERACION, true);
+    }
+    
+    /**
+     * Encuentra los Pokémon de la colección que cumplen todas las
+     * condiciones, por ejemplo legendarios de tipo Dragón de la
+     * generación 4. Un tipo null, PokemonIndex.CUALQUIER_GENERACION o
+     * un legendario null no filtran.
+     */
+    public List<Pokemon> filtrar(PokemonType tipo, int generacion, Boolean legendario) {
+        //--------
+        // Intersección (AND) de los mapas de bits de cada condición
+        //--------
+        return indice.buscar(tipo, generacion, legendario);
     }
     
     /**
@@ -148,32 +189,25 @@ public class ColeccionUsuario {
         // Analiza la colección y retorna estadísticas interesantes
         // como distribución por tipos, generaciones, etc.
         //--------
-        List<Pokemon> pokemons = obtenerPokemons();
-        if (pokemons.isEmpty()) {
+        int total = indice.tamano();
+        if (total == 0) {
             return "No hay Pokémon en tu colección.";
         }
         
-        // Contar Pokémon por generación
-        int[] generaciones = new int[9]; // Generaciones 1-8
-        for (Pokemon p : pokemons) {
-            if (p.getGeneration() >= 1 && p.getGeneration() <= 8) {
-                generaciones[p.getGeneration()]++;
-            }
-        }
-        
-        // Contar tipos principales
+        // Los conteos son cardinalidades de los mapas de bits
         StringBuilder stats = new StringBuilder();
         stats.append("=== Estadísticas de tu colección ===\n");
-        stats.append("Total de Pokémon: ").append(pokemons.size()).append("\n");
+        stats.append("Total de Pokémon: ").append(total).append("\n");
         stats.append("Pokémon legendarios: ").append(
-            pokemons.stream().filter(Pokemon::isLegendary).count()
+            indice.contar(null, PokemonIndex.CUALQUIER_GENERACION, true)
         ).append("\n\n");
         
         stats.append("Distribución por generación:\n");
-        for (int i = 1; i <= 8; i++) {
-            if (generaciones[i] > 0) {
+        for (int i = 1; i <= indice.generacionMaxima(); i++) {
+            int cantidad = indice.contar(null, i, null);
+            if (cantidad > 0) {
                 stats.append("- Gen ").append(i).append(": ")
-                     .append(generaciones[i]).append(" Pokémon\n");
+                     .append(cantidad).append(" Pokémon\n");
             }
         }
         
@@ -0,0 +1,305 @@
+package com.pokemon.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Implementación de MapaPokemons segura para compartir entre hilos.
+ * Autor: Fatima Navarro - 24044
+ */
+public class ConcurrentMapaPokemons implements MapaPokemons {
+    //--------
+    // ConcurrentHashMap permite lecturas sin bloqueo y escrituras con
+    // bloqueo por cubeta, así una escritura nunca detiene las búsquedas.
+    // A diferencia de las otras implementaciones no se guarda el tiempo
+    // de la última operación: ese campo compartido se escribiría en
+    // cada lectura y provocaría contención entre núcleos
+    //--------
+    private static final int LONGITUD_NGRAMA = 3;
+    
+    private final ConcurrentHashMap<String, Pokemon> pokemonMap;
+    
+    //--------
+    // Índice de habilidades concurrente: texto de habilidades normalizado
+    // -> nombres, y n-grama -> textos de habilidades que lo contienen
+    //--------
+    private final ConcurrentHashMap<String, Set<String>> nombresPorCombinacion;
+    private final ConcurrentHashMap<String, Set<String>> combinacionesPorNgrama;
+    private final ConcurrentHashMap<String, String> combinacionPorNombre;
+    
+    //--------
+    // Vista ordenada por tipo: cada escritura incrementa la versión y
+    // la siguiente lectura publica una nueva instantánea inmutable
+    //--------
+    private final AtomicLong version;
+    private volatile Instantanea vistaPorTipo;
+    
+    // Posición fija de cada nombre, para paginar sin recorrer el mapa
+    private final IndiceOrdinal indiceOrdinal;
+    
+    // Nombres sin mayúsculas ni acentos; se lee sin bloqueo
+    private final IndiceNombresPlegados nombresPlegados;
+    
+    //--------
+    // Índice por número de Pokédex, versionado igual que la vista por
+    // tipo: las escrituras no lo tocan y la primera consulta por número
+    // después de una escritura arma uno nuevo y lo publica. Una vez
+    // publicado nadie lo modifica, así que se lee sin bloqueo
+    //--------
+    private volatile IndicePokedexVersionado indicePokedex;
+    
+    /**
+     * Constructor que inicializa las estructuras concurrentes
+     */
+    public ConcurrentMapaPokemons() {
+        this.pokemonMap = new ConcurrentHashMap<>(1024);
+        this.nombresPorCombinacion = new ConcurrentHashMap<>();
+        this.combinacionesPorNgrama = new ConcurrentHashMap<>();
+        this.combinacionPorNombre = new ConcurrentHashMap<>(1024);
+        this.version = new AtomicLong();
+        this.vistaPorTipo = null;
+        this.indiceOrdinal = new IndiceOrdinal();
+        this.nombresPlegados = new IndiceNombresPlegados();
+        this.indicePokedex = null;
+    }
+    
+    @Override
+    public void agregarPokemon(Pokemon pokemon) {
+        //--------
+        // compute bloquea solo la cubeta de este nombre, de modo que
+        // el mapa y el índice de habilidades se actualizan juntos para
+        // ese Pokémon sin detener a los lectores ni a otros escritores
+        //--------
+        pokemonMap.compute(pokemon.getName(), (nombre, anterior) -> {
+            indexarHabilidades(nombre, pokemon.getAbilities());
+            if (anterior == null) {
+                indiceOrdinal.agregar(nombre);
+                nombresPlegados.agregar(nombre);
+            }
+            return pokemon;
+        });
+        version.incrementAndGet();
+    }
+    
+    @Override
+    public Pokemon obtenerPokemon(String nombre) {
+        // Lectura sin bloqueo
+        return pokemonMap.get(nombre);
+    }
+    
+    @Override
+    public Map<String, Pokemon> obtenerTodos() {
+        //--------
+        // Vista de solo lectura: los cambios del mapa se ven reflejados,
+        // pero nadie puede modificar las estructuras internas desde fuera
+        //--------
+        return Collections.unmodifiableMap(pokemonMap);
+    }
+    
+    @Override
+    public boolean existePokemon(String nombre) {
+        return pokemonMap.containsKey(nombre);
+    }
+    
+    @Override
+    public String resolverNombre(String texto) {
+        // Lectura sin bloqueo, igual que obtenerPokemon
+        if (texto == null || pokemonMap.containsKey(texto)) {
+            return texto;
+        }
+        return nombresPlegados.resolver(texto);
+    }
+    
+    @Override
+    public Map<String, Pokemon> buscarPorHabilidad(String habilidad) {
+        //--------
+        // Igual que HashMapPokemon, el resultado no tiene orden definido
+        //--------
+        String consulta = habilidad.toLowerCase(Locale.ROOT);
+        Map<String, Pokemon> resultado = new HashMap<>();
+        
+        if (consulta.isEmpty()) {
+            resultado.putAll(pokemonMap);
+            return resultado;
+        }
+        
+        for (String combinacion : candidatasPara(consulta)) {
+            if (!combinacion.contains(consulta)) {
+                continue;
+            }
+            Set<String> nombres = nombresPorCombinacion.get(combinacion);
+            if (nombres == null) {
+                continue;
+            }
+            for (String nombre : nombres) {
+                Pokemon pokemon = pokemonMap.get(nombre);
+                if (pokemon != null) {
+                    resultado.put(nombre, pokemon);
+                }
+            }
+        }
+        return resultado;
+    }
+    
+    @Override
+    public PaginaPokemon obtenerPagina(String cursor, int tamano) {
+        //--------
+        // Páginas en orden de inserción. Un nombre puede estar en el mapa
+        // un instante antes que en el índice; aparece en la siguiente lectura
+        //--------
+        return indiceOrdinal.pagina(cursor, tamano, pokemonMap::get);
+    }
+    
+    @Override
+    public List<Pokemon> obtenerOrdenadosPorTipo() {
+        //--------
+        // Si la instantánea corresponde a la versión actual se devuelve
+        // tal cual. Si no, se ordena una copia y se publica; varias
+        // lecturas simultáneas pueden calcularla a la vez, pero ninguna
+        // espera a otra
+        //--------
+        long versionActual = version.get();
+        Instantanea actual = vistaPorTipo;
+        if (actual != null && actual.version == versionActual) {
+            return actual.pokemons;
+        }
+        
+        Pokemon[] ordenados = pokemonMap.values().toArray(new Pokemon[0]);
+        Arrays.sort(ordenados, VistaOrdenadaPorTipo.ORDEN_TIPO_NOMBRE);
+        Instantanea nueva = new Instantanea(versionActual,
+            Collections.unmodifiableList(Arrays.asList(ordenados)));
+        vistaPorTipo = nueva;
+        return nueva.pokemons;
+    }
+    
+    @Override
+    public Pokemon obtenerPorPokedex(int numero) {
+        return indicePokedex().obtener(numero);
+    }
+    
+    @Override
+    public List<Pokemon> obtenerRangoPokedex(int desde, int hasta) {
+        return indicePokedex().rango(desde, hasta);
+    }
+    
+    @Override
+    public String getTipoMapa() {
+        return "Concurrent";
+    }
+    
+    /**
+     * Obtiene las estadísticas de la implementación concurrente
+     */
+    public String getEstadisticasRendimiento() {
+        return "Estadísticas Concurrent:\n" +
+               "- Cantidad de elementos: " + pokemonMap.size() + "\n" +
+               "- Combinaciones de habilidades indexadas: " + nombresPorCombinacion.size() + "\n" +
+               "- Complejidad teórica de búsqueda: O(1) sin bloqueo";
+    }
+    
+    /**
+     * Índice por número de la versión actual del mapa, armándolo si hace falta.
+     */
+    private IndicePokedex indicePokedex() {
+        //--------
+        // Igual que obtenerOrdenadosPorTipo: varias lecturas pueden
+        // armarlo a la vez, pero ninguna espera a otra. Se recorre en
+        // orden de inserción para que los números repetidos queden en
+        // orden de llegada
+        //--------
+        long versionActual = version.get();
+        IndicePokedexVersionado actual = indicePokedex;
+        if (actual != null && actual.version == versionActual) {
+            return actual.indice;
+        }
+        
+        IndicePokedex nuevo = new IndicePokedex();
+        for (Pokemon pokemon : indiceOrdinal.pokemons(pokemonMap::get)) {
+            nuevo.agregar(pokemon);
+        }
+        // Arma antes de publicar el orden de claves que rango() calcularía en la primera consulta
+        nuevo.enOrden();
+        indicePokedex = new IndicePokedexVersionado(versionActual, nuevo);
+        return nuevo;
+    }
+    
+    /**
+     * Registra el texto de habilidades de un Pokémon en el índice.
+     */
+    private void indexarHabilidades(String nombre, String abilities) {
+        String combinacion = abilities == null ? "" : abilities.toLowerCase(Locale.ROOT);
+        String anterior = combinacionPorNombre.put(nombre, combinacion);
+        if (anterior != null && !anterior.equals(combinacion)) {
+            Set<String> nombresAnteriores = nombresPorCombinacion.get(anterior);
+            if (nombresAnteriores != null) {
+                nombresAnteriores.remove(nombre);
+            }
+        }
+        
+        nombresPorCombinacion.computeIfAbsent(combinacion, texto -> {
+            for (int i = 0; i + LONGITUD_NGRAMA <= texto.length(); i++) {
+                combinacionesPorNgrama
+                    .computeIfAbsent(texto.substring(i, i + LONGITUD_NGRAMA),
+                                     k -> ConcurrentHashMap.newKeySet())
+                    .add(texto);
+            }
+            return ConcurrentHashMap.newKeySet();
+        }).add(nombre);
+    }
+    
+    /**
+     * Devuelve los textos de habilidades que podrían contener la consulta.
+     */
+    private Set<String> candidatasPara(String consulta) {
+        if (consulta.length() < LONGITUD_NGRAMA) {
+            return nombresPorCombinacion.keySet();
+        }
+        
+        Set<String> menor = null;
+        for (int i = 0; i + LONGITUD_NGRAMA <= consulta.length(); i++) {
+            Set<String> combinaciones = combinacionesPorNgrama.get(consulta.substring(i, i + LONGITUD_NGRAMA));
+            if (combinaciones == null) {
+                return Collections.emptySet();
+            }
+            if (menor == null || combinaciones.size() < menor.size()) {
+                menor = combinaciones;
+            }
+        }
+        return menor;
+    }
+    
+    /**
+     * Índice por número junto con la versión del mapa de la que proviene.
+     */
+    private static final class IndicePokedexVersionado {
+        private final long version;
+        private final IndicePokedex indice;
+        
+        IndicePokedexVersionado(long version, IndicePokedex indice) {
+            this.version = version;
+            this.indice = indice;
+        }
+    }
+    
+    /**
+     * Lista ordenada junto con la versión del mapa de la que proviene.
+     */
+    private static final class Instantanea {
+        private final long version;
+        private final List<Pokemon> pokemons;
+        
+        Instantanea(long version, List<Pokemon> pokemons) {
+            this.version = version;
+            this.pokemons = pokemons;
+        }
+    }
+}
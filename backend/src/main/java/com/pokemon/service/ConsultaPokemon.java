@@ -0,0 +1,471 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+
+/**
+ * Consulta componible sobre un MapaPokemons: filtros sobre cualquier
+ * campo, orden por varias claves y límite. Un planificador elige el
+ * acceso más barato disponible y explicar() muestra cuál eligió.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class ConsultaPokemon {
+    //--------
+    // Uso:
+    //   ConsultaPokemon.sobre(mapa)
+    //       .igual(Campo.TIPO, PokemonType.DRAGON)
+    //       .igual(Campo.GENERACION, 4)
+    //       .ordenarPorDescendente(Campo.PESO)
+    //       .limite(5)
+    //       .ejecutar();
+    //
+    // Accesos, del más barato al más caro:
+    //   NOMBRE     nombre = x           -> hash de nombres, a lo sumo 1 Pokémon
+    //   HABILIDAD  habilidades contiene -> índice de habilidades
+    //   ESCANEO    cualquier otro caso  -> recorre obtenerTodos()
+    // Las demás condiciones se aplican como filtros sobre lo que
+    // devuelve el acceso
+    //--------
+    
+    /**
+     * Campos de Pokemon sobre los que se puede filtrar y ordenar.
+     */
+    public enum Campo {
+        NOMBRE("nombre", Pokemon::getName),
+        NUMERO("numero", Pokemon::getPokedexNumber),
+        TIPO("tipo", Pokemon::getType1),
+        CLASIFICACION("clasificacion", Pokemon::getClassification),
+        ALTURA("altura", Pokemon::getHeight),
+        PESO("peso", Pokemon::getWeight),
+        HABILIDADES("habilidades", Pokemon::getAbilities),
+        GENERACION("generacion", Pokemon::getGeneration),
+        LEGENDARIO("legendario", Pokemon::isLegendary);
+        
+        private final String nombre;
+        private final Function<Pokemon, Object> lector;
+        
+        Campo(String nombre, Function<Pokemon, Object> lector) {
+            this.nombre = nombre;
+            this.lector = lector;
+        }
+        
+        /**
+         * Valor del campo en el Pokémon. Para TIPO es el tipo primario,
+         * aunque los filtros de TIPO también miran el secundario.
+         */
+        public Object valor(Pokemon pokemon) {
+            return lector.apply(pokemon);
+        }
+        
+        /**
+         * Nombre del campo en minúsculas, como aparece en explicar().
+         */
+        public String getNombre() {
+            return nombre;
+        }
+        
+        /**
+         * Devuelve el campo con ese nombre, sin distinguir mayúsculas,
+         * o null si no existe.
+         */
+        public static Campo desde(String nombre) {
+            for (Campo campo : values()) {
+                if (campo.nombre.equalsIgnoreCase(nombre.trim())) {
+                    return campo;
+                }
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * Forma de obtener los candidatos antes de aplicar los filtros.
+     */
+    public enum Acceso {
+        NOMBRE("hash de nombres"),
+        HABILIDAD("índice de habilidades"),
+        ESCANEO("recorrido completo");
+        
+        private final String descripcion;
+        
+        Acceso(String descripcion) {
+            this.descripcion = descripcion;
+        }
+        
+        public String getDescripcion() {
+            return descripcion;
+        }
+    }
+    
+    private final MapaPokemons mapa;
+    private final List<Condicion> condiciones;
+    private final List<String> descripcionesOrden;
+    private Comparator<Pokemon> orden;
+    // Única clave de orden, si es numérica: permite usar TopK
+    private Campo ordenNumerico;
+    private boolean ordenDescendente;
+    private int limite;
+    
+    private ConsultaPokemon(MapaPokemons mapa) {
+        this.mapa = mapa;
+        this.condiciones = new ArrayList<>();
+        this.descripcionesOrden = new ArrayList<>();
+        this.orden = null;
+        this.limite = Integer.MAX_VALUE;
+    }
+    
+    /**
+     * Inicia una consulta sobre el mapa indicado.
+     */
+    public static ConsultaPokemon sobre(MapaPokemons mapa) {
+        return new ConsultaPokemon(mapa);
+    }
+    
+    /**
+     * Campo igual al valor. Los textos se comparan sin distinguir
+     * mayúsculas (el nombre tampoco distingue acentos) y los números
+     * por su valor. TIPO acepta un PokemonType o su nombre y coincide
+     * con el tipo primario o el secundario.
+     */
+    public ConsultaPokemon igual(Campo campo, Object valor) {
+        Predicate<Pokemon> prueba;
+        if (campo == Campo.TIPO) {
+            PokemonType tipo = valor instanceof PokemonType ? (PokemonType) valor : PokemonType.desde(String.valueOf(valor));
+            String texto = String.valueOf(valor);
+            prueba = tipo != null
+                ? p -> p.tieneTipo(tipo)
+                : p -> texto.equalsIgnoreCase(p.getType1()) || texto.equalsIgnoreCase(p.getType2());
+        } else if (campo == Campo.NOMBRE) {
+            String texto = String.valueOf(valor);
+            prueba = p -> IndiceNombresPlegados.igualesPlegados(p.getName(), texto);
+        } else if (valor instanceof Number) {
+            double numero = ((Number) valor).doubleValue();
+            prueba = p -> {
+                Object actual = campo.valor(p);
+                return actual instanceof Number && comparar((Number) actual, numero) == 0;
+            };
+        } else if (valor instanceof String) {
+            String texto = (String) valor;
+            prueba = p -> {
+                Object actual = campo.valor(p);
+                return actual instanceof String ? texto.equalsIgnoreCase((String) actual) : texto.equals(String.valueOf(actual));
+            };
+        } else {
+            prueba = p -> valor != null && valor.equals(campo.valor(p));
+        }
+        return agregar(new Condicion(campo, Operador.IGUAL, valor, campo.getNombre() + " = " + citar(valor), prueba));
+    }
+    
+    /**
+     * Campo de texto que contiene el texto indicado, sin distinguir mayúsculas.
+     */
+    public ConsultaPokemon contiene(Campo campo, String texto) {
+        Predicate<Pokemon> prueba = p -> {
+            Object actual = campo.valor(p);
+            return actual != null && contieneSinMayusculas(String.valueOf(actual), texto);
+        };
+        return agregar(new Condicion(campo, Operador.CONTIENE, texto,
+                                     campo.getNombre() + " contiene " + citar(texto), prueba));
+    }
+    
+    /**
+     * Campo numérico dentro del rango, con ambos extremos incluidos.
+     */
+    public ConsultaPokemon entre(Campo campo, double minimo, double maximo) {
+        Predicate<Pokemon> prueba = p -> {
+            Object actual = campo.valor(p);
+            if (!(actual instanceof Number)) {
+                return false;
+            }
+            return comparar((Number) actual, minimo) >= 0 && comparar((Number) actual, maximo) <= 0;
+        };
+        return agregar(new Condicion(campo, Operador.ENTRE, null,
+                                     campo.getNombre() + " entre " + minimo + " y " + maximo, prueba));
+    }
+    
+    /**
+     * Filtro arbitrario; la descripción aparece en explicar().
+     */
+    public ConsultaPokemon donde(String descripcion, Predicate<Pokemon> prueba) {
+        return agregar(new Condicion(null, Operador.PREDICADO, null, descripcion, prueba));
+    }
+    
+    /**
+     * Agrega una clave de orden ascendente; las claves se aplican en el
+     * orden en que se agregan.
+     */
+    public ConsultaPokemon ordenarPor(Campo campo) {
+        return agregarOrden(campo, false);
+    }
+    
+    /**
+     * Agrega una clave de orden descendente.
+     */
+    public ConsultaPokemon ordenarPorDescendente(Campo campo) {
+        return agregarOrden(campo, true);
+    }
+    
+    /**
+     * Cantidad máxima de resultados.
+     */
+    public ConsultaPokemon limite(int limite) {
+        if (limite < 1) {
+            throw new IllegalArgumentException("El límite debe ser mayor que cero");
+        }
+        this.limite = limite;
+        return this;
+    }
+    
+    /**
+     * Acceso que usará la consulta.
+     */
+    public Acceso acceso() {
+        return planificar().acceso;
+    }
+    
+    /**
+     * Ejecuta la consulta. Sin claves de orden, los resultados siguen el
+     * orden del acceso elegido (el del mapa en un recorrido completo).
+     */
+    public List<Pokemon> ejecutar() {
+        Plan plan = planificar();
+        Collection<Pokemon> candidatos = candidatos(plan);
+        
+        //--------
+        // Con una sola clave numérica y límite, un montículo acotado
+        // retiene los mejores sin ordenar todos los candidatos; da el
+        // mismo resultado que el ordenamiento estable de abajo
+        //--------
+        if (usaMonticulo()) {
+            TopK<Pokemon> seleccion = ordenDescendente ? TopK.mayores(limite) : TopK.menores(limite);
+            for (Pokemon pokemon : candidatos) {
+                if (cumple(pokemon, plan.restantes)) {
+                    seleccion.ofrecer(((Number) ordenNumerico.valor(pokemon)).doubleValue(), pokemon);
+                }
+            }
+            return seleccion.resultado();
+        }
+        
+        //--------
+        // Sin orden, el recorrido se corta al llegar al límite; con
+        // orden hay que ver todos los candidatos antes de cortar
+        //--------
+        int corte = orden == null ? limite : Integer.MAX_VALUE;
+        List<Pokemon> resultado = new ArrayList<>();
+        for (Pokemon pokemon : candidatos) {
+            if (cumple(pokemon, plan.restantes)) {
+                resultado.add(pokemon);
+                if (resultado.size() >= corte) {
+                    break;
+                }
+            }
+        }
+        
+        if (orden != null) {
+            resultado.sort(orden);
+            if (resultado.size() > limite) {
+                resultado = new ArrayList<>(resultado.subList(0, limite));
+            }
+        }
+        return resultado;
+    }
+    
+    /**
+     * Describe el plan elegido: acceso, filtros restantes, orden y límite.
+     */
+    public String explicar() {
+        Plan plan = planificar();
+        StringBuilder sb = new StringBuilder();
+        sb.append("Acceso: ").append(plan.acceso.getDescripcion());
+        if (plan.usada != null) {
+            sb.append(" (").append(plan.usada.descripcion).append(")");
+        }
+        sb.append(", costo estimado: ").append(plan.costo).append("\n");
+        
+        sb.append("Filtros: ");
+        if (plan.restantes.isEmpty()) {
+            sb.append("ninguno");
+        }
+        for (int i = 0; i < plan.restantes.size(); i++) {
+            sb.append(i > 0 ? ", " : "").append(plan.restantes.get(i).descripcion);
+        }
+        sb.append("\n");
+        
+        sb.append("Orden: ").append(descripcionesOrden.isEmpty() ? "el del acceso" : String.join(", ", descripcionesOrden));
+        if (usaMonticulo()) {
+            sb.append(" (montículo acotado)");
+        }
+        sb.append("\n");
+        sb.append("Límite: ").append(limite == Integer.MAX_VALUE ? "ninguno" : String.valueOf(limite));
+        return sb.toString();
+    }
+    
+    @Override
+    public String toString() {
+        return explicar();
+    }
+    
+    /**
+     * Elige el acceso más barato entre las condiciones que lo permiten.
+     */
+    private Plan planificar() {
+        //--------
+        // El costo es una estimación de cuántos Pokémon hay que revisar:
+        // 1 por el hash de nombres, los que devuelva el índice de
+        // habilidades (desconocido hasta consultarlo, se marca como tal)
+        // y todo el catálogo en un recorrido
+        //--------
+        Condicion porNombre = null;
+        Condicion porHabilidad = null;
+        for (Condicion condicion : condiciones) {
+            if (porNombre == null && condicion.campo == Campo.NOMBRE && condicion.operador == Operador.IGUAL) {
+                porNombre = condicion;
+            }
+            if (porHabilidad == null && condicion.campo == Campo.HABILIDADES && condicion.operador == Operador.CONTIENE) {
+                porHabilidad = condicion;
+            }
+        }
+        
+        if (porNombre != null) {
+            return new Plan(Acceso.NOMBRE, porNombre, "1", sinCondicion(porNombre));
+        }
+        if (porHabilidad != null) {
+            return new Plan(Acceso.HABILIDAD, porHabilidad, "coincidencias del índice", sinCondicion(porHabilidad));
+        }
+        return new Plan(Acceso.ESCANEO, null, String.valueOf(mapa.obtenerTodos().size()), condiciones);
+    }
+    
+    private Collection<Pokemon> candidatos(Plan plan) {
+        switch (plan.acceso) {
+            case NOMBRE:
+                Pokemon pokemon = mapa.obtenerPokemonPlegado(String.valueOf(plan.usada.valor));
+                return pokemon == null ? Collections.emptyList() : Collections.singletonList(pokemon);
+            case HABILIDAD:
+                return mapa.buscarPorHabilidad((String) plan.usada.valor).values();
+            default:
+                return mapa.obtenerTodos().values();
+        }
+    }
+    
+    private ConsultaPokemon agregar(Condicion condicion) {
+        condiciones.add(condicion);
+        return this;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ConsultaPokemon agregarOrden(Campo campo, boolean descendente) {
+        // Los valores nulos quedan al final en ambos sentidos
+        Comparator<Comparable> valores = descendente ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        Comparator<Pokemon> clave = Comparator.comparing(p -> (Comparable) campo.valor(p), Comparator.nullsLast(valores));
+        if (orden == null && esNumerico(campo)) {
+            ordenNumerico = campo;
+            ordenDescendente = descendente;
+        } else {
+            ordenNumerico = null;
+        }
+        orden = orden == null ? clave : orden.thenComparing(clave);
+        descripcionesOrden.add(campo.getNombre() + (descendente ? " descendente" : ""));
+        return this;
+    }
+    
+    private boolean usaMonticulo() {
+        return ordenNumerico != null && limite != Integer.MAX_VALUE;
+    }
+    
+    private static boolean esNumerico(Campo campo) {
+        return campo == Campo.NUMERO || campo == Campo.ALTURA || campo == Campo.PESO || campo == Campo.GENERACION;
+    }
+    
+    private List<Condicion> sinCondicion(Condicion usada) {
+        List<Condicion> restantes = new ArrayList<>(condiciones);
+        restantes.remove(usada);
+        return restantes;
+    }
+    
+    private static boolean cumple(Pokemon pokemon, List<Condicion> condiciones) {
+        for (Condicion condicion : condiciones) {
+            if (!condicion.prueba.test(pokemon)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Busca el texto sin distinguir mayúsculas y sin crear copias en minúscula.
+     */
+    private static boolean contieneSinMayusculas(String texto, String buscado) {
+        int ultimo = texto.length() - buscado.length();
+        for (int i = 0; i <= ultimo; i++) {
+            if (texto.regionMatches(true, i, buscado, 0, buscado.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Compara el valor de un campo con un número de la consulta. Altura
+     * y peso son float: se comparan en float para que 1.9 coincida con
+     * 1.9f, que como double vale 1.8999999761...
+     */
+    private static int comparar(Number actual, double numero) {
+        if (actual instanceof Float) {
+            return Float.compare(actual.floatValue(), (float) numero);
+        }
+        return Double.compare(actual.doubleValue(), numero);
+    }
+    
+    private static String citar(Object valor) {
+        return valor instanceof String ? "'" + valor + "'" : String.valueOf(valor);
+    }
+    
+    private enum Operador {
+        IGUAL, CONTIENE, ENTRE, PREDICADO
+    }
+    
+    /**
+     * Condición de la consulta: el campo y el operador le sirven al
+     * planificador; la prueba se usa como filtro.
+     */
+    private static final class Condicion {
+        private final Campo campo;
+        private final Operador operador;
+        private final Object valor;
+        private final String descripcion;
+        private final Predicate<Pokemon> prueba;
+        
+        Condicion(Campo campo, Operador operador, Object valor, String descripcion, Predicate<Pokemon> prueba) {
+            this.campo = campo;
+            this.operador = operador;
+            this.valor = valor;
+            this.descripcion = descripcion;
+            this.prueba = prueba;
+        }
+    }
+    
+    /**
+     * Acceso elegido, la condición que resuelve y las que quedan como filtros.
+     */
+    private static final class Plan {
+        private final Acceso acceso;
+        private final Condicion usada;
+        private final String costo;
+        private final List<Condicion> restantes;
+        
+        Plan(Acceso acceso, Condicion usada, String costo, List<Condicion> restantes) {
+            this.acceso = acceso;
+            this.usada = usada;
+            this.costo = costo;
+            this.restantes = restantes;
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package com.pokemon.service;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import com.pokemon.model.Pokemon;
 
@@ -20,7 +18,11 @@ public class HashMapPokemon implements MapaPokemons {
     // Se utiliza HashMap para un acceso O(1) a los elementos
     //--------
     private Map<String, Pokemon> pokemonMap;
-    private long tiempoUltimaOperacion;
+    private IndiceHabilidades indiceHabilidades;
+    private VistaOrdenadaPorTipo vistaPorTipo;
+    private IndiceOrdinal indiceOrdinal;
+    private IndiceNombresPlegados nombresPlegados;
+    private IndicePokedex indicePokedex;
     
     /**
      * Constructor que inicializa el mapa
@@ -28,23 +30,29 @@ public class HashMapPokemon implements MapaPokemons {
     public HashMapPokemon() {
         // Inicializamos con capacidad inicial para mejorar rendimiento
         this.pokemonMap = new HashMap<>(500);
-        this.tiempoUltimaOperacion = 0;
+        this.indiceHabilidades = new IndiceHabilidades();
+        this.vistaPorTipo = new VistaOrdenadaPorTipo();
+        this.indiceOrdinal = new IndiceOrdinal();
+        this.nombresPlegados = new IndiceNombresPlegados();
+        this.indicePokedex = new IndicePokedex();
     }
     
     @Override
     public void agregarPokemon(Pokemon pokemon) {
         //--------
-        // Medimos el tiempo de ejecución para análisis de rendimiento
-        // Esto nos permite comparar empíricamente el rendimiento de
-        // las diferentes implementaciones
-        //--------
-        long inicio = System.nanoTime();
-        
         // Agregamos el Pokémon al mapa usando su nombre como clave
-        pokemonMap.put(pokemon.getName(), pokemon);
-        
-        // Registramos el tiempo que tardó
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
+        // Los tiempos de cada operación los mide InstrumentedMapaPokemons
+        //--------
+        Pokemon anterior = pokemonMap.put(pokemon.getName(), pokemon);
+        if (anterior == null) {
+            indiceOrdinal.agregar(pokemon.getName());
+            nombresPlegados.agregar(pokemon.getName());
+            indicePokedex.agregar(pokemon);
+        } else {
+            indicePokedex.reemplazar(anterior, pokemon);
+        }
+        indiceHabilidades.agregar(pokemon);
+        vistaPorTipo.invalidar();
     }
     
     @Override
@@ -53,21 +61,17 @@ public class HashMapPokemon implements MapaPokemons {
         // Acceso directo al mapa con complejidad O(1)
         // Esta es la principal ventaja de usar HashMap
         //--------
-        long inicio = System.nanoTime();
-        
-        Pokemon resultado = pokemonMap.get(nombre);
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
-        return resultado;
+        return pokemonMap.get(nombre);
     }
     
     @Override
     public Map<String, Pokemon> obtenerTodos() {
         //--------
-        // Devolvemos una referencia al mapa interno
+        // Devolvemos una vista de solo lectura del mapa interno para que
+        // nadie desincronice los índices modificándolo desde fuera
         // No hay garantía de orden en un HashMap
         //--------
-        return pokemonMap;
+        return Collections.unmodifiableMap(pokemonMap);
     }
     
     @Override
@@ -78,38 +82,58 @@ public class HashMapPokemon implements MapaPokemons {
         return pokemonMap.containsKey(nombre);
     }
     
+    @Override
+    public String resolverNombre(String texto) {
+        // Sin crear textos: el índice pliega cada carácter al comparar
+        if (texto == null || pokemonMap.containsKey(texto)) {
+            return texto;
+        }
+        return nombresPlegados.resolver(texto);
+    }
+    
     @Override
     public Map<String, Pokemon> buscarPorHabilidad(String habilidad) {
         //--------
-        // Usamos Stream API para filtrar Pokémon por habilidad
-        // Complejidad O(n) ya que debemos revisar todos los elementos
-        //--------
-        long inicio = System.nanoTime();
-        
-        Map<String, Pokemon> resultado = pokemonMap.entrySet().stream()
-                .filter(entrada -> entrada.getValue().getAbilities().toLowerCase()
-                                .contains(habilidad.toLowerCase()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
+        // Consultamos el índice invertido de habilidades en lugar de
+        // recorrer todo el mapa: el costo depende de las coincidencias
+        //--------
+        Map<String, Pokemon> resultado = new HashMap<>();
+        for (Pokemon pokemon : indiceHabilidades.buscar(habilidad)) {
+            resultado.put(pokemon.getName(), pokemon);
+        }
         return resultado;
     }
     
+    @Override
+    public PaginaPokemon obtenerPagina(String cursor, int tamano) {
+        //--------
+        // El HashMap no tiene un orden estable entre escrituras, así que
+        // las páginas siguen el orden de inserción del índice ordinal
+        //--------
+        return indiceOrdinal.pagina(cursor, tamano, pokemonMap::get);
+    }
+    
     @Override
     public List<Pokemon> obtenerOrdenadosPorTipo() {
         //--------
         // En HashMap no hay orden natural, así que debemos ordenar explícitamente
-        // Complejidad O(n log n) debido al algoritmo de ordenamiento
+        // El ordenamiento O(n log n) se hace una vez y se reutiliza hasta
+        // la siguiente escritura; las lecturas no copian ni ordenan
         //--------
-        long inicio = System.nanoTime();
-        
         // Primero por tipo primario, luego por nombre para un ordenamiento consistente
-        List<Pokemon> resultado = new ArrayList<>(pokemonMap.values());
-        resultado.sort(Comparator.comparing(Pokemon::getType1)
-                              .thenComparing(Pokemon::getName));
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
-        return resultado;
+        return vistaPorTipo.obtener(pokemonMap.values());
+    }
+    
+    @Override
+    public Pokemon obtenerPorPokedex(int numero) {
+        // Lectura directa en el arreglo indexado por número
+        return indicePokedex.obtener(numero);
+    }
+    
+    @Override
+    public List<Pokemon> obtenerRangoPokedex(int desde, int hasta) {
+        // El índice ya está en orden de Pokédex: no se ordena nada
+        return indicePokedex.rango(desde, hasta);
     }
     
     @Override
@@ -123,12 +147,11 @@ public class HashMapPokemon implements MapaPokemons {
     public String getEstadisticasRendimiento() {
         //--------
         // Información detallada sobre el rendimiento del HashMap
-        // Incluye tiempo de la última operación y características específicas
+        // Las latencias por operación están en el registro de métricas
         //--------
         return "Estadísticas HashMap:\n" +
-               "- Tiempo última operación: " + tiempoUltimaOperacion + " ns\n" +
                "- Cantidad de elementos: " + pokemonMap.size() + "\n" +
                "- Complejidad teórica de búsqueda: O(1)\n" +
                "- Factor de carga actual: " + pokemonMap.size() / 500.0f;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,321 @@
+package com.pokemon.service;
+
+import java.util.Arrays;
+
+/**
+ * Hash perfecto mínimo sobre un conjunto fijo de nombres (estilo CHD:
+ * agrupar, desplazar y comprimir). Cada nombre del conjunto recibe una
+ * casilla distinta entre 0 y tamano() - 1; cualquier otro texto recibe
+ * alguna casilla de ese rango y quien consulta compara el nombre.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class HashPerfecto {
+    //--------
+    // Construcción: cada nombre cae en un grupo según su hash; unos 5
+    // nombres por grupo. Los grupos se colocan del más grande al más
+    // chico, probando desplazamientos d = 0, 1, 2... hasta que todos sus
+    // nombres caen en casillas libres. Solo se guarda el d de cada grupo,
+    // empaquetado en los bits justos para el d más grande.
+    //
+    // Se busca sobre un 1% más de casillas que nombres para que los
+    // últimos grupos encuentren lugar pronto (d chicos = menos bits).
+    // Las casillas de ese sobrante que quedaron ocupadas se reubican en
+    // las libres de abajo con una tabla pequeña, y el resultado queda
+    // mínimo: exactamente una casilla por nombre.
+    //
+    // Consulta: un hash del texto, leer un d, otra mezcla y a lo sumo
+    // leer la reubicación; no hay sondeo ni cadenas. Si ningún par de
+    // nombres comparte hashCode (lo normal con un catálogo real) el hash
+    // sale del hashCode, que String guarda tras calcularlo una vez; si
+    // no, se recorren los caracteres en cada consulta
+    //--------
+    private static final int NOMBRES_POR_GRUPO = 5;
+    private static final double FACTOR_DE_CARGA = 0.99;
+    private static final long PHI = 0x9E3779B97F4A7C15L;
+    private static final int LIMITE_DESPLAZAMIENTO = 1 << 24;
+    private static final int MAXIMO_INTENTOS = 16;
+    
+    private final long semilla;
+    private final boolean porHashCode;
+    private final int tamano;
+    private final int casillas;
+    private final int grupos;
+    private final long[] desplazamientos;
+    private final int bitsPorDesplazamiento;
+    private final int[] reubicadas;
+    
+    private HashPerfecto(long semilla, boolean porHashCode, int tamano, int casillas, int grupos,
+                         long[] desplazamientos, int bitsPorDesplazamiento, int[] reubicadas) {
+        this.semilla = semilla;
+        this.porHashCode = porHashCode;
+        this.tamano = tamano;
+        this.casillas = casillas;
+        this.grupos = grupos;
+        this.desplazamientos = desplazamientos;
+        this.bitsPorDesplazamiento = bitsPorDesplazamiento;
+        this.reubicadas = reubicadas;
+    }
+    
+    /**
+     * Construye el hash perfecto de los nombres indicados, que no pueden
+     * repetirse.
+     *
+     * @throws IllegalArgumentException si hay un nombre repetido o null
+     */
+    public static HashPerfecto construir(String[] nombres) {
+        boolean porHashCode = hashCodesDistintos(nombres);
+        long semilla = PHI;
+        for (int intento = 0; intento < MAXIMO_INTENTOS; intento++) {
+            HashPerfecto resultado = intentar(nombres, semilla, porHashCode);
+            if (resultado != null) {
+                return resultado;
+            }
+            // Dos nombres con el mismo hash de 64 bits: otra semilla los separa
+            semilla = mezclar(semilla + PHI);
+        }
+        throw new IllegalStateException("No se pudo construir el hash perfecto de " + nombres.length + " nombres");
+    }
+    
+    /**
+     * Cantidad de nombres; las casillas van de 0 a tamano() - 1.
+     */
+    public int tamano() {
+        return tamano;
+    }
+    
+    /**
+     * Casilla del nombre si está en el conjunto. Para otro texto devuelve
+     * igualmente una casilla válida (o -1 si el conjunto está vacío).
+     */
+    public int casilla(String nombre) {
+        if (tamano == 0) {
+            return -1;
+        }
+        long hash = hashNombre(nombre, semilla, porHashCode);
+        int posicion = posicion(hash, desplazamiento(grupo(hash, grupos)), casillas);
+        return posicion < tamano ? posicion : reubicadas[posicion - tamano];
+    }
+    
+    /**
+     * Bits que ocupa el índice: desplazamientos empaquetados y tabla de
+     * reubicación.
+     */
+    public long bits() {
+        return 64L * desplazamientos.length + 32L * reubicadas.length;
+    }
+    
+    /**
+     * Bits del índice por nombre.
+     */
+    public double bitsPorNombre() {
+        return tamano == 0 ? 0 : (double) bits() / tamano;
+    }
+    
+    /**
+     * Indica si el hash sale del hashCode de cada nombre en lugar de
+     * recorrer sus caracteres.
+     */
+    public boolean usaHashCode() {
+        return porHashCode;
+    }
+    
+    /**
+     * Bits con que se guarda cada desplazamiento.
+     */
+    public int getBitsPorDesplazamiento() {
+        return bitsPorDesplazamiento;
+    }
+    
+    /**
+     * Cantidad de grupos, es decir, de desplazamientos guardados.
+     */
+    public int getGrupos() {
+        return grupos;
+    }
+    
+    private int desplazamiento(int grupo) {
+        long bit = (long) grupo * bitsPorDesplazamiento;
+        int palabra = (int) (bit >>> 6);
+        int corrimiento = (int) (bit & 63);
+        long valor = desplazamientos[palabra] >>> corrimiento;
+        if (corrimiento + bitsPorDesplazamiento > 64) {
+            valor |= desplazamientos[palabra + 1] << (64 - corrimiento);
+        }
+        return (int) (valor & ((1L << bitsPorDesplazamiento) - 1));
+    }
+    
+    /**
+     * Un intento de construcción con la semilla dada; null si dos nombres
+     * distintos quedaron con el mismo hash.
+     */
+    private static HashPerfecto intentar(String[] nombres, long semilla, boolean porHashCode) {
+        int tamano = nombres.length;
+        int casillas = tamano == 0 ? 0 : Math.max(tamano, (int) Math.ceil(tamano / FACTOR_DE_CARGA));
+        int grupos = Math.max(1, (tamano + NOMBRES_POR_GRUPO - 1) / NOMBRES_POR_GRUPO);
+        
+        long[] hashes = new long[tamano];
+        int[] inicioGrupo = new int[grupos + 1];
+        for (int i = 0; i < tamano; i++) {
+            hashes[i] = hashNombre(nombres[i], semilla, porHashCode);
+            inicioGrupo[grupo(hashes[i], grupos) + 1]++;
+        }
+        
+        //--------
+        // Nombres agrupados por conteo: los de cada grupo quedan juntos en
+        // 'miembros', y los grupos se ordenan por tamaño de mayor a menor
+        //--------
+        int mayorGrupo = 0;
+        for (int g = 0; g < grupos; g++) {
+            mayorGrupo = Math.max(mayorGrupo, inicioGrupo[g + 1]);
+            inicioGrupo[g + 1] += inicioGrupo[g];
+        }
+        int[] miembros = new int[tamano];
+        int[] siguiente = new int[grupos];
+        System.arraycopy(inicioGrupo, 0, siguiente, 0, grupos);
+        for (int i = 0; i < tamano; i++) {
+            miembros[siguiente[grupo(hashes[i], grupos)]++] = i;
+        }
+        int[] porTamano = new int[mayorGrupo + 2];
+        for (int g = 0; g < grupos; g++) {
+            porTamano[mayorGrupo - (inicioGrupo[g + 1] - inicioGrupo[g]) + 1]++;
+        }
+        for (int t = 0; t <= mayorGrupo; t++) {
+            porTamano[t + 1] += porTamano[t];
+        }
+        int[] orden = new int[grupos];
+        for (int g = 0; g < grupos; g++) {
+            orden[porTamano[mayorGrupo - (inicioGrupo[g + 1] - inicioGrupo[g])]++] = g;
+        }
+        
+        boolean[] ocupada = new boolean[casillas];
+        int[] valorDesplazamiento = new int[grupos];
+        int[] posiciones = new int[mayorGrupo];
+        int mayorDesplazamiento = 0;
+        for (int g : orden) {
+            int desde = inicioGrupo[g];
+            int cantidad = inicioGrupo[g + 1] - desde;
+            if (cantidad == 0) {
+                break;
+            }
+            for (int a = desde; a < desde + cantidad; a++) {
+                for (int b = a + 1; b < desde + cantidad; b++) {
+                    if (hashes[miembros[a]] == hashes[miembros[b]]) {
+                        if (nombres[miembros[a]].equals(nombres[miembros[b]])) {
+                            throw new IllegalArgumentException("Nombre repetido: " + nombres[miembros[a]]);
+                        }
+                        return null;
+                    }
+                }
+            }
+            
+            int d = 0;
+            while (!cabe(hashes, miembros, desde, cantidad, d, casillas, ocupada, posiciones)) {
+                if (++d == LIMITE_DESPLAZAMIENTO) {
+                    return null;
+                }
+            }
+            for (int k = 0; k < cantidad; k++) {
+                ocupada[posiciones[k]] = true;
+            }
+            valorDesplazamiento[g] = d;
+            mayorDesplazamiento = Math.max(mayorDesplazamiento, d);
+        }
+        
+        //--------
+        // Las casillas ocupadas desde 'tamano' en adelante se reubican en
+        // las libres de abajo, que son exactamente la misma cantidad
+        //--------
+        int[] reubicadas = new int[casillas - tamano];
+        int libre = 0;
+        for (int p = tamano; p < casillas; p++) {
+            if (ocupada[p]) {
+                while (ocupada[libre]) {
+                    libre++;
+                }
+                reubicadas[p - tamano] = libre++;
+            }
+        }
+        
+        int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(mayorDesplazamiento));
+        long[] empaquetados = new long[(int) (((long) grupos * bits + 63) >>> 6)];
+        for (int g = 0; g < grupos; g++) {
+            long bit = (long) g * bits;
+            int palabra = (int) (bit >>> 6);
+            int corrimiento = (int) (bit & 63);
+            empaquetados[palabra] |= (long) valorDesplazamiento[g] << corrimiento;
+            if (corrimiento + bits > 64) {
+                empaquetados[palabra + 1] |= (long) valorDesplazamiento[g] >>> (64 - corrimiento);
+            }
+        }
+        return new HashPerfecto(semilla, porHashCode, tamano, casillas, grupos, empaquetados, bits, reubicadas);
+    }
+    
+    /**
+     * Indica si con el desplazamiento d todos los nombres del grupo caen en
+     * casillas libres y distintas; deja las casillas en 'posiciones'.
+     */
+    private static boolean cabe(long[] hashes, int[] miembros, int desde, int cantidad, int d,
+                                int casillas, boolean[] ocupada, int[] posiciones) {
+        for (int k = 0; k < cantidad; k++) {
+            int p = posicion(hashes[miembros[desde + k]], d, casillas);
+            if (ocupada[p]) {
+                return false;
+            }
+            for (int j = 0; j < k; j++) {
+                if (posiciones[j] == p) {
+                    return false;
+                }
+            }
+            posiciones[k] = p;
+        }
+        return true;
+    }
+    
+    private static int grupo(long hash, int grupos) {
+        return (int) (((hash >>> 32) * grupos) >>> 32);
+    }
+    
+    private static int posicion(long hash, int d, int casillas) {
+        // Reducción por multiplicación en lugar de módulo
+        return (int) (((mezclar(hash + d * PHI) >>> 32) * casillas) >>> 32);
+    }
+    
+    private static boolean hashCodesDistintos(String[] nombres) {
+        int[] hashCodes = new int[nombres.length];
+        for (int i = 0; i < nombres.length; i++) {
+            if (nombres[i] == null) {
+                throw new IllegalArgumentException("Nombre null en la posición " + i);
+            }
+            hashCodes[i] = nombres[i].hashCode();
+        }
+        Arrays.sort(hashCodes);
+        for (int i = 1; i < hashCodes.length; i++) {
+            if (hashCodes[i] == hashCodes[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static long hashNombre(String nombre, long semilla, boolean porHashCode) {
+        if (porHashCode) {
+            // hashCodes distintos dan hashes distintos: mezclar es biyectiva
+            return mezclar(semilla ^ nombre.hashCode());
+        }
+        // FNV-1a de 64 bits sobre los caracteres y mezcla final
+        long h = semilla;
+        for (int i = 0; i < nombre.length(); i++) {
+            h = (h ^ nombre.charAt(i)) * 0x100000001B3L;
+        }
+        return mezclar(h ^ nombre.length());
+    }
+    
+    private static long mezclar(long h) {
+        // Paso final de MurmurHash3: cada bit de entrada afecta a todos
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93F53A7ED0FL;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,257 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Índice invertido de habilidades para acelerar buscarPorHabilidad.
+ * Autor: Fatima Navarro - 24044
+ */
+public class IndiceHabilidades {
+    //--------
+    // Cada Pokémon recibe un ordinal según el orden en que se agregó.
+    // Las listas de resultados se guardan como ordinales ordenados,
+    // así el resultado respeta el orden de inserción del mapa
+    //--------
+    private static final int LONGITUD_NGRAMA = 3;
+    
+    private final Map<String, Integer> ordinalPorNombre;
+    private Pokemon[] pokemonPorOrdinal;
+    private int[] combinacionPorOrdinal;
+    private int totalOrdinales;
+    
+    //--------
+    // Diccionario de textos de habilidades ya normalizados (minúsculas).
+    // Hay muy pocas combinaciones distintas comparado con la cantidad
+    // de Pokémon, así que los n-gramas se calculan sobre el diccionario
+    // y no sobre cada Pokémon
+    //--------
+    private final Map<String, Integer> idPorCombinacion;
+    private final List<String> combinaciones;
+    private final List<ListaEnteros> ordinalesPorCombinacion;
+    private final Map<String, ListaEnteros> combinacionesPorNgrama;
+    
+    /**
+     * Constructor que inicializa el índice vacío
+     */
+    public IndiceHabilidades() {
+        this.ordinalPorNombre = new HashMap<>();
+        this.pokemonPorOrdinal = new Pokemon[16];
+        this.combinacionPorOrdinal = new int[16];
+        this.totalOrdinales = 0;
+        this.idPorCombinacion = new HashMap<>();
+        this.combinaciones = new ArrayList<>();
+        this.ordinalesPorCombinacion = new ArrayList<>();
+        this.combinacionesPorNgrama = new HashMap<>();
+    }
+    
+    /**
+     * Registra un Pokémon en el índice. Si ya existía uno con el mismo
+     * nombre se reemplaza conservando su posición original.
+     */
+    public void agregar(Pokemon pokemon) {
+        int combinacion = obtenerIdCombinacion(pokemon.getAbilities());
+        Integer existente = ordinalPorNombre.get(pokemon.getName());
+        
+        if (existente != null) {
+            //--------
+            // Reemplazo: igual que en los mapas, el Pokémon conserva su
+            // posición y solo se mueve si cambió su texto de habilidades
+            //--------
+            int ordinal = existente;
+            pokemonPorOrdinal[ordinal] = pokemon;
+            int anterior = combinacionPorOrdinal[ordinal];
+            if (anterior != combinacion) {
+                ordinalesPorCombinacion.get(anterior).eliminar(ordinal);
+                ordinalesPorCombinacion.get(combinacion).insertarOrdenado(ordinal);
+                combinacionPorOrdinal[ordinal] = combinacion;
+            }
+            return;
+        }
+        
+        if (totalOrdinales == pokemonPorOrdinal.length) {
+            pokemonPorOrdinal = Arrays.copyOf(pokemonPorOrdinal, totalOrdinales * 2);
+            combinacionPorOrdinal = Arrays.copyOf(combinacionPorOrdinal, totalOrdinales * 2);
+        }
+        
+        int ordinal = totalOrdinales++;
+        ordinalPorNombre.put(pokemon.getName(), ordinal);
+        pokemonPorOrdinal[ordinal] = pokemon;
+        combinacionPorOrdinal[ordinal] = combinacion;
+        // Los ordinales nuevos siempre son mayores, se agregan al final
+        ordinalesPorCombinacion.get(combinacion).agregar(ordinal);
+    }
+    
+    /**
+     * Busca los Pokémon cuyas habilidades contienen el texto indicado,
+     * sin distinguir mayúsculas, en el orden en que fueron agregados.
+     */
+    public List<Pokemon> buscar(String habilidad) {
+        //--------
+        // Se normaliza la consulta una sola vez; el costo depende de
+        // la cantidad de coincidencias y no del tamaño del catálogo
+        //--------
+        String consulta = habilidad.toLowerCase(Locale.ROOT);
+        
+        if (consulta.isEmpty()) {
+            List<Pokemon> todos = new ArrayList<>(totalOrdinales);
+            for (int i = 0; i < totalOrdinales; i++) {
+                todos.add(pokemonPorOrdinal[i]);
+            }
+            return todos;
+        }
+        
+        ListaEnteros candidatas = candidatasPara(consulta);
+        List<ListaEnteros> coincidencias = new ArrayList<>();
+        int totalCoincidencias = 0;
+        
+        for (int i = 0; i < candidatas.tamano; i++) {
+            int combinacion = candidatas.valores[i];
+            if (combinaciones.get(combinacion).contains(consulta)) {
+                ListaEnteros ordinales = ordinalesPorCombinacion.get(combinacion);
+                if (ordinales.tamano > 0) {
+                    coincidencias.add(ordinales);
+                    totalCoincidencias += ordinales.tamano;
+                }
+            }
+        }
+        
+        if (coincidencias.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        //--------
+        // Unimos las listas de ordinales; al ordenarlas recuperamos
+        // el orden de inserción original
+        //--------
+        int[] ordinales = new int[totalCoincidencias];
+        int posicion = 0;
+        for (ListaEnteros lista : coincidencias) {
+            System.arraycopy(lista.valores, 0, ordinales, posicion, lista.tamano);
+            posicion += lista.tamano;
+        }
+        if (coincidencias.size() > 1) {
+            Arrays.sort(ordinales);
+        }
+        
+        List<Pokemon> resultado = new ArrayList<>(ordinales.length);
+        for (int ordinal : ordinales) {
+            resultado.add(pokemonPorOrdinal[ordinal]);
+        }
+        return resultado;
+    }
+    
+    /**
+     * Vacía el índice por completo.
+     */
+    public void limpiar() {
+        ordinalPorNombre.clear();
+        Arrays.fill(pokemonPorOrdinal, 0, totalOrdinales, null);
+        totalOrdinales = 0;
+        idPorCombinacion.clear();
+        combinaciones.clear();
+        ordinalesPorCombinacion.clear();
+        combinacionesPorNgrama.clear();
+    }
+    
+    /**
+     * Devuelve las combinaciones de habilidades que podrían contener la consulta.
+     */
+    private ListaEnteros candidatasPara(String consulta) {
+        //--------
+        // Consultas cortas: se revisa el diccionario completo, que es
+        // pequeño. Consultas largas: se toma la lista de combinaciones
+        // del n-grama menos frecuente de la consulta
+        //--------
+        if (consulta.length() < LONGITUD_NGRAMA) {
+            ListaEnteros todas = new ListaEnteros();
+            for (int i = 0; i < combinaciones.size(); i++) {
+                todas.agregar(i);
+            }
+            return todas;
+        }
+        
+        ListaEnteros menor = null;
+        for (int i = 0; i + LONGITUD_NGRAMA <= consulta.length(); i++) {
+            ListaEnteros lista = combinacionesPorNgrama.get(consulta.substring(i, i + LONGITUD_NGRAMA));
+            if (lista == null) {
+                // Un n-grama ausente significa que no hay coincidencias
+                return new ListaEnteros();
+            }
+            if (menor == null || lista.tamano < menor.tamano) {
+                menor = lista;
+            }
+        }
+        return menor;
+    }
+    
+    /**
+     * Obtiene (o crea) el identificador de un texto de habilidades.
+     */
+    private int obtenerIdCombinacion(String abilities) {
+        String normalizada = abilities == null ? "" : abilities.toLowerCase(Locale.ROOT);
+        Integer id = idPorCombinacion.get(normalizada);
+        if (id != null) {
+            return id;
+        }
+        
+        int nuevo = combinaciones.size();
+        idPorCombinacion.put(normalizada, nuevo);
+        combinaciones.add(normalizada);
+        ordinalesPorCombinacion.add(new ListaEnteros());
+        
+        for (int i = 0; i + LONGITUD_NGRAMA <= normalizada.length(); i++) {
+            ListaEnteros lista = combinacionesPorNgrama.computeIfAbsent(
+                normalizada.substring(i, i + LONGITUD_NGRAMA), k -> new ListaEnteros());
+            // Un mismo n-grama puede repetirse dentro del texto
+            if (lista.tamano == 0 || lista.valores[lista.tamano - 1] != nuevo) {
+                lista.agregar(nuevo);
+            }
+        }
+        return nuevo;
+    }
+    
+    /**
+     * Lista creciente de enteros ordenados, sin objetos por elemento.
+     */
+    private static final class ListaEnteros {
+        private int[] valores = new int[4];
+        private int tamano;
+        
+        void agregar(int valor) {
+            if (tamano == valores.length) {
+                valores = Arrays.copyOf(valores, tamano * 2);
+            }
+            valores[tamano++] = valor;
+        }
+        
+        void insertarOrdenado(int valor) {
+            int posicion = Arrays.binarySearch(valores, 0, tamano, valor);
+            if (posicion >= 0) {
+                return;
+            }
+            posicion = -posicion - 1;
+            if (tamano == valores.length) {
+                valores = Arrays.copyOf(valores, tamano * 2);
+            }
+            System.arraycopy(valores, posicion, valores, posicion + 1, tamano - posicion);
+            valores[posicion] = valor;
+            tamano++;
+        }
+        
+        void eliminar(int valor) {
+            int posicion = Arrays.binarySearch(valores, 0, tamano, valor);
+            if (posicion >= 0) {
+                System.arraycopy(valores, posicion + 1, valores, posicion, tamano - posicion - 1);
+                tamano--;
+            }
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Índice de nombres para búsquedas por prefijo y aproximadas (con errores
+ * de escritura), sin distinguir mayúsculas ni acentos.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class IndiceNombres {
+    //--------
+    // Trie compacto construido una sola vez a partir del catálogo.
+    // Los nodos viven en arreglos paralelos y los hijos de cada nodo
+    // quedan contiguos y ordenados por carácter, así que bajar un nivel
+    // es una búsqueda binaria sin objetos por nodo. Los Pokémon se
+    // guardan ordenados por nombre plegado: todo el subárbol de un nodo
+    // es un rango contiguo de ese arreglo, y un prefijo se responde
+    // copiando el rango
+    //--------
+    
+    // Distancia de edición más alta que acepta buscarAproximado
+    public static final int DISTANCIA_MAXIMA = 2;
+    
+    private static final int RAIZ = 0;
+    
+    private final Pokemon[] pokemons;
+    private final char[] etiqueta;
+    private final int[] primerHijo;
+    private final int[] cantidadHijos;
+    private final int[] desde;
+    private final int[] hasta;
+    // Cuántos nombres terminan justo en el nodo: son los primeros de su rango
+    private final int[] terminales;
+    private final int profundidadMaxima;
+    
+    private IndiceNombres(Pokemon[] pokemons, char[] etiqueta, int[] primerHijo, int[] cantidadHijos,
+                          int[] desde, int[] hasta, int[] terminales, int profundidadMaxima) {
+        this.pokemons = pokemons;
+        this.etiqueta = etiqueta;
+        this.primerHijo = primerHijo;
+        this.cantidadHijos = cantidadHijos;
+        this.desde = desde;
+        this.hasta = hasta;
+        this.terminales = terminales;
+        this.profundidadMaxima = profundidadMaxima;
+    }
+    
+    /**
+     * Construye el índice con los Pokémon recibidos. El índice no cambia
+     * después: si el catálogo se modifica hay que volver a construirlo.
+     */
+    public static IndiceNombres construir(Collection<Pokemon> catalogo) {
+        //--------
+        // Se ordena por nombre plegado (y por nombre original para que
+        // los empates sean estables) y se arma el trie por niveles: al
+        // procesar los nodos en orden de cola, los hijos de cada nodo
+        // se crean juntos y quedan contiguos en los arreglos
+        //--------
+        int total = catalogo.size();
+        Pokemon[] ordenados = catalogo.toArray(new Pokemon[0]);
+        String[] plegados = new String[total];
+        Integer[] orden = new Integer[total];
+        for (int i = 0; i < total; i++) {
+            plegados[i] = plegar(ordenados[i].getName());
+            orden[i] = i;
+        }
+        Arrays.sort(orden, Comparator.<Integer, String>comparing(i -> plegados[i])
+                                     .thenComparing(i -> ordenados[i].getName()));
+        
+        Pokemon[] pokemons = new Pokemon[total];
+        String[] claves = new String[total];
+        int profundidadMaxima = 0;
+        for (int i = 0; i < total; i++) {
+            pokemons[i] = ordenados[orden[i]];
+            claves[i] = plegados[orden[i]];
+            profundidadMaxima = Math.max(profundidadMaxima, claves[i].length());
+        }
+        
+        Constructor constructor = new Constructor(total);
+        constructor.nuevoNodo('\0', 0, total);
+        int[] profundidad = new int[16];
+        for (int nodo = 0; nodo < constructor.cantidad; nodo++) {
+            int nivel = profundidad[nodo];
+            int inicio = constructor.desde[nodo];
+            int fin = constructor.hasta[nodo];
+            
+            int i = inicio;
+            while (i < fin && claves[i].length() == nivel) {
+                i++;
+            }
+            constructor.terminales[nodo] = i - inicio;
+            constructor.primerHijo[nodo] = constructor.cantidad;
+            
+            while (i < fin) {
+                char letra = claves[i].charAt(nivel);
+                int j = i + 1;
+                while (j < fin && claves[j].charAt(nivel) == letra) {
+                    j++;
+                }
+                int hijo = constructor.nuevoNodo(letra, i, j);
+                if (hijo >= profundidad.length) {
+                    profundidad = Arrays.copyOf(profundidad, profundidad.length * 2);
+                }
+                profundidad[hijo] = nivel + 1;
+                constructor.cantidadHijos[nodo]++;
+                i = j;
+            }
+        }
+        return constructor.crear(pokemons, profundidadMaxima);
+    }
+    
+    /**
+     * Pokémon cuyo nombre empieza con el prefijo, en orden alfabético,
+     * hasta el límite indicado. Un prefijo vacío devuelve los primeros.
+     */
+    public List<Pokemon> buscarPorPrefijo(String prefijo, int limite) {
+        validarLimite(limite);
+        String clave = plegar(prefijo);
+        
+        int nodo = RAIZ;
+        for (int i = 0; i < clave.length() && nodo >= 0; i++) {
+            nodo = hijo(nodo, clave.charAt(i));
+        }
+        if (nodo < 0) {
+            return Collections.emptyList();
+        }
+        
+        int fin = Math.min(hasta[nodo], desde[nodo] + limite);
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(pokemons, desde[nodo], fin)));
+    }
+    
+    /**
+     * Cantidad de Pokémon cuyo nombre empieza con el prefijo.
+     */
+    public int contarPorPrefijo(String prefijo) {
+        String clave = plegar(prefijo);
+        int nodo = RAIZ;
+        for (int i = 0; i < clave.length() && nodo >= 0; i++) {
+            nodo = hijo(nodo, clave.charAt(i));
+        }
+        return nodo < 0 ? 0 : hasta[nodo] - desde[nodo];
+    }
+    
+    /**
+     * Pokémon cuyo nombre está a lo sumo a 'distanciaMaxima' ediciones
+     * del texto (inserción, borrado, cambio o intercambio de dos letras
+     * vecinas), del más parecido al menos parecido y luego por nombre.
+     */
+    public List<Pokemon> buscarAproximado(String nombre, int distanciaMaxima, int limite) {
+        if (distanciaMaxima < 0 || distanciaMaxima > DISTANCIA_MAXIMA) {
+            throw new IllegalArgumentException("La distancia debe estar entre 0 y " + DISTANCIA_MAXIMA);
+        }
+        validarLimite(limite);
+        
+        //--------
+        // Se recorre el trie calculando una fila de la matriz de
+        // Levenshtein por nivel; los prefijos comunes comparten sus filas.
+        // Una rama se descarta en cuanto el mínimo de su fila supera la
+        // distancia: ninguna continuación puede acercarse más. Cada
+        // coincidencia se guarda como distancia * total + posición, así
+        // un solo ordenamiento de enteros da el orden final
+        //--------
+        BusquedaAproximada busqueda = new BusquedaAproximada(plegar(nombre), distanciaMaxima);
+        busqueda.recorrerHijos(RAIZ, 0);
+        
+        long[] coincidencias = Arrays.copyOf(busqueda.coincidencias, busqueda.cantidad);
+        Arrays.sort(coincidencias);
+        int cantidad = Math.min(coincidencias.length, limite);
+        List<Pokemon> resultado = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            resultado.add(pokemons[(int) (coincidencias[i] % pokemons.length)]);
+        }
+        return resultado;
+    }
+    
+    /**
+     * Cantidad de nombres indexados.
+     */
+    public int tamano() {
+        return pokemons.length;
+    }
+    
+    /**
+     * Cantidad de nodos del trie (incluida la raíz).
+     */
+    public int cantidadNodos() {
+        return etiqueta.length;
+    }
+    
+    /**
+     * Forma normalizada de un nombre: minúsculas y sin acentos, para que
+     * "FLABEBE" y "Flabébé" coincidan.
+     */
+    public static String plegar(String texto) {
+        //--------
+        // Mismo plegado carácter por carácter que IndiceNombresPlegados,
+        // para que ambas búsquedas consideren iguales los mismos nombres
+        //--------
+        char[] plegado = new char[texto.length()];
+        int longitud = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (!IndiceNombresPlegados.esMarca(c)) {
+                plegado[longitud++] = IndiceNombresPlegados.plegar(c);
+            }
+        }
+        return new String(plegado, 0, longitud);
+    }
+    
+    /**
+     * Hijo del nodo con la letra indicada, o -1 si no existe.
+     */
+    private int hijo(int nodo, char letra) {
+        int bajo = primerHijo[nodo];
+        int alto = bajo + cantidadHijos[nodo] - 1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            char actual = etiqueta[medio];
+            if (actual < letra) {
+                bajo = medio + 1;
+            } else if (actual > letra) {
+                alto = medio - 1;
+            } else {
+                return medio;
+            }
+        }
+        return -1;
+    }
+    
+    private static void validarLimite(int limite) {
+        if (limite < 1) {
+            throw new IllegalArgumentException("El límite debe ser mayor que cero");
+        }
+    }
+    
+    /**
+     * Estado de una búsqueda aproximada: una fila de distancias por
+     * nivel del trie y las coincidencias encontradas.
+     */
+    private final class BusquedaAproximada {
+        private final char[] consulta;
+        private final int distanciaMaxima;
+        private final int[][] filas;
+        private final char[] letras;
+        private long[] coincidencias = new long[8];
+        private int cantidad;
+        
+        BusquedaAproximada(String consulta, int distanciaMaxima) {
+            this.consulta = consulta.toCharArray();
+            this.distanciaMaxima = distanciaMaxima;
+            this.filas = new int[profundidadMaxima + 1][consulta.length() + 1];
+            this.letras = new char[profundidadMaxima + 1];
+            for (int j = 0; j <= consulta.length(); j++) {
+                filas[0][j] = j;
+            }
+        }
+        
+        /**
+         * Recorre los hijos de un nodo cuya fila está en filas[nivel].
+         */
+        void recorrerHijos(int nodo, int nivel) {
+            int primero = primerHijo[nodo];
+            int ultimo = primero + cantidadHijos[nodo];
+            for (int hijo = primero; hijo < ultimo; hijo++) {
+                if (calcularFila(etiqueta[hijo], nivel + 1)) {
+                    // La última columna solo es válida si cae dentro de la banda
+                    int distancia = Math.abs(consulta.length - nivel - 1) <= distanciaMaxima
+                        ? filas[nivel + 1][consulta.length] : distanciaMaxima + 1;
+                    if (terminales[hijo] > 0 && distancia <= distanciaMaxima) {
+                        for (int i = desde[hijo]; i < desde[hijo] + terminales[hijo]; i++) {
+                            agregar((long) distancia * pokemons.length + i);
+                        }
+                    }
+                    recorrerHijos(hijo, nivel + 1);
+                }
+            }
+        }
+        
+        /**
+         * Calcula filas[nivel] al agregar la letra; devuelve false si la
+         * rama ya no puede quedar dentro de la distancia máxima.
+         */
+        private boolean calcularFila(char letra, int nivel) {
+            //--------
+            // Solo importan las columnas a 'distanciaMaxima' o menos de la
+            // diagonal: fuera de esa banda la distancia ya es mayor. Las
+            // celdas vecinas a la banda se marcan como fuera de rango para
+            // que la fila siguiente no lea valores de otra rama
+            //--------
+            int[] anterior = filas[nivel - 1];
+            int[] fila = filas[nivel];
+            int fueraDeRango = distanciaMaxima + 1;
+            int primera = Math.max(1, nivel - distanciaMaxima);
+            int ultima = Math.min(consulta.length, nivel + distanciaMaxima);
+            letras[nivel] = letra;
+            fila[0] = nivel;
+            if (primera > 1) {
+                fila[primera - 1] = fueraDeRango;
+            }
+            if (ultima < consulta.length) {
+                fila[ultima + 1] = fueraDeRango;
+            }
+            
+            int minimo = primera == 1 ? nivel : fueraDeRango;
+            for (int j = primera; j <= ultima; j++) {
+                char esperada = consulta[j - 1];
+                int costo = esperada == letra ? 0 : 1;
+                int valor = Math.min(Math.min(fila[j - 1] + 1, anterior[j] + 1), anterior[j - 1] + costo);
+                
+                // Intercambio de dos letras vecinas ("pikahcu")
+                if (nivel > 1 && j > 1 && letra == consulta[j - 2] && letras[nivel - 1] == esperada) {
+                    valor = Math.min(valor, filas[nivel - 2][j - 2] + 1);
+                }
+                fila[j] = valor;
+                minimo = Math.min(minimo, valor);
+            }
+            return minimo <= distanciaMaxima;
+        }
+        
+        private void agregar(long coincidencia) {
+            if (cantidad == coincidencias.length) {
+                coincidencias = Arrays.copyOf(coincidencias, cantidad * 2);
+            }
+            coincidencias[cantidad++] = coincidencia;
+        }
+    }
+    
+    /**
+     * Arreglos crecientes de nodos mientras se arma el trie.
+     */
+    private static final class Constructor {
+        private char[] etiqueta;
+        private int[] primerHijo;
+        private int[] cantidadHijos;
+        private int[] desde;
+        private int[] hasta;
+        private int[] terminales;
+        private int cantidad;
+        
+        Constructor(int totalNombres) {
+            int capacidad = Math.max(16, totalNombres * 4);
+            this.etiqueta = new char[capacidad];
+            this.primerHijo = new int[capacidad];
+            this.cantidadHijos = new int[capacidad];
+            this.desde = new int[capacidad];
+            this.hasta = new int[capacidad];
+            this.terminales = new int[capacidad];
+        }
+        
+        int nuevoNodo(char letra, int inicio, int fin) {
+            if (cantidad == etiqueta.length) {
+                int capacidad = cantidad * 2;
+                etiqueta = Arrays.copyOf(etiqueta, capacidad);
+                primerHijo = Arrays.copyOf(primerHijo, capacidad);
+                cantidadHijos = Arrays.copyOf(cantidadHijos, capacidad);
+                desde = Arrays.copyOf(desde, capacidad);
+                hasta = Arrays.copyOf(hasta, capacidad);
+                terminales = Arrays.copyOf(terminales, capacidad);
+            }
+            etiqueta[cantidad] = letra;
+            desde[cantidad] = inicio;
+            hasta[cantidad] = fin;
+            return cantidad++;
+        }
+        
+        IndiceNombres crear(Pokemon[] pokemons, int profundidadMaxima) {
+            return new IndiceNombres(pokemons,
+                Arrays.copyOf(etiqueta, cantidad), Arrays.copyOf(primerHijo, cantidad),
+                Arrays.copyOf(cantidadHijos, cantidad), Arrays.copyOf(desde, cantidad),
+                Arrays.copyOf(hasta, cantidad), Arrays.copyOf(terminales, cantidad), profundidadMaxima);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.pokemon.service;
+
+import java.text.Normalizer;
+
+/**
+ * Tabla de nombres que resuelve búsquedas sin distinguir mayúsculas ni
+ * acentos ("flabebe" -> "Flabébé") sin crear textos en cada consulta.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class IndiceNombresPlegados {
+    //--------
+    // Tabla hash con direccionamiento abierto y sondeo lineal. El hash y
+    // la comparación pliegan cada carácter al vuelo (minúscula y sin
+    // acento), así la consulta no necesita una copia normalizada del
+    // nombre. Cada casilla guarda el nombre tal como está en el mapa.
+    //
+    // Las escrituras se sincronizan; las lecturas no bloquean: leen la
+    // tabla volátil una vez y las entradas son inmutables, así que ven
+    // la entrada completa o la casilla vacía, nunca una a medias
+    //--------
+    private static final int CAPACIDAD_INICIAL = 64;
+    
+    //--------
+    // Plegado precalculado para Latin-1 y Latin extendido (U+0000 a
+    // U+024F): la letra base de su descomposición Unicode, en minúscula.
+    // El resto de los caracteres solo pasa a minúscula
+    //--------
+    private static final char[] PLEGADO = new char[0x250];
+    
+    static {
+        for (char c = 0; c < PLEGADO.length; c++) {
+            String descompuesto = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            char base = descompuesto.charAt(0);
+            for (int i = 1; i < descompuesto.length(); i++) {
+                if (!esMarca(descompuesto.charAt(i))) {
+                    // No es una letra con acento: se conserva tal cual
+                    base = c;
+                    break;
+                }
+            }
+            PLEGADO[c] = Character.toLowerCase(base);
+        }
+    }
+    
+    private volatile Entrada[] tabla;
+    private int cantidad;
+    
+    /**
+     * Constructor que inicializa la tabla vacía
+     */
+    public IndiceNombresPlegados() {
+        this.tabla = new Entrada[CAPACIDAD_INICIAL];
+        this.cantidad = 0;
+    }
+    
+    /**
+     * Registra un nombre. Si otro nombre ya registrado se pliega igual
+     * se conserva el primero: la búsqueda exacta del mapa sigue
+     * encontrando ambos.
+     */
+    public synchronized void agregar(String nombre) {
+        int hash = hashPlegado(nombre);
+        Entrada[] actual = tabla;
+        int mascara = actual.length - 1;
+        int posicion = dispersar(hash) & mascara;
+        while (actual[posicion] != null) {
+            Entrada entrada = actual[posicion];
+            if (entrada.hash == hash && igualesPlegados(entrada.nombre, nombre)) {
+                return;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+        
+        if ((cantidad + 1) * 2 > actual.length) {
+            // Se mantiene la tabla a menos de la mitad de su capacidad
+            actual = redimensionar(actual.length * 2);
+            mascara = actual.length - 1;
+            posicion = dispersar(hash) & mascara;
+            while (actual[posicion] != null) {
+                posicion = (posicion + 1) & mascara;
+            }
+        }
+        actual[posicion] = new Entrada(nombre, hash);
+        cantidad++;
+    }
+    
+    /**
+     * Nombre registrado que coincide con el texto sin distinguir
+     * mayúsculas ni acentos, o null si no hay ninguno.
+     */
+    public String resolver(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        int hash = hashPlegado(texto);
+        Entrada[] actual = tabla;
+        int mascara = actual.length - 1;
+        int posicion = dispersar(hash) & mascara;
+        Entrada entrada;
+        while ((entrada = actual[posicion]) != null) {
+            if (entrada.hash == hash && igualesPlegados(entrada.nombre, texto)) {
+                return entrada.nombre;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+        return null;
+    }
+    
+    /**
+     * Cantidad de nombres registrados.
+     */
+    public synchronized int tamano() {
+        return cantidad;
+    }
+    
+    /**
+     * Vacía la tabla.
+     */
+    public synchronized void limpiar() {
+        tabla = new Entrada[CAPACIDAD_INICIAL];
+        cantidad = 0;
+    }
+    
+    /**
+     * Minúscula sin acento del carácter.
+     */
+    public static char plegar(char c) {
+        return c < PLEGADO.length ? PLEGADO[c] : Character.toLowerCase(c);
+    }
+    
+    /**
+     * Indica si el carácter es una marca de acento combinable, que el
+     * plegado descarta.
+     */
+    public static boolean esMarca(char c) {
+        return c >= 0x300 && Character.getType(c) == Character.NON_SPACING_MARK;
+    }
+    
+    /**
+     * Hash del texto plegado, calculado sin crear el texto plegado.
+     */
+    public static int hashPlegado(String texto) {
+        int hash = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (!esMarca(c)) {
+                hash = 31 * hash + plegar(c);
+            }
+        }
+        return hash;
+    }
+    
+    /**
+     * Compara dos textos carácter por carácter ya plegados.
+     */
+    public static boolean igualesPlegados(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (true) {
+            while (i < a.length() && esMarca(a.charAt(i))) {
+                i++;
+            }
+            while (j < b.length() && esMarca(b.charAt(j))) {
+                j++;
+            }
+            if (i == a.length() || j == b.length()) {
+                return i == a.length() && j == b.length();
+            }
+            if (plegar(a.charAt(i++)) != plegar(b.charAt(j++))) {
+                return false;
+            }
+        }
+    }
+    
+    private Entrada[] redimensionar(int capacidad) {
+        //--------
+        // Se llena una tabla nueva y se publica al final: los lectores
+        // siguen usando la anterior, completa, mientras tanto
+        //--------
+        Entrada[] nueva = new Entrada[capacidad];
+        int mascara = capacidad - 1;
+        for (Entrada entrada : tabla) {
+            if (entrada != null) {
+                int posicion = dispersar(entrada.hash) & mascara;
+                while (nueva[posicion] != null) {
+                    posicion = (posicion + 1) & mascara;
+                }
+                nueva[posicion] = entrada;
+            }
+        }
+        tabla = nueva;
+        return nueva;
+    }
+    
+    private static int dispersar(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    
+    /**
+     * Nombre registrado y su hash plegado; inmutable para que los
+     * lectores sin bloqueo lo vean completo.
+     */
+    private static final class Entrada {
+        private final String nombre;
+        private final int hash;
+        
+        Entrada(String nombre, int hash) {
+            this.nombre = nombre;
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Asigna a cada nombre una posición fija según el orden de inserción,
+ * para paginar los mapas basados en hash sin recorrerlos desde el inicio.
+ * Autor: Fatima Navarro - 24044
+ */
+public class IndiceOrdinal {
+    //--------
+    // Arreglo de nombres que solo crece: la posición de un nombre no
+    // cambia mientras el mapa no se vacíe, así que un cursor numérico
+    // reanuda la página en O(tamaño de página).
+    // Es seguro entre hilos: la escritura está sincronizada y el tamaño
+    // se publica después del elemento, así que un lector que ve el
+    // tamaño también ve los nombres anteriores a él
+    //--------
+    private volatile String[] nombres;
+    private volatile int tamano;
+    
+    /**
+     * Constructor que crea el índice vacío
+     */
+    public IndiceOrdinal() {
+        this.nombres = new String[64];
+        this.tamano = 0;
+    }
+    
+    /**
+     * Agrega un nombre nuevo al final. El mapa debe llamarlo solo la
+     * primera vez que inserta ese nombre.
+     */
+    public synchronized void agregar(String nombre) {
+        String[] actual = nombres;
+        int posicion = tamano;
+        if (posicion == actual.length) {
+            actual = Arrays.copyOf(actual, posicion * 2);
+            nombres = actual;
+        }
+        actual[posicion] = nombre;
+        tamano = posicion + 1;
+    }
+    
+    /**
+     * Vacía el índice.
+     */
+    public synchronized void limpiar() {
+        nombres = new String[64];
+        tamano = 0;
+    }
+    
+    /**
+     * Cantidad de nombres indexados.
+     */
+    public int tamano() {
+        return tamano;
+    }
+    
+    /**
+     * Devuelve la página que empieza en la posición del cursor,
+     * buscando cada Pokémon por nombre en el mapa.
+     */
+    public PaginaPokemon pagina(String cursor, int tamanoPagina, Function<String, Pokemon> buscar) {
+        PaginaPokemon.validarTamano(tamanoPagina);
+        int total = tamano;
+        String[] actual = nombres;
+        int desde = Math.min(PaginaPokemon.posicionDesdeCursor(cursor), total);
+        int hasta = (int) Math.min((long) desde + tamanoPagina, total);
+        
+        List<Pokemon> pokemons = new ArrayList<>(hasta - desde);
+        for (int i = desde; i < hasta; i++) {
+            Pokemon pokemon = buscar.apply(actual[i]);
+            if (pokemon != null) {
+                pokemons.add(pokemon);
+            }
+        }
+        return new PaginaPokemon(pokemons, PaginaPokemon.cursorDePosicion(hasta, total));
+    }
+    
+    /**
+     * Todos los Pokémon en orden de inserción, buscando cada uno por
+     * nombre en el mapa.
+     */
+    public List<Pokemon> pokemons(Function<String, Pokemon> buscar) {
+        int total = tamano;
+        String[] actual = nombres;
+        List<Pokemon> pokemons = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            Pokemon pokemon = buscar.apply(actual[i]);
+            if (pokemon != null) {
+                pokemons.add(pokemon);
+            }
+        }
+        return pokemons;
+    }
+}
@@ -0,0 +1,339 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Índice de Pokémon por número de Pokédex: búsqueda directa por número
+ * y recorrido por rangos que ya sale en orden, sin ordenar nada.
+ * Autor: Fatima Navarro - 24044
+ */
+public class IndicePokedex {
+    //--------
+    // Mientras los números son densos (la Pokédex va de 1 a unos pocos
+    // miles) se guarda un arreglo indexado por número: obtener es una
+    // lectura y recorrer un rango es avanzar por el arreglo.
+    // Si llega un número negativo o tan grande que el arreglo quedaría
+    // casi vacío, se pasa a una tabla hash abierta con claves int
+    // primitivas; el orden sale de un arreglo de claves ordenado que solo
+    // se recalcula después de agregar o quitar un número.
+    //
+    // La casilla de cada número guarda el primer Pokémon que llegó con
+    // él; los siguientes con el mismo número van en "repetidos", en orden
+    // de llegada. Con los datos de PokeAPI ese mapa queda vacío.
+    // No es seguro entre hilos: ConcurrentMapaPokemons arma uno por
+    // versión del mapa y no lo modifica después de publicarlo
+    //--------
+    private static final int MINIMO_DENSO = 1024;
+    private static final int FACTOR_DENSO = 4;
+    
+    // Modo denso: la posición es el número; null si está en modo disperso
+    private Pokemon[] porNumero;
+    
+    // Modo disperso: una casilla está vacía si su valor es null
+    private int[] claves;
+    private Pokemon[] valores;
+    private int[] clavesOrdenadas;
+    
+    private final Map<Integer, List<Pokemon>> repetidos;
+    private int numeros;
+    private int tamano;
+    
+    /**
+     * Constructor que crea el índice vacío, en modo denso
+     */
+    public IndicePokedex() {
+        this.repetidos = new HashMap<>();
+        limpiar();
+    }
+    
+    /**
+     * Vacía el índice y vuelve al modo denso.
+     */
+    public void limpiar() {
+        porNumero = new Pokemon[64];
+        claves = null;
+        valores = null;
+        clavesOrdenadas = null;
+        repetidos.clear();
+        numeros = 0;
+        tamano = 0;
+    }
+    
+    /**
+     * Cantidad de Pokémon indexados.
+     */
+    public int tamano() {
+        return tamano;
+    }
+    
+    /**
+     * Indica si el índice sigue usando el arreglo indexado por número.
+     */
+    public boolean esDenso() {
+        return porNumero != null;
+    }
+    
+    /**
+     * Agrega un Pokémon cuyo nombre no estaba en el mapa.
+     */
+    public void agregar(Pokemon pokemon) {
+        int numero = pokemon.getPokedexNumber();
+        if (obtener(numero) == null) {
+            colocar(numero, pokemon);
+            numeros++;
+        } else {
+            repetidos.computeIfAbsent(numero, n -> new ArrayList<>(2)).add(pokemon);
+        }
+        tamano++;
+    }
+    
+    /**
+     * Reemplaza el Pokémon anterior por el nuevo con el mismo nombre.
+     * Si el número no cambió conserva su lugar entre los repetidos.
+     */
+    public void reemplazar(Pokemon anterior, Pokemon nuevo) {
+        int numero = anterior.getPokedexNumber();
+        if (numero != nuevo.getPokedexNumber()) {
+            eliminar(anterior);
+            agregar(nuevo);
+            return;
+        }
+        
+        if (mismoNombre(obtener(numero), anterior)) {
+            colocar(numero, nuevo);
+            return;
+        }
+        List<Pokemon> lista = repetidos.get(numero);
+        if (lista != null) {
+            for (int i = 0; i < lista.size(); i++) {
+                if (mismoNombre(lista.get(i), anterior)) {
+                    lista.set(i, nuevo);
+                    return;
+                }
+            }
+        }
+        agregar(nuevo);
+    }
+    
+    /**
+     * Quita el Pokémon con el nombre y número del indicado, si está.
+     */
+    public void eliminar(Pokemon pokemon) {
+        int numero = pokemon.getPokedexNumber();
+        List<Pokemon> lista = repetidos.get(numero);
+        if (mismoNombre(obtener(numero), pokemon)) {
+            if (lista == null) {
+                quitar(numero);
+                numeros--;
+            } else {
+                // El siguiente en llegar pasa a ocupar la casilla
+                colocar(numero, lista.remove(0));
+                if (lista.isEmpty()) {
+                    repetidos.remove(numero);
+                }
+            }
+            tamano--;
+            return;
+        }
+        if (lista == null) {
+            return;
+        }
+        for (Iterator<Pokemon> it = lista.iterator(); it.hasNext(); ) {
+            if (mismoNombre(it.next(), pokemon)) {
+                it.remove();
+                tamano--;
+                break;
+            }
+        }
+        if (lista.isEmpty()) {
+            repetidos.remove(numero);
+        }
+    }
+    
+    /**
+     * Primer Pokémon que llegó con ese número, o null.
+     */
+    public Pokemon obtener(int numero) {
+        if (porNumero != null) {
+            return numero >= 0 && numero < porNumero.length ? porNumero[numero] : null;
+        }
+        int casilla = buscarCasilla(numero);
+        return casilla < 0 ? null : valores[casilla];
+    }
+    
+    /**
+     * Pokémon con número entre desde y hasta (ambos incluidos), por
+     * número y, con el mismo número, en orden de llegada.
+     */
+    public List<Pokemon> rango(int desde, int hasta) {
+        if (desde > hasta) {
+            return new ArrayList<>();
+        }
+        List<Pokemon> resultado = new ArrayList<>((int) Math.min(tamano, (long) hasta - desde + 1));
+        if (porNumero != null) {
+            // hasta puede ser Integer.MAX_VALUE; el límite es el arreglo
+            int fin = (int) Math.min(hasta, porNumero.length - 1L);
+            for (int numero = Math.max(desde, 0); numero <= fin; numero++) {
+                Pokemon pokemon = porNumero[numero];
+                if (pokemon != null) {
+                    agregarConRepetidos(resultado, numero, pokemon);
+                }
+            }
+            return resultado;
+        }
+        
+        int[] orden = ordenadas();
+        int i = Arrays.binarySearch(orden, desde);
+        for (i = i < 0 ? -(i + 1) : i; i < orden.length && orden[i] <= hasta; i++) {
+            agregarConRepetidos(resultado, orden[i], valores[buscarCasilla(orden[i])]);
+        }
+        return resultado;
+    }
+    
+    /**
+     * Todos los Pokémon en orden de Pokédex.
+     */
+    public List<Pokemon> enOrden() {
+        return rango(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+    
+    private void agregarConRepetidos(List<Pokemon> resultado, int numero, Pokemon primero) {
+        resultado.add(primero);
+        if (!repetidos.isEmpty()) {
+            List<Pokemon> lista = repetidos.get(numero);
+            if (lista != null) {
+                resultado.addAll(lista);
+            }
+        }
+    }
+    
+    private static boolean mismoNombre(Pokemon a, Pokemon b) {
+        return a != null && a.getName().equals(b.getName());
+    }
+    
+    /**
+     * Guarda el Pokémon en la casilla del número, sobrescribiendo si ya
+     * había uno. Crece el arreglo o pasa a modo disperso si hace falta.
+     */
+    private void colocar(int numero, Pokemon pokemon) {
+        if (porNumero != null) {
+            if (numero >= 0 && numero < porNumero.length) {
+                porNumero[numero] = pokemon;
+                return;
+            }
+            // Se mantiene denso si al menos una casilla de cada FACTOR_DENSO queda ocupada
+            int limite = Math.max(MINIMO_DENSO, FACTOR_DENSO * (numeros + 1));
+            if (numero >= 0 && numero < limite) {
+                porNumero = Arrays.copyOf(porNumero, Math.max(numero + 1, Math.min(porNumero.length * 2, limite)));
+                porNumero[numero] = pokemon;
+                return;
+            }
+            pasarADisperso();
+        }
+        colocarEnTabla(numero, pokemon);
+    }
+    
+    private void quitar(int numero) {
+        if (porNumero != null) {
+            porNumero[numero] = null;
+            return;
+        }
+        //--------
+        // Sondeo lineal: al vaciar una casilla se corren hacia atrás las
+        // siguientes del mismo grupo que quedarían inalcanzables
+        //--------
+        int mascara = valores.length - 1;
+        int vacia = buscarCasilla(numero);
+        valores[vacia] = null;
+        for (int j = (vacia + 1) & mascara; valores[j] != null; j = (j + 1) & mascara) {
+            int ideal = dispersar(claves[j]) & mascara;
+            if (((j - ideal) & mascara) >= ((j - vacia) & mascara)) {
+                claves[vacia] = claves[j];
+                valores[vacia] = valores[j];
+                valores[j] = null;
+                vacia = j;
+            }
+        }
+        clavesOrdenadas = null;
+    }
+    
+    private void pasarADisperso() {
+        int capacidad = 16;
+        while (capacidad < (numeros + 1) * 2) {
+            capacidad *= 2;
+        }
+        Pokemon[] anteriores = porNumero;
+        porNumero = null;
+        claves = new int[capacidad];
+        valores = new Pokemon[capacidad];
+        for (int numero = 0; numero < anteriores.length; numero++) {
+            if (anteriores[numero] != null) {
+                colocarEnTabla(numero, anteriores[numero]);
+            }
+        }
+    }
+    
+    private void colocarEnTabla(int numero, Pokemon pokemon) {
+        // Factor de carga máximo de 1/2
+        if ((numeros + 1) * 2 > valores.length) {
+            int[] clavesAnteriores = claves;
+            Pokemon[] valoresAnteriores = valores;
+            claves = new int[valores.length * 2];
+            valores = new Pokemon[valores.length * 2];
+            for (int i = 0; i < valoresAnteriores.length; i++) {
+                if (valoresAnteriores[i] != null) {
+                    colocarEnTabla(clavesAnteriores[i], valoresAnteriores[i]);
+                }
+            }
+        }
+        int mascara = valores.length - 1;
+        int casilla = dispersar(numero) & mascara;
+        while (valores[casilla] != null && claves[casilla] != numero) {
+            casilla = (casilla + 1) & mascara;
+        }
+        if (valores[casilla] == null) {
+            claves[casilla] = numero;
+            clavesOrdenadas = null;
+        }
+        valores[casilla] = pokemon;
+    }
+    
+    private int buscarCasilla(int numero) {
+        int mascara = valores.length - 1;
+        for (int casilla = dispersar(numero) & mascara; valores[casilla] != null; casilla = (casilla + 1) & mascara) {
+            if (claves[casilla] == numero) {
+                return casilla;
+            }
+        }
+        return -1;
+    }
+    
+    private int[] ordenadas() {
+        int[] orden = clavesOrdenadas;
+        if (orden == null) {
+            orden = new int[numeros];
+            int i = 0;
+            for (int casilla = 0; casilla < valores.length; casilla++) {
+                if (valores[casilla] != null) {
+                    orden[i++] = claves[casilla];
+                }
+            }
+            Arrays.sort(orden);
+            clavesOrdenadas = orden;
+        }
+        return orden;
+    }
+    
+    private static int dispersar(int numero) {
+        // Números consecutivos quedarían en casillas consecutivas; se mezclan los bits
+        int h = numero * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,215 @@
+package com.pokemon.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.pokemon.metricas.HistogramaLatencia;
+import com.pokemon.metricas.RegistroMetricas;
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+
+/**
+ * Decorador que mide la latencia de cada operación de otro MapaPokemons.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class InstrumentedMapaPokemons implements MapaPokemons {
+    //--------
+    // Cada método toma el tiempo, delega y registra la duración en el
+    // histograma "<tipo de mapa>.<método>" del registro de métricas.
+    // Los histogramas se buscan una sola vez, al construir. Las
+    // implementaciones no miden nada por su cuenta: quien no necesita
+    // métricas usa el mapa sin envolver y no paga ningún nanoTime()
+    //--------
+    private final MapaPokemons delegado;
+    
+    private final HistogramaLatencia tiempoAgregar;
+    private final HistogramaLatencia tiempoAgregarTodos;
+    private final HistogramaLatencia tiempoObtener;
+    private final HistogramaLatencia tiempoObtenerTodos;
+    private final HistogramaLatencia tiempoResolver;
+    private final HistogramaLatencia tiempoObtenerPlegado;
+    private final HistogramaLatencia tiempoExiste;
+    private final HistogramaLatencia tiempoHabilidad;
+    private final HistogramaLatencia tiempoPagina;
+    private final HistogramaLatencia tiempoOrdenar;
+    private final HistogramaLatencia tiempoMayores;
+    private final HistogramaLatencia tiempoMenores;
+    private final HistogramaLatencia tiempoMayoresPorGeneracion;
+    private final HistogramaLatencia tiempoPorPokedex;
+    private final HistogramaLatencia tiempoRangoPokedex;
+    private final HistogramaLatencia tiempoOrdenadosPorPokedex;
+    
+    /**
+     * Envuelve el mapa registrando en el registro global de métricas.
+     */
+    public InstrumentedMapaPokemons(MapaPokemons delegado) {
+        this(delegado, RegistroMetricas.global());
+    }
+    
+    /**
+     * Envuelve el mapa registrando en el registro indicado.
+     */
+    public InstrumentedMapaPokemons(MapaPokemons delegado, RegistroMetricas registro) {
+        this.delegado = delegado;
+        String prefijo = delegado.getTipoMapa() + ".";
+        this.tiempoAgregar = registro.histograma(prefijo + "agregarPokemon");
+        this.tiempoAgregarTodos = registro.histograma(prefijo + "agregarTodos");
+        this.tiempoObtener = registro.histograma(prefijo + "obtenerPokemon");
+        this.tiempoObtenerTodos = registro.histograma(prefijo + "obtenerTodos");
+        this.tiempoResolver = registro.histograma(prefijo + "resolverNombre");
+        this.tiempoObtenerPlegado = registro.histograma(prefijo + "obtenerPokemonPlegado");
+        this.tiempoExiste = registro.histograma(prefijo + "existePokemon");
+        this.tiempoHabilidad = registro.histograma(prefijo + "buscarPorHabilidad");
+        this.tiempoPagina = registro.histograma(prefijo + "obtenerPagina");
+        this.tiempoOrdenar = registro.histograma(prefijo + "obtenerOrdenadosPorTipo");
+        this.tiempoMayores = registro.histograma(prefijo + "obtenerMayores");
+        this.tiempoMenores = registro.histograma(prefijo + "obtenerMenores");
+        this.tiempoMayoresPorGeneracion = registro.histograma(prefijo + "obtenerMayoresPorGeneracion");
+        this.tiempoPorPokedex = registro.histograma(prefijo + "obtenerPorPokedex");
+        this.tiempoRangoPokedex = registro.histograma(prefijo + "obtenerRangoPokedex");
+        this.tiempoOrdenadosPorPokedex = registro.histograma(prefijo + "obtenerOrdenadosPorPokedex");
+    }
+    
+    /**
+     * Mapa envuelto, para usar operaciones propias de una implementación.
+     */
+    public MapaPokemons getDelegado() {
+        return delegado;
+    }
+    
+    @Override
+    public void agregarPokemon(Pokemon pokemon) {
+        long inicio = System.nanoTime();
+        delegado.agregarPokemon(pokemon);
+        tiempoAgregar.registrar(System.nanoTime() - inicio);
+    }
+    
+    @Override
+    public void agregarTodos(Collection<Pokemon> pokemons) {
+        // Se delega el lote completo: algunas implementaciones lo cargan en bloque
+        long inicio = System.nanoTime();
+        delegado.agregarTodos(pokemons);
+        tiempoAgregarTodos.registrar(System.nanoTime() - inicio);
+    }
+    
+    @Override
+    public Pokemon obtenerPokemon(String nombre) {
+        long inicio = System.nanoTime();
+        Pokemon resultado = delegado.obtenerPokemon(nombre);
+        tiempoObtener.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public Map<String, Pokemon> obtenerTodos() {
+        long inicio = System.nanoTime();
+        Map<String, Pokemon> resultado = delegado.obtenerTodos();
+        tiempoObtenerTodos.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public String resolverNombre(String texto) {
+        long inicio = System.nanoTime();
+        String resultado = delegado.resolverNombre(texto);
+        tiempoResolver.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public Pokemon obtenerPokemonPlegado(String texto) {
+        long inicio = System.nanoTime();
+        Pokemon resultado = delegado.obtenerPokemonPlegado(texto);
+        tiempoObtenerPlegado.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public boolean existePokemon(String nombre) {
+        long inicio = System.nanoTime();
+        boolean resultado = delegado.existePokemon(nombre);
+        tiempoExiste.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public Map<String, Pokemon> buscarPorHabilidad(String habilidad) {
+        long inicio = System.nanoTime();
+        Map<String, Pokemon> resultado = delegado.buscarPorHabilidad(habilidad);
+        tiempoHabilidad.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public PaginaPokemon obtenerPagina(String cursor, int tamano) {
+        long inicio = System.nanoTime();
+        try {
+            return delegado.obtenerPagina(cursor, tamano);
+        } finally {
+            // Un cursor o tamaño inválido lanza excepción; también cuenta como operación
+            tiempoPagina.registrar(System.nanoTime() - inicio);
+        }
+    }
+    
+    @Override
+    public List<Pokemon> obtenerOrdenadosPorTipo() {
+        long inicio = System.nanoTime();
+        List<Pokemon> resultado = delegado.obtenerOrdenadosPorTipo();
+        tiempoOrdenar.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public List<Pokemon> obtenerMayores(TopK.Criterio criterio, int k, PokemonType tipo, int generacion) {
+        long inicio = System.nanoTime();
+        List<Pokemon> resultado = delegado.obtenerMayores(criterio, k, tipo, generacion);
+        tiempoMayores.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public List<Pokemon> obtenerMenores(TopK.Criterio criterio, int k, PokemonType tipo, int generacion) {
+        long inicio = System.nanoTime();
+        List<Pokemon> resultado = delegado.obtenerMenores(criterio, k, tipo, generacion);
+        tiempoMenores.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public Map<Integer, List<Pokemon>> obtenerMayoresPorGeneracion(TopK.Criterio criterio, int k, PokemonType tipo) {
+        long inicio = System.nanoTime();
+        Map<Integer, List<Pokemon>> resultado = delegado.obtenerMayoresPorGeneracion(criterio, k, tipo);
+        tiempoMayoresPorGeneracion.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public Pokemon obtenerPorPokedex(int numero) {
+        long inicio = System.nanoTime();
+        Pokemon resultado = delegado.obtenerPorPokedex(numero);
+        tiempoPorPokedex.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public List<Pokemon> obtenerRangoPokedex(int desde, int hasta) {
+        long inicio = System.nanoTime();
+        List<Pokemon> resultado = delegado.obtenerRangoPokedex(desde, hasta);
+        tiempoRangoPokedex.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public List<Pokemon> obtenerOrdenadosPorPokedex() {
+        long inicio = System.nanoTime();
+        List<Pokemon> resultado = delegado.obtenerOrdenadosPorPokedex();
+        tiempoOrdenadosPorPokedex.registrar(System.nanoTime() - inicio);
+        return resultado;
+    }
+    
+    @Override
+    public String getTipoMapa() {
+        return delegado.getTipoMapa();
+    }
+}
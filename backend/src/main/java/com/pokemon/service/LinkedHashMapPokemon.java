@@ -1,11 +1,9 @@
 package com.pokemon.service;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import com.pokemon.model.Pokemon;
 
@@ -20,7 +18,11 @@ public class LinkedHashMapPokemon implements MapaPokemons {
     // Es como un HashMap con memoria de orden de inserción
     //--------
     private LinkedHashMap<String, Pokemon> pokemonMap;
-    private long tiempoUltimaOperacion;
+    private IndiceHabilidades indiceHabilidades;
+    private VistaOrdenadaPorTipo vistaPorTipo;
+    private IndiceOrdinal indiceOrdinal;
+    private IndiceNombresPlegados nombresPlegados;
+    private IndicePokedex indicePokedex;
     
     /**
      * Constructor que inicializa el LinkedHashMap
@@ -29,7 +31,11 @@ public class LinkedHashMapPokemon implements MapaPokemons {
         this.pokemonMap = new LinkedHashMap<>(500, 0.75f, false);
         // El último parámetro (false) indica que mantiene orden de inserción
         // Si fuera true, mantendría orden de acceso (LRU)
-        this.tiempoUltimaOperacion = 0;
+        this.indiceHabilidades = new IndiceHabilidades();
+        this.vistaPorTipo = new VistaOrdenadaPorTipo();
+        this.indiceOrdinal = new IndiceOrdinal();
+        this.nombresPlegados = new IndiceNombresPlegados();
+        this.indicePokedex = new IndicePokedex();
     }
     
     @Override
@@ -38,11 +44,16 @@ public class LinkedHashMapPokemon implements MapaPokemons {
         // Agregar elementos mantiene el orden de inserción
         // Mismo rendimiento que HashMap O(1) con sobrecarga mínima
         //--------
-        long inicio = System.nanoTime();
-        
-        pokemonMap.put(pokemon.getName(), pokemon);
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
+        Pokemon anterior = pokemonMap.put(pokemon.getName(), pokemon);
+        if (anterior == null) {
+            indiceOrdinal.agregar(pokemon.getName());
+            nombresPlegados.agregar(pokemon.getName());
+            indicePokedex.agregar(pokemon);
+        } else {
+            indicePokedex.reemplazar(anterior, pokemon);
+        }
+        indiceHabilidades.agregar(pokemon);
+        vistaPorTipo.invalidar();
     }
     
     @Override
@@ -51,12 +62,7 @@ public class LinkedHashMapPokemon implements MapaPokemons {
         // Acceso directo con complejidad O(1) como HashMap
         // Pero sin modificar el orden de los elementos
         //--------
-        long inicio = System.nanoTime();
-        
-        Pokemon resultado = pokemonMap.get(nombre);
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
-        return resultado;
+        return pokemonMap.get(nombre);
     }
     
     @Override
@@ -65,8 +71,9 @@ public class LinkedHashMapPokemon implements MapaPokemons {
         // Al ser LinkedHashMap, se garantiza que al iterar los elementos
         // aparecerán en el mismo orden en que fueron insertados
         // Esto puede ser ideal para mantener el orden del archivo CSV
+        // La vista es de solo lectura para proteger los índices internos
         //--------
-        return pokemonMap;
+        return Collections.unmodifiableMap(pokemonMap);
     }
     
     @Override
@@ -77,43 +84,57 @@ public class LinkedHashMapPokemon implements MapaPokemons {
         return pokemonMap.containsKey(nombre);
     }
     
+    @Override
+    public String resolverNombre(String texto) {
+        // Sin crear textos: el índice pliega cada carácter al comparar
+        if (texto == null || pokemonMap.containsKey(texto)) {
+            return texto;
+        }
+        return nombresPlegados.resolver(texto);
+    }
+    
     @Override
     public Map<String, Pokemon> buscarPorHabilidad(String habilidad) {
         //--------
-        // Preservamos el orden original en el resultado de la búsqueda
-        // usando otro LinkedHashMap como colector
+        // El índice devuelve las coincidencias en orden de inserción,
+        // que preservamos usando otro LinkedHashMap como resultado
         //--------
-        long inicio = System.nanoTime();
-        
-        LinkedHashMap<String, Pokemon> resultado = pokemonMap.entrySet().stream()
-                .filter(entrada -> entrada.getValue().getAbilities().toLowerCase()
-                                .contains(habilidad.toLowerCase()))
-                .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    Map.Entry::getValue,
-                    (v1, v2) -> v1,  // En caso de colisión (no debería ocurrir)
-                    LinkedHashMap::new
-                ));
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
+        LinkedHashMap<String, Pokemon> resultado = new LinkedHashMap<>();
+        for (Pokemon pokemon : indiceHabilidades.buscar(habilidad)) {
+            resultado.put(pokemon.getName(), pokemon);
+        }
         return resultado;
     }
     
+    @Override
+    public PaginaPokemon obtenerPagina(String cursor, int tamano) {
+        //--------
+        // El índice ordinal sigue el mismo orden de inserción que el
+        // mapa, pero permite saltar directo a la posición del cursor
+        //--------
+        return indiceOrdinal.pagina(cursor, tamano, pokemonMap::get);
+    }
+    
     @Override
     public List<Pokemon> obtenerOrdenadosPorTipo() {
         //--------
         // Para ordenar por tipo, necesitamos crear un nuevo ordenamiento
         // ya que por defecto está ordenado por orden de inserción
+        // Se reutiliza mientras el mapa no reciba escrituras
         //--------
-        long inicio = System.nanoTime();
-        
-        List<Pokemon> resultado = new ArrayList<>(pokemonMap.values());
-        // Ordenamos explícitamente por tipo y luego por nombre
-        resultado.sort(Comparator.comparing(Pokemon::getType1)
-                      .thenComparing(Pokemon::getName));
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
-        return resultado;
+        return vistaPorTipo.obtener(pokemonMap.values());
+    }
+    
+    @Override
+    public Pokemon obtenerPorPokedex(int numero) {
+        // Lectura directa en el arreglo indexado por número
+        return indicePokedex.obtener(numero);
+    }
+    
+    @Override
+    public List<Pokemon> obtenerRangoPokedex(int desde, int hasta) {
+        // El índice ya está en orden de Pokédex: no se ordena nada
+        return indicePokedex.rango(desde, hasta);
     }
     
     @Override
@@ -122,20 +143,25 @@ public class LinkedHashMapPokemon implements MapaPokemons {
     }
     
     /**
-     * Reordena los Pokémon por su número de Pokédex
+     * Reordena los Pokémon por su número de Pokédex. Para solo recorrerlos
+     * en ese orden basta obtenerOrdenadosPorPokedex(), que no modifica el mapa.
      */
     public void reordenarPorPokedex() {
         //--------
         // Método exclusivo de esta implementación
         // Elimina y reinserta los elementos en orden de Pokédex
         // Aprovecha que LinkedHashMap mantiene el orden de inserción
+        // El índice por número ya da ese orden, así que no se ordena
         //--------
-        List<Pokemon> pokemones = new ArrayList<>(pokemonMap.values());
-        pokemones.sort(Comparator.comparing(Pokemon::getPokedexNumber));
+        List<Pokemon> pokemones = indicePokedex.enOrden();
         
         pokemonMap.clear(); // Vaciamos el mapa
+        indiceHabilidades.limpiar(); // Los índices siguen el nuevo orden
+        indiceOrdinal.limpiar();
         for (Pokemon p : pokemones) {
             pokemonMap.put(p.getName(), p); // Reinsertamos en nuevo orden
+            indiceHabilidades.agregar(p);
+            indiceOrdinal.agregar(p.getName());
         }
     }
     
@@ -147,10 +173,9 @@ public class LinkedHashMapPokemon implements MapaPokemons {
         // Información específica del rendimiento de LinkedHashMap
         //--------
         return "Estadísticas LinkedHashMap:\n" +
-               "- Tiempo última operación: " + tiempoUltimaOperacion + " ns\n" +
                "- Cantidad de elementos: " + pokemonMap.size() + "\n" +
                "- Complejidad teórica de búsqueda: O(1)\n" +
                "- Uso de memoria: Mayor que HashMap debido a referencias de orden\n" +
                "- Factor de carga actual: " + pokemonMap.size() / 500.0f;
     }
-}
\ No newline at end of file
+}
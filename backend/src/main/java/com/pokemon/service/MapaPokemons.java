@@ -1,9 +1,14 @@
 package com.pokemon.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
 
 /**
  * Interfaz que define las operaciones básicas para un mapa de Pokémon.
@@ -17,6 +22,16 @@ public interface MapaPokemons {
     //--------
     void agregarPokemon(Pokemon pokemon);
     
+    //--------
+    // Agrega un lote de Pokémon en el orden recibido
+    // Usado por las cargas masivas del lector CSV
+    //--------
+    default void agregarTodos(Collection<Pokemon> pokemons) {
+        for (Pokemon pokemon : pokemons) {
+            agregarPokemon(pokemon);
+        }
+    }
+    
     //--------
     // Permite obtener un Pokémon específico del mapa
     // utilizando su nombre como clave de búsqueda
@@ -29,6 +44,33 @@ public interface MapaPokemons {
     //--------
     Map<String, Pokemon> obtenerTodos();
     
+    //--------
+    // Nombre tal como está guardado que coincide con el texto sin
+    // distinguir mayúsculas ni acentos ("pikachu" -> "Pikachu"), o null.
+    // Un nombre exacto siempre gana. Cada implementación lo resuelve con
+    // su índice de nombres plegados; esta versión por defecto recorre
+    // todos los nombres
+    //--------
+    default String resolverNombre(String texto) {
+        if (texto == null || existePokemon(texto)) {
+            return texto;
+        }
+        for (String nombre : obtenerTodos().keySet()) {
+            if (IndiceNombresPlegados.igualesPlegados(nombre, texto)) {
+                return nombre;
+            }
+        }
+        return null;
+    }
+    
+    //--------
+    // Igual que obtenerPokemon, pero sin distinguir mayúsculas ni acentos
+    //--------
+    default Pokemon obtenerPokemonPlegado(String texto) {
+        String nombre = resolverNombre(texto);
+        return nombre == null ? null : obtenerPokemon(nombre);
+    }
+    
     //--------
     // Verifica si un Pokémon existe en el mapa por su nombre
     // Útil para validaciones antes de agregar nuevos Pokémon
@@ -41,12 +83,97 @@ public interface MapaPokemons {
     //--------
     Map<String, Pokemon> buscarPorHabilidad(String habilidad);
     
+    //--------
+    // Devuelve hasta 'tamano' Pokémon a partir del cursor (null para la
+    // primera página) y el cursor de la página siguiente. Cada
+    // implementación lo reemplaza para reanudar en O(tamano); esta
+    // versión por defecto recorre obtenerTodos() desde el inicio
+    //--------
+    default PaginaPokemon obtenerPagina(String cursor, int tamano) {
+        PaginaPokemon.validarTamano(tamano);
+        int desde = PaginaPokemon.posicionDesdeCursor(cursor);
+        Collection<Pokemon> todos = obtenerTodos().values();
+        
+        Iterator<Pokemon> iterador = todos.iterator();
+        for (int i = 0; i < desde && iterador.hasNext(); i++) {
+            iterador.next();
+        }
+        List<Pokemon> pokemons = new ArrayList<>(tamano);
+        while (pokemons.size() < tamano && iterador.hasNext()) {
+            pokemons.add(iterador.next());
+        }
+        String siguiente = iterador.hasNext() ? String.valueOf(desde + pokemons.size()) : null;
+        return new PaginaPokemon(pokemons, siguiente);
+    }
+    
     //--------
     // Obtiene todos los Pokémon ordenados por tipo primario
     // independientemente de cómo estén almacenados en el mapa
     //--------
     List<Pokemon> obtenerOrdenadosPorTipo();
     
+    //--------
+    // Los k Pokémon con mayor valor del criterio (peso, altura o número),
+    // del mayor al menor, filtrados por tipo (null = cualquiera) y
+    // generación (PokemonIndex.CUALQUIER_GENERACION = cualquiera). Usa un
+    // montículo acotado: O(n log k) en lugar de ordenar todo el mapa
+    //--------
+    default List<Pokemon> obtenerMayores(TopK.Criterio criterio, int k, PokemonType tipo, int generacion) {
+        return TopK.seleccionar(obtenerTodos().values(), criterio, k, true, tipo, generacion);
+    }
+    
+    //--------
+    // Igual que obtenerMayores, pero los k de menor valor, del menor al mayor
+    //--------
+    default List<Pokemon> obtenerMenores(TopK.Criterio criterio, int k, PokemonType tipo, int generacion) {
+        return TopK.seleccionar(obtenerTodos().values(), criterio, k, false, tipo, generacion);
+    }
+    
+    //--------
+    // Los k de mayor valor de cada generación ("el más alto de cada
+    // generación"), en una sola pasada con un montículo por generación
+    //--------
+    default Map<Integer, List<Pokemon>> obtenerMayoresPorGeneracion(TopK.Criterio criterio, int k, PokemonType tipo) {
+        return TopK.seleccionarPorGeneracion(obtenerTodos().values(), criterio, k, true, tipo);
+    }
+    
+    //--------
+    // Pokémon con ese número de Pokédex, o null. Si varios comparten el
+    // número se devuelve el primero que llegó. Cada implementación usa su
+    // índice por número; esta versión por defecto recorre obtenerTodos()
+    //--------
+    default Pokemon obtenerPorPokedex(int numero) {
+        for (Pokemon pokemon : obtenerTodos().values()) {
+            if (pokemon.getPokedexNumber() == numero) {
+                return pokemon;
+            }
+        }
+        return null;
+    }
+    
+    //--------
+    // Pokémon con número de Pokédex entre desde y hasta (ambos incluidos),
+    // ordenados por número. Las implementaciones lo recorren ya en orden;
+    // esta versión por defecto filtra y ordena
+    //--------
+    default List<Pokemon> obtenerRangoPokedex(int desde, int hasta) {
+        List<Pokemon> resultado = new ArrayList<>();
+        for (Pokemon pokemon : obtenerTodos().values()) {
+            if (pokemon.getPokedexNumber() >= desde && pokemon.getPokedexNumber() <= hasta) {
+                resultado.add(pokemon);
+            }
+        }
+        resultado.sort(Comparator.comparingInt(Pokemon::getPokedexNumber));
+        return resultado;
+    }
+    
+    //--------
+    // Todos los Pokémon en orden de Pokédex, sin modificar el mapa
+    //--------
+    default List<Pokemon> obtenerOrdenadosPorPokedex() {
+        return obtenerRangoPokedex(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+    
     //--------
     // Devuelve el nombre del tipo de mapa que se está utilizando
     // Útil para mostrar información al usuario
@@ -0,0 +1,265 @@
+package com.pokemon.service;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Implementación inmutable de MapaPokemons para un catálogo que ya no
+ * cambia, con un hash perfecto mínimo sobre los nombres (HashPerfecto).
+ * Se crea con PokemonMapFactory.congelar.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class MapaPokemonsCongelado implements MapaPokemons {
+    //--------
+    // Los nombres y Pokémon se guardan en la casilla que les da el hash
+    // perfecto: buscar es calcular la casilla, leerla y comparar un
+    // nombre, sin sondeo. Junto a cada nombre se guarda su hashCode: un
+    // texto que no está casi nunca coincide y se descarta sin comparar
+    // caracteres. Otro arreglo guarda la casilla de cada Pokémon
+    // en el orden del mapa de origen, para recorrer y paginar igual.
+    //
+    // Los índices (habilidades, nombres plegados, Pokédex y orden por
+    // tipo) se arman una vez al congelar; después nadie escribe en
+    // ellos, así que el mapa se puede compartir entre hilos sin bloqueos
+    //--------
+    private final HashPerfecto hashPerfecto;
+    private final int[] huellas;
+    private final String[] nombres;
+    private final Pokemon[] pokemons;
+    private final int[] casillaDeEntrada;
+    private final String tipoOrigen;
+    private final IndiceHabilidades indiceHabilidades;
+    private final IndiceNombresPlegados nombresPlegados;
+    private final IndicePokedex indicePokedex;
+    private final List<Pokemon> ordenadosPorTipo;
+    private final VistaMapa vistaMapa;
+    
+    /**
+     * Constructor que copia el contenido actual del mapa de origen, en
+     * su mismo orden. El origen no se modifica ni se vuelve a consultar.
+     */
+    public MapaPokemonsCongelado(MapaPokemons origen) {
+        Map<String, Pokemon> todos = origen.obtenerTodos();
+        List<String> nombresOrigen = new ArrayList<>(todos.size());
+        List<Pokemon> pokemonsOrigen = new ArrayList<>(todos.size());
+        for (Map.Entry<String, Pokemon> entrada : todos.entrySet()) {
+            nombresOrigen.add(entrada.getKey());
+            pokemonsOrigen.add(entrada.getValue());
+        }
+        
+        int tamano = nombresOrigen.size();
+        this.hashPerfecto = HashPerfecto.construir(nombresOrigen.toArray(new String[0]));
+        this.huellas = new int[tamano];
+        this.nombres = new String[tamano];
+        this.pokemons = new Pokemon[tamano];
+        this.casillaDeEntrada = new int[tamano];
+        this.tipoOrigen = origen.getTipoMapa();
+        this.indiceHabilidades = new IndiceHabilidades();
+        this.nombresPlegados = new IndiceNombresPlegados();
+        this.indicePokedex = new IndicePokedex();
+        
+        for (int entrada = 0; entrada < tamano; entrada++) {
+            String nombre = nombresOrigen.get(entrada);
+            Pokemon pokemon = pokemonsOrigen.get(entrada);
+            int casilla = hashPerfecto.casilla(nombre);
+            huellas[casilla] = nombre.hashCode();
+            nombres[casilla] = nombre;
+            pokemons[casilla] = pokemon;
+            casillaDeEntrada[entrada] = casilla;
+            indiceHabilidades.agregar(pokemon);
+            nombresPlegados.agregar(nombre);
+            indicePokedex.agregar(pokemon);
+        }
+        // Arma ahora el orden de números que el índice calcularía en la primera consulta
+        indicePokedex.enOrden();
+        
+        Pokemon[] porTipo = pokemonsOrigen.toArray(new Pokemon[0]);
+        Arrays.sort(porTipo, VistaOrdenadaPorTipo.ORDEN_TIPO_NOMBRE);
+        this.ordenadosPorTipo = Collections.unmodifiableList(Arrays.asList(porTipo));
+        this.vistaMapa = new VistaMapa();
+    }
+    
+    @Override
+    public void agregarPokemon(Pokemon pokemon) {
+        throw new UnsupportedOperationException("El catálogo congelado no admite agregar Pokémon" +
+                                                (pokemon == null ? "" : ": " + pokemon.getName()));
+    }
+    
+    @Override
+    public void agregarTodos(Collection<Pokemon> pokemons) {
+        // También un lote vacío: cualquier intento de escritura es un error
+        throw new UnsupportedOperationException("El catálogo congelado no admite agregar Pokémon");
+    }
+    
+    @Override
+    public Pokemon obtenerPokemon(String nombre) {
+        int casilla = buscarCasilla(nombre);
+        return casilla < 0 ? null : pokemons[casilla];
+    }
+    
+    @Override
+    public Map<String, Pokemon> obtenerTodos() {
+        // Vista de solo lectura en el orden del mapa de origen
+        return vistaMapa;
+    }
+    
+    @Override
+    public boolean existePokemon(String nombre) {
+        return buscarCasilla(nombre) >= 0;
+    }
+    
+    @Override
+    public String resolverNombre(String texto) {
+        if (texto == null || existePokemon(texto)) {
+            return texto;
+        }
+        return nombresPlegados.resolver(texto);
+    }
+    
+    @Override
+    public Map<String, Pokemon> buscarPorHabilidad(String habilidad) {
+        Map<String, Pokemon> resultado = new LinkedHashMap<>();
+        for (Pokemon pokemon : indiceHabilidades.buscar(habilidad)) {
+            resultado.put(pokemon.getName(), pokemon);
+        }
+        return resultado;
+    }
+    
+    @Override
+    public PaginaPokemon obtenerPagina(String cursor, int tamano) {
+        PaginaPokemon.validarTamano(tamano);
+        int total = casillaDeEntrada.length;
+        int desde = Math.min(PaginaPokemon.posicionDesdeCursor(cursor), total);
+        int hasta = (int) Math.min((long) desde + tamano, total);
+        
+        List<Pokemon> pagina = new ArrayList<>(hasta - desde);
+        for (int entrada = desde; entrada < hasta; entrada++) {
+            pagina.add(pokemons[casillaDeEntrada[entrada]]);
+        }
+        return new PaginaPokemon(pagina, PaginaPokemon.cursorDePosicion(hasta, total));
+    }
+    
+    @Override
+    public List<Pokemon> obtenerOrdenadosPorTipo() {
+        return ordenadosPorTipo;
+    }
+    
+    @Override
+    public Pokemon obtenerPorPokedex(int numero) {
+        return indicePokedex.obtener(numero);
+    }
+    
+    @Override
+    public List<Pokemon> obtenerRangoPokedex(int desde, int hasta) {
+        return indicePokedex.rango(desde, hasta);
+    }
+    
+    @Override
+    public String getTipoMapa() {
+        return "Congelado";
+    }
+    
+    /**
+     * Tipo del mapa del que se copió el catálogo.
+     */
+    public String getTipoOrigen() {
+        return tipoOrigen;
+    }
+    
+    /**
+     * Bits del hash perfecto por nombre, sin contar los arreglos de
+     * nombres y Pokémon.
+     */
+    public double getBitsPorNombre() {
+        return hashPerfecto.bitsPorNombre();
+    }
+    
+    /**
+     * Obtiene las estadísticas del catálogo congelado y de su hash perfecto
+     */
+    public String getEstadisticasRendimiento() {
+        return "Estadísticas Congelado:\n" +
+               "- Cantidad de elementos: " + hashPerfecto.tamano() + "\n" +
+               "- Copiado de: " + tipoOrigen + "\n" +
+               "- Hash perfecto: " + hashPerfecto.getGrupos() + " grupos, desplazamientos de " +
+                   hashPerfecto.getBitsPorDesplazamiento() + " bits, hash desde " +
+                   (hashPerfecto.usaHashCode() ? "hashCode" : "los caracteres") + "\n" +
+               "- Bits del índice por nombre: " +
+                   String.format(Locale.ROOT, "%.2f", hashPerfecto.bitsPorNombre()) + "\n" +
+               "- Búsqueda: una casilla y una comparación de nombre, sin sondeo\n" +
+               "- Escrituras: no admite (UnsupportedOperationException)";
+    }
+    
+    private int buscarCasilla(String nombre) {
+        if (nombre == null) {
+            return -1;
+        }
+        int casilla = hashPerfecto.casilla(nombre);
+        return casilla >= 0 && huellas[casilla] == nombre.hashCode() && nombre.equals(nombres[casilla]) ? casilla : -1;
+    }
+    
+    /**
+     * Vista de solo lectura del catálogo como Map, en el orden de origen.
+     */
+    private final class VistaMapa extends AbstractMap<String, Pokemon> {
+        
+        @Override
+        public Pokemon get(Object clave) {
+            return clave instanceof String ? obtenerPokemon((String) clave) : null;
+        }
+        
+        @Override
+        public boolean containsKey(Object clave) {
+            return clave instanceof String && existePokemon((String) clave);
+        }
+        
+        @Override
+        public int size() {
+            return casillaDeEntrada.length;
+        }
+        
+        @Override
+        public Set<Entry<String, Pokemon>> entrySet() {
+            return new AbstractSet<Entry<String, Pokemon>>() {
+                @Override
+                public Iterator<Entry<String, Pokemon>> iterator() {
+                    return new Iterator<Entry<String, Pokemon>>() {
+                        private int entrada = 0;
+                        
+                        @Override
+                        public boolean hasNext() {
+                            return entrada < casillaDeEntrada.length;
+                        }
+                        
+                        @Override
+                        public Entry<String, Pokemon> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int casilla = casillaDeEntrada[entrada++];
+                            return new SimpleImmutableEntry<>(nombres[casilla], pokemons[casilla]);
+                        }
+                    };
+                }
+                
+                @Override
+                public int size() {
+                    return casillaDeEntrada.length;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.pokemon.service;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Página de resultados de MapaPokemons.obtenerPagina, con el cursor
+ * para pedir la siguiente.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class PaginaPokemon {
+    //--------
+    // El cursor es un texto opaco: cada implementación guarda en él lo
+    // que necesita para reanudar (una posición o el último nombre) sin
+    // volver a recorrer las páginas anteriores
+    //--------
+    private final List<Pokemon> pokemons;
+    private final String siguienteCursor;
+    
+    /**
+     * Constructor con los Pokémon de la página y el cursor siguiente
+     * (null si es la última página).
+     */
+    public PaginaPokemon(List<Pokemon> pokemons, String siguienteCursor) {
+        this.pokemons = Collections.unmodifiableList(pokemons);
+        this.siguienteCursor = siguienteCursor;
+    }
+    
+    public List<Pokemon> getPokemons() { return pokemons; }
+    public String getSiguienteCursor() { return siguienteCursor; }
+    
+    /**
+     * Indica si hay más Pokémon después de esta página.
+     */
+    public boolean hayMas() {
+        return siguienteCursor != null;
+    }
+    
+    /**
+     * Valida el tamaño de página pedido.
+     */
+    static void validarTamano(int tamano) {
+        if (tamano < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser al menos 1: " + tamano);
+        }
+    }
+    
+    /**
+     * Interpreta un cursor que guarda una posición; null es el inicio.
+     */
+    static int posicionDesdeCursor(String cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        try {
+            int posicion = Integer.parseInt(cursor);
+            if (posicion >= 0) {
+                return posicion;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo como cursor inválido
+        }
+        throw new IllegalArgumentException("Cursor inválido: '" + cursor + "'");
+    }
+    
+    /**
+     * Cursor de la posición siguiente, o null si ya no quedan elementos.
+     */
+    static String cursorDePosicion(int siguiente, int total) {
+        return siguiente < total ? String.valueOf(siguiente) : null;
+    }
+}
@@ -0,0 +1,220 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+
+/**
+ * Índices de mapas de bits por tipo, generación y condición de legendario.
+ * Autor: Fatima Navarro - 24044
+ */
+public class PokemonIndex {
+    //--------
+    // Cada Pokémon recibe un ordinal fijo y cada atributo indexado tiene
+    // un BitSet con un bit por ordinal. Un filtro compuesto ("legendarios
+    // de tipo Dragón de la generación 4") es la intersección de sus
+    // mapas de bits: un AND de palabras de 64 bits, sin recorrer objetos.
+    // Al eliminar un Pokémon se apagan sus bits y su ordinal queda libre
+    // hasta que se vuelva a agregar el mismo nombre
+    //--------
+    
+    // Generación que en filtrar significa "cualquiera"
+    public static final int CUALQUIER_GENERACION = 0;
+    
+    private final Map<String, Integer> ordinalPorNombre;
+    private Pokemon[] pokemonPorOrdinal;
+    private int totalOrdinales;
+    
+    private final BitSet presentes;
+    private final BitSet[] porTipo;
+    private BitSet[] porGeneracion;
+    private final BitSet legendarios;
+    
+    /**
+     * Constructor que inicializa los índices vacíos
+     */
+    public PokemonIndex() {
+        this.ordinalPorNombre = new HashMap<>();
+        this.pokemonPorOrdinal = new Pokemon[16];
+        this.totalOrdinales = 0;
+        this.presentes = new BitSet();
+        this.porTipo = new BitSet[PokemonType.values().length];
+        for (int i = 0; i < porTipo.length; i++) {
+            porTipo[i] = new BitSet();
+        }
+        this.porGeneracion = new BitSet[0];
+        this.legendarios = new BitSet();
+    }
+    
+    /**
+     * Registra un Pokémon. Si ya existía uno con el mismo nombre se
+     * reemplaza conservando su ordinal.
+     */
+    public void agregar(Pokemon pokemon) {
+        Integer existente = ordinalPorNombre.get(pokemon.getName());
+        int ordinal;
+        if (existente != null) {
+            ordinal = existente;
+            apagar(ordinal);
+        } else {
+            if (totalOrdinales == pokemonPorOrdinal.length) {
+                pokemonPorOrdinal = Arrays.copyOf(pokemonPorOrdinal, totalOrdinales * 2);
+            }
+            ordinal = totalOrdinales++;
+            ordinalPorNombre.put(pokemon.getName(), ordinal);
+        }
+        
+        pokemonPorOrdinal[ordinal] = pokemon;
+        presentes.set(ordinal);
+        if (pokemon.getTipo1() != null) {
+            porTipo[pokemon.getTipo1().ordinal()].set(ordinal);
+        }
+        if (pokemon.getTipo2() != null) {
+            porTipo[pokemon.getTipo2().ordinal()].set(ordinal);
+        }
+        int generacion = pokemon.getGeneration();
+        if (generacion > 0) {
+            if (generacion >= porGeneracion.length) {
+                int anterior = porGeneracion.length;
+                porGeneracion = Arrays.copyOf(porGeneracion, generacion + 1);
+                for (int i = anterior; i < porGeneracion.length; i++) {
+                    porGeneracion[i] = new BitSet();
+                }
+            }
+            porGeneracion[generacion].set(ordinal);
+        }
+        legendarios.set(ordinal, pokemon.isLegendary());
+    }
+    
+    /**
+     * Quita un Pokémon de todos los índices; devuelve false si no estaba.
+     */
+    public boolean eliminar(String nombre) {
+        Integer ordinal = ordinalPorNombre.get(nombre);
+        if (ordinal == null || !presentes.get(ordinal)) {
+            return false;
+        }
+        apagar(ordinal);
+        pokemonPorOrdinal[ordinal] = null;
+        return true;
+    }
+    
+    /**
+     * Cantidad de Pokémon indexados.
+     */
+    public int tamano() {
+        return presentes.cardinality();
+    }
+    
+    /**
+     * Ordinales de los Pokémon que cumplen todas las condiciones. Un tipo
+     * null, CUALQUIER_GENERACION o un legendario null no filtran.
+     */
+    public BitSet filtrar(PokemonType tipo, int generacion, Boolean legendario) {
+        //--------
+        // Se parte de una copia del primer mapa de bits que restringe y
+        // se intersecta con los demás; los ordinales eliminados ya
+        // tienen sus bits apagados en todos los mapas
+        //--------
+        BitSet resultado;
+        if (tipo != null) {
+            resultado = (BitSet) porTipo[tipo.ordinal()].clone();
+        } else if (generacion != CUALQUIER_GENERACION) {
+            resultado = (BitSet) deGeneracion(generacion).clone();
+        } else {
+            resultado = (BitSet) presentes.clone();
+        }
+        
+        if (tipo != null && generacion != CUALQUIER_GENERACION) {
+            resultado.and(deGeneracion(generacion));
+        }
+        if (Boolean.TRUE.equals(legendario)) {
+            resultado.and(legendarios);
+        } else if (Boolean.FALSE.equals(legendario)) {
+            resultado.andNot(legendarios);
+        }
+        return resultado;
+    }
+    
+    /**
+     * Pokémon que cumplen todas las condiciones, en orden de llegada.
+     */
+    public List<Pokemon> buscar(PokemonType tipo, int generacion, Boolean legendario) {
+        return obtener(filtrar(tipo, generacion, legendario));
+    }
+    
+    /**
+     * Cantidad de Pokémon que cumplen todas las condiciones.
+     */
+    public int contar(PokemonType tipo, int generacion, Boolean legendario) {
+        //--------
+        // Los casos de una sola condición se cuentan sobre el mapa de
+        // bits directamente, sin copiarlo
+        //--------
+        if (tipo == null && legendario == null) {
+            return generacion == CUALQUIER_GENERACION ? tamano() : deGeneracion(generacion).cardinality();
+        }
+        if (tipo == null && generacion == CUALQUIER_GENERACION && legendario) {
+            return legendarios.cardinality();
+        }
+        return filtrar(tipo, generacion, legendario).cardinality();
+    }
+    
+    /**
+     * Convierte un conjunto de ordinales en la lista de sus Pokémon.
+     */
+    public List<Pokemon> obtener(BitSet ordinales) {
+        List<Pokemon> resultado = new ArrayList<>(ordinales.cardinality());
+        for (int i = ordinales.nextSetBit(0); i >= 0; i = ordinales.nextSetBit(i + 1)) {
+            Pokemon pokemon = i < totalOrdinales ? pokemonPorOrdinal[i] : null;
+            if (pokemon != null) {
+                resultado.add(pokemon);
+            }
+        }
+        return resultado;
+    }
+    
+    /**
+     * Generación más alta registrada (0 si no hay ninguna).
+     */
+    public int generacionMaxima() {
+        for (int i = porGeneracion.length - 1; i > 0; i--) {
+            if (!porGeneracion[i].isEmpty()) {
+                return i;
+            }
+        }
+        return 0;
+    }
+    
+    private BitSet deGeneracion(int generacion) {
+        return generacion > 0 && generacion < porGeneracion.length ? porGeneracion[generacion] : new BitSet();
+    }
+    
+    /**
+     * Apaga los bits del ordinal en todos los índices.
+     */
+    private void apagar(int ordinal) {
+        presentes.clear(ordinal);
+        Pokemon anterior = pokemonPorOrdinal[ordinal];
+        if (anterior == null) {
+            return;
+        }
+        if (anterior.getTipo1() != null) {
+            porTipo[anterior.getTipo1().ordinal()].clear(ordinal);
+        }
+        if (anterior.getTipo2() != null) {
+            porTipo[anterior.getTipo2().ordinal()].clear(ordinal);
+        }
+        int generacion = anterior.getGeneration();
+        if (generacion > 0 && generacion < porGeneracion.length) {
+            porGeneracion[generacion].clear(ordinal);
+        }
+        legendarios.clear(ordinal);
+    }
+}
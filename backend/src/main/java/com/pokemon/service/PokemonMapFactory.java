@@ -14,7 +14,8 @@ public class PokemonMapFactory {
     /**
      * Crea una instancia de MapaPokemons según el tipo especificado.
      * 
-     * @param tipo 1 para HashMap, 2 para TreeMap, 3 para LinkedHashMap
+     * @param tipo 1 para HashMap, 2 para TreeMap, 3 para LinkedHashMap, 4 para Concurrent, 5 para Columnar,
+     *             6 para TablaHash
      * @return Una instancia de MapaPokemons con la implementación solicitada
      * @throws IllegalArgumentException si el tipo no es válido
      */
@@ -34,12 +35,57 @@ public class PokemonMapFactory {
             case 3:
                 System.out.println("INFO: Creando implementación LinkedHashMap...");
                 return new LinkedHashMapPokemon();
+            case 4:
+                System.out.println("INFO: Creando implementación Concurrent...");
+                return new ConcurrentMapaPokemons();
+            case 5:
+                System.out.println("INFO: Creando implementación Columnar...");
+                return new PokemonStore();
+            case 6:
+                System.out.println("INFO: Creando implementación TablaHash...");
+                return new TablaHashAbiertaPokemon();
             default:
                 throw new IllegalArgumentException("Tipo de mapa inválido: " + tipo + 
-                                                  ". Use 1=HashMap, 2=TreeMap, 3=LinkedHashMap");
+                                                  ". Use 1=HashMap, 2=TreeMap, 3=LinkedHashMap, 4=Concurrent, 5=Columnar, 6=TablaHash");
         }
     }
     
+    /**
+     * Crea una instancia de MapaPokemons según el tipo especificado y, si
+     * se pide, la envuelve en InstrumentedMapaPokemons para registrar la
+     * latencia de cada operación en el registro global de métricas.
+     */
+    public static MapaPokemons crearMapa(int tipo, boolean instrumentado) {
+        MapaPokemons mapa = crearMapa(tipo);
+        return instrumentado ? new InstrumentedMapaPokemons(mapa) : mapa;
+    }
+    
+    /**
+     * Congela un catálogo ya cargado: copia su contenido, en el mismo
+     * orden, a un MapaPokemonsCongelado de solo lectura con hash perfecto
+     * sobre los nombres. El mapa original no se modifica.
+     */
+    public static MapaPokemonsCongelado congelar(MapaPokemons mapa) {
+        //--------
+        // Un mapa envuelto en métricas se congela por su contenido, igual
+        // que cualquier otro; uno ya congelado se devuelve tal cual
+        //--------
+        if (mapa instanceof MapaPokemonsCongelado) {
+            return (MapaPokemonsCongelado) mapa;
+        }
+        System.out.println("INFO: Congelando catálogo " + mapa.getTipoMapa() + "...");
+        return new MapaPokemonsCongelado(mapa);
+    }
+    
+    /**
+     * Congela el catálogo y, si se pide, envuelve el resultado en
+     * InstrumentedMapaPokemons.
+     */
+    public static MapaPokemons congelar(MapaPokemons mapa, boolean instrumentado) {
+        MapaPokemons congelado = congelar(mapa);
+        return instrumentado ? new InstrumentedMapaPokemons(congelado) : congelado;
+    }
+    
     /**
      * Crea una implementación de MapaPokemons según el nombre del tipo.
      * Sobrecarga para permitir crear por nombre en lugar de número.
@@ -56,9 +102,15 @@ public class PokemonMapFactory {
                 return crearMapa(2);
             case "linkedhashmap":
                 return crearMapa(3);
+            case "concurrent":
+                return crearMapa(4);
+            case "columnar":
+                return crearMapa(5);
+            case "tablahash":
+                return crearMapa(6);
             default:
                 throw new IllegalArgumentException("Tipo de mapa inválido: " + tipoNombre + 
-                                                  ". Opciones válidas: HashMap, TreeMap, LinkedHashMap");
+                                                  ". Opciones válidas: HashMap, TreeMap, LinkedHashMap, Concurrent, Columnar, TablaHash");
         }
     }
     
@@ -94,7 +146,28 @@ public class PokemonMapFactory {
         info.append("   - Búsqueda: O(1) - Rápido como HashMap\n");
         info.append("   - Orden: Preserva orden de inserción\n");
         info.append("   - Memoria: Mayor consumo que HashMap\n");
-        info.append("   - Mejor para: Mantener orden mientras se necesita acceso rápido\n");
+        info.append("   - Mejor para: Mantener orden mientras se necesita acceso rápido\n\n");
+        
+        // Información sobre la implementación concurrente
+        info.append("4. Concurrent (ConcurrentHashMap):\n");
+        info.append("   - Búsqueda: O(1) - Lecturas sin bloqueo\n");
+        info.append("   - Orden: No mantiene ningún orden específico\n");
+        info.append("   - Memoria: Similar a HashMap más los índices concurrentes\n");
+        info.append("   - Mejor para: Compartir el catálogo entre varios hilos\n\n");
+        
+        // Información sobre el almacenamiento por columnas
+        info.append("5. Columnar (PokemonStore):\n");
+        info.append("   - Búsqueda: O(1) - Tabla hash propia de nombre a fila\n");
+        info.append("   - Orden: Preserva orden de inserción\n");
+        info.append("   - Memoria: Arreglos primitivos por atributo, sin un objeto por Pokémon (solo guarda los 256 más recientes)\n");
+        info.append("   - Mejor para: Filtros que recorren todo el catálogo\n\n");
+        
+        // Información sobre la tabla hash propia
+        info.append("6. TablaHash (TablaHashAbiertaPokemon):\n");
+        info.append("   - Búsqueda: O(1) - Direccionamiento abierto con sondeo Robin Hood\n");
+        info.append("   - Orden: Preserva orden de inserción\n");
+        info.append("   - Memoria: Arreglos de entradas y de casillas, sin un nodo por Pokémon\n");
+        info.append("   - Mejor para: Búsquedas por nombre con la menor huella de memoria\n");
         
         return info.toString();
     }
@@ -0,0 +1,682 @@
+package com.pokemon.service;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+import com.pokemon.util.DiccionarioCadenas;
+
+/**
+ * Implementación de MapaPokemons que guarda el catálogo por columnas.
+ * Autor: Fatima Navarro - 24044
+ */
+public class PokemonStore implements MapaPokemons {
+    //--------
+    // Cada atributo se guarda en su propio arreglo (una "columna") y cada
+    // Pokémon es una fila, identificada por su posición. Los textos que
+    // se repiten (tipos, clasificación, habilidades) se guardan como ids
+    // de un diccionario. Los objetos Pokemon solo se crean cuando alguien
+    // los pide, y los filtros recorren arreglos primitivos contiguos.
+    // Los últimos Pokémon creados se guardan en una caché pequeña de
+    // tamaño fijo (una casilla por fila módulo su tamaño): leer dos veces
+    // seguidas la misma fila devuelve la misma instancia y reutiliza su
+    // JSON ya codificado, pero recorrer todo el catálogo no deja un
+    // objeto vivo por fila
+    //--------
+    private static final int CAPACIDAD_INICIAL = 1024;
+    private static final int CASILLAS_RECIENTES = 256;
+    
+    // Id que representa un texto nulo en las columnas de ids
+    private static final int NULO = -1;
+    
+    private String[] nombres;
+    private int[] pokedex;
+    private short[] tipo1;
+    private short[] tipo2;
+    private int[] clasificacion;
+    private float[] altura;
+    private float[] peso;
+    private int[] habilidades;
+    private byte[] generacion;
+    private final BitSet legendario;
+    private int filas;
+    
+    //--------
+    // Caché de Pokémon recientes: la casilla de una fila es fila % 256.
+    // Una casilla vale para la fila si el nombre del Pokémon es la misma
+    // instancia que la de su columna, así no hace falta otro arreglo que
+    // pueda quedar desfasado del primero
+    //--------
+    private final Pokemon[] recientes;
+    
+    private final DiccionarioCadenas tipos;
+    private final DiccionarioCadenas clasificaciones;
+    private final DiccionarioCadenas textosHabilidades;
+    
+    // Textos de habilidades en minúsculas, por id, para buscarPorHabilidad
+    private String[] habilidadesMinusculas;
+    
+    //--------
+    // Tabla hash propia de nombre -> fila, con direccionamiento abierto:
+    // guarda fila + 1 (0 = vacío) en un solo arreglo de enteros, sin
+    // un objeto por entrada como HashMap
+    //--------
+    private int[] tablaNombres;
+    
+    // Nombres sin mayúsculas ni acentos, para resolverNombre
+    private final IndiceNombresPlegados nombresPlegados;
+    
+    // Vista ordenada por tipo; se descarta en cada escritura
+    private List<Pokemon> ordenadosPorTipo;
+    
+    // Filas ordenadas por cada criterio de TopK, de menor a mayor; se
+    // calculan al primer top-k y se descartan en cada escritura
+    private final int[][] filasPorCriterio;
+    
+    private final Map<String, Pokemon> vistaMapa;
+    
+    /**
+     * Constructor que inicializa las columnas vacías
+     */
+    public PokemonStore() {
+        this.nombres = new String[CAPACIDAD_INICIAL];
+        this.pokedex = new int[CAPACIDAD_INICIAL];
+        this.tipo1 = new short[CAPACIDAD_INICIAL];
+        this.tipo2 = new short[CAPACIDAD_INICIAL];
+        this.clasificacion = new int[CAPACIDAD_INICIAL];
+        this.altura = new float[CAPACIDAD_INICIAL];
+        this.peso = new float[CAPACIDAD_INICIAL];
+        this.habilidades = new int[CAPACIDAD_INICIAL];
+        this.generacion = new byte[CAPACIDAD_INICIAL];
+        this.legendario = new BitSet(CAPACIDAD_INICIAL);
+        this.recientes = new Pokemon[CASILLAS_RECIENTES];
+        this.filas = 0;
+        this.tipos = new DiccionarioCadenas();
+        // Los tipos conocidos ocupan los primeros ids: id == ordinal del enum
+        for (PokemonType tipo : PokemonType.values()) {
+            tipos.id(tipo.getNombre());
+        }
+        this.clasificaciones = new DiccionarioCadenas();
+        this.textosHabilidades = new DiccionarioCadenas();
+        this.habilidadesMinusculas = new String[64];
+        this.tablaNombres = new int[CAPACIDAD_INICIAL * 2];
+        this.nombresPlegados = new IndiceNombresPlegados();
+        this.filasPorCriterio = new int[TopK.Criterio.values().length][];
+        this.vistaMapa = new VistaMapa();
+    }
+    
+    @Override
+    public void agregarPokemon(Pokemon pokemon) {
+        //--------
+        // Si el nombre ya existe se sobrescribe su fila, así el Pokémon
+        // conserva su posición igual que en LinkedHashMap
+        //--------
+        int fila = buscarFila(pokemon.getName());
+        if (fila < 0) {
+            if (filas == nombres.length) {
+                crecer(filas * 2);
+            }
+            fila = filas++;
+            nombres[fila] = pokemon.getName();
+            insertarEnTabla(fila);
+            nombresPlegados.agregar(pokemon.getName());
+        }
+        
+        pokedex[fila] = pokemon.getPokedexNumber();
+        tipo1[fila] = idTipo(pokemon.getType1());
+        tipo2[fila] = idTipo(pokemon.getType2());
+        clasificacion[fila] = pokemon.getClassification() == null
+            ? NULO : clasificaciones.id(pokemon.getClassification());
+        altura[fila] = pokemon.getHeight();
+        peso[fila] = pokemon.getWeight();
+        habilidades[fila] = idHabilidades(pokemon.getAbilities());
+        generacion[fila] = (byte) pokemon.getGeneration();
+        legendario.set(fila, pokemon.isLegendary());
+        recientes[fila & (CASILLAS_RECIENTES - 1)] = null;
+        
+        ordenadosPorTipo = null;
+        Arrays.fill(filasPorCriterio, null);
+    }
+    
+    @Override
+    public Pokemon obtenerPokemon(String nombre) {
+        // El Pokémon se construye a partir de las columnas de su fila
+        int fila = buscarFila(nombre);
+        return fila < 0 ? null : pokemonDeFila(fila);
+    }
+    
+    @Override
+    public Map<String, Pokemon> obtenerTodos() {
+        //--------
+        // Vista de solo lectura sobre las columnas, en orden de inserción.
+        // Los Pokémon se crean a medida que se recorre la vista
+        //--------
+        return vistaMapa;
+    }
+    
+    @Override
+    public boolean existePokemon(String nombre) {
+        return buscarFila(nombre) >= 0;
+    }
+    
+    @Override
+    public String resolverNombre(String texto) {
+        if (buscarFila(texto) >= 0) {
+            return texto;
+        }
+        return nombresPlegados.resolver(texto);
+    }
+    
+    @Override
+    public Map<String, Pokemon> buscarPorHabilidad(String habilidad) {
+        //--------
+        // Primero se buscan los textos de habilidades que coinciden en el
+        // diccionario, que es pequeño; después se recorre la columna de
+        // ids comparando enteros
+        //--------
+        String consulta = habilidad.toLowerCase(Locale.ROOT);
+        boolean[] coincide = new boolean[textosHabilidades.tamano()];
+        for (int id = 0; id < coincide.length; id++) {
+            coincide[id] = habilidadesMinusculas[id].contains(consulta);
+        }
+        boolean incluirNulos = consulta.isEmpty();
+        
+        Map<String, Pokemon> resultado = new LinkedHashMap<>();
+        for (int fila = 0; fila < filas; fila++) {
+            int id = habilidades[fila];
+            if (id == NULO ? incluirNulos : coincide[id]) {
+                resultado.put(nombres[fila], pokemonDeFila(fila));
+            }
+        }
+        return resultado;
+    }
+    
+    @Override
+    public PaginaPokemon obtenerPagina(String cursor, int tamano) {
+        // Las filas ya son posiciones estables: el cursor es la fila siguiente
+        PaginaPokemon.validarTamano(tamano);
+        int desde = Math.min(PaginaPokemon.posicionDesdeCursor(cursor), filas);
+        int hasta = (int) Math.min((long) desde + tamano, filas);
+        
+        List<Pokemon> pokemons = new ArrayList<>(hasta - desde);
+        for (int fila = desde; fila < hasta; fila++) {
+            pokemons.add(pokemonDeFila(fila));
+        }
+        return new PaginaPokemon(pokemons, PaginaPokemon.cursorDePosicion(hasta, filas));
+    }
+    
+    @Override
+    public List<Pokemon> obtenerOrdenadosPorTipo() {
+        //--------
+        // Se ordenan las filas (no los objetos) y se guarda el orden
+        // hasta la siguiente escritura
+        //--------
+        List<Pokemon> actual = ordenadosPorTipo;
+        if (actual == null) {
+            Integer[] orden = new Integer[filas];
+            for (int fila = 0; fila < filas; fila++) {
+                orden[fila] = fila;
+            }
+            Arrays.sort(orden, (a, b) -> {
+                int porTipo = texto(tipos, tipo1[a]).compareTo(texto(tipos, tipo1[b]));
+                return porTipo != 0 ? porTipo : nombres[a].compareTo(nombres[b]);
+            });
+            
+            int[] filasOrdenadas = new int[filas];
+            for (int i = 0; i < filas; i++) {
+                filasOrdenadas[i] = orden[i];
+            }
+            actual = new ListaDeFilas(filasOrdenadas);
+            ordenadosPorTipo = actual;
+        }
+        return actual;
+    }
+    
+    @Override
+    public String getTipoMapa() {
+        return "Columnar";
+    }
+    
+    @Override
+    public List<Pokemon> obtenerMayores(TopK.Criterio criterio, int k, PokemonType tipo, int generacionBuscada) {
+        //--------
+        // Con la columna ya ordenada se recorre desde el final y se para
+        // al juntar k filas que cumplan el filtro: O(k) si el filtro deja
+        // pasar a muchos. Las filas con la misma clave están en orden de
+        // llegada, así que cada grupo de empatados se toma hacia adelante
+        // para que gane el que llegó primero, como en TopK
+        //--------
+        validarK(k);
+        int[] orden = filasOrdenadas(criterio);
+        short idTipo = tipo == null ? NULO : (short) tipo.ordinal();
+        List<Pokemon> resultado = new ArrayList<>(Math.min(k, filas));
+        int i = filas - 1;
+        while (i >= 0 && resultado.size() < k) {
+            int clave = claveOrdenable(criterio, orden[i]);
+            int inicio = i;
+            while (inicio > 0 && claveOrdenable(criterio, orden[inicio - 1]) == clave) {
+                inicio--;
+            }
+            for (int j = inicio; j <= i && resultado.size() < k; j++) {
+                if (cumpleFiltro(orden[j], idTipo, generacionBuscada)) {
+                    resultado.add(pokemonDeFila(orden[j]));
+                }
+            }
+            i = inicio - 1;
+        }
+        return resultado;
+    }
+    
+    @Override
+    public List<Pokemon> obtenerMenores(TopK.Criterio criterio, int k, PokemonType tipo, int generacionBuscada) {
+        validarK(k);
+        int[] orden = filasOrdenadas(criterio);
+        short idTipo = tipo == null ? NULO : (short) tipo.ordinal();
+        List<Pokemon> resultado = new ArrayList<>(Math.min(k, filas));
+        for (int i = 0; i < filas && resultado.size() < k; i++) {
+            if (cumpleFiltro(orden[i], idTipo, generacionBuscada)) {
+                resultado.add(pokemonDeFila(orden[i]));
+            }
+        }
+        return resultado;
+    }
+    
+    @Override
+    public Pokemon obtenerPorPokedex(int numero) {
+        //--------
+        // Las filas ordenadas por número (las mismas de obtenerMenores) se
+        // buscan por bisección sobre la columna de números, sin crear
+        // objetos; el orden solo se recalcula después de una escritura
+        //--------
+        int[] orden = filasOrdenadas(TopK.Criterio.NUMERO);
+        int i = primeraConNumero(orden, numero);
+        return i < filas && pokedex[orden[i]] == numero ? pokemonDeFila(orden[i]) : null;
+    }
+    
+    @Override
+    public List<Pokemon> obtenerRangoPokedex(int desde, int hasta) {
+        List<Pokemon> resultado = new ArrayList<>();
+        if (desde > hasta) {
+            return resultado;
+        }
+        int[] orden = filasOrdenadas(TopK.Criterio.NUMERO);
+        for (int i = primeraConNumero(orden, desde); i < filas && pokedex[orden[i]] <= hasta; i++) {
+            resultado.add(pokemonDeFila(orden[i]));
+        }
+        return resultado;
+    }
+    
+    /**
+     * Pokémon legendarios, recorriendo solo los bits activos de la columna.
+     */
+    public List<Pokemon> buscarLegendarios() {
+        List<Pokemon> resultado = new ArrayList<>(legendario.cardinality());
+        for (int fila = legendario.nextSetBit(0); fila >= 0 && fila < filas; fila = legendario.nextSetBit(fila + 1)) {
+            resultado.add(pokemonDeFila(fila));
+        }
+        return resultado;
+    }
+    
+    /**
+     * Pokémon que tienen el tipo indicado como primario o secundario.
+     * Como el id de cada tipo conocido es su ordinal, se comparan
+     * directamente las columnas de ids sin consultar el diccionario.
+     */
+    public List<Pokemon> buscarPorTipo(PokemonType tipo) {
+        short id = (short) tipo.ordinal();
+        List<Pokemon> resultado = new ArrayList<>();
+        for (int fila = 0; fila < filas; fila++) {
+            if (tipo1[fila] == id || tipo2[fila] == id) {
+                resultado.add(pokemonDeFila(fila));
+            }
+        }
+        return resultado;
+    }
+    
+    /**
+     * Pokémon de una generación.
+     */
+    public List<Pokemon> buscarPorGeneracion(int generacionBuscada) {
+        List<Pokemon> resultado = new ArrayList<>();
+        for (int fila = 0; fila < filas; fila++) {
+            if ((generacion[fila] & 0xFF) == generacionBuscada) {
+                resultado.add(pokemonDeFila(fila));
+            }
+        }
+        return resultado;
+    }
+    
+    /**
+     * Pokémon cuyo peso está entre los límites indicados (inclusive).
+     */
+    public List<Pokemon> buscarPorRangoDePeso(float minimo, float maximo) {
+        List<Pokemon> resultado = new ArrayList<>();
+        for (int fila = 0; fila < filas; fila++) {
+            float valor = peso[fila];
+            if (valor >= minimo && valor <= maximo) {
+                resultado.add(pokemonDeFila(fila));
+            }
+        }
+        return resultado;
+    }
+    
+    /**
+     * Cantidad de Pokémon legendarios, sin crear ningún objeto.
+     */
+    public int contarLegendarios() {
+        return legendario.cardinality();
+    }
+    
+    /**
+     * Obtiene las estadísticas del almacenamiento por columnas
+     */
+    public String getEstadisticasRendimiento() {
+        return "Estadísticas Columnar:\n" +
+               "- Cantidad de elementos: " + filas + "\n" +
+               "- Tipos distintos: " + tipos.tamano() + "\n" +
+               "- Clasificaciones distintas: " + clasificaciones.tamano() + "\n" +
+               "- Combinaciones de habilidades distintas: " + textosHabilidades.tamano() + "\n" +
+               "- Bytes por fila en columnas (sin el texto del nombre): " + bytesPorFila() + "\n" +
+               "- Complejidad teórica de búsqueda: O(1)";
+    }
+    
+    /**
+     * Bytes que ocupa cada fila en las columnas y en la tabla de nombres,
+     * suponiendo referencias comprimidas de 4 bytes.
+     */
+    private int bytesPorFila() {
+        // nombre, pokedex, clasificación, habilidades, altura, peso: 4 bytes;
+        // tipos: 2 bytes; generación: 1 byte; legendario: 1 bit (se redondea)
+        int columnas = 6 * 4 + 2 * 2 + 1 + 1;
+        return columnas + 2 * 4; // La tabla de nombres tiene el doble de casillas
+    }
+    
+    /**
+     * Filas ordenadas por el criterio, de menor a mayor y, con la misma
+     * clave, por fila. Se ordena un long[] con la clave en la mitad alta
+     * y la fila en la baja: un solo sort de primitivos, sin Comparator.
+     */
+    private int[] filasOrdenadas(TopK.Criterio criterio) {
+        int[] orden = filasPorCriterio[criterio.ordinal()];
+        if (orden == null) {
+            long[] empaquetadas = new long[filas];
+            for (int fila = 0; fila < filas; fila++) {
+                empaquetadas[fila] = ((long) claveOrdenable(criterio, fila) << 32) | fila;
+            }
+            Arrays.sort(empaquetadas);
+            orden = new int[filas];
+            for (int i = 0; i < filas; i++) {
+                orden[i] = (int) empaquetadas[i];
+            }
+            filasPorCriterio[criterio.ordinal()] = orden;
+        }
+        return orden;
+    }
+    
+    /**
+     * Clave del criterio en la fila como int que se ordena igual que el
+     * valor original; los float se convierten por sus bits.
+     */
+    private int claveOrdenable(TopK.Criterio criterio, int fila) {
+        switch (criterio) {
+            case PESO:
+                return floatOrdenable(peso[fila]);
+            case ALTURA:
+                return floatOrdenable(altura[fila]);
+            default:
+                return pokedex[fila];
+        }
+    }
+    
+    private static int floatOrdenable(float valor) {
+        // Los negativos invierten sus bits de magnitud para quedar ordenados
+        int bits = Float.floatToIntBits(valor);
+        return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+    }
+    
+    /**
+     * Primera posición del orden por número cuyo número no es menor que el buscado.
+     */
+    private int primeraConNumero(int[] orden, int numero) {
+        int bajo = 0;
+        int alto = filas;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (pokedex[orden[medio]] < numero) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+    
+    private boolean cumpleFiltro(int fila, short idTipo, int generacionBuscada) {
+        return (idTipo == NULO || tipo1[fila] == idTipo || tipo2[fila] == idTipo)
+            && (generacionBuscada == PokemonIndex.CUALQUIER_GENERACION || (generacion[fila] & 0xFF) == generacionBuscada);
+    }
+    
+    private static void validarK(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k debe ser mayor que cero");
+        }
+    }
+    
+    /**
+     * Pokémon de la fila: el de la caché si sigue siendo de esa fila, o
+     * uno nuevo a partir de las columnas.
+     */
+    private Pokemon pokemonDeFila(int fila) {
+        int casilla = fila & (CASILLAS_RECIENTES - 1);
+        Pokemon pokemon = recientes[casilla];
+        if (pokemon == null || pokemon.getName() != nombres[fila]) {
+            pokemon = crearPokemon(fila);
+            recientes[casilla] = pokemon;
+        }
+        return pokemon;
+    }
+    
+    /**
+     * Construye el Pokémon de una fila a partir de sus columnas.
+     */
+    private Pokemon crearPokemon(int fila) {
+        return new Pokemon(
+            nombres[fila],
+            pokedex[fila],
+            texto(tipos, tipo1[fila]),
+            texto(tipos, tipo2[fila]),
+            texto(clasificaciones, clasificacion[fila]),
+            altura[fila],
+            peso[fila],
+            texto(textosHabilidades, habilidades[fila]),
+            generacion[fila] & 0xFF,
+            legendario.get(fila)
+        );
+    }
+    
+    private static String texto(DiccionarioCadenas diccionario, int id) {
+        return id == NULO ? null : diccionario.cadena(id);
+    }
+    
+    private short idTipo(String tipo) {
+        //--------
+        // Un tipo conocido se guarda como su ordinal aunque venga escrito
+        // distinto ("grass", " Grass"): así buscarPorTipo y el top-k, que
+        // comparan ordinales, lo encuentran igual que Pokemon.tieneTipo.
+        // Al leer la fila vuelve con el nombre del enum. Solo los tipos
+        // desconocidos pasan por el diccionario
+        //--------
+        if (tipo == null) {
+            return NULO;
+        }
+        PokemonType conocido = PokemonType.desde(tipo);
+        if (conocido != null) {
+            return (short) conocido.ordinal();
+        }
+        int id = tipos.id(tipo);
+        if (id > Short.MAX_VALUE) {
+            throw new IllegalStateException("Demasiados tipos distintos: " + tipos.tamano());
+        }
+        return (short) id;
+    }
+    
+    private int idHabilidades(String abilities) {
+        if (abilities == null) {
+            return NULO;
+        }
+        int id = textosHabilidades.id(abilities);
+        if (id == habilidadesMinusculas.length) {
+            habilidadesMinusculas = Arrays.copyOf(habilidadesMinusculas, id * 2);
+        }
+        if (habilidadesMinusculas[id] == null) {
+            habilidadesMinusculas[id] = abilities.toLowerCase(Locale.ROOT);
+        }
+        return id;
+    }
+    
+    /**
+     * Devuelve la fila del nombre indicado, o -1 si no existe.
+     */
+    private int buscarFila(String nombre) {
+        if (nombre == null) {
+            return -1;
+        }
+        int mascara = tablaNombres.length - 1;
+        int posicion = dispersar(nombre.hashCode()) & mascara;
+        while (true) {
+            int fila = tablaNombres[posicion] - 1;
+            if (fila < 0) {
+                return -1;
+            }
+            if (nombres[fila].equals(nombre)) {
+                return fila;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+    }
+    
+    private void insertarEnTabla(int fila) {
+        if (filas * 2 > tablaNombres.length) {
+            // Se mantiene la tabla a menos de la mitad de su capacidad
+            int[] anterior = tablaNombres;
+            tablaNombres = new int[anterior.length * 2];
+            for (int valor : anterior) {
+                if (valor != 0) {
+                    colocarEnTabla(valor - 1);
+                }
+            }
+        }
+        colocarEnTabla(fila);
+    }
+    
+    private void colocarEnTabla(int fila) {
+        int mascara = tablaNombres.length - 1;
+        int posicion = dispersar(nombres[fila].hashCode()) & mascara;
+        while (tablaNombres[posicion] != 0) {
+            posicion = (posicion + 1) & mascara;
+        }
+        tablaNombres[posicion] = fila + 1;
+    }
+    
+    private static int dispersar(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    
+    private void crecer(int capacidad) {
+        nombres = Arrays.copyOf(nombres, capacidad);
+        pokedex = Arrays.copyOf(pokedex, capacidad);
+        tipo1 = Arrays.copyOf(tipo1, capacidad);
+        tipo2 = Arrays.copyOf(tipo2, capacidad);
+        clasificacion = Arrays.copyOf(clasificacion, capacidad);
+        altura = Arrays.copyOf(altura, capacidad);
+        peso = Arrays.copyOf(peso, capacidad);
+        habilidades = Arrays.copyOf(habilidades, capacidad);
+        generacion = Arrays.copyOf(generacion, capacidad);
+    }
+    
+    /**
+     * Lista de solo lectura que obtiene el Pokémon de cada fila al pedirlo.
+     */
+    private final class ListaDeFilas extends AbstractList<Pokemon> {
+        private final int[] filasOrdenadas;
+        
+        ListaDeFilas(int[] filasOrdenadas) {
+            this.filasOrdenadas = filasOrdenadas;
+        }
+        
+        @Override
+        public Pokemon get(int indice) {
+            return pokemonDeFila(filasOrdenadas[indice]);
+        }
+        
+        @Override
+        public int size() {
+            return filasOrdenadas.length;
+        }
+    }
+    
+    /**
+     * Vista de solo lectura del almacenamiento como Map.
+     */
+    private final class VistaMapa extends AbstractMap<String, Pokemon> {
+        
+        @Override
+        public Pokemon get(Object clave) {
+            return clave instanceof String ? obtenerPokemon((String) clave) : null;
+        }
+        
+        @Override
+        public boolean containsKey(Object clave) {
+            return clave instanceof String && existePokemon((String) clave);
+        }
+        
+        @Override
+        public int size() {
+            return filas;
+        }
+        
+        @Override
+        public Set<Entry<String, Pokemon>> entrySet() {
+            return new AbstractSet<Entry<String, Pokemon>>() {
+                @Override
+                public Iterator<Entry<String, Pokemon>> iterator() {
+                    return new Iterator<Entry<String, Pokemon>>() {
+                        private int fila = 0;
+                        
+                        @Override
+                        public boolean hasNext() {
+                            return fila < filas;
+                        }
+                        
+                        @Override
+                        public Entry<String, Pokemon> next() {
+                            if (fila >= filas) {
+                                throw new NoSuchElementException();
+                            }
+                            int actual = fila++;
+                            return new SimpleImmutableEntry<>(nombres[actual], pokemonDeFila(actual));
+                        }
+                    };
+                }
+                
+                @Override
+                public int size() {
+                    return filas;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.pokemon.service;
+
+import java.util.Arrays;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Tabla hash de direccionamiento abierto de nombre a Pokémon, con sondeo
+ * Robin Hood, hashes guardados y sin un objeto por entrada.
+ * Autor: Fatima Navarro - 24044
+ */
+public class TablaHashAbierta {
+    //--------
+    // Tres arreglos alineados por casilla: un long con el hash del nombre
+    // en la mitad alta y el número de entrada + 1 en la baja (0 = vacía),
+    // el nombre y el Pokémon. Sondear compara hashes sin salir del arreglo
+    // de casillas, y el nombre y el Pokémon están en la misma posición de
+    // sus arreglos: el procesador los carga a la vez, sin la cadena
+    // tabla -> Node -> clave de HashMap. Un cuarto arreglo da la casilla
+    // de cada entrada en orden de inserción, para recorrer y paginar.
+    //
+    // Robin Hood: al insertar, si el ocupante de una casilla está más
+    // cerca de su casilla ideal que la entrada que se inserta, se
+    // intercambian y se sigue colocando al desplazado. Las distancias
+    // quedan parejas, y una búsqueda sin éxito termina en cuanto encuentra
+    // un ocupante más cerca de su casilla ideal que lo ya recorrido.
+    // El hash guardado evita comparar con equals nombres distintos y
+    // recalcular hashCode al crecer. No hay borrado: MapaPokemons no lo ofrece
+    //--------
+    private static final int CAPACIDAD_MINIMA = 16;
+    
+    private long[] casillas;
+    private String[] claves;
+    private Pokemon[] valores;
+    private int[] casillaDeEntrada;
+    private int tamano;
+    private int redimensiones;
+    
+    /**
+     * Constructor que reserva lugar para la cantidad de entradas indicada
+     * sin tener que crecer.
+     */
+    public TablaHashAbierta(int capacidadEsperada) {
+        int entradas = Math.max(capacidadEsperada, CAPACIDAD_MINIMA);
+        int capacidad = casillasPara(entradas);
+        this.casillas = new long[capacidad];
+        this.claves = new String[capacidad];
+        this.valores = new Pokemon[capacidad];
+        this.casillaDeEntrada = new int[entradas];
+        this.tamano = 0;
+        this.redimensiones = 0;
+    }
+    
+    /**
+     * Cantidad de entradas.
+     */
+    public int tamano() {
+        return tamano;
+    }
+    
+    /**
+     * Indica si el nombre está en la tabla.
+     */
+    public boolean contiene(String nombre) {
+        return buscarCasilla(nombre) >= 0;
+    }
+    
+    /**
+     * Pokémon con ese nombre, o null.
+     */
+    public Pokemon obtener(String nombre) {
+        int casilla = buscarCasilla(nombre);
+        return casilla < 0 ? null : valores[casilla];
+    }
+    
+    /**
+     * Nombre de la entrada en esa posición de inserción.
+     */
+    public String nombre(int entrada) {
+        return claves[casillaDeEntrada[entrada]];
+    }
+    
+    /**
+     * Pokémon de la entrada en esa posición de inserción.
+     */
+    public Pokemon pokemon(int entrada) {
+        return valores[casillaDeEntrada[entrada]];
+    }
+    
+    /**
+     * Guarda el Pokémon con su nombre como clave. Si el nombre ya estaba
+     * lo reemplaza en su misma posición y devuelve el anterior; si no, null.
+     */
+    public Pokemon poner(Pokemon pokemon) {
+        String nombre = pokemon.getName();
+        int hash = dispersar(nombre.hashCode());
+        int casilla = buscarCasilla(nombre, hash);
+        if (casilla >= 0) {
+            Pokemon anterior = valores[casilla];
+            valores[casilla] = pokemon;
+            return anterior;
+        }
+        
+        if (tamano == casillaDeEntrada.length) {
+            casillaDeEntrada = Arrays.copyOf(casillaDeEntrada, tamano * 2);
+        }
+        if (casillasPara(tamano + 1) > casillas.length) {
+            redimensionar(casillas.length * 2);
+        }
+        colocar(((long) hash << 32) | (tamano + 1), nombre, pokemon);
+        tamano++;
+        return null;
+    }
+    
+    /**
+     * Reserva lugar para 'cantidad' entradas más, de modo que una carga
+     * masiva haga a lo sumo una redimensión.
+     */
+    public void reservar(int cantidad) {
+        int necesarias = (int) Math.min((long) tamano + cantidad, Integer.MAX_VALUE - 8);
+        if (necesarias > casillaDeEntrada.length) {
+            casillaDeEntrada = Arrays.copyOf(casillaDeEntrada, necesarias);
+        }
+        int capacidad = casillasPara(necesarias);
+        if (capacidad > casillas.length) {
+            redimensionar(capacidad);
+        }
+    }
+    
+    /**
+     * Cantidad de casillas de la tabla.
+     */
+    public int capacidad() {
+        return casillas.length;
+    }
+    
+    /**
+     * Veces que la tabla de casillas tuvo que crecer y recolocar todo.
+     */
+    public int getRedimensiones() {
+        return redimensiones;
+    }
+    
+    /**
+     * Distancia máxima de una entrada a su casilla ideal.
+     */
+    public int distanciaMaxima() {
+        int maxima = 0;
+        for (int casilla = 0; casilla < casillas.length; casilla++) {
+            if (casillas[casilla] != 0) {
+                maxima = Math.max(maxima, distancia(casillas[casilla], casilla));
+            }
+        }
+        return maxima;
+    }
+    
+    /**
+     * Distancia promedio de las entradas a su casilla ideal; es lo que
+     * cuesta de más, en casillas, una búsqueda con éxito.
+     */
+    public double distanciaPromedio() {
+        long suma = 0;
+        for (int casilla = 0; casilla < casillas.length; casilla++) {
+            if (casillas[casilla] != 0) {
+                suma += distancia(casillas[casilla], casilla);
+            }
+        }
+        return tamano == 0 ? 0 : (double) suma / tamano;
+    }
+    
+    /**
+     * Bytes que ocupan los arreglos de la tabla, sin contar los Pokémon
+     * ni los nombres, que se comparten con quien los creó.
+     * Supone referencias comprimidas de 4 bytes y cabeceras de 16 bytes.
+     */
+    public long bytesEstimados() {
+        return 32 + bytesArreglo(casillas.length, 8) + bytesArreglo(claves.length, 4)
+            + bytesArreglo(valores.length, 4) + bytesArreglo(casillaDeEntrada.length, 4);
+    }
+    
+    /**
+     * Bytes que ocuparía un java.util.HashMap con la misma cantidad de
+     * elementos creciendo desde su capacidad por defecto: la tabla de
+     * referencias y un Node de 32 bytes por entrada.
+     */
+    public static long bytesHashMap(int elementos) {
+        int tabla = 16;
+        while (elementos > tabla * 3L / 4) {
+            tabla *= 2;
+        }
+        return 48 + bytesArreglo(tabla, 4) + 32L * elementos;
+    }
+    
+    private static long bytesArreglo(int elementos, int bytesPorElemento) {
+        // Cabecera de 16 bytes, alineado a 8
+        return (16 + (long) bytesPorElemento * elementos + 7) & ~7L;
+    }
+    
+    private int buscarCasilla(String nombre) {
+        return nombre == null ? -1 : buscarCasilla(nombre, dispersar(nombre.hashCode()));
+    }
+    
+    private int buscarCasilla(String nombre, int hash) {
+        int mascara = casillas.length - 1;
+        int casilla = hash & mascara;
+        for (int recorrido = 0; ; recorrido++) {
+            long ocupante = casillas[casilla];
+            if (ocupante == 0) {
+                return -1;
+            }
+            int hashOcupante = (int) (ocupante >>> 32);
+            if (hashOcupante == hash && nombre.equals(claves[casilla])) {
+                return casilla;
+            }
+            // Un ocupante más cercano a su casilla ideal: el nombre no está
+            if (((casilla - hashOcupante) & mascara) < recorrido) {
+                return -1;
+            }
+            casilla = (casilla + 1) & mascara;
+        }
+    }
+    
+    /**
+     * Coloca la entrada en la tabla, desplazando a los ocupantes más
+     * cercanos a su casilla ideal.
+     */
+    private void colocar(long valor, String clave, Pokemon pokemon) {
+        int mascara = casillas.length - 1;
+        int casilla = (int) (valor >>> 32) & mascara;
+        int recorrido = 0;
+        while (true) {
+            long ocupante = casillas[casilla];
+            if (ocupante == 0) {
+                guardar(casilla, valor, clave, pokemon);
+                return;
+            }
+            int distanciaOcupante = distancia(ocupante, casilla);
+            if (distanciaOcupante < recorrido) {
+                String claveOcupante = claves[casilla];
+                Pokemon pokemonOcupante = valores[casilla];
+                guardar(casilla, valor, clave, pokemon);
+                valor = ocupante;
+                clave = claveOcupante;
+                pokemon = pokemonOcupante;
+                recorrido = distanciaOcupante;
+            }
+            casilla = (casilla + 1) & mascara;
+            recorrido++;
+        }
+    }
+    
+    private void guardar(int casilla, long valor, String clave, Pokemon pokemon) {
+        casillas[casilla] = valor;
+        claves[casilla] = clave;
+        valores[casilla] = pokemon;
+        casillaDeEntrada[(int) valor - 1] = casilla;
+    }
+    
+    private int distancia(long ocupante, int casilla) {
+        return (casilla - (int) (ocupante >>> 32)) & (casillas.length - 1);
+    }
+    
+    private void redimensionar(int capacidad) {
+        //--------
+        // Con los hashes guardados en las casillas basta volver a
+        // colocarlas; no se llama a hashCode ni a equals
+        //--------
+        long[] casillasAnteriores = casillas;
+        String[] clavesAnteriores = claves;
+        Pokemon[] valoresAnteriores = valores;
+        casillas = new long[capacidad];
+        claves = new String[capacidad];
+        valores = new Pokemon[capacidad];
+        for (int casilla = 0; casilla < casillasAnteriores.length; casilla++) {
+            if (casillasAnteriores[casilla] != 0) {
+                colocar(casillasAnteriores[casilla], clavesAnteriores[casilla], valoresAnteriores[casilla]);
+            }
+        }
+        redimensiones++;
+    }
+    
+    /**
+     * Casillas (potencia de 2) para las entradas con un factor de carga
+     * de a lo sumo 0.8; Robin Hood mantiene cortos los sondeos hasta ahí.
+     */
+    private static int casillasPara(int entradas) {
+        int capacidad = CAPACIDAD_MINIMA;
+        while (entradas * 5L > capacidad * 4L) {
+            capacidad *= 2;
+        }
+        return capacidad;
+    }
+    
+    private static int dispersar(int hash) {
+        // Nombres parecidos tienen hashCode parecidos; se mezclan los bits
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,238 @@
+package com.pokemon.service;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Implementación de MapaPokemons sobre una tabla hash propia de
+ * direccionamiento abierto (TablaHashAbierta).
+ * Autor: Fatima Navarro - 24044
+ */
+public class TablaHashAbiertaPokemon implements MapaPokemons {
+    //--------
+    // Por defecto reserva lugar para 1024 Pokémon, así el CSV completo
+    // se carga sin que la tabla crezca; las cargas masivas reservan
+    // antes de insertar. Como la tabla guarda las entradas en orden de
+    // inserción, recorre y pagina igual que LinkedHashMap sin índice ordinal
+    //--------
+    private static final int CAPACIDAD_POR_DEFECTO = 1024;
+    
+    private final TablaHashAbierta tabla;
+    private final IndiceHabilidades indiceHabilidades;
+    private final VistaOrdenadaPorTipo vistaPorTipo;
+    private final IndiceNombresPlegados nombresPlegados;
+    private final IndicePokedex indicePokedex;
+    private final VistaMapa vistaMapa;
+    
+    /**
+     * Constructor que inicializa la tabla con la capacidad por defecto
+     */
+    public TablaHashAbiertaPokemon() {
+        this(CAPACIDAD_POR_DEFECTO);
+    }
+    
+    /**
+     * Constructor que reserva lugar para la cantidad de Pokémon esperada.
+     */
+    public TablaHashAbiertaPokemon(int capacidadEsperada) {
+        this.tabla = new TablaHashAbierta(capacidadEsperada);
+        this.indiceHabilidades = new IndiceHabilidades();
+        this.vistaPorTipo = new VistaOrdenadaPorTipo();
+        this.nombresPlegados = new IndiceNombresPlegados();
+        this.indicePokedex = new IndicePokedex();
+        this.vistaMapa = new VistaMapa();
+    }
+    
+    @Override
+    public void agregarPokemon(Pokemon pokemon) {
+        //--------
+        // Si el nombre ya existe se reemplaza en su misma posición,
+        // igual que en LinkedHashMap
+        //--------
+        Pokemon anterior = tabla.poner(pokemon);
+        if (anterior == null) {
+            nombresPlegados.agregar(pokemon.getName());
+            indicePokedex.agregar(pokemon);
+        } else {
+            indicePokedex.reemplazar(anterior, pokemon);
+        }
+        indiceHabilidades.agregar(pokemon);
+        vistaPorTipo.invalidar();
+    }
+    
+    @Override
+    public void agregarTodos(Collection<Pokemon> pokemons) {
+        // Una sola reserva para todo el lote en lugar de crecer por duplicación
+        tabla.reservar(pokemons.size());
+        for (Pokemon pokemon : pokemons) {
+            agregarPokemon(pokemon);
+        }
+    }
+    
+    @Override
+    public Pokemon obtenerPokemon(String nombre) {
+        return tabla.obtener(nombre);
+    }
+    
+    @Override
+    public Map<String, Pokemon> obtenerTodos() {
+        // Vista de solo lectura en orden de inserción
+        return vistaMapa;
+    }
+    
+    @Override
+    public boolean existePokemon(String nombre) {
+        return tabla.contiene(nombre);
+    }
+    
+    @Override
+    public String resolverNombre(String texto) {
+        // Sin crear textos: el índice pliega cada carácter al comparar
+        if (texto == null || tabla.contiene(texto)) {
+            return texto;
+        }
+        return nombresPlegados.resolver(texto);
+    }
+    
+    @Override
+    public Map<String, Pokemon> buscarPorHabilidad(String habilidad) {
+        //--------
+        // El índice devuelve las coincidencias en orden de inserción,
+        // el mismo de obtenerTodos()
+        //--------
+        Map<String, Pokemon> resultado = new LinkedHashMap<>();
+        for (Pokemon pokemon : indiceHabilidades.buscar(habilidad)) {
+            resultado.put(pokemon.getName(), pokemon);
+        }
+        return resultado;
+    }
+    
+    @Override
+    public PaginaPokemon obtenerPagina(String cursor, int tamano) {
+        //--------
+        // La posición del cursor es directamente la posición de
+        // inserción en la tabla: O(tamano) sin índice aparte
+        //--------
+        PaginaPokemon.validarTamano(tamano);
+        int total = tabla.tamano();
+        int desde = Math.min(PaginaPokemon.posicionDesdeCursor(cursor), total);
+        int hasta = (int) Math.min((long) desde + tamano, total);
+        
+        List<Pokemon> pokemons = new ArrayList<>(hasta - desde);
+        for (int entrada = desde; entrada < hasta; entrada++) {
+            pokemons.add(tabla.pokemon(entrada));
+        }
+        return new PaginaPokemon(pokemons, PaginaPokemon.cursorDePosicion(hasta, total));
+    }
+    
+    @Override
+    public List<Pokemon> obtenerOrdenadosPorTipo() {
+        // Se reutiliza mientras el mapa no reciba escrituras
+        return vistaPorTipo.obtener(vistaMapa.values());
+    }
+    
+    @Override
+    public Pokemon obtenerPorPokedex(int numero) {
+        return indicePokedex.obtener(numero);
+    }
+    
+    @Override
+    public List<Pokemon> obtenerRangoPokedex(int desde, int hasta) {
+        return indicePokedex.rango(desde, hasta);
+    }
+    
+    @Override
+    public String getTipoMapa() {
+        return "TablaHash";
+    }
+    
+    /**
+     * Obtiene las estadísticas de la tabla, con su huella de memoria
+     * comparada con la de un HashMap con los mismos elementos
+     */
+    public String getEstadisticasRendimiento() {
+        int elementos = tabla.tamano();
+        long bytesTabla = tabla.bytesEstimados();
+        long bytesHashMap = TablaHashAbierta.bytesHashMap(elementos);
+        return "Estadísticas TablaHash:\n" +
+               "- Cantidad de elementos: " + elementos + "\n" +
+               "- Casillas: " + tabla.capacidad() + " (factor de carga " +
+                   String.format(Locale.ROOT, "%.2f", (double) elementos / tabla.capacidad()) + ")\n" +
+               "- Distancia de sondeo promedio: " +
+                   String.format(Locale.ROOT, "%.2f", tabla.distanciaPromedio()) +
+                   ", máxima: " + tabla.distanciaMaxima() + "\n" +
+               "- Redimensiones de la tabla: " + tabla.getRedimensiones() + "\n" +
+               "- Bytes de la tabla (sin los Pokémon ni sus nombres): " + bytesTabla +
+                   porElemento(bytesTabla, elementos) + "\n" +
+               "- Bytes estimados de un HashMap equivalente: " + bytesHashMap +
+                   porElemento(bytesHashMap, elementos) + "\n" +
+               "- Complejidad teórica de búsqueda: O(1)";
+    }
+    
+    private static String porElemento(long bytes, int elementos) {
+        return elementos == 0 ? "" : String.format(Locale.ROOT, " (%.1f por elemento)", (double) bytes / elementos);
+    }
+    
+    /**
+     * Vista de solo lectura de la tabla como Map, en orden de inserción.
+     */
+    private final class VistaMapa extends AbstractMap<String, Pokemon> {
+        
+        @Override
+        public Pokemon get(Object clave) {
+            return clave instanceof String ? tabla.obtener((String) clave) : null;
+        }
+        
+        @Override
+        public boolean containsKey(Object clave) {
+            return clave instanceof String && tabla.contiene((String) clave);
+        }
+        
+        @Override
+        public int size() {
+            return tabla.tamano();
+        }
+        
+        @Override
+        public Set<Entry<String, Pokemon>> entrySet() {
+            return new AbstractSet<Entry<String, Pokemon>>() {
+                @Override
+                public Iterator<Entry<String, Pokemon>> iterator() {
+                    return new Iterator<Entry<String, Pokemon>>() {
+                        private int entrada = 0;
+                        
+                        @Override
+                        public boolean hasNext() {
+                            return entrada < tabla.tamano();
+                        }
+                        
+                        @Override
+                        public Entry<String, Pokemon> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int actual = entrada++;
+                            return new SimpleImmutableEntry<>(tabla.nombre(actual), tabla.pokemon(actual));
+                        }
+                    };
+                }
+                
+                @Override
+                public int size() {
+                    return tabla.tamano();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+
+/**
+ * Selección de los k elementos con mayor (o menor) clave numérica con un
+ * montículo acotado, sin ordenar la colección completa.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class TopK<T> {
+    //--------
+    // Montículo de mínimos de tamaño k: la raíz es el peor de los k
+    // mejores vistos hasta ahora. Cada elemento nuevo se compara solo
+    // con la raíz y, si es mejor, la reemplaza y se hunde: O(n log k)
+    // en total. Las claves van en un double[] aparte de los elementos,
+    // así las comparaciones no desempaquetan ni llaman a un Comparator.
+    //
+    // Para "los k menores" se guarda la clave con el signo cambiado.
+    // Entre claves iguales gana el que llegó primero, igual que un
+    // ordenamiento estable
+    //--------
+    
+    /**
+     * Claves numéricas de Pokemon por las que se puede pedir un top-k.
+     */
+    public enum Criterio {
+        PESO(Pokemon::getWeight),
+        ALTURA(Pokemon::getHeight),
+        NUMERO(Pokemon::getPokedexNumber);
+        
+        private final ToDoubleFunction<Pokemon> lector;
+        
+        Criterio(ToDoubleFunction<Pokemon> lector) {
+            this.lector = lector;
+        }
+        
+        public double clave(Pokemon pokemon) {
+            return lector.applyAsDouble(pokemon);
+        }
+    }
+    
+    private static final int CAPACIDAD_INICIAL = 64;
+    
+    private final int k;
+    private final boolean mayores;
+    private double[] claves;
+    private long[] llegadas;
+    private Object[] elementos;
+    private int cantidad;
+    private long ofrecidos;
+    
+    private TopK(int k, boolean mayores) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k debe ser mayor que cero");
+        }
+        this.k = k;
+        this.mayores = mayores;
+        // Un k grande no reserva todo de entrada: los arreglos crecen hasta k
+        int capacidad = Math.min(k, CAPACIDAD_INICIAL);
+        this.claves = new double[capacidad];
+        this.llegadas = new long[capacidad];
+        this.elementos = new Object[capacidad];
+        this.cantidad = 0;
+        this.ofrecidos = 0;
+    }
+    
+    /**
+     * Selector de los k elementos con mayor clave.
+     */
+    public static <T> TopK<T> mayores(int k) {
+        return new TopK<>(k, true);
+    }
+    
+    /**
+     * Selector de los k elementos con menor clave.
+     */
+    public static <T> TopK<T> menores(int k) {
+        return new TopK<>(k, false);
+    }
+    
+    /**
+     * Considera un elemento; se queda con él solo si está entre los k mejores.
+     */
+    public void ofrecer(double clave, T elemento) {
+        double valor = mayores ? clave : -clave;
+        long llegada = ofrecidos++;
+        if (cantidad < k) {
+            if (cantidad == claves.length) {
+                crecer();
+            }
+            int i = cantidad++;
+            colocar(i, valor, llegada, elemento);
+            subir(i);
+        } else if (valor > claves[0]) {
+            // Si empata con la raíz, la raíz llegó antes y se queda
+            colocar(0, valor, llegada, elemento);
+            hundir(0);
+        }
+    }
+    
+    /**
+     * Cantidad de elementos retenidos (a lo sumo k).
+     */
+    public int tamano() {
+        return cantidad;
+    }
+    
+    /**
+     * Los elementos retenidos, del mejor al peor. No modifica el selector.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> resultado() {
+        //--------
+        // Se ordenan solo los k retenidos: posiciones por clave (mejor
+        // primero) y, si empatan, por orden de llegada
+        //--------
+        Integer[] orden = new Integer[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            orden[i] = i;
+        }
+        Arrays.sort(orden, (a, b) -> esPeor(a, b) ? 1 : (esPeor(b, a) ? -1 : 0));
+        
+        List<T> lista = new ArrayList<>(cantidad);
+        for (Integer i : orden) {
+            lista.add((T) elementos[i]);
+        }
+        return lista;
+    }
+    
+    //--------
+    // Atajos sobre colecciones de Pokemon, con filtro opcional por tipo
+    // (null = cualquiera) y generación (PokemonIndex.CUALQUIER_GENERACION)
+    //--------
+    
+    /**
+     * Los k Pokémon de la colección con mayor o menor valor del criterio.
+     */
+    public static List<Pokemon> seleccionar(Collection<Pokemon> pokemons, Criterio criterio, int k,
+                                            boolean mayores, PokemonType tipo, int generacion) {
+        TopK<Pokemon> seleccion = new TopK<>(k, mayores);
+        for (Pokemon pokemon : pokemons) {
+            if (cumple(pokemon, tipo, generacion)) {
+                seleccion.ofrecer(criterio.clave(pokemon), pokemon);
+            }
+        }
+        return seleccion.resultado();
+    }
+    
+    /**
+     * Los k mejores de cada generación en una sola pasada, por generación ascendente.
+     */
+    public static Map<Integer, List<Pokemon>> seleccionarPorGeneracion(Collection<Pokemon> pokemons, Criterio criterio,
+                                                                       int k, boolean mayores, PokemonType tipo) {
+        Map<Integer, TopK<Pokemon>> selecciones = new TreeMap<>();
+        for (Pokemon pokemon : pokemons) {
+            if (cumple(pokemon, tipo, PokemonIndex.CUALQUIER_GENERACION)) {
+                selecciones.computeIfAbsent(pokemon.getGeneration(), g -> new TopK<>(k, mayores))
+                           .ofrecer(criterio.clave(pokemon), pokemon);
+            }
+        }
+        
+        Map<Integer, List<Pokemon>> resultado = new TreeMap<>();
+        for (Map.Entry<Integer, TopK<Pokemon>> entrada : selecciones.entrySet()) {
+            resultado.put(entrada.getKey(), entrada.getValue().resultado());
+        }
+        return Collections.unmodifiableMap(resultado);
+    }
+    
+    static boolean cumple(Pokemon pokemon, PokemonType tipo, int generacion) {
+        return (tipo == null || pokemon.tieneTipo(tipo))
+            && (generacion == PokemonIndex.CUALQUIER_GENERACION || pokemon.getGeneration() == generacion);
+    }
+    
+    private void colocar(int i, double valor, long llegada, Object elemento) {
+        claves[i] = valor;
+        llegadas[i] = llegada;
+        elementos[i] = elemento;
+    }
+    
+    /**
+     * Indica si la posición a es peor que la b: menor clave o, con la
+     * misma clave, llegada posterior.
+     */
+    private boolean esPeor(int a, int b) {
+        return claves[a] < claves[b] || (claves[a] == claves[b] && llegadas[a] > llegadas[b]);
+    }
+    
+    private void subir(int i) {
+        while (i > 0) {
+            int padre = (i - 1) >>> 1;
+            if (!esPeor(i, padre)) {
+                return;
+            }
+            intercambiar(i, padre);
+            i = padre;
+        }
+    }
+    
+    private void hundir(int i) {
+        while (true) {
+            int hijo = 2 * i + 1;
+            if (hijo >= cantidad) {
+                return;
+            }
+            if (hijo + 1 < cantidad && esPeor(hijo + 1, hijo)) {
+                hijo++;
+            }
+            if (!esPeor(hijo, i)) {
+                return;
+            }
+            intercambiar(i, hijo);
+            i = hijo;
+        }
+    }
+    
+    private void intercambiar(int a, int b) {
+        double clave = claves[a];
+        long llegada = llegadas[a];
+        Object elemento = elementos[a];
+        colocar(a, claves[b], llegadas[b], elementos[b]);
+        colocar(b, clave, llegada, elemento);
+    }
+    
+    private void crecer() {
+        int capacidad = (int) Math.min(k, 2L * claves.length);
+        claves = Arrays.copyOf(claves, capacidad);
+        llegadas = Arrays.copyOf(llegadas, capacidad);
+        elementos = Arrays.copyOf(elementos, capacidad);
+    }
+}
@@ -1,11 +1,12 @@
 package com.pokemon.service;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import com.pokemon.model.Pokemon;
 
@@ -20,14 +21,20 @@ public class TreeMapPokemon implements MapaPokemons {
     // Ideal para operación #4 que requiere mostrar ordenados
     //--------
     private TreeMap<String, Pokemon> pokemonMap;
-    private long tiempoUltimaOperacion;
+    private IndiceHabilidades indiceHabilidades;
+    private VistaOrdenadaPorTipo vistaPorTipo;
+    private IndiceNombresPlegados nombresPlegados;
+    private IndicePokedex indicePokedex;
 
     /**
      * Constructor que inicializa el TreeMap
      */
     public TreeMapPokemon() {
         this.pokemonMap = new TreeMap<>();
-        this.tiempoUltimaOperacion = 0;
+        this.indiceHabilidades = new IndiceHabilidades();
+        this.vistaPorTipo = new VistaOrdenadaPorTipo();
+        this.nombresPlegados = new IndiceNombresPlegados();
+        this.indicePokedex = new IndicePokedex();
     }
     
     @Override
@@ -36,11 +43,15 @@ public class TreeMapPokemon implements MapaPokemons {
         // En TreeMap, la inserción es O(log n) debido al 
         // balanceo del árbol rojo-negro interno
         //--------
-        long inicio = System.nanoTime();
-        
-        pokemonMap.put(pokemon.getName(), pokemon);
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
+        Pokemon anterior = pokemonMap.put(pokemon.getName(), pokemon);
+        if (anterior == null) {
+            nombresPlegados.agregar(pokemon.getName());
+            indicePokedex.agregar(pokemon);
+        } else {
+            indicePokedex.reemplazar(anterior, pokemon);
+        }
+        indiceHabilidades.agregar(pokemon);
+        vistaPorTipo.invalidar();
     }
     
     @Override
@@ -49,12 +60,7 @@ public class TreeMapPokemon implements MapaPokemons {
         // Obtención con complejidad O(log n)
         // TreeMap tiene acceso más lento que HashMap
         //--------
-        long inicio = System.nanoTime();
-        
-        Pokemon resultado = pokemonMap.get(nombre);
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
-        return resultado;
+        return pokemonMap.get(nombre);
     }
     
     @Override
@@ -63,8 +69,9 @@ public class TreeMapPokemon implements MapaPokemons {
         // Ventaja: ya están ordenados alfabéticamente por nombre
         // No necesitamos hacer ordenamiento adicional para mostrarlos
         // ordenados por nombre
+        // La vista es de solo lectura para proteger los índices internos
         //--------
-        return pokemonMap;
+        return Collections.unmodifiableMap(pokemonMap);
     }
     
     @Override
@@ -75,46 +82,66 @@ public class TreeMapPokemon implements MapaPokemons {
         return pokemonMap.containsKey(nombre);
     }
     
+    @Override
+    public String resolverNombre(String texto) {
+        // Sin crear textos: el índice pliega cada carácter al comparar
+        if (texto == null || pokemonMap.containsKey(texto)) {
+            return texto;
+        }
+        return nombresPlegados.resolver(texto);
+    }
+    
     @Override
     public Map<String, Pokemon> buscarPorHabilidad(String habilidad) {
         //--------
-        // La búsqueda por habilidad requiere revisar todos los elementos
-        // O(n) independientemente de la implementación, pero mantenemos
-        // el resultado ordenado por nombre usando TreeMap
+        // El índice de habilidades entrega solo las coincidencias;
+        // mantenemos el resultado ordenado por nombre usando TreeMap
         //--------
-        long inicio = System.nanoTime();
-        
-        TreeMap<String, Pokemon> resultado = pokemonMap.entrySet().stream()
-                .filter(entrada -> entrada.getValue().getAbilities().toLowerCase()
-                                .contains(habilidad.toLowerCase()))
-                .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    Map.Entry::getValue,
-                    (v1, v2) -> v1,
-                    TreeMap::new
-                ));
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
+        TreeMap<String, Pokemon> resultado = new TreeMap<>();
+        for (Pokemon pokemon : indiceHabilidades.buscar(habilidad)) {
+            resultado.put(pokemon.getName(), pokemon);
+        }
         return resultado;
     }
     
+    @Override
+    public PaginaPokemon obtenerPagina(String cursor, int tamano) {
+        //--------
+        // El cursor es el último nombre devuelto: tailMap ubica la
+        // siguiente página en O(log n) sin recorrer las anteriores
+        //--------
+        PaginaPokemon.validarTamano(tamano);
+        NavigableMap<String, Pokemon> resto = cursor == null ? pokemonMap : pokemonMap.tailMap(cursor, false);
+        
+        List<Pokemon> pokemons = new ArrayList<>(tamano);
+        Iterator<Pokemon> iterador = resto.values().iterator();
+        while (pokemons.size() < tamano && iterador.hasNext()) {
+            pokemons.add(iterador.next());
+        }
+        String siguiente = iterador.hasNext() ? pokemons.get(pokemons.size() - 1).getName() : null;
+        return new PaginaPokemon(pokemons, siguiente);
+    }
+    
     @Override
     public List<Pokemon> obtenerOrdenadosPorTipo() {
         //--------
         // Ordenamiento por tipo requiere transformación porque
         // TreeMap ya está ordenado por nombre
-        // Creamos un nuevo ordenamiento por tipo
+        // La vista ordenada por tipo se guarda hasta la siguiente escritura
         //--------
-        long inicio = System.nanoTime();
-        
-        List<Pokemon> resultado = new ArrayList<>(pokemonMap.values());
-        // Ya están ordenados por nombre porque vienen de TreeMap
-        // Ahora ordenamos por tipo primario, manteniendo orden por nombre
-        resultado.sort(Comparator.comparing(Pokemon::getType1)
-                       .thenComparing(Pokemon::getName));
-        
-        tiempoUltimaOperacion = System.nanoTime() - inicio;
-        return resultado;
+        return vistaPorTipo.obtener(pokemonMap.values());
+    }
+    
+    @Override
+    public Pokemon obtenerPorPokedex(int numero) {
+        // Lectura directa en el arreglo indexado por número
+        return indicePokedex.obtener(numero);
+    }
+    
+    @Override
+    public List<Pokemon> obtenerRangoPokedex(int desde, int hasta) {
+        // El índice ya está en orden de Pokédex: no se ordena nada
+        return indicePokedex.rango(desde, hasta);
     }
     
     @Override
@@ -142,10 +169,9 @@ public class TreeMapPokemon implements MapaPokemons {
         // Información de rendimiento específica para TreeMap
         //--------
         return "Estadísticas TreeMap:\n" +
-               "- Tiempo última operación: " + tiempoUltimaOperacion + " ns\n" +
                "- Cantidad de elementos: " + pokemonMap.size() + "\n" +
                "- Altura estimada del árbol: " + 
                   (Math.floor(Math.log(pokemonMap.size()) / Math.log(2))) + "\n" +
                "- Complejidad teórica de búsqueda: O(log n)";
     }
-}
\ No newline at end of file
+}
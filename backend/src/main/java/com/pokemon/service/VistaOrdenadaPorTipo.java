@@ -0,0 +1,49 @@
+package com.pokemon.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Vista de los Pokémon ordenados por tipo primario y luego por nombre.
+ * Autor: Fatima Navarro - 24044
+ */
+public class VistaOrdenadaPorTipo {
+    //--------
+    // Orden usado por obtenerOrdenadosPorTipo en todas las implementaciones
+    //--------
+    public static final Comparator<Pokemon> ORDEN_TIPO_NOMBRE =
+        Comparator.comparing(Pokemon::getType1).thenComparing(Pokemon::getName);
+    
+    //--------
+    // El catálogo casi nunca cambia, así que guardamos la lista ya
+    // ordenada y solo la volvemos a calcular después de una escritura
+    //--------
+    private List<Pokemon> instantanea;
+    
+    /**
+     * Descarta la lista ordenada; se debe llamar en cada escritura del mapa.
+     */
+    public void invalidar() {
+        instantanea = null;
+    }
+    
+    /**
+     * Devuelve la lista inmodificable ordenada por tipo y nombre.
+     * Solo ordena cuando hubo escrituras desde la última llamada.
+     */
+    public List<Pokemon> obtener(Collection<Pokemon> valores) {
+        List<Pokemon> actual = instantanea;
+        if (actual == null) {
+            Pokemon[] ordenados = valores.toArray(new Pokemon[0]);
+            Arrays.sort(ordenados, ORDEN_TIPO_NOMBRE);
+            actual = Collections.unmodifiableList(Arrays.asList(ordenados));
+            instantanea = actual;
+        }
+        return actual;
+    }
+}
@@ -0,0 +1,167 @@
+package com.pokemon.util;
+
+import com.pokemon.model.Pokemon;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Relaciona cada atributo de Pokémon con su columna en el CSV, según los
+ * nombres del encabezado y no según posiciones fijas.
+ * Autor: Fatima Navarro - 24044
+ */
+final class ColumnasPokemon {
+    
+    static final int NOMBRE = 0;
+    static final int POKEDEX = 1;
+    static final int TIPO1 = 2;
+    static final int TIPO2 = 3;
+    static final int CLASIFICACION = 4;
+    static final int ALTURA = 5;
+    static final int PESO = 6;
+    static final int HABILIDADES = 7;
+    static final int GENERACION = 8;
+    static final int LEGENDARIO = 9;
+    
+    //--------
+    // Nombres aceptados para cada atributo, ya normalizados: en
+    // minúsculas y sin la unidad entre paréntesis ("Height (m)")
+    //--------
+    private static final String[][] NOMBRES_ACEPTADOS = {
+        {"name", "nombre"},
+        {"pokedex number", "pokedex", "number", "numero", "número"},
+        {"type1", "type 1", "tipo1", "tipo 1"},
+        {"type2", "type 2", "tipo2", "tipo 2"},
+        {"classification", "clasificacion", "clasificación"},
+        {"height", "altura"},
+        {"weight", "peso"},
+        {"abilities", "habilidades"},
+        {"generation", "generacion", "generación"},
+        {"legendary status", "legendary", "legendario"}
+    };
+    
+    // El segundo tipo y el estado legendario pueden faltar en el archivo
+    private static final boolean[] OPCIONAL = {
+        false, false, false, true, false, false, false, false, false, true
+    };
+    
+    private final int[] posiciones;
+    private final int cantidadColumnas;
+    private final int minimoCampos;
+    
+    private ColumnasPokemon(int[] posiciones, int cantidadColumnas, int minimoCampos) {
+        this.posiciones = posiciones;
+        this.cantidadColumnas = cantidadColumnas;
+        this.minimoCampos = minimoCampos;
+    }
+    
+    /**
+     * Busca la posición de cada atributo en los nombres del encabezado.
+     * Lanza IOException si falta una columna obligatoria.
+     */
+    static ColumnasPokemon desdeEncabezado(String[] columnas) throws IOException {
+        int[] posiciones = new int[NOMBRES_ACEPTADOS.length];
+        Arrays.fill(posiciones, -1);
+        
+        for (int i = 0; i < columnas.length; i++) {
+            String nombre = normalizar(columnas[i]);
+            for (int atributo = 0; atributo < NOMBRES_ACEPTADOS.length; atributo++) {
+                if (posiciones[atributo] < 0 && Arrays.asList(NOMBRES_ACEPTADOS[atributo]).contains(nombre)) {
+                    posiciones[atributo] = i;
+                    break;
+                }
+            }
+        }
+        
+        //--------
+        // Una fila debe tener al menos hasta la última columna obligatoria;
+        // las opcionales que falten al final toman su valor por defecto
+        //--------
+        int minimoCampos = 0;
+        for (int atributo = 0; atributo < posiciones.length; atributo++) {
+            if (posiciones[atributo] < 0 && !OPCIONAL[atributo]) {
+                throw new IOException("Falta la columna '" + NOMBRES_ACEPTADOS[atributo][0]
+                    + "' en el encabezado del archivo");
+            }
+            if (!OPCIONAL[atributo]) {
+                minimoCampos = Math.max(minimoCampos, posiciones[atributo] + 1);
+            }
+        }
+        return new ColumnasPokemon(posiciones, columnas.length, minimoCampos);
+    }
+    
+    /**
+     * Posición del atributo en la fila, o -1 si el archivo no lo tiene.
+     */
+    int posicion(int atributo) {
+        return posiciones[atributo];
+    }
+    
+    /**
+     * Cantidad de columnas que declara el encabezado.
+     */
+    int getCantidadColumnas() {
+        return cantidadColumnas;
+    }
+    
+    /**
+     * Cantidad mínima de campos que debe tener una fila válida.
+     */
+    int getMinimoCampos() {
+        return minimoCampos;
+    }
+    
+    /**
+     * Crea el Pokémon de la fila actual del tokenizador.
+     * Devuelve null si la fila no tiene suficientes columnas.
+     */
+    Pokemon crear(TokenizadorCSV fila) {
+        if (fila.getCantidadCampos() < minimoCampos) {
+            return null;
+        }
+        
+        //--------
+        // Los textos con pocos valores distintos se internan: todos los
+        // Pokémon comparten la misma instancia de cada uno
+        //--------
+        return new Pokemon(
+            fila.campoSinEspacios(posiciones[NOMBRE]),
+            fila.entero(posiciones[POKEDEX]),
+            fila.campoInternado(posiciones[TIPO1]),
+            presente(fila, TIPO2) ? fila.campoInternado(posiciones[TIPO2]) : "",
+            fila.campoInternado(posiciones[CLASIFICACION]),
+            fila.decimal(posiciones[ALTURA]),
+            fila.decimal(posiciones[PESO]),
+            fila.campoInternado(posiciones[HABILIDADES]),
+            fila.entero(posiciones[GENERACION]),
+            presente(fila, LEGENDARIO) && esLegendario(fila.campoInternado(posiciones[LEGENDARIO]))
+        );
+    }
+    
+    /**
+     * Interpreta el valor de la columna de estado legendario.
+     * El CSV incluido usa "Yes"/"No"; también se aceptan "true" y
+     * cualquier texto que contenga "legendary".
+     */
+    static boolean esLegendario(String valor) {
+        String normalizado = valor.trim().toLowerCase(Locale.ROOT);
+        return normalizado.equals("yes") || normalizado.equals("true") || normalizado.contains("legendary");
+    }
+    
+    private boolean presente(TokenizadorCSV fila, int atributo) {
+        return posiciones[atributo] >= 0 && posiciones[atributo] < fila.getCantidadCampos();
+    }
+    
+    /**
+     * Normaliza un nombre de columna: minúsculas, sin BOM, sin la unidad
+     * entre paréntesis y sin espacios alrededor.
+     */
+    private static String normalizar(String columna) {
+        String nombre = columna.replace("\uFEFF", "");
+        int parentesis = nombre.indexOf('(');
+        if (parentesis >= 0) {
+            nombre = nombre.substring(0, parentesis);
+        }
+        return nombre.trim().replace('_', ' ').toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,69 @@
+package com.pokemon.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Diccionario que asigna un id entero consecutivo a cada cadena distinta.
+ * Permite guardar columnas de texto repetitivo como arreglos de enteros.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class DiccionarioCadenas {
+    
+    private final Map<String, Integer> idPorCadena;
+    private String[] cadenas;
+    private int tamano;
+    
+    /**
+     * Constructor que crea el diccionario vacío
+     */
+    public DiccionarioCadenas() {
+        this.idPorCadena = new HashMap<>();
+        this.cadenas = new String[16];
+        this.tamano = 0;
+    }
+    
+    /**
+     * Devuelve el id de la cadena, asignándole uno nuevo si no existía.
+     */
+    public int id(String cadena) {
+        Integer existente = idPorCadena.get(cadena);
+        if (existente != null) {
+            return existente;
+        }
+        
+        if (tamano == cadenas.length) {
+            cadenas = Arrays.copyOf(cadenas, tamano * 2);
+        }
+        int nuevo = tamano++;
+        cadenas[nuevo] = cadena;
+        idPorCadena.put(cadena, nuevo);
+        return nuevo;
+    }
+    
+    /**
+     * Devuelve el id de la cadena, o -1 si no está en el diccionario.
+     */
+    public int buscar(String cadena) {
+        Integer existente = idPorCadena.get(cadena);
+        return existente == null ? -1 : existente;
+    }
+    
+    /**
+     * Devuelve la cadena que corresponde a un id.
+     */
+    public String cadena(int id) {
+        if (id < 0 || id >= tamano) {
+            throw new IndexOutOfBoundsException("Id de cadena inválido: " + id);
+        }
+        return cadenas[id];
+    }
+    
+    /**
+     * Cantidad de cadenas distintas.
+     */
+    public int tamano() {
+        return tamano;
+    }
+}
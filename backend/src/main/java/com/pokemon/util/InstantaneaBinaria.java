@@ -0,0 +1,359 @@
+package com.pokemon.util;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.MapaPokemons;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Instantánea binaria de un catálogo de Pokémon ya cargado.
+ * Se escribe después de leer el CSV y en los siguientes inicios se abre
+ * mapeada en memoria, sin volver a interpretar el archivo de texto.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class InstantaneaBinaria {
+    //--------
+    // Formato del archivo (enteros en big-endian):
+    //   cabecera   número mágico, versión, fecha y tamaño del CSV de
+    //              origen, cantidades, capacidad del índice y CRC32
+    //   columnas   un arreglo de ancho fijo por atributo: nombre, tipos,
+    //              clasificación y habilidades como ids de cadena
+    //   índice     tabla hash de nombres (fila + 1, 0 = vacío)
+    //   cadenas    desplazamientos y bytes UTF-8 de cada cadena distinta
+    // El CRC32 cubre todo lo que sigue a la cabecera
+    //--------
+    private static final int NUMERO_MAGICO = 0x504B4D53; // "PKMS"
+    private static final int VERSION = 1;
+    private static final int TAMANO_CABECERA = 48;
+    
+    // Bytes por fila: 5 ids de cadena, número, altura y peso de 4 bytes,
+    // más generación y legendario de 1 byte
+    private static final int BYTES_POR_FILA = 8 * 4 + 2;
+    
+    private final MappedByteBuffer buffer;
+    private final long modificacionOrigen;
+    private final long tamanoOrigen;
+    private final int cantidadPokemon;
+    private final int cantidadCadenas;
+    private final int capacidadIndice;
+    
+    private final int inicioColumnas;
+    private final int inicioIndice;
+    private final int inicioDesplazamientos;
+    private final int inicioBytesCadenas;
+    
+    // Cada cadena se decodifica una sola vez y se comparte entre filas
+    private final String[] cadenas;
+    
+    private InstantaneaBinaria(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < TAMANO_CABECERA || buffer.getInt(0) != NUMERO_MAGICO) {
+            throw new IOException("El archivo no es una instantánea de Pokémon");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Versión de instantánea no soportada: " + buffer.getInt(4));
+        }
+        
+        this.modificacionOrigen = buffer.getLong(8);
+        this.tamanoOrigen = buffer.getLong(16);
+        this.cantidadPokemon = buffer.getInt(24);
+        this.cantidadCadenas = buffer.getInt(28);
+        this.capacidadIndice = buffer.getInt(32);
+        int crcEsperado = buffer.getInt(36);
+        
+        this.inicioColumnas = TAMANO_CABECERA;
+        this.inicioIndice = inicioColumnas + cantidadPokemon * BYTES_POR_FILA;
+        this.inicioDesplazamientos = inicioIndice + capacidadIndice * 4;
+        this.inicioBytesCadenas = inicioDesplazamientos + (cantidadCadenas + 1) * 4;
+        
+        long finEsperado = TAMANO_CABECERA + (long) cantidadPokemon * BYTES_POR_FILA
+            + capacidadIndice * 4L + (cantidadCadenas + 1L) * 4;
+        if (cantidadPokemon < 0 || cantidadCadenas < 0 || Integer.bitCount(capacidadIndice) != 1
+                || finEsperado > buffer.capacity()) {
+            throw new IOException("La cabecera de la instantánea está dañada");
+        }
+        
+        ByteBuffer cuerpo = buffer.duplicate();
+        cuerpo.position(TAMANO_CABECERA);
+        CRC32 crc = new CRC32();
+        crc.update(cuerpo);
+        if ((int) crc.getValue() != crcEsperado) {
+            throw new IOException("La suma de verificación de la instantánea no coincide");
+        }
+        
+        this.cadenas = new String[cantidadCadenas];
+    }
+    
+    /**
+     * Abre una instantánea mapeándola en memoria y verifica su integridad.
+     */
+    public static InstantaneaBinaria abrir(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("La instantánea es demasiado grande: " + canal.size() + " bytes");
+            }
+            // El mapeo sigue siendo válido después de cerrar el canal
+            return new InstantaneaBinaria(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+        }
+    }
+    
+    /**
+     * Escribe la instantánea de los Pokémon dados. La fecha y el tamaño
+     * del archivo de origen se guardan para detectar cuándo cambió.
+     */
+    public static void escribir(Collection<Pokemon> pokemons, Path origen, Path destino) throws IOException {
+        BasicFileAttributes atributos = Files.readAttributes(origen, BasicFileAttributes.class);
+        List<Pokemon> filas = new ArrayList<>(pokemons);
+        int cantidad = filas.size();
+        
+        //--------
+        // Tabla de cadenas: cada texto distinto se guarda una sola vez
+        //--------
+        Map<String, Integer> idPorCadena = new HashMap<>();
+        List<byte[]> bytesCadenas = new ArrayList<>();
+        int[][] columnasTexto = new int[5][cantidad];
+        for (int fila = 0; fila < cantidad; fila++) {
+            Pokemon p = filas.get(fila);
+            String[] textos = {p.getName(), p.getType1(), p.getType2(), p.getClassification(), p.getAbilities()};
+            for (int c = 0; c < textos.length; c++) {
+                String texto = textos[c] == null ? "" : textos[c];
+                Integer id = idPorCadena.get(texto);
+                if (id == null) {
+                    id = bytesCadenas.size();
+                    idPorCadena.put(texto, id);
+                    bytesCadenas.add(texto.getBytes(StandardCharsets.UTF_8));
+                }
+                columnasTexto[c][fila] = id;
+            }
+        }
+        
+        //--------
+        // Índice de nombres con direccionamiento abierto: la capacidad es
+        // potencia de dos y al menos el doble de la cantidad de filas
+        //--------
+        int capacidad = Integer.highestOneBit(Math.max(2, cantidad * 2 - 1)) << 1;
+        int[] indice = new int[capacidad];
+        for (int fila = 0; fila < cantidad; fila++) {
+            byte[] nombre = bytesCadenas.get(columnasTexto[0][fila]);
+            int posicion = hash(nombre, 0, nombre.length) & (capacidad - 1);
+            while (indice[posicion] != 0) {
+                byte[] otro = bytesCadenas.get(columnasTexto[0][indice[posicion] - 1]);
+                if (Arrays.equals(nombre, otro)) {
+                    break; // Nombre repetido: gana la última fila, igual que en los mapas
+                }
+                posicion = (posicion + 1) & (capacidad - 1);
+            }
+            indice[posicion] = fila + 1;
+        }
+        
+        int totalBytesCadenas = 0;
+        for (byte[] b : bytesCadenas) {
+            totalBytesCadenas += b.length;
+        }
+        long tamano = (long) TAMANO_CABECERA + (long) cantidad * BYTES_POR_FILA + capacidad * 4L
+            + (bytesCadenas.size() + 1) * 4L + totalBytesCadenas;
+        if (tamano > Integer.MAX_VALUE) {
+            throw new IOException("Demasiados datos para una instantánea: " + tamano + " bytes");
+        }
+        
+        ByteBuffer salida = ByteBuffer.allocate((int) tamano);
+        salida.putInt(NUMERO_MAGICO)
+              .putInt(VERSION)
+              .putLong(atributos.lastModifiedTime().toMillis())
+              .putLong(atributos.size())
+              .putInt(cantidad)
+              .putInt(bytesCadenas.size())
+              .putInt(capacidad)
+              .putInt(0)   // CRC32, se completa al final
+              .putLong(0); // Reservado
+        
+        //--------
+        // Columnas de ancho fijo, una detrás de otra
+        //--------
+        for (int[] columna : columnasTexto) {
+            for (int id : columna) {
+                salida.putInt(id);
+            }
+        }
+        for (Pokemon p : filas) {
+            salida.putInt(p.getPokedexNumber());
+        }
+        for (Pokemon p : filas) {
+            salida.putFloat(p.getHeight());
+        }
+        for (Pokemon p : filas) {
+            salida.putFloat(p.getWeight());
+        }
+        for (Pokemon p : filas) {
+            salida.put((byte) p.getGeneration());
+        }
+        for (Pokemon p : filas) {
+            salida.put((byte) (p.isLegendary() ? 1 : 0));
+        }
+        
+        for (int valor : indice) {
+            salida.putInt(valor);
+        }
+        
+        int desplazamiento = 0;
+        for (byte[] b : bytesCadenas) {
+            salida.putInt(desplazamiento);
+            desplazamiento += b.length;
+        }
+        salida.putInt(desplazamiento);
+        for (byte[] b : bytesCadenas) {
+            salida.put(b);
+        }
+        
+        CRC32 crc = new CRC32();
+        crc.update(salida.array(), TAMANO_CABECERA, salida.capacity() - TAMANO_CABECERA);
+        salida.putInt(36, (int) crc.getValue());
+        
+        //--------
+        // Se escribe en un archivo temporal y se renombra, para que un
+        // lector nunca vea una instantánea escrita a medias
+        //--------
+        Path temporal = destino.resolveSibling(destino.getFileName() + ".tmp");
+        Files.write(temporal, salida.array());
+        Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    /**
+     * Indica si la instantánea corresponde a la versión actual del archivo
+     * de origen (misma fecha de modificación y mismo tamaño).
+     */
+    public boolean esVigentePara(Path origen) throws IOException {
+        BasicFileAttributes atributos = Files.readAttributes(origen, BasicFileAttributes.class);
+        return atributos.lastModifiedTime().toMillis() == modificacionOrigen
+            && atributos.size() == tamanoOrigen;
+    }
+    
+    /**
+     * Cantidad de Pokémon guardados.
+     */
+    public int getCantidadPokemon() {
+        return cantidadPokemon;
+    }
+    
+    /**
+     * Busca un Pokémon por nombre usando el índice guardado en el archivo.
+     * Devuelve null si no existe.
+     */
+    public Pokemon obtenerPokemon(String nombre) {
+        byte[] buscado = nombre.getBytes(StandardCharsets.UTF_8);
+        int mascara = capacidadIndice - 1;
+        int posicion = hash(buscado, 0, buscado.length) & mascara;
+        
+        while (true) {
+            int fila = buffer.getInt(inicioIndice + posicion * 4) - 1;
+            if (fila < 0) {
+                return null;
+            }
+            if (cadenaIgual(columna(0, fila), buscado)) {
+                return crearPokemon(fila);
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+    }
+    
+    /**
+     * Agrega todos los Pokémon de la instantánea al mapa, en el orden
+     * en que fueron guardados.
+     */
+    public ResultadoCarga cargarEn(MapaPokemons mapaPokemons) {
+        long inicio = System.nanoTime();
+        List<Pokemon> pokemons = new ArrayList<>(cantidadPokemon);
+        for (int fila = 0; fila < cantidadPokemon; fila++) {
+            pokemons.add(crearPokemon(fila));
+        }
+        mapaPokemons.agregarTodos(pokemons);
+        return new ResultadoCarga(cantidadPokemon, 0, System.nanoTime() - inicio, 1, true);
+    }
+    
+    /**
+     * Construye el Pokémon de una fila a partir de las columnas.
+     */
+    private Pokemon crearPokemon(int fila) {
+        int inicioNumeros = inicioColumnas + 5 * 4 * cantidadPokemon;
+        int inicioBytes = inicioNumeros + 3 * 4 * cantidadPokemon;
+        return new Pokemon(
+            cadena(columna(0, fila)),
+            buffer.getInt(inicioNumeros + fila * 4),
+            cadena(columna(1, fila)),
+            cadena(columna(2, fila)),
+            cadena(columna(3, fila)),
+            buffer.getFloat(inicioNumeros + (cantidadPokemon + fila) * 4),
+            buffer.getFloat(inicioNumeros + (2 * cantidadPokemon + fila) * 4),
+            cadena(columna(4, fila)),
+            buffer.get(inicioBytes + fila),
+            buffer.get(inicioBytes + cantidadPokemon + fila) != 0
+        );
+    }
+    
+    /**
+     * Id de cadena guardado en una de las cinco columnas de texto.
+     */
+    private int columna(int columna, int fila) {
+        return buffer.getInt(inicioColumnas + (columna * cantidadPokemon + fila) * 4);
+    }
+    
+    private String cadena(int id) {
+        String cadena = cadenas[id];
+        if (cadena == null) {
+            int desde = buffer.getInt(inicioDesplazamientos + id * 4);
+            int hasta = buffer.getInt(inicioDesplazamientos + (id + 1) * 4);
+            byte[] bytes = new byte[hasta - desde];
+            ByteBuffer lectura = buffer.duplicate();
+            lectura.position(inicioBytesCadenas + desde);
+            lectura.get(bytes);
+            cadena = new String(bytes, StandardCharsets.UTF_8);
+            cadenas[id] = cadena;
+        }
+        return cadena;
+    }
+    
+    /**
+     * Compara los bytes de una cadena guardada sin decodificarla.
+     */
+    private boolean cadenaIgual(int id, byte[] bytes) {
+        int desde = buffer.getInt(inicioDesplazamientos + id * 4);
+        int hasta = buffer.getInt(inicioDesplazamientos + (id + 1) * 4);
+        if (hasta - desde != bytes.length) {
+            return false;
+        }
+        int base = inicioBytesCadenas + desde;
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(base + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Hash de los bytes UTF-8 de un nombre. Forma parte del formato del
+     * archivo, así que no debe cambiar sin cambiar la versión.
+     */
+    private static int hash(byte[] bytes, int desde, int hasta) {
+        int hash = 0x811C9DC5; // FNV-1a
+        for (int i = desde; i < hasta; i++) {
+            hash = (hash ^ bytes[i]) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
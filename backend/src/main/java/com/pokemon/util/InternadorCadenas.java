@@ -0,0 +1,42 @@
+package com.pokemon.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Comparte una sola instancia de cada texto repetido (clasificaciones,
+ * habilidades) entre todos los Pokémon de una carga. Es seguro usarlo
+ * desde varios hilos a la vez.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class InternadorCadenas {
+    
+    // Límite para que un archivo con textos únicos no llene la memoria
+    private static final int MAXIMO_ELEMENTOS = 1 << 16;
+    
+    private final ConcurrentHashMap<String, String> cadenas = new ConcurrentHashMap<>();
+    
+    /**
+     * Devuelve la instancia compartida de un texto igual al recibido.
+     */
+    public String internar(String cadena) {
+        if (cadena == null) {
+            return null;
+        }
+        String existente = cadenas.get(cadena);
+        if (existente != null) {
+            return existente;
+        }
+        if (cadenas.size() >= MAXIMO_ELEMENTOS) {
+            return cadena;
+        }
+        existente = cadenas.putIfAbsent(cadena, cadena);
+        return existente != null ? existente : cadena;
+    }
+    
+    /**
+     * Cantidad de textos distintos guardados.
+     */
+    public int tamano() {
+        return cadenas.size();
+    }
+}
@@ -3,16 +3,38 @@ package com.pokemon.util;
 import com.pokemon.model.Pokemon;
 import com.pokemon.service.MapaPokemons;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Clase para leer datos de Pokémon desde un archivo CSV.
+ * Las columnas se ubican por el nombre del encabezado, y los campos
+ * entre comillas pueden contener comas.
  */
 public class LectorCSV {
     
+    // Cantidad de bloques por hilo, para repartir mejor el trabajo
+    private static final int BLOQUES_POR_HILO = 4;
+    
+    // Tamaño máximo de un bloque, para acotar la memoria de cada tarea
+    private static final long TAMANO_MAXIMO_BLOQUE = 64L * 1024 * 1024;
+    
     /**
      * Lee el archivo CSV de Pokémon y carga los datos en el mapa proporcionado.
      */
@@ -20,65 +42,42 @@ public class LectorCSV {
         System.out.println("Leyendo archivo: " + rutaArchivo);
         
         try (BufferedReader br = Files.newBufferedReader(Paths.get(rutaArchivo), StandardCharsets.UTF_8)) {
-            String linea;
+            TokenizadorCSV tokenizador = new TokenizadorCSV(br);
             
-            // Leer la primera línea (encabezados)
-            String encabezado = br.readLine();
-            if (encabezado == null) {
+            // Leer la primera fila (encabezados)
+            if (!tokenizador.siguienteFila()) {
                 throw new IOException("El archivo está vacío o no tiene encabezados");
             }
             
             // Determinar la estructura del archivo según los encabezados
-            String[] columnas = encabezado.split(",");
+            String[] columnas = tokenizador.campos();
+            ColumnasPokemon estructura = ColumnasPokemon.desdeEncabezado(columnas);
             int contadorLineas = 0;
+            int cargados = 0;
             
-            // Procesar el resto de líneas
-            while ((linea = br.readLine()) != null) {
+            // Procesar el resto de filas
+            while (tokenizador.siguienteFila()) {
                 contadorLineas++;
+                if (tokenizador.esFilaVacia()) {
+                    continue;
+                }
                 try {
-                    String[] datos = linea.split(",");
-                    
-                    // Validar que tenga suficientes columnas
-                    if (datos.length < 9) {
+                    Pokemon pokemon = estructura.crear(tokenizador);
+                    if (pokemon == null) {
                         System.err.println("La línea " + contadorLineas + " no tiene suficientes columnas. Se omitirá.");
                         continue;
                     }
                     
-                    // Extraer datos según la estructura del CSV pokemon_data_pokeapi.csv
-                    String name = datos[0].trim();
-                    int pokedexNumber = Integer.parseInt(datos[1].trim());
-                    String type1 = datos[2].trim();
-                    String type2 = datos[3].trim();
-                    String classification = datos[4].trim();
-                    float height = Float.parseFloat(datos[5].trim());
-                    float weight = Float.parseFloat(datos[6].trim());
-                    String abilities = datos[7].trim();
-                    int generation = Integer.parseInt(datos[8].trim());
-                    boolean legendary = datos.length > 9 && datos[9].trim().toLowerCase().contains("legendary");
-                    
-                    // Crear el objeto Pokémon y agregarlo al mapa
-                    Pokemon pokemon = new Pokemon(
-                        name, 
-                        pokedexNumber,
-                        type1, 
-                        type2, 
-                        classification,
-                        height, 
-                        weight, 
-                        abilities,
-                        generation, 
-                        legendary
-                    );
-                    
                     mapaPokemons.agregarPokemon(pokemon);
-                    
+                    cargados++;
+                
                 } catch (NumberFormatException e) {
                     System.err.println("Error al procesar la línea " + contadorLineas + ": " + e.getMessage());
                 }
             }
             
-            System.out.println("Se cargaron " + contadorLineas + " Pokémon desde el archivo.");
-            
+            System.out.println("Se cargaron " + cargados + " Pokémon desde el archivo.");
+        
         } catch (IOException e) {
             System.err.println("Error al leer el archivo: " + e.getMessage());
             throw e;
@@ -86,4 +85,267 @@ public class LectorCSV {
         
         return mapaPokemons;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Lee el archivo CSV usando varios hilos y carga los datos en el mapa.
+     * El archivo se divide en rangos de bytes que terminan en un salto de
+     * línea; cada rango se interpreta en paralelo y los lotes resultantes
+     * se insertan en el mapa en el mismo orden del archivo.
+     */
+    public static ResultadoCarga leerArchivoPokemonParalelo(String rutaArchivo, MapaPokemons mapaPokemons,
+                                                            int paralelismo) throws IOException {
+        return leerParalelo(rutaArchivo, mapaPokemons, paralelismo, null);
+    }
+    
+    /**
+     * Carga paralela; si filasEnOrden no es null, además agrega ahí cada
+     * Pokémon leído en el orden del archivo.
+     */
+    private static ResultadoCarga leerParalelo(String rutaArchivo, MapaPokemons mapaPokemons, int paralelismo,
+                                               List<Pokemon> filasEnOrden) throws IOException {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1: " + paralelismo);
+        }
+        
+        long inicio = System.nanoTime();
+        
+        try (FileChannel canal = FileChannel.open(Paths.get(rutaArchivo), StandardOpenOption.READ)) {
+            //--------
+            // Los datos comienzan después de la línea de encabezados
+            //--------
+            long tamano = canal.size();
+            long inicioDatos = buscarFinDeLinea(canal, 0, tamano);
+            if (inicioDatos == 0) {
+                throw new IOException("El archivo está vacío o no tiene encabezados");
+            }
+            
+            ColumnasPokemon estructura = leerEncabezado(canal, inicioDatos);
+            List<long[]> rangos = dividirEnRangos(canal, inicioDatos, tamano, paralelismo);
+            ExecutorService hilos = Executors.newFixedThreadPool(paralelismo, crearFabricaHilos());
+            // Los hilos comparten los textos repetidos (tipos, habilidades...)
+            InternadorCadenas internador = new InternadorCadenas();
+            
+            try {
+                List<Future<Lote>> lotes = new ArrayList<>(rangos.size());
+                for (long[] rango : rangos) {
+                    lotes.add(hilos.submit(() -> leerRango(canal, rango[0], rango[1], estructura, internador)));
+                }
+                
+                //--------
+                // Insertamos cada lote en cuanto está listo y en orden,
+                // mientras los hilos siguen interpretando los siguientes.
+                // El mapa no necesita ser seguro entre hilos: solo este
+                // hilo escribe en él
+                //--------
+                long cargadas = 0;
+                long omitidas = 0;
+                for (Future<Lote> futuro : lotes) {
+                    Lote lote = futuro.get();
+                    mapaPokemons.agregarTodos(lote.pokemons);
+                    if (filasEnOrden != null) {
+                        filasEnOrden.addAll(lote.pokemons);
+                    }
+                    cargadas += lote.pokemons.size();
+                    omitidas += lote.omitidas;
+                }
+                
+                return new ResultadoCarga(cargadas, omitidas, System.nanoTime() - inicio, paralelismo);
+            
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("La carga paralela fue interrumpida", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException("Error al procesar el archivo: " + e.getCause(), e.getCause());
+            } finally {
+                hilos.shutdownNow();
+            }
+        }
+    }
+    
+    /**
+     * Lee el archivo CSV mapeándolo en memoria y carga los datos en el mapa.
+     * Los campos se localizan recorriendo los bytes del archivo: solo se
+     * crean String para los campos que se guardan y los números se
+     * convierten directamente desde los bytes.
+     */
+    public static ResultadoCarga leerArchivoPokemonMapeado(String rutaArchivo, MapaPokemons mapaPokemons) throws IOException {
+        return new LectorCSVMapeado().leer(rutaArchivo, mapaPokemons);
+    }
+    
+    /**
+     * Carga los Pokémon usando la instantánea binaria del archivo si está
+     * vigente. Si no existe, está dañada o el CSV cambió, se lee el CSV en
+     * paralelo y se escribe una instantánea nueva para el próximo inicio.
+     */
+    public static ResultadoCarga leerConInstantanea(String rutaArchivo, MapaPokemons mapaPokemons,
+                                                    int paralelismo) throws IOException {
+        Path origen = Paths.get(rutaArchivo);
+        Path rutaInstantanea = rutaInstantanea(origen);
+        
+        if (Files.exists(rutaInstantanea)) {
+            try {
+                InstantaneaBinaria instantanea = InstantaneaBinaria.abrir(rutaInstantanea);
+                if (instantanea.esVigentePara(origen)) {
+                    return instantanea.cargarEn(mapaPokemons);
+                }
+                System.out.println("El archivo CSV cambió, se reconstruirá la instantánea.");
+            } catch (IOException e) {
+                System.err.println("No se pudo usar la instantánea: " + e.getMessage());
+            }
+        }
+        
+        //--------
+        // Se carga directo en el mapa destino, sin un mapa intermedio. La
+        // instantánea la comparten todos los tipos de mapa, así que se
+        // escribe con las filas en el orden del archivo y no en el orden
+        // en que las recorre el mapa destino (hash o alfabético)
+        //--------
+        List<Pokemon> filas = new ArrayList<>();
+        ResultadoCarga resultado = leerParalelo(rutaArchivo, mapaPokemons, paralelismo, filas);
+        
+        try {
+            InstantaneaBinaria.escribir(filas, origen, rutaInstantanea);
+        } catch (IOException e) {
+            // Sin instantánea el programa funciona igual, solo inicia más lento
+            System.err.println("No se pudo escribir la instantánea: " + e.getMessage());
+        }
+        return resultado;
+    }
+    
+    /**
+     * Ruta de la instantánea de un CSV: el mismo nombre con extensión .bin
+     */
+    public static Path rutaInstantanea(Path origen) {
+        String nombre = origen.getFileName().toString();
+        int punto = nombre.lastIndexOf('.');
+        String base = punto > 0 ? nombre.substring(0, punto) : nombre;
+        return origen.resolveSibling(base + ".bin");
+    }
+    
+    /**
+     * Lee la línea de encabezados y determina la posición de cada columna.
+     */
+    private static ColumnasPokemon leerEncabezado(FileChannel canal, long finEncabezado) throws IOException {
+        byte[] bytes = new byte[(int) finEncabezado];
+        leerCompleto(canal, ByteBuffer.wrap(bytes), 0);
+        
+        TokenizadorCSV tokenizador = new TokenizadorCSV(
+            new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        tokenizador.siguienteFila();
+        return ColumnasPokemon.desdeEncabezado(tokenizador.campos());
+    }
+    
+    /**
+     * Divide el rango de datos en bloques que terminan justo después de
+     * un salto de línea, para que ninguna fila quede partida.
+     */
+    private static List<long[]> dividirEnRangos(FileChannel canal, long inicioDatos, long tamano,
+                                                int paralelismo) throws IOException {
+        long longitud = tamano - inicioDatos;
+        long bloques = Math.max((long) paralelismo * BLOQUES_POR_HILO,
+                                (longitud + TAMANO_MAXIMO_BLOQUE - 1) / TAMANO_MAXIMO_BLOQUE);
+        long tamanoBloque = Math.max(1, longitud / bloques);
+        
+        List<long[]> rangos = new ArrayList<>();
+        long desde = inicioDatos;
+        while (desde < tamano) {
+            long hasta = desde + tamanoBloque >= tamano
+                ? tamano
+                : buscarFinDeLinea(canal, desde + tamanoBloque, tamano);
+            rangos.add(new long[] {desde, hasta});
+            desde = hasta;
+        }
+        return rangos;
+    }
+    
+    /**
+     * Devuelve la posición siguiente al primer '\n' desde la posición dada,
+     * o el final del archivo si no hay más saltos de línea.
+     */
+    private static long buscarFinDeLinea(FileChannel canal, long desde, long tamano) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long posicion = desde;
+        while (posicion < tamano) {
+            buffer.clear();
+            int leidos = canal.read(buffer, posicion);
+            if (leidos <= 0) {
+                break;
+            }
+            for (int i = 0; i < leidos; i++) {
+                if (buffer.get(i) == '\n') {
+                    return posicion + i + 1;
+                }
+            }
+            posicion += leidos;
+        }
+        return tamano;
+    }
+    
+    /**
+     * Lee e interpreta las filas de un rango de bytes del archivo.
+     * Se ejecuta en un hilo del pool; la lectura posicional del canal
+     * es segura entre hilos. Los rangos se cortan en saltos de línea,
+     * así que este modo supone que los campos entre comillas no los
+     * contienen; la lectura secuencial sí los admite.
+     */
+    private static Lote leerRango(FileChannel canal, long desde, long hasta, ColumnasPokemon estructura,
+                                  InternadorCadenas internador) throws IOException {
+        byte[] bytes = new byte[(int) (hasta - desde)];
+        leerCompleto(canal, ByteBuffer.wrap(bytes), desde);
+        
+        Lote lote = new Lote();
+        TokenizadorCSV tokenizador = new TokenizadorCSV(
+            new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8), internador);
+        while (tokenizador.siguienteFila()) {
+            if (tokenizador.esFilaVacia()) {
+                continue;
+            }
+            try {
+                Pokemon pokemon = estructura.crear(tokenizador);
+                if (pokemon != null) {
+                    lote.pokemons.add(pokemon);
+                } else {
+                    lote.omitidas++;
+                }
+            } catch (NumberFormatException e) {
+                lote.omitidas++;
+            }
+        }
+        return lote;
+    }
+    
+    /**
+     * Llena el buffer con bytes del canal a partir de la posición indicada.
+     */
+    private static void leerCompleto(FileChannel canal, ByteBuffer buffer, long posicion) throws IOException {
+        while (buffer.hasRemaining()) {
+            int leidos = canal.read(buffer, posicion + buffer.position());
+            if (leidos < 0) {
+                throw new IOException("El archivo terminó antes de lo esperado");
+            }
+        }
+    }
+    
+    /**
+     * Crea hilos daemon con nombre para la carga paralela.
+     */
+    private static ThreadFactory crearFabricaHilos() {
+        AtomicInteger contador = new AtomicInteger();
+        return tarea -> {
+            Thread hilo = new Thread(tarea, "lector-csv-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+    }
+    
+    /**
+     * Pokémon interpretados de un rango del archivo.
+     */
+    private static final class Lote {
+        private final List<Pokemon> pokemons = new ArrayList<>();
+        private long omitidas;
+    }
+}
@@ -0,0 +1,485 @@
+package com.pokemon.util;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.MapaPokemons;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lector del CSV de Pokémon sobre un archivo mapeado en memoria.
+ * Recorre los bytes directamente: solo crea String para los campos que
+ * se guardan y convierte los números sin pasar por subcadenas.
+ * Autor: Fatima Navarro - 24044
+ */
+class LectorCSVMapeado {
+    
+    // Tamaño máximo de cada ventana mapeada (un MappedByteBuffer usa índices int)
+    private static final long TAMANO_MAXIMO_VENTANA = 1L << 30;
+    
+    //--------
+    // Posiciones de cada campo dentro de la ventana; se reutilizan en
+    // todas las filas para no crear objetos por fila. Su tamaño es la
+    // cantidad de columnas del encabezado
+    //--------
+    private int[] inicioCampo;
+    private int[] finCampo;
+    private boolean[] tieneComillasEscapadas;
+    private ColumnasPokemon estructura;
+    private byte[] copia = new byte[256];
+    
+    // Tipos, clasificaciones y habilidades se repiten mucho entre filas
+    private final CacheCadenas cache = new CacheCadenas();
+    
+    private MappedByteBuffer buffer;
+    private long filasCargadas;
+    private long filasOmitidas;
+    
+    /**
+     * Carga el archivo completo en el mapa indicado.
+     */
+    ResultadoCarga leer(String rutaArchivo, MapaPokemons mapaPokemons) throws IOException {
+        long inicio = System.nanoTime();
+        
+        try (FileChannel canal = FileChannel.open(Paths.get(rutaArchivo), StandardOpenOption.READ)) {
+            long tamano = canal.size();
+            long posicion = 0;
+            boolean primeraVentana = true;
+            
+            while (posicion < tamano) {
+                //--------
+                // Cada ventana termina en un salto de línea para que
+                // ninguna fila quede repartida entre dos ventanas
+                //--------
+                long longitud = Math.min(TAMANO_MAXIMO_VENTANA, tamano - posicion);
+                buffer = canal.map(FileChannel.MapMode.READ_ONLY, posicion, longitud);
+                int fin = (int) longitud;
+                if (posicion + longitud < tamano) {
+                    fin = ultimoFinDeLinea(fin);
+                    if (fin == 0) {
+                        throw new IOException("Hay una fila más larga que la ventana de lectura");
+                    }
+                }
+                
+                int actual = 0;
+                if (primeraVentana) {
+                    actual = saltarEncabezado(fin);
+                    if (actual == 0) {
+                        throw new IOException("El archivo está vacío o no tiene encabezados");
+                    }
+                    leerEncabezado(actual);
+                    primeraVentana = false;
+                }
+                
+                leerFilas(actual, fin, mapaPokemons);
+                posicion += fin;
+            }
+        } finally {
+            buffer = null;
+        }
+        
+        return new ResultadoCarga(filasCargadas, filasOmitidas, System.nanoTime() - inicio, 1);
+    }
+    
+    /**
+     * Interpreta todas las filas entre dos posiciones de la ventana actual.
+     */
+    private void leerFilas(int desde, int hasta, MapaPokemons mapaPokemons) {
+        int posicion = desde;
+        while (posicion < hasta) {
+            int campos = 0;
+            
+            //--------
+            // Separar los campos de la fila: se respeta el texto entre
+            // comillas, que puede contener comas ("Overgrow, Chlorophyll")
+            //--------
+            while (true) {
+                boolean escapadas = false;
+                int inicio;
+                int fin;
+                
+                if (posicion < hasta && buffer.get(posicion) == '"') {
+                    inicio = posicion + 1;
+                    int i = inicio;
+                    while (i < hasta) {
+                        if (buffer.get(i) == '"') {
+                            if (i + 1 < hasta && buffer.get(i + 1) == '"') {
+                                escapadas = true;
+                                i += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        i++;
+                    }
+                    fin = i;
+                    posicion = Math.min(i + 1, hasta);
+                    // Cualquier texto tras la comilla de cierre se ignora
+                    while (posicion < hasta && buffer.get(posicion) != ',' && buffer.get(posicion) != '\n') {
+                        posicion++;
+                    }
+                } else {
+                    inicio = posicion;
+                    while (posicion < hasta && buffer.get(posicion) != ',' && buffer.get(posicion) != '\n') {
+                        posicion++;
+                    }
+                    fin = posicion;
+                    if (fin > inicio && buffer.get(fin - 1) == '\r') {
+                        fin--;
+                    }
+                }
+                
+                if (campos < inicioCampo.length) {
+                    inicioCampo[campos] = inicio;
+                    finCampo[campos] = fin;
+                    tieneComillasEscapadas[campos] = escapadas;
+                }
+                campos++;
+                
+                if (posicion >= hasta || buffer.get(posicion) == '\n') {
+                    posicion++;
+                    break;
+                }
+                posicion++; // Saltar la coma
+            }
+            
+            // Filas vacías (por ejemplo, al final del archivo)
+            if (campos == 1 && inicioCampo[0] == finCampo[0]) {
+                continue;
+            }
+            
+            if (campos < estructura.getMinimoCampos()) {
+                filasOmitidas++;
+                continue;
+            }
+            
+            try {
+                int tipo2 = estructura.posicion(ColumnasPokemon.TIPO2);
+                int legendario = estructura.posicion(ColumnasPokemon.LEGENDARIO);
+                Pokemon pokemon = new Pokemon(
+                    cadena(estructura.posicion(ColumnasPokemon.NOMBRE), false),
+                    entero(estructura.posicion(ColumnasPokemon.POKEDEX)),
+                    cadena(estructura.posicion(ColumnasPokemon.TIPO1), true),
+                    presente(tipo2, campos) ? cadena(tipo2, true) : "",
+                    cadena(estructura.posicion(ColumnasPokemon.CLASIFICACION), true),
+                    decimal(estructura.posicion(ColumnasPokemon.ALTURA)),
+                    decimal(estructura.posicion(ColumnasPokemon.PESO)),
+                    cadena(estructura.posicion(ColumnasPokemon.HABILIDADES), true),
+                    entero(estructura.posicion(ColumnasPokemon.GENERACION)),
+                    presente(legendario, campos) && legendario(legendario)
+                );
+                mapaPokemons.agregarPokemon(pokemon);
+                filasCargadas++;
+            } catch (NumberFormatException e) {
+                filasOmitidas++;
+            }
+        }
+    }
+    
+    /**
+     * Crea el String de un campo, sin espacios alrededor.
+     * Los campos repetitivos se reutilizan desde la caché.
+     */
+    private String cadena(int campo, boolean repetitivo) {
+        int inicio = inicioCampo[campo];
+        int fin = finCampo[campo];
+        while (inicio < fin && (buffer.get(inicio) & 0xFF) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && (buffer.get(fin - 1) & 0xFF) <= ' ') {
+            fin--;
+        }
+        
+        int longitud = fin - inicio;
+        if (copia.length < longitud) {
+            copia = new byte[Math.max(longitud, copia.length * 2)];
+        }
+        
+        //--------
+        // Copiamos los bytes a un arreglo reutilizable; si el campo tenía
+        // comillas dobles escapadas ("") las reducimos a una sola
+        //--------
+        if (tieneComillasEscapadas[campo]) {
+            int j = 0;
+            for (int i = inicio; i < fin; i++) {
+                byte b = buffer.get(i);
+                copia[j++] = b;
+                if (b == '"' && i + 1 < fin && buffer.get(i + 1) == '"') {
+                    i++;
+                }
+            }
+            longitud = j;
+        } else {
+            buffer.position(inicio);
+            buffer.get(copia, 0, longitud);
+        }
+        
+        if (repetitivo) {
+            return cache.obtener(copia, longitud);
+        }
+        return new String(copia, 0, longitud, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Convierte un campo entero directamente desde los bytes.
+     */
+    private int entero(int campo) {
+        int i = inicioCampo[campo];
+        int fin = finCampo[campo];
+        while (i < fin && (buffer.get(i) & 0xFF) <= ' ') {
+            i++;
+        }
+        while (fin > i && (buffer.get(fin - 1) & 0xFF) <= ' ') {
+            fin--;
+        }
+        
+        boolean negativo = i < fin && buffer.get(i) == '-';
+        if (negativo || (i < fin && buffer.get(i) == '+')) {
+            i++;
+        }
+        if (i == fin) {
+            throw new NumberFormatException("Número vacío en la columna " + campo);
+        }
+        
+        long valor = 0;
+        for (; i < fin; i++) {
+            int digito = buffer.get(i) - '0';
+            if (digito < 0 || digito > 9) {
+                throw new NumberFormatException("Número inválido en la columna " + campo);
+            }
+            valor = valor * 10 + digito;
+            if (valor > Integer.MAX_VALUE + 1L) {
+                throw new NumberFormatException("Número fuera de rango en la columna " + campo);
+            }
+        }
+        valor = negativo ? -valor : valor;
+        if (valor > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Número fuera de rango en la columna " + campo);
+        }
+        return (int) valor;
+    }
+    
+    /**
+     * Convierte un campo decimal (como 0.7 o 13) directamente desde los bytes.
+     * Para formatos poco comunes se recurre a Float.parseFloat.
+     */
+    private float decimal(int campo) {
+        int inicio = inicioCampo[campo];
+        int fin = finCampo[campo];
+        while (inicio < fin && (buffer.get(inicio) & 0xFF) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && (buffer.get(fin - 1) & 0xFF) <= ' ') {
+            fin--;
+        }
+        
+        int i = inicio;
+        boolean negativo = i < fin && buffer.get(i) == '-';
+        if (negativo || (i < fin && buffer.get(i) == '+')) {
+            i++;
+        }
+        
+        long mantisa = 0;
+        int digitos = 0;
+        int decimales = 0;
+        boolean punto = false;
+        for (; i < fin; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && !punto) {
+                punto = true;
+            } else if (b >= '0' && b <= '9') {
+                mantisa = mantisa * 10 + (b - '0');
+                digitos++;
+                if (punto) {
+                    decimales++;
+                }
+            } else {
+                break;
+            }
+        }
+        
+        //--------
+        // Con pocos dígitos la división en double es exacta y el redondeo
+        // a float coincide con Float.parseFloat; en otro caso (exponentes,
+        // muchos dígitos) usamos el método estándar
+        //--------
+        if (i < fin || digitos == 0 || digitos > 15 || decimales >= POTENCIAS_DE_DIEZ.length) {
+            return Float.parseFloat(cadena(campo, false));
+        }
+        double valor = (double) mantisa / POTENCIAS_DE_DIEZ[decimales];
+        return (float) (negativo ? -valor : valor);
+    }
+    
+    private static final double[] POTENCIAS_DE_DIEZ = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+    
+    /**
+     * Interpreta la columna de estado legendario directamente sobre los
+     * bytes, con las mismas reglas que ColumnasPokemon.esLegendario:
+     * "yes", "true" o un texto que contenga "legendary", sin mayúsculas.
+     */
+    private boolean legendario(int campo) {
+        int inicio = inicioCampo[campo];
+        int fin = finCampo[campo];
+        while (inicio < fin && (buffer.get(inicio) & 0xFF) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && (buffer.get(fin - 1) & 0xFF) <= ' ') {
+            fin--;
+        }
+        
+        int longitud = fin - inicio;
+        if (igualSinMayusculas(inicio, longitud, "yes") || igualSinMayusculas(inicio, longitud, "true")) {
+            return true;
+        }
+        for (int i = inicio; i + LEGENDARY.length() <= fin; i++) {
+            if (igualSinMayusculas(i, LEGENDARY.length(), LEGENDARY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static final String LEGENDARY = "legendary";
+    
+    /**
+     * Compara bytes de la ventana con una palabra en minúsculas ASCII.
+     * El bit 0x20 pasa una letra mayúscula a minúscula; ningún otro
+     * byte coincide así con una letra.
+     */
+    private boolean igualSinMayusculas(int desde, int longitud, String palabra) {
+        if (longitud != palabra.length()) {
+            return false;
+        }
+        for (int i = 0; i < longitud; i++) {
+            if ((buffer.get(desde + i) | 0x20) != palabra.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Indica si una columna opcional existe en el archivo y en la fila.
+     */
+    private boolean presente(int posicion, int campos) {
+        return posicion >= 0 && posicion < campos && posicion < inicioCampo.length;
+    }
+    
+    /**
+     * Interpreta la línea de encabezados con el tokenizador, igual que los
+     * otros modos de lectura, y prepara los arreglos de campos.
+     */
+    private void leerEncabezado(int finEncabezado) throws IOException {
+        byte[] bytes = new byte[finEncabezado];
+        buffer.position(0);
+        buffer.get(bytes);
+        
+        TokenizadorCSV tokenizador = new TokenizadorCSV(
+            new StringReader(new String(bytes, StandardCharsets.UTF_8)));
+        tokenizador.siguienteFila();
+        estructura = ColumnasPokemon.desdeEncabezado(tokenizador.campos());
+        
+        int columnas = estructura.getCantidadColumnas();
+        inicioCampo = new int[columnas];
+        finCampo = new int[columnas];
+        tieneComillasEscapadas = new boolean[columnas];
+    }
+    
+    /**
+     * Devuelve la posición después de la línea de encabezados.
+     * La marca BOM de UTF-8, si existe, queda dentro de esa línea.
+     */
+    private int saltarEncabezado(int hasta) {
+        for (int i = 0; i < hasta; i++) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Devuelve la posición siguiente al último '\n' antes del límite.
+     */
+    private int ultimoFinDeLinea(int hasta) {
+        for (int i = hasta - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Caché de cadenas indexada por sus bytes UTF-8, para no crear un
+     * String nuevo cada vez que se repite un tipo o una habilidad.
+     */
+    private static final class CacheCadenas {
+        // Límite para que un archivo con textos únicos no llene la memoria
+        private static final int MAXIMO_ELEMENTOS = 1 << 14;
+        
+        private byte[][] claves = new byte[256][];
+        private String[] valores = new String[256];
+        private int elementos;
+        
+        String obtener(byte[] bytes, int longitud) {
+            int hash = 1;
+            for (int i = 0; i < longitud; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            
+            int mascara = claves.length - 1;
+            int indice = (hash ^ (hash >>> 16)) & mascara;
+            while (claves[indice] != null) {
+                byte[] clave = claves[indice];
+                if (clave.length == longitud && Arrays.equals(clave, 0, longitud, bytes, 0, longitud)) {
+                    return valores[indice];
+                }
+                indice = (indice + 1) & mascara;
+            }
+            
+            String valor = new String(bytes, 0, longitud, StandardCharsets.UTF_8);
+            if (elementos < MAXIMO_ELEMENTOS) {
+                claves[indice] = Arrays.copyOf(bytes, longitud);
+                valores[indice] = valor;
+                elementos++;
+                if (elementos * 2 > claves.length) {
+                    redimensionar();
+                }
+            }
+            return valor;
+        }
+        
+        private void redimensionar() {
+            byte[][] clavesAnteriores = claves;
+            String[] valoresAnteriores = valores;
+            claves = new byte[clavesAnteriores.length * 2][];
+            valores = new String[clavesAnteriores.length * 2];
+            int mascara = claves.length - 1;
+            
+            for (int k = 0; k < clavesAnteriores.length; k++) {
+                byte[] clave = clavesAnteriores[k];
+                if (clave == null) {
+                    continue;
+                }
+                int hash = 1;
+                for (byte b : clave) {
+                    hash = 31 * hash + b;
+                }
+                int indice = (hash ^ (hash >>> 16)) & mascara;
+                while (claves[indice] != null) {
+                    indice = (indice + 1) & mascara;
+                }
+                claves[indice] = clave;
+                valores[indice] = valoresAnteriores[k];
+            }
+        }
+    }
+}
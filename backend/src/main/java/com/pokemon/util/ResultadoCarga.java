@@ -0,0 +1,64 @@
+package com.pokemon.util;
+
+/**
+ * Resultado de una carga del archivo CSV con sus métricas de rendimiento.
+ * Autor: Fatima Navarro - 24044
+ */
+public class ResultadoCarga {
+    private final long filasCargadas;
+    private final long filasOmitidas;
+    private final long nanosegundos;
+    private final int paralelismo;
+    private final boolean desdeInstantanea;
+    
+    /**
+     * Constructor para cargas desde el archivo CSV
+     */
+    public ResultadoCarga(long filasCargadas, long filasOmitidas, long nanosegundos, int paralelismo) {
+        this(filasCargadas, filasOmitidas, nanosegundos, paralelismo, false);
+    }
+    
+    /**
+     * Constructor completo
+     */
+    public ResultadoCarga(long filasCargadas, long filasOmitidas, long nanosegundos, int paralelismo,
+                          boolean desdeInstantanea) {
+        this.filasCargadas = filasCargadas;
+        this.filasOmitidas = filasOmitidas;
+        this.nanosegundos = nanosegundos;
+        this.paralelismo = paralelismo;
+        this.desdeInstantanea = desdeInstantanea;
+    }
+    
+    // Getters
+    public long getFilasCargadas() { return filasCargadas; }
+    public long getFilasOmitidas() { return filasOmitidas; }
+    public long getNanosegundos() { return nanosegundos; }
+    public int getParalelismo() { return paralelismo; }
+    public boolean isDesdeInstantanea() { return desdeInstantanea; }
+    
+    /**
+     * Filas cargadas por segundo durante la lectura.
+     */
+    public double getFilasPorSegundo() {
+        if (nanosegundos <= 0) {
+            return 0;
+        }
+        return filasCargadas * 1_000_000_000.0 / nanosegundos;
+    }
+    
+    @Override
+    public String toString() {
+        if (desdeInstantanea) {
+            return String.format("Se cargaron %d Pokémon desde la instantánea binaria en %.1f ms",
+                                 filasCargadas,
+                                 nanosegundos / 1_000_000.0);
+        }
+        return String.format("Se cargaron %d Pokémon (%d filas omitidas) en %.1f ms: %.0f filas/s con %d hilo(s)",
+                             filasCargadas,
+                             filasOmitidas,
+                             nanosegundos / 1_000_000.0,
+                             getFilasPorSegundo(),
+                             paralelismo);
+    }
+}
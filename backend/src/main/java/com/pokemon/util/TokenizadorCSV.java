@@ -0,0 +1,433 @@
+package com.pokemon.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Tokenizador de CSV según RFC 4180, en una sola pasada.
+ * Respeta los campos entre comillas (que pueden contener comas y saltos
+ * de línea), las comillas escapadas (""), los finales de línea CRLF y la
+ * marca BOM de UTF-8 al inicio del archivo.
+ * Autor: Fatima Navarro - 24044
+ */
+public final class TokenizadorCSV {
+    //--------
+    // Máquina de estados: cada carácter se revisa una sola vez. Los
+    // campos de la fila actual se copian a un único arreglo reutilizable
+    // y solo se crea un String cuando se pide un campo de texto
+    //--------
+    private static final int INICIO_CAMPO = 0;
+    private static final int SIN_COMILLAS = 1;
+    private static final int EN_COMILLAS = 2;
+    private static final int COMILLA_EN_COMILLAS = 3;
+    private static final int DESPUES_DE_COMILLAS = 4;
+    
+    private static final char BOM = '\uFEFF';
+    
+    // Límite de la caché de textos repetidos, para archivos con textos únicos
+    private static final int MAXIMO_CACHE = 1 << 14;
+    
+    private final Reader lector;
+    private final char[] entrada;
+    private int posicionEntrada;
+    private int finEntrada;
+    
+    private char[] fila;
+    private int longitudFila;
+    private int[] finCampos;
+    private int cantidadCampos;
+    
+    private boolean inicioArchivo;
+    private boolean saltarLF;
+    
+    //--------
+    // Caché de campos repetidos indexada por sus caracteres: un texto ya
+    // visto se devuelve sin crear un String nuevo. El internador, si se
+    // indica, comparte las cadenas entre varios tokenizadores
+    //--------
+    private final InternadorCadenas internador;
+    private String[] cache;
+    private int elementosCache;
+    
+    /**
+     * Constructor que lee del lector indicado; no es necesario envolverlo
+     * en un BufferedReader porque el tokenizador usa su propio buffer.
+     */
+    public TokenizadorCSV(Reader lector) {
+        this(lector, null);
+    }
+    
+    /**
+     * Constructor que además comparte los textos repetidos a través del
+     * internador indicado (por ejemplo, entre los hilos de una carga).
+     */
+    public TokenizadorCSV(Reader lector, InternadorCadenas internador) {
+        this.lector = lector;
+        this.internador = internador;
+        this.cache = new String[256];
+        this.entrada = new char[8192];
+        this.fila = new char[256];
+        this.finCampos = new int[16];
+        this.inicioArchivo = true;
+    }
+    
+    /**
+     * Avanza a la siguiente fila. Devuelve false al llegar al final.
+     */
+    public boolean siguienteFila() throws IOException {
+        longitudFila = 0;
+        cantidadCampos = 0;
+        int estado = INICIO_CAMPO;
+        boolean hayDatos = false;
+        
+        while (true) {
+            if (posicionEntrada == finEntrada && !llenarEntrada()) {
+                //--------
+                // Fin del archivo: la última fila puede no tener salto
+                // de línea final
+                //--------
+                if (!hayDatos) {
+                    return false;
+                }
+                cerrarCampo();
+                return true;
+            }
+            
+            char c = entrada[posicionEntrada++];
+            
+            // El '\n' de un CRLF ya se contó con el '\r'
+            if (saltarLF) {
+                saltarLF = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            if (inicioArchivo) {
+                inicioArchivo = false;
+                if (c == BOM) {
+                    continue;
+                }
+            }
+            hayDatos = true;
+            
+            switch (estado) {
+                case EN_COMILLAS:
+                    if (c == '"') {
+                        estado = COMILLA_EN_COMILLAS;
+                    } else {
+                        // Se copia de una vez todo el texto hasta la siguiente comilla
+                        copiarHasta(posicionEntrada - 1, true);
+                    }
+                    break;
+                
+                case COMILLA_EN_COMILLAS:
+                    if (c == '"') {
+                        // Comilla escapada ("") dentro del campo
+                        agregar('"');
+                        estado = EN_COMILLAS;
+                        break;
+                    }
+                    // Se cerró el campo: el carácter se vuelve a leer como fuera de comillas
+                    estado = DESPUES_DE_COMILLAS;
+                    posicionEntrada--;
+                    continue;
+                
+                default:
+                    if (c == ',') {
+                        cerrarCampo();
+                        estado = INICIO_CAMPO;
+                    } else if (c == '\n' || c == '\r') {
+                        cerrarCampo();
+                        saltarLF = c == '\r';
+                        return true;
+                    } else if (estado == INICIO_CAMPO && c == '"') {
+                        estado = EN_COMILLAS;
+                    } else if (estado != DESPUES_DE_COMILLAS) {
+                        // Fuera de comillas se copia el texto hasta el separador;
+                        // el que sigue a una comilla de cierre se ignora
+                        copiarHasta(posicionEntrada - 1, false);
+                        estado = SIN_COMILLAS;
+                    }
+                    break;
+            }
+        }
+    }
+    
+    /**
+     * Cantidad de campos de la fila actual.
+     */
+    public int getCantidadCampos() {
+        return cantidadCampos;
+    }
+    
+    /**
+     * Indica si la fila actual es una línea en blanco.
+     */
+    public boolean esFilaVacia() {
+        return cantidadCampos == 1 && longitudFila == 0;
+    }
+    
+    /**
+     * Devuelve el campo indicado tal como aparece en el archivo (sin las
+     * comillas que lo delimitan).
+     */
+    public String campo(int indice) {
+        int inicio = inicioCampo(indice);
+        return new String(fila, inicio, finCampos[indice] - inicio);
+    }
+    
+    /**
+     * Devuelve el campo indicado sin espacios al inicio ni al final.
+     */
+    public String campoSinEspacios(int indice) {
+        int inicio = inicioCampo(indice);
+        int fin = finCampos[indice];
+        while (inicio < fin && fila[inicio] <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && fila[fin - 1] <= ' ') {
+            fin--;
+        }
+        return new String(fila, inicio, fin - inicio);
+    }
+    
+    /**
+     * Devuelve el campo sin espacios alrededor, reutilizando la misma
+     * instancia cada vez que el texto se repite. Pensado para columnas
+     * con pocos valores distintos, como tipos o habilidades.
+     */
+    public String campoInternado(int indice) {
+        int inicio = inicioCampo(indice);
+        int fin = finCampos[indice];
+        while (inicio < fin && fila[inicio] <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && fila[fin - 1] <= ' ') {
+            fin--;
+        }
+        
+        // Mismo hash que String.hashCode, que cada String guarda ya calculado
+        int hash = 0;
+        for (int i = inicio; i < fin; i++) {
+            hash = 31 * hash + fila[i];
+        }
+        
+        int mascara = cache.length - 1;
+        int posicion = (hash ^ (hash >>> 16)) & mascara;
+        while (cache[posicion] != null) {
+            String existente = cache[posicion];
+            if (existente.hashCode() == hash && mismosCaracteres(existente, inicio, fin)) {
+                return existente;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+        
+        String nuevo = new String(fila, inicio, fin - inicio);
+        if (internador != null) {
+            nuevo = internador.internar(nuevo);
+        }
+        if (elementosCache < MAXIMO_CACHE) {
+            cache[posicion] = nuevo;
+            elementosCache++;
+            if (elementosCache * 2 > cache.length) {
+                redimensionarCache();
+            }
+        }
+        return nuevo;
+    }
+    
+    /**
+     * Devuelve todos los campos de la fila actual.
+     */
+    public String[] campos() {
+        String[] campos = new String[cantidadCampos];
+        for (int i = 0; i < cantidadCampos; i++) {
+            campos[i] = campo(i);
+        }
+        return campos;
+    }
+    
+    /**
+     * Convierte el campo indicado en entero sin crear subcadenas.
+     */
+    public int entero(int indice) {
+        int i = inicioCampo(indice);
+        int fin = finCampos[indice];
+        while (i < fin && fila[i] <= ' ') {
+            i++;
+        }
+        while (fin > i && fila[fin - 1] <= ' ') {
+            fin--;
+        }
+        
+        boolean negativo = i < fin && fila[i] == '-';
+        if (negativo || (i < fin && fila[i] == '+')) {
+            i++;
+        }
+        if (i == fin) {
+            throw new NumberFormatException("Número vacío en la columna " + indice);
+        }
+        
+        long valor = 0;
+        for (; i < fin; i++) {
+            int digito = fila[i] - '0';
+            if (digito < 0 || digito > 9) {
+                throw new NumberFormatException("Número inválido en la columna " + indice + ": " + campo(indice));
+            }
+            valor = valor * 10 + digito;
+            if (valor > Integer.MAX_VALUE + 1L) {
+                throw new NumberFormatException("Número fuera de rango en la columna " + indice);
+            }
+        }
+        valor = negativo ? -valor : valor;
+        if (valor > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Número fuera de rango en la columna " + indice);
+        }
+        return (int) valor;
+    }
+    
+    /**
+     * Convierte el campo indicado (como 0.7 o 13) en decimal. Para
+     * formatos poco comunes se recurre a Float.parseFloat.
+     */
+    public float decimal(int indice) {
+        int inicio = inicioCampo(indice);
+        int fin = finCampos[indice];
+        while (inicio < fin && fila[inicio] <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && fila[fin - 1] <= ' ') {
+            fin--;
+        }
+        
+        int i = inicio;
+        boolean negativo = i < fin && fila[i] == '-';
+        if (negativo || (i < fin && fila[i] == '+')) {
+            i++;
+        }
+        
+        long mantisa = 0;
+        int digitos = 0;
+        int decimales = 0;
+        boolean punto = false;
+        for (; i < fin; i++) {
+            char c = fila[i];
+            if (c == '.' && !punto) {
+                punto = true;
+            } else if (c >= '0' && c <= '9') {
+                mantisa = mantisa * 10 + (c - '0');
+                digitos++;
+                if (punto) {
+                    decimales++;
+                }
+            } else {
+                break;
+            }
+        }
+        
+        //--------
+        // Igual que en la lectura mapeada: con pocos dígitos la división
+        // en double es exacta y coincide con Float.parseFloat
+        //--------
+        if (i < fin || digitos == 0 || digitos > 15 || decimales >= POTENCIAS_DE_DIEZ.length) {
+            return Float.parseFloat(campoSinEspacios(indice));
+        }
+        double valor = (double) mantisa / POTENCIAS_DE_DIEZ[decimales];
+        return (float) (negativo ? -valor : valor);
+    }
+    
+    private static final double[] POTENCIAS_DE_DIEZ = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+    
+    private boolean mismosCaracteres(String cadena, int inicio, int fin) {
+        if (cadena.length() != fin - inicio) {
+            return false;
+        }
+        for (int i = inicio; i < fin; i++) {
+            if (cadena.charAt(i - inicio) != fila[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void redimensionarCache() {
+        String[] anterior = cache;
+        cache = new String[anterior.length * 2];
+        int mascara = cache.length - 1;
+        for (String cadena : anterior) {
+            if (cadena == null) {
+                continue;
+            }
+            int hash = cadena.hashCode();
+            int posicion = (hash ^ (hash >>> 16)) & mascara;
+            while (cache[posicion] != null) {
+                posicion = (posicion + 1) & mascara;
+            }
+            cache[posicion] = cadena;
+        }
+    }
+    
+    private int inicioCampo(int indice) {
+        if (indice < 0 || indice >= cantidadCampos) {
+            throw new IndexOutOfBoundsException("Campo " + indice + " de " + cantidadCampos);
+        }
+        return indice == 0 ? 0 : finCampos[indice - 1];
+    }
+    
+    /**
+     * Copia a la fila los caracteres comunes desde la posición indicada
+     * hasta el siguiente separador (o comilla, dentro de comillas) que
+     * haya en el buffer de entrada.
+     */
+    private void copiarHasta(int desde, boolean enComillas) {
+        int i = posicionEntrada;
+        if (enComillas) {
+            while (i < finEntrada && entrada[i] != '"') {
+                i++;
+            }
+        } else {
+            while (i < finEntrada) {
+                char c = entrada[i];
+                if (c == ',' || c == '\n' || c == '\r') {
+                    break;
+                }
+                i++;
+            }
+        }
+        
+        int longitud = i - desde;
+        if (longitudFila + longitud > fila.length) {
+            fila = Arrays.copyOf(fila, Math.max(longitudFila + longitud, fila.length * 2));
+        }
+        System.arraycopy(entrada, desde, fila, longitudFila, longitud);
+        longitudFila += longitud;
+        posicionEntrada = i;
+    }
+    
+    private void agregar(char c) {
+        if (longitudFila == fila.length) {
+            fila = Arrays.copyOf(fila, longitudFila * 2);
+        }
+        fila[longitudFila++] = c;
+    }
+    
+    private void cerrarCampo() {
+        if (cantidadCampos == finCampos.length) {
+            finCampos = Arrays.copyOf(finCampos, cantidadCampos * 2);
+        }
+        finCampos[cantidadCampos++] = longitudFila;
+    }
+    
+    private boolean llenarEntrada() throws IOException {
+        int leidos = lector.read(entrada, 0, entrada.length);
+        if (leidos <= 0) {
+            return false;
+        }
+        posicionEntrada = 0;
+        finEntrada = leidos;
+        return true;
+    }
+}
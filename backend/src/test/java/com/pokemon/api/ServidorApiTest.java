@@ -0,0 +1,221 @@
+package com.pokemon.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.ColeccionUsuario;
+import com.pokemon.service.ConcurrentMapaPokemons;
+import com.pokemon.service.MapaPokemons;
+
+/**
+ * Pruebas para el servidor HTTP de la API
+ * Autor: Fatima Navarro
+ */
+public class ServidorApiTest {
+    
+    private ServidorApi servidor;
+    private HttpClient cliente;
+    
+    @BeforeEach
+    public void setUp() throws IOException {
+        MapaPokemons mapa = new ConcurrentMapaPokemons();
+        mapa.agregarPokemon(new Pokemon("Pikachu", 25, "Electric", "", "Mouse Pokémon",
+                                        0.4f, 6.0f, "Static, Lightning-rod", 1, false));
+        mapa.agregarPokemon(new Pokemon("Charizard", 6, "Fire", "Flying", "Flame Pokémon",
+                                        1.7f, 90.5f, "Blaze, Solar-power", 1, false));
+        mapa.agregarPokemon(new Pokemon("Zapdos", 145, "Electric", "Flying", "Electric Pokémon",
+                                        1.6f, 52.6f, "Pressure, Static", 1, true));
+        
+        // Puerto 0: el sistema elige uno libre
+        servidor = new ServidorApi(mapa, new ColeccionUsuario(mapa), 0);
+        servidor.iniciar();
+        cliente = HttpClient.newHttpClient();
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        servidor.detener();
+    }
+    
+    private HttpResponse<String> enviar(String metodo, String ruta) throws Exception {
+        HttpRequest solicitud = HttpRequest.newBuilder(URI.create("http://localhost:" + servidor.getPuerto() + ruta))
+            .method(metodo, HttpRequest.BodyPublishers.noBody())
+            .build();
+        return cliente.send(solicitud, HttpResponse.BodyHandlers.ofString());
+    }
+    
+    @Test
+    public void testEscuchaSoloEnInterfazLocal() throws Exception {
+        // La colección admite escrituras sin autenticación: por defecto no se expone a la red
+        assertTrue(servidor.getDireccion().isLoopbackAddress());
+        assertEquals(200, enviar("GET", "/api/tipos").statusCode());
+    }
+    
+    @Test
+    public void testBuscarPorNombre() throws Exception {
+        HttpResponse<String> respuesta = enviar("GET", "/api/pokemon/Pikachu");
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+        assertTrue(respuesta.body().contains("\"name\":\"Pikachu\""));
+        assertFalse(respuesta.body().contains("Charizard"));
+        
+        HttpResponse<String> noEncontrado = enviar("GET", "/api/pokemon/Missingno");
+        assertEquals(404, noEncontrado.statusCode());
+        assertTrue(noEncontrado.body().contains("\"success\": false"));
+    }
+    
+    @Test
+    public void testParametroMalCodificado() throws Exception {
+        // Un escape inválido es un error del cliente y no expone detalles internos
+        ServidorApi.SolicitudInvalida error = assertThrows(ServidorApi.SolicitudInvalida.class,
+            () -> ServidorApi.decodificarConsulta("prefijo=%zz"));
+        assertTrue(error.getMessage().contains("mal codificado"));
+        assertFalse(error.getMessage().contains("URLDecoder"));
+        assertThrows(ServidorApi.SolicitudInvalida.class,
+            () -> ServidorApi.decodificarConsulta("tipo=fire&orden=%2"));
+        assertEquals("pé", ServidorApi.decodificarConsulta("prefijo=p%C3%A9").get("prefijo"));
+        
+        // Por HTTP la solicitud cruda también termina en 400
+        try (Socket conexion = new Socket(servidor.getDireccion(), servidor.getPuerto())) {
+            conexion.getOutputStream().write(("GET /api/pokemon?prefijo=%zz HTTP/1.1\r\n"
+                + "Host: localhost\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            BufferedReader lector = new BufferedReader(
+                new InputStreamReader(conexion.getInputStream(), StandardCharsets.UTF_8));
+            assertTrue(lector.readLine().contains(" 400 "));
+        }
+    }
+    
+    @Test
+    public void testBuscarPorHabilidad() throws Exception {
+        HttpResponse<String> respuesta = enviar("GET", "/api/pokemon?habilidad=static");
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.body().contains("Pikachu"));
+        assertTrue(respuesta.body().contains("Zapdos"));
+        assertFalse(respuesta.body().contains("Charizard"));
+        assertTrue(respuesta.body().contains("\"total\":2"));
+        
+        assertEquals(400, enviar("GET", "/api/pokemon?habilidad=").statusCode());
+    }
+    
+    @Test
+    public void testListadoPorPaginas() throws Exception {
+        HttpResponse<String> primera = enviar("GET", "/api/pokemon?limite=2");
+        assertEquals(200, primera.statusCode());
+        assertTrue(primera.body().contains("Pikachu"));
+        assertTrue(primera.body().contains("Charizard"));
+        assertTrue(primera.body().contains("\"siguienteCursor\":\"2\""));
+        
+        HttpResponse<String> segunda = enviar("GET", "/api/pokemon?limite=2&cursor=2");
+        assertTrue(segunda.body().contains("Zapdos"));
+        assertFalse(segunda.body().contains("Pikachu"));
+        assertTrue(segunda.body().contains("\"siguienteCursor\":null"));
+        
+        assertEquals(400, enviar("GET", "/api/pokemon?cursor=abc").statusCode());
+        assertEquals(400, enviar("GET", "/api/pokemon?limite=0").statusCode());
+    }
+    
+    @Test
+    public void testTipos() throws Exception {
+        HttpResponse<String> tipos = enviar("GET", "/api/tipos");
+        assertEquals(200, tipos.statusCode());
+        assertTrue(tipos.body().contains("{\"tipo\":\"Electric\",\"cantidad\":2}"));
+        assertTrue(tipos.body().contains("{\"tipo\":\"Flying\",\"cantidad\":2}"));
+        
+        HttpResponse<String> voladores = enviar("GET", "/api/tipos/flying");
+        assertEquals(200, voladores.statusCode());
+        assertTrue(voladores.body().contains("Charizard"));
+        assertTrue(voladores.body().contains("Zapdos"));
+        assertFalse(voladores.body().contains("Pikachu"));
+        
+        assertEquals(404, enviar("GET", "/api/tipos/Shadow").statusCode());
+        assertEquals(404, enviar("GET", "/api/tiposX").statusCode());
+    }
+    
+    @Test
+    public void testColeccion() throws Exception {
+        assertEquals(201, enviar("POST", "/api/coleccion/Pikachu").statusCode());
+        assertEquals(200, enviar("POST", "/api/coleccion/Pikachu").statusCode());
+        assertEquals(404, enviar("POST", "/api/coleccion/Missingno").statusCode());
+        
+        HttpResponse<String> coleccion = enviar("GET", "/api/coleccion");
+        assertTrue(coleccion.body().contains("Pikachu"));
+        assertTrue(coleccion.body().contains("\"total\":1"));
+        
+        assertEquals(200, enviar("DELETE", "/api/coleccion/Pikachu").statusCode());
+        assertEquals(404, enviar("DELETE", "/api/coleccion/Pikachu").statusCode());
+        
+        HttpResponse<String> noPermitido = enviar("PUT", "/api/coleccion/Pikachu");
+        assertEquals(405, noPermitido.statusCode());
+        assertEquals("POST, DELETE", noPermitido.headers().firstValue("Allow").orElse(""));
+    }
+    
+    @Test
+    public void testBuscarNombres() throws Exception {
+        HttpResponse<String> respuesta = enviar("GET", "/api/pokemon?prefijo=PI");
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.body().contains("\"name\":\"Pikachu\""));
+        assertTrue(respuesta.body().contains("\"total\":1"));
+        
+        respuesta = enviar("GET", "/api/pokemon?aproximado=pikachoo&limite=5");
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.body().contains("\"name\":\"Pikachu\""));
+        
+        assertEquals(400, enviar("GET", "/api/pokemon?aproximado=").statusCode());
+        assertEquals(400, enviar("GET", "/api/pokemon?prefijo=pi&limite=0").statusCode());
+    }
+    
+    @Test
+    public void testNombresSinDistinguirMayusculas() throws Exception {
+        HttpResponse<String> respuesta = enviar("GET", "/api/pokemon/pikachu");
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.body().contains("\"name\":\"Pikachu\""));
+        
+        // La colección guarda el nombre tal como está en el catálogo
+        assertEquals(201, enviar("POST", "/api/coleccion/ZAPDOS").statusCode());
+        assertEquals(200, enviar("POST", "/api/coleccion/Zapdos").statusCode());
+        assertEquals(200, enviar("DELETE", "/api/coleccion/zapdos").statusCode());
+    }
+    
+    @Test
+    public void testConsulta() throws Exception {
+        HttpResponse<String> respuesta = enviar("GET", "/api/consulta?tipo=electric&orden=-peso");
+        assertEquals(200, respuesta.statusCode());
+        String cuerpo = respuesta.body();
+        assertTrue(cuerpo.indexOf("Zapdos") < cuerpo.indexOf("Pikachu"));
+        assertFalse(cuerpo.contains("Charizard"));
+        assertTrue(cuerpo.contains("\"plan\""));
+        
+        respuesta = enviar("GET", "/api/consulta?habilidad=static&legendario=true");
+        assertTrue(respuesta.body().contains("Zapdos"));
+        assertFalse(respuesta.body().contains("Pikachu"));
+        
+        assertEquals(400, enviar("GET", "/api/consulta?orden=velocidad").statusCode());
+        assertEquals(400, enviar("GET", "/api/consulta?tipo=sombra").statusCode());
+    }
+    
+    @Test
+    public void testMetricas() throws Exception {
+        enviar("GET", "/api/pokemon/Pikachu");
+        HttpResponse<String> respuesta = enviar("GET", "/api/metricas");
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.body().contains("\"p99Ns\""));
+        assertTrue(respuesta.body().contains("\"habilitadas\""));
+        assertEquals(405, enviar("POST", "/api/metricas").statusCode());
+    }
+}
@@ -0,0 +1,91 @@
+package com.pokemon.metricas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas para el histograma de latencias
+ * Autor: Fatima Navarro
+ */
+public class HistogramaLatenciaTest {
+    
+    @Test
+    public void testCubetasContiguas() {
+        // Cada valor cae en una cubeta cuyo límite superior lo cubre y
+        // las cubetas no dejan huecos entre sí
+        int anterior = -1;
+        for (long valor = 0; valor < 100_000; valor++) {
+            int indice = HistogramaLatencia.indice(valor);
+            assertTrue(indice == anterior || indice == anterior + 1, "hueco en " + valor);
+            assertTrue(HistogramaLatencia.limiteSuperior(indice) >= valor);
+            anterior = indice;
+        }
+        for (long valor = 1; valor < 1L << 37; valor = valor * 3 + 1) {
+            long limite = HistogramaLatencia.limiteSuperior(HistogramaLatencia.indice(valor));
+            assertTrue(limite >= valor && limite - valor <= valor / 32, "error excesivo en " + valor);
+        }
+    }
+    
+    @Test
+    public void testPercentiles() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        for (long valor = 1; valor <= 10_000; valor++) {
+            histograma.registrar(valor);
+        }
+        
+        ResumenLatencia resumen = histograma.resumir();
+        assertEquals(10_000, resumen.getCantidad());
+        assertEquals(5000.5, resumen.getPromedio(), 0.001);
+        assertCerca(5000, resumen.getP50());
+        assertCerca(9900, resumen.getP99());
+        assertCerca(9990, resumen.getP999());
+        assertEquals(10_000, resumen.getMaximo());
+        
+        histograma.reiniciar();
+        assertEquals(0, histograma.resumir().getCantidad());
+        assertEquals(0, histograma.resumir().getP99());
+    }
+    
+    @Test
+    public void testValoresExtremos() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        histograma.registrar(-5);
+        histograma.registrar(Long.MAX_VALUE);
+        
+        ResumenLatencia resumen = histograma.resumir();
+        assertEquals(2, resumen.getCantidad());
+        assertEquals(0, resumen.getP50());
+        assertEquals((1L << 37) - 1, resumen.getMaximo());
+    }
+    
+    @Test
+    public void testRegistroConcurrente() throws InterruptedException {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        List<Thread> hilos = new ArrayList<>();
+        for (int h = 0; h < 4; h++) {
+            Thread hilo = new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    histograma.registrar(i % 1000);
+                }
+            });
+            hilos.add(hilo);
+            hilo.start();
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        
+        // Ninguna medición se pierde aunque varios hilos escriban a la vez
+        assertEquals(200_000, histograma.resumir().getCantidad());
+        assertEquals(999, histograma.resumir().getMaximo());
+    }
+    
+    private static void assertCerca(long esperado, long obtenido) {
+        assertTrue(Math.abs(obtenido - esperado) <= esperado / 32, "esperado ~" + esperado + " pero fue " + obtenido);
+    }
+}
@@ -0,0 +1,58 @@
+package com.pokemon.metricas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas para el registro de métricas y su publicación por JMX
+ * Autor: Fatima Navarro
+ */
+public class RegistroMetricasTest {
+    
+    @Test
+    public void testVolcado() {
+        RegistroMetricas registro = new RegistroMetricas();
+        assertSame(registro.histograma("Mapa.obtenerPokemon"), registro.histograma("Mapa.obtenerPokemon"));
+        registro.histograma("Mapa.obtenerPokemon").registrar(100);
+        registro.histograma("Mapa.obtenerPokemon").registrar(300);
+        registro.histograma("Mapa.agregarPokemon").registrar(50);
+        
+        List<Object> volcado = registro.volcar();
+        assertEquals(2, volcado.size());
+        // Ordenado por nombre de operación
+        Map<?, ?> primera = (Map<?, ?>) volcado.get(0);
+        assertEquals("Mapa.agregarPokemon", primera.get("operacion"));
+        Map<?, ?> segunda = (Map<?, ?>) volcado.get(1);
+        assertEquals(2L, segunda.get("cantidad"));
+        assertEquals(200L, segunda.get("promedioNs"));
+        assertEquals(300L, segunda.get("maximoNs"));
+        
+        registro.reiniciar();
+        assertEquals(0, registro.getOperaciones().get("Mapa.obtenerPokemon").getCantidad());
+    }
+    
+    @Test
+    public void testJmx() throws Exception {
+        RegistroMetricas.global().histograma("Prueba.jmx").registrar(1234);
+        RegistroMetricas.global().publicarJmx();
+        // Publicar de nuevo reemplaza el MBean en lugar de fallar
+        RegistroMetricas.global().publicarJmx();
+        
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nombre = new ObjectName("com.pokemon:type=Metricas");
+        assertEquals(RegistroMetricas.HABILITADAS, servidor.getAttribute(nombre, "Habilitadas"));
+        TabularData operaciones = (TabularData) servidor.getAttribute(nombre, "Operaciones");
+        assertTrue(operaciones.containsKey(new Object[] {"Prueba.jmx"}));
+    }
+}
@@ -0,0 +1,169 @@
+package com.pokemon.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.pokemon.service.LinkedHashMapPokemon;
+import com.pokemon.service.MapaPokemons;
+import com.pokemon.util.LectorCSV;
+
+/**
+ * Pruebas para el escritor JSON de streaming: debe producir los mismos
+ * bytes que PokemonResponse.toJson() y Pokemon.toJson()
+ * Autor: Fatima Navarro
+ */
+public class EscritorJsonTest {
+    
+    private static final Pokemon ESPECIAL = new Pokemon(
+        "Nidoran♀ \"A/B\"", 29, "Poison", null, "Poison Pin Pokémon\\",
+        0.4f, 7.0f, "Poison-point,\tRivalry\n\u0001", 1, false);
+    
+    private static String escribir(PokemonResponse respuesta) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        respuesta.escribirJson(salida);
+        return salida.toString(StandardCharsets.UTF_8);
+    }
+    
+    private static void assertMismosBytes(PokemonResponse respuesta) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        respuesta.escribirJson(salida);
+        assertArrayEquals(respuesta.toJson().getBytes(StandardCharsets.UTF_8), salida.toByteArray());
+    }
+    
+    @Test
+    public void testCatalogoCompleto() throws IOException {
+        MapaPokemons mapa = LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", new LinkedHashMapPokemon());
+        List<Pokemon> todos = new ArrayList<>(mapa.obtenerTodos().values());
+        
+        PokemonResponse respuesta = PokemonResponse.success("Catálogo completo", todos);
+        respuesta.addMetadata("total", todos.size());
+        assertMismosBytes(respuesta);
+        
+        // Un solo Pokémon como dato y el mapa completo como dato
+        assertMismosBytes(PokemonResponse.success("Uno", mapa.obtenerPokemon("Mr. Mime")));
+        assertMismosBytes(PokemonResponse.success("Mapa", mapa.obtenerTodos()));
+    }
+    
+    @Test
+    public void testValoresAnidados() throws IOException {
+        Map<String, Object> anidado = new LinkedHashMap<>();
+        anidado.put("entero", 7);
+        anidado.put("largo", 1L << 40);
+        anidado.put("decimal", 2.5);
+        anidado.put("flotante", Float.NaN);
+        anidado.put("booleano", true);
+        anidado.put("nulo", null);
+        anidado.put("texto", "a/b \"c\" \\ \b\f\n\r\t\u0007 é");
+        anidado.put("lista", Arrays.asList(1, null, "x", false, Arrays.asList(ESPECIAL)));
+        anidado.put("pokemon", ESPECIAL);
+        
+        Map<String, Object> metadatos = new LinkedHashMap<>();
+        metadatos.put("clave/\"rara\"", anidado);
+        
+        assertMismosBytes(PokemonResponse.success("Anidado", anidado, metadatos));
+        assertMismosBytes(PokemonResponse.success("Lista", Arrays.asList(ESPECIAL, 3, "texto")));
+        
+        // Números, booleanos y otros objetos como dato directo van entre comillas
+        assertMismosBytes(PokemonResponse.success("Número", 42));
+        assertMismosBytes(PokemonResponse.success("Booleano", Boolean.TRUE));
+        assertMismosBytes(new PokemonResponse(false, null, null, null));
+        
+        // Un Pokémon más grande que el buffer del generador
+        StringBuilder habilidades = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            habilidades.append("Habilidad-").append(i).append(", ");
+        }
+        Pokemon grande = new Pokemon("Grande", 1, "Normal", "", "Prueba", 1.0f, 1.0f,
+                                     habilidades.toString(), 1, false);
+        assertMismosBytes(PokemonResponse.success("Grande", Arrays.asList(ESPECIAL, grande, ESPECIAL)));
+    }
+    
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testListaSinMapasIntermedios() throws IOException {
+        MapaPokemons mapa = LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", new LinkedHashMapPokemon());
+        
+        // Mismas propiedades y valores que con los mapas intermedios
+        ObjectMapper lector = new ObjectMapper();
+        String conMapas = PokemonResponse.success("Todos", PokemonResponse.convertPokemonMapToList(mapa.obtenerTodos())).toJson();
+        String tipada = escribir(PokemonResponse.success("Todos", PokemonResponse.listaPokemon(mapa.obtenerTodos())));
+        assertEquals(lector.readTree(conMapas), lector.readTree(tipada));
+        
+        Pokemon pikachu = mapa.obtenerPokemon("Pikachu");
+        assertEquals(lector.readTree(PokemonResponse.success("Uno", PokemonResponse.convertPokemonToMap(pikachu)).toJson()),
+                     lector.readTree(escribir(PokemonResponse.success("Uno", pikachu))));
+    }
+    
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testTipoUnicoIgualQueMapas() throws IOException {
+        //--------
+        // Un Pokémon de un solo tipo (type2 null o vacío) produce los mismos
+        // bytes por la lista tipada que por los mapas intermedios, con las
+        // propiedades en el mismo orden
+        //--------
+        Map<String, Pokemon> mapa = new LinkedHashMap<>();
+        mapa.put("Pikachu", new Pokemon("Pikachu", 25, "Electric", null, "Mouse Pokémon",
+                                        0.4f, 6.0f, "Static, Lightning-rod", 1, false));
+        mapa.put("Mew", new Pokemon("Mew", 151, "Psychic", "", "New Species Pokémon",
+                                    0.4f, 4.0f, "Synchronize", 1, true));
+        
+        List<Map<String, Object>> ordenados = new ArrayList<>();
+        for (Map<String, Object> datos : PokemonResponse.convertPokemonMapToList(mapa)) {
+            Map<String, Object> ordenado = new LinkedHashMap<>();
+            for (String propiedad : new String[] {"name", "pokedexNumber", "type1", "type2", "classification",
+                                                  "height", "weight", "abilities", "generation", "legendary"}) {
+                ordenado.put(propiedad, datos.get(propiedad));
+            }
+            ordenados.add(ordenado);
+        }
+        
+        byte[] conMapas = PokemonResponse.success("Todos", ordenados).toJson().getBytes(StandardCharsets.UTF_8);
+        byte[] tipada = escribir(PokemonResponse.success("Todos", PokemonResponse.listaPokemon(mapa)))
+            .getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(conMapas, tipada);
+        assertTrue(mapa.get("Pikachu").toJson().contains("\"type2\":null"));
+        assertTrue(mapa.get("Mew").toJson().contains("\"type2\":\"\""));
+    }
+    
+    @Test
+    public void testPokemon() throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        ESPECIAL.escribirJson(salida);
+        assertEquals(ESPECIAL.toJson(), salida.toString(StandardCharsets.UTF_8));
+        
+        // Los bytes se codifican una sola vez
+        assertSame(ESPECIAL.bytesJson(), ESPECIAL.bytesJson());
+        
+        // La barra invertida se escapa antes que las comillas
+        assertTrue(ESPECIAL.toJson().contains("\"name\":\"Nidoran♀ \\\"A\\/B\\\"\""));
+        assertTrue(ESPECIAL.toJson().contains("\"classification\":\"Poison Pin Pokémon\\\\\""));
+    }
+    
+    @Test
+    public void testCanalYFormato() throws IOException {
+        PokemonResponse respuesta = PokemonResponse.error("No encontrado");
+        respuesta.addMetadata("codigo", 404);
+        
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        respuesta.escribirJson(Channels.newChannel(salida));
+        assertEquals("{\"success\": false,\"message\": \"No encontrado\",\"data\": null,\"metadata\": {\"codigo\":404}}",
+                     salida.toString(StandardCharsets.UTF_8));
+        assertEquals(escribir(respuesta), salida.toString(StandardCharsets.UTF_8));
+    }
+}
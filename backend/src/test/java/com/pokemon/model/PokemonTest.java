@@ -2,6 +2,8 @@ package com.pokemon.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
@@ -92,4 +94,27 @@ public class PokemonTest {
         assertTrue(json.contains("\"name\":\"Mr. Mime\""));
         assertTrue(json.contains("\"abilities\":\"Soundproof, Filter\""));
     }
+    
+    @Test
+    public void testTiposComoEnum() {
+        Pokemon gyarados = new Pokemon("Gyarados", 130, new String("Water"), "Flying",
+                                       "Atrocious Pokémon", 6.5f, 235.0f, "Intimidate", 1, false);
+        
+        // El texto del tipo se reemplaza por la instancia compartida del enum
+        assertSame(PokemonType.WATER, gyarados.getTipo1());
+        assertSame(PokemonType.WATER.getNombre(), gyarados.getType1());
+        assertTrue(gyarados.tieneTipo(PokemonType.FLYING));
+        assertFalse(gyarados.tieneTipo(PokemonType.FIRE));
+        
+        // Un tipo desconocido o vacío conserva su texto y no tiene constante
+        Pokemon raro = new Pokemon("Raro", 0, "Shadow", "", "", 1.0f, 1.0f, "", 1, false);
+        assertNull(raro.getTipo1());
+        assertNull(raro.getTipo2());
+        assertEquals("Shadow", raro.getType1());
+        assertEquals(PokemonType.FIRE, PokemonType.desde(" fire "));
+        assertEquals(PokemonType.FIRE, PokemonType.desde("FIRE"));
+        assertSame(PokemonType.FIGHTING, PokemonType.desde("\tfighting"));
+        assertNull(PokemonType.desde("   "));
+        assertNull(PokemonType.desde("Fir"));
+    }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
 
 /**
  * Pruebas para la clase ColeccionUsuario
@@ -337,6 +338,24 @@ public class ColeccionUsuarioTest {
         assertTrue(legendarios.get(0).isLegendary());
     }
     
+    @Test
+    public void testFiltroCompuesto() {
+        coleccionUsuario.agregarPokemon("Pikachu");
+        coleccionUsuario.agregarPokemon("Charizard");
+        coleccionUsuario.agregarPokemon("Mewtwo");
+        
+        // Legendarios de tipo Psíquico de la generación 1
+        List<Pokemon> resultado = coleccionUsuario.filtrar(PokemonType.PSYCHIC, 1, true);
+        assertEquals(1, resultado.size());
+        assertEquals("Mewtwo", resultado.get(0).getName());
+        assertTrue(coleccionUsuario.filtrar(PokemonType.FIRE, 1, true).isEmpty());
+        
+        // Al eliminar un Pokémon deja de aparecer en los filtros
+        coleccionUsuario.eliminarPokemon("Mewtwo");
+        assertTrue(coleccionUsuario.filtrar(PokemonType.PSYCHIC, 1, true).isEmpty());
+        assertTrue(coleccionUsuario.obtenerLegendarios().isEmpty());
+    }
+    
     @Test
     public void testObtenerEstadisticas() {
         // Agregar varios Pokémon de diferentes generaciones
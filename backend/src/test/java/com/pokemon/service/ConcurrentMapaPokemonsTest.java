@@ -0,0 +1,138 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Pruebas para la implementación ConcurrentMapaPokemons
+ * Autor: Fatima Navarro
+ */
+public class ConcurrentMapaPokemonsTest {
+    
+    private static final int HILOS_ESCRITORES = 4;
+    private static final int HILOS_LECTORES = 4;
+    private static final int POKEMON_POR_HILO = 2000;
+    
+    private MapaPokemons mapaPokemons;
+    
+    @BeforeEach
+    public void setUp() {
+        mapaPokemons = new ConcurrentMapaPokemons();
+        mapaPokemons.agregarPokemon(crear("Bulbasaur", "Grass", "Overgrow, Chlorophyll"));
+        mapaPokemons.agregarPokemon(crear("Charmander", "Fire", "Blaze, Solar-power"));
+        mapaPokemons.agregarPokemon(crear("Squirtle", "Water", "Torrent, Rain-dish"));
+    }
+    
+    private Pokemon crear(String nombre, String tipo, String habilidades) {
+        return new Pokemon(nombre, 1, tipo, "", "Test Pokémon", 1.0f, 1.0f, habilidades, 1, false);
+    }
+    
+    @Test
+    public void testOperacionesBasicas() {
+        // Mismo comportamiento que las demás implementaciones
+        assertEquals(3, mapaPokemons.obtenerTodos().size());
+        assertNotNull(mapaPokemons.obtenerPokemon("Bulbasaur"));
+        assertNull(mapaPokemons.obtenerPokemon("Pikachu"));
+        assertTrue(mapaPokemons.existePokemon("Squirtle"));
+        assertFalse(mapaPokemons.existePokemon("Pikachu"));
+        assertEquals("Concurrent", mapaPokemons.getTipoMapa());
+    }
+    
+    @Test
+    public void testBuscarPorHabilidad() {
+        Map<String, Pokemon> conBlaze = mapaPokemons.buscarPorHabilidad("BLAZE");
+        assertEquals(1, conBlaze.size());
+        assertTrue(conBlaze.containsKey("Charmander"));
+        
+        // Al reemplazar un Pokémon cambia su texto de habilidades
+        mapaPokemons.agregarPokemon(crear("Charmander", "Fire", "Levitate"));
+        assertTrue(mapaPokemons.buscarPorHabilidad("blaze").isEmpty());
+        assertEquals(1, mapaPokemons.buscarPorHabilidad("lev").size());
+    }
+    
+    @Test
+    public void testObtenerOrdenadosPorTipo() {
+        List<Pokemon> ordenados = mapaPokemons.obtenerOrdenadosPorTipo();
+        assertEquals("Charmander", ordenados.get(0).getName());
+        assertEquals("Bulbasaur", ordenados.get(1).getName());
+        assertEquals("Squirtle", ordenados.get(2).getName());
+        
+        mapaPokemons.agregarPokemon(crear("Abra", "Psychic", "Synchronize"));
+        assertEquals(4, mapaPokemons.obtenerOrdenadosPorTipo().size());
+    }
+    
+    @Test
+    public void testObtenerTodosEsSoloLectura() {
+        // No se entrega el mapa interno
+        assertThrows(UnsupportedOperationException.class,
+            () -> mapaPokemons.obtenerTodos().remove("Bulbasaur"));
+    }
+    
+    @Test
+    public void testLecturasYEscriturasConcurrentes() throws Exception {
+        //--------
+        // Varios hilos escriben Pokémon distintos mientras otros leen;
+        // no debe haber excepciones ni datos perdidos
+        //--------
+        ExecutorService pool = Executors.newFixedThreadPool(HILOS_ESCRITORES + HILOS_LECTORES);
+        CountDownLatch inicio = new CountDownLatch(1);
+        CountDownLatch escritoresTerminados = new CountDownLatch(HILOS_ESCRITORES);
+        List<Future<?>> tareas = new ArrayList<>();
+        
+        for (int h = 0; h < HILOS_ESCRITORES; h++) {
+            final int hilo = h;
+            tareas.add(pool.submit(() -> {
+                inicio.await();
+                for (int i = 0; i < POKEMON_POR_HILO; i++) {
+                    mapaPokemons.agregarPokemon(crear("P" + hilo + "-" + i, "Normal", "Run-away, Keen-eye"));
+                }
+                escritoresTerminados.countDown();
+                return null;
+            }));
+        }
+        
+        for (int h = 0; h < HILOS_LECTORES; h++) {
+            tareas.add(pool.submit(() -> {
+                inicio.await();
+                while (escritoresTerminados.getCount() > 0) {
+                    assertNotNull(mapaPokemons.obtenerPokemon("Bulbasaur"));
+                    mapaPokemons.buscarPorHabilidad("keen");
+                    mapaPokemons.obtenerOrdenadosPorTipo();
+                    // El índice por número se lee sin esperar a los escritores
+                    assertEquals("Bulbasaur", mapaPokemons.obtenerPorPokedex(1).getName());
+                    mapaPokemons.obtenerRangoPokedex(1, 10);
+                }
+                return null;
+            }));
+        }
+        
+        inicio.countDown();
+        for (Future<?> tarea : tareas) {
+            tarea.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        
+        int esperados = 3 + HILOS_ESCRITORES * POKEMON_POR_HILO;
+        assertEquals(esperados, mapaPokemons.obtenerTodos().size());
+        assertEquals(HILOS_ESCRITORES * POKEMON_POR_HILO, mapaPokemons.buscarPorHabilidad("keen").size());
+        assertEquals(esperados, mapaPokemons.obtenerOrdenadosPorTipo().size());
+        assertEquals(esperados, mapaPokemons.obtenerOrdenadosPorPokedex().size());
+    }
+}
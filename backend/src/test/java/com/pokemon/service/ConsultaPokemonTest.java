@@ -0,0 +1,133 @@
+package com.pokemon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+import com.pokemon.service.ConsultaPokemon.Acceso;
+import com.pokemon.service.ConsultaPokemon.Campo;
+
+/**
+ * Pruebas para las consultas componibles y su planificador
+ * Autor: Fatima Navarro
+ */
+public class ConsultaPokemonTest {
+    
+    private MapaPokemons crearMapa(int tipo) {
+        MapaPokemons mapa = PokemonMapFactory.crearMapa(tipo);
+        mapa.agregarPokemon(new Pokemon("Dialga", 483, "Steel", "Dragon", "Temporal Pokémon", 5.4f, 683.0f, "Pressure, Telepathy", 4, true));
+        mapa.agregarPokemon(new Pokemon("Palkia", 484, "Water", "Dragon", "Spatial Pokémon", 4.2f, 336.0f, "Pressure, Telepathy", 4, true));
+        mapa.agregarPokemon(new Pokemon("Garchomp", 445, "Dragon", "Ground", "Mach Pokémon", 1.9f, 95.0f, "Sand-veil, Rough-skin", 4, false));
+        mapa.agregarPokemon(new Pokemon("Dragonite", 149, "Dragon", "Flying", "Dragon Pokémon", 2.2f, 210.0f, "Inner-focus, Multiscale", 1, false));
+        mapa.agregarPokemon(new Pokemon("Mewtwo", 150, "Psychic", "", "Genetic Pokémon", 2.0f, 122.0f, "Pressure, Unnerve", 1, true));
+        mapa.agregarPokemon(new Pokemon("Pikachu", 25, "Electric", "", "Mouse Pokémon", 0.4f, 6.0f, "Static, Lightning-rod", 1, false));
+        return mapa;
+    }
+    
+    private String nombres(List<Pokemon> pokemons) {
+        StringBuilder sb = new StringBuilder();
+        for (Pokemon pokemon : pokemons) {
+            sb.append(sb.length() > 0 ? "," : "").append(pokemon.getName());
+        }
+        return sb.toString();
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testAccesoPorNombre(int tipo) {
+        ConsultaPokemon consulta = ConsultaPokemon.sobre(crearMapa(tipo))
+            .igual(Campo.LEGENDARIO, true)
+            .igual(Campo.NOMBRE, "MEWTWO");
+        
+        assertEquals(Acceso.NOMBRE, consulta.acceso());
+        assertEquals("Mewtwo", nombres(consulta.ejecutar()));
+        // La condición de nombre resuelve el acceso; la otra queda como filtro
+        assertTrue(consulta.explicar().contains("Filtros: legendario = true"));
+        
+        ConsultaPokemon noLegendario = ConsultaPokemon.sobre(crearMapa(tipo))
+            .igual(Campo.NOMBRE, "pikachu")
+            .igual(Campo.LEGENDARIO, true);
+        assertEquals("", nombres(noLegendario.ejecutar()));
+        assertEquals("", nombres(ConsultaPokemon.sobre(crearMapa(tipo)).igual(Campo.NOMBRE, "Raichu").ejecutar()));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testAccesoPorHabilidad(int tipo) {
+        ConsultaPokemon consulta = ConsultaPokemon.sobre(crearMapa(tipo))
+            .igual(Campo.TIPO, PokemonType.DRAGON)
+            .contiene(Campo.HABILIDADES, "pressure")
+            .ordenarPor(Campo.NUMERO);
+        
+        assertEquals(Acceso.HABILIDAD, consulta.acceso());
+        assertEquals("Dialga,Palkia", nombres(consulta.ejecutar()));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testEscaneoConOrdenYLimite(int tipo) {
+        ConsultaPokemon consulta = ConsultaPokemon.sobre(crearMapa(tipo))
+            .igual(Campo.TIPO, "dragon")
+            .ordenarPor(Campo.GENERACION)
+            .ordenarPorDescendente(Campo.PESO)
+            .limite(3);
+        
+        assertEquals(Acceso.ESCANEO, consulta.acceso());
+        assertEquals("Dragonite,Dialga,Palkia", nombres(consulta.ejecutar()));
+    }
+    
+    @Test
+    public void testFiltros() {
+        MapaPokemons mapa = crearMapa(1);
+        
+        assertEquals("Garchomp,Mewtwo,Dragonite", nombres(ConsultaPokemon.sobre(mapa)
+            .entre(Campo.ALTURA, 1.9, 2.2)
+            .ordenarPor(Campo.ALTURA)
+            .ejecutar()));
+        assertEquals("Pikachu", nombres(ConsultaPokemon.sobre(mapa)
+            .contiene(Campo.CLASIFICACION, "MOUSE")
+            .ejecutar()));
+        assertEquals("Pikachu,Dragonite,Mewtwo", nombres(ConsultaPokemon.sobre(mapa)
+            .igual(Campo.GENERACION, 1)
+            .donde("nombre corto", p -> p.getName().length() <= 9)
+            .ordenarPor(Campo.NUMERO)
+            .ejecutar()));
+        
+        // Una sola clave numérica con límite usa TopK; el resultado es el mismo
+        assertEquals("Dialga,Palkia,Dragonite", nombres(ConsultaPokemon.sobre(mapa)
+            .ordenarPorDescendente(Campo.PESO)
+            .limite(3)
+            .ejecutar()));
+        assertEquals("Pikachu,Garchomp", nombres(ConsultaPokemon.sobre(mapa)
+            .ordenarPor(Campo.PESO)
+            .limite(2)
+            .ejecutar()));
+        
+        // Sin orden el recorrido se corta al llegar al límite
+        assertEquals(2, ConsultaPokemon.sobre(mapa).limite(2).ejecutar().size());
+        assertThrows(IllegalArgumentException.class, () -> ConsultaPokemon.sobre(mapa).limite(0));
+    }
+    
+    @Test
+    public void testExplicar() {
+        String plan = ConsultaPokemon.sobre(crearMapa(1))
+            .igual(Campo.LEGENDARIO, true)
+            .ordenarPorDescendente(Campo.PESO)
+            .limite(2)
+            .explicar();
+        
+        assertTrue(plan.startsWith("Acceso: recorrido completo, costo estimado: 6"));
+        assertTrue(plan.contains("Filtros: legendario = true"));
+        assertTrue(plan.contains("Orden: peso descendente (montículo acotado)"));
+        assertTrue(plan.contains("Límite: 2"));
+        assertEquals(Campo.PESO, Campo.desde(" Peso "));
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -160,6 +162,34 @@ public class HashMapPokemonTest {
         }
     }
     
+    @Test
+    public void testOrdenadosPorTipoSeActualizaTrasEscritura() {
+        // La vista ordenada se reutiliza mientras no haya escrituras
+        List<Pokemon> primera = mapaPokemons.obtenerOrdenadosPorTipo();
+        assertSame(primera, mapaPokemons.obtenerOrdenadosPorTipo());
+        
+        // La lista devuelta no se puede modificar
+        assertThrows(UnsupportedOperationException.class, () -> primera.remove(0));
+        
+        // Al agregar un Pokémon la vista se recalcula
+        mapaPokemons.agregarPokemon(new Pokemon(
+            "Abra", 
+            63, 
+            "Psychic", 
+            "", 
+            "Psi Pokémon", 
+            0.9f, 
+            19.5f, 
+            "Synchronize", 
+            1, 
+            false
+        ));
+        List<Pokemon> segunda = mapaPokemons.obtenerOrdenadosPorTipo();
+        assertEquals(4, segunda.size());
+        assertEquals("Abra", segunda.get(2).getName());
+        assertEquals(3, primera.size());
+    }
+    
     @Test
     public void testGetTipoMapa() {
         // Verificar que devuelve el tipo correcto
@@ -0,0 +1,84 @@
+package com.pokemon.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Pruebas para el índice invertido de habilidades
+ * Autor: Fatima Navarro
+ */
+public class IndiceHabilidadesTest {
+    
+    private IndiceHabilidades indice;
+    
+    @BeforeEach
+    public void setUp() {
+        indice = new IndiceHabilidades();
+        indice.agregar(crear("Pikachu", "Static, Lightning-rod"));
+        indice.agregar(crear("Bulbasaur", "Overgrow, Chlorophyll"));
+        indice.agregar(crear("Jigglypuff", "Cute-charm, Competitive"));
+        indice.agregar(crear("Raichu", "Static, Lightning-rod"));
+        indice.agregar(crear("Charmander", "Blaze, Solar-power"));
+    }
+    
+    private Pokemon crear(String nombre, String habilidades) {
+        return new Pokemon(nombre, 1, "Normal", "", "Test Pokémon", 1.0f, 1.0f, habilidades, 1, false);
+    }
+    
+    private String nombres(List<Pokemon> pokemons) {
+        StringBuilder sb = new StringBuilder();
+        for (Pokemon p : pokemons) {
+            if (sb.length() > 0) {
+                sb.append(",");
+            }
+            sb.append(p.getName());
+        }
+        return sb.toString();
+    }
+    
+    @Test
+    public void testBuscarSinDistinguirMayusculas() {
+        // La consulta se normaliza igual que el texto indexado
+        assertEquals("Pikachu,Raichu", nombres(indice.buscar("STATIC")));
+        assertEquals("Bulbasaur", nombres(indice.buscar("overgrow")));
+    }
+    
+    @Test
+    public void testBuscarSubcadenas() {
+        // Subcadenas dentro de una habilidad y entre habilidades
+        assertEquals("Jigglypuff", nombres(indice.buscar("char")));
+        assertEquals("Pikachu,Raichu", nombres(indice.buscar("c, light")));
+        
+        // Consultas más cortas que un n-grama
+        assertEquals("Bulbasaur", nombres(indice.buscar("ll")));
+        assertEquals("Pikachu,Bulbasaur,Raichu", nombres(indice.buscar("ro")));
+        assertEquals(5, indice.buscar("").size());
+        
+        // Sin coincidencias
+        assertTrue(indice.buscar("Levitate").isEmpty());
+    }
+    
+    @Test
+    public void testReemplazoConservaPosicion() {
+        // Al reemplazar un Pokémon conserva su lugar en el orden de inserción
+        indice.agregar(crear("Pikachu", "Blaze"));
+        
+        assertEquals("Raichu", nombres(indice.buscar("static")));
+        assertEquals("Pikachu,Charmander", nombres(indice.buscar("blaze")));
+    }
+    
+    @Test
+    public void testLimpiar() {
+        indice.limpiar();
+        assertTrue(indice.buscar("static").isEmpty());
+        
+        indice.agregar(crear("Raichu", "Static"));
+        assertEquals("Raichu", nombres(indice.buscar("stat")));
+    }
+}
@@ -0,0 +1,78 @@
+package com.pokemon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Pruebas para la búsqueda de nombres sin mayúsculas ni acentos
+ * Autor: Fatima Navarro
+ */
+public class IndiceNombresPlegadosTest {
+    
+    private Pokemon crear(String nombre) {
+        return new Pokemon(nombre, 1, "Normal", "", "Test Pokémon", 1.0f, 1.0f, "Run-away", 1, false);
+    }
+    
+    @Test
+    public void testPlegado() {
+        assertTrue(IndiceNombresPlegados.igualesPlegados("Flabébé", "FLABEBE"));
+        // Acento combinable (forma descompuesta) contra acento precompuesto
+        assertTrue(IndiceNombresPlegados.igualesPlegados("Flab\u00e9b\u00e9", "flabe\u0301be\u0301"));
+        assertEquals(IndiceNombresPlegados.hashPlegado("Flabébé"), IndiceNombresPlegados.hashPlegado("FLABEBE"));
+        assertFalse(IndiceNombresPlegados.igualesPlegados("Nidoran♀", "Nidoran♂"));
+        assertFalse(IndiceNombresPlegados.igualesPlegados("Mew", "Mewtwo"));
+        assertEquals('e', IndiceNombresPlegados.plegar('É'));
+    }
+    
+    @Test
+    public void testTabla() {
+        IndiceNombresPlegados indice = new IndiceNombresPlegados();
+        // Suficientes nombres para que la tabla crezca varias veces
+        for (int i = 0; i < 500; i++) {
+            indice.agregar("Pokemon" + i);
+        }
+        indice.agregar("Flabébé");
+        indice.agregar("FLABÉBÉ");
+        
+        assertEquals(501, indice.tamano());
+        assertEquals("Pokemon123", indice.resolver("pokemon123"));
+        // Dos nombres que se pliegan igual: se conserva el primero
+        assertEquals("Flabébé", indice.resolver("flabebe"));
+        assertNull(indice.resolver("pokemon500"));
+        assertNull(indice.resolver(null));
+        
+        indice.limpiar();
+        assertEquals(0, indice.tamano());
+        assertNull(indice.resolver("pokemon1"));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testMapasSinDistinguirMayusculas(int tipo) {
+        MapaPokemons mapa = PokemonMapFactory.crearMapa(tipo);
+        mapa.agregarPokemon(crear("Pikachu"));
+        mapa.agregarPokemon(crear("Flabébé"));
+        mapa.agregarPokemon(crear("Mr. Mime"));
+        
+        assertEquals("Pikachu", mapa.resolverNombre("pikachu"));
+        assertEquals("Flabébé", mapa.resolverNombre("FLABEBE"));
+        assertEquals("Mr. Mime", mapa.obtenerPokemonPlegado("mr. mime").getName());
+        assertNull(mapa.resolverNombre("Raichu"));
+        assertNull(mapa.obtenerPokemonPlegado("raichu"));
+        
+        // La búsqueda exacta no cambia
+        assertNull(mapa.obtenerPokemon("pikachu"));
+        
+        // Un nombre exacto gana aunque otro se pliegue igual
+        mapa.agregarPokemon(crear("PIKACHU"));
+        assertEquals("PIKACHU", mapa.resolverNombre("PIKACHU"));
+        assertEquals("Pikachu", mapa.resolverNombre("pikachu"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.util.LectorCSV;
+
+/**
+ * Pruebas para el índice de nombres por prefijo y aproximado
+ * Autor: Fatima Navarro
+ */
+public class IndiceNombresTest {
+    
+    private IndiceNombres indice;
+    
+    @BeforeEach
+    public void setUp() {
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (String nombre : Arrays.asList("Pikachu", "Pichu", "Raichu", "Pidgey", "Pidgeotto",
+                                           "Flabébé", "Mr. Mime", "Mew", "Mewtwo", "Nidoran♀", "Nidoran♂")) {
+            pokemons.add(new Pokemon(nombre, 1, "Normal", "", "Test Pokémon", 1.0f, 1.0f, "Run-away", 1, false));
+        }
+        indice = IndiceNombres.construir(pokemons);
+    }
+    
+    private String nombres(List<Pokemon> pokemons) {
+        StringBuilder sb = new StringBuilder();
+        for (Pokemon p : pokemons) {
+            if (sb.length() > 0) {
+                sb.append(",");
+            }
+            sb.append(p.getName());
+        }
+        return sb.toString();
+    }
+    
+    @Test
+    public void testPrefijoSinDistinguirMayusculas() {
+        assertEquals("Pichu,Pidgeotto,Pidgey,Pikachu", nombres(indice.buscarPorPrefijo("pi", 10)));
+        assertEquals("Pidgeotto,Pidgey", nombres(indice.buscarPorPrefijo("PIDGE", 10)));
+        assertEquals("Mew,Mewtwo", nombres(indice.buscarPorPrefijo("mew", 10)));
+        assertEquals("Nidoran♀,Nidoran♂", nombres(indice.buscarPorPrefijo("nido", 10)));
+        assertEquals("", nombres(indice.buscarPorPrefijo("zz", 10)));
+        assertEquals(4, indice.contarPorPrefijo("Pi"));
+        
+        // El límite corta el resultado; un prefijo vacío devuelve los primeros
+        assertEquals("Pichu,Pidgeotto", nombres(indice.buscarPorPrefijo("pi", 2)));
+        assertEquals(3, indice.buscarPorPrefijo("", 3).size());
+        assertThrows(IllegalArgumentException.class, () -> indice.buscarPorPrefijo("pi", 0));
+    }
+    
+    @Test
+    public void testPrefijoSinAcentos() {
+        assertEquals("Flabébé", nombres(indice.buscarPorPrefijo("flabe", 10)));
+        assertEquals("Flabébé", nombres(indice.buscarPorPrefijo("FLABÉ", 10)));
+        assertEquals("Mr. Mime", nombres(indice.buscarPorPrefijo("mr. ", 10)));
+        assertEquals("flabebe", IndiceNombres.plegar("Flabébé"));
+    }
+    
+    @Test
+    public void testAproximado() {
+        // Dos cambios, un cambio y una letra de más
+        assertEquals("Pikachu", nombres(indice.buscarAproximado("pikachoo", 2, 10)));
+        assertEquals("Raichu", nombres(indice.buscarAproximado("Reichu", 1, 10)));
+        assertEquals("Mewtwo", nombres(indice.buscarAproximado("mewtwoo", 1, 10)));
+        
+        // Intercambio de dos letras vecinas cuenta como una edición
+        assertEquals("Pikachu", nombres(indice.buscarAproximado("pikahcu", 1, 10)));
+        
+        // Primero el más parecido, luego por nombre
+        assertEquals("Pichu,Pikachu,Raichu", nombres(indice.buscarAproximado("pichu", 2, 10)));
+        assertEquals("Mew", nombres(indice.buscarAproximado("MEW", 0, 10)));
+        assertEquals("", nombres(indice.buscarAproximado("charizard", 2, 10)));
+        
+        assertThrows(IllegalArgumentException.class, () -> indice.buscarAproximado("pika", 3, 10));
+        assertThrows(IllegalArgumentException.class, () -> indice.buscarAproximado("pika", -1, 10));
+    }
+    
+    @Test
+    public void testCatalogoCompleto() throws Exception {
+        MapaPokemons mapa = LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", new HashMapPokemon());
+        IndiceNombres completo = IndiceNombres.construir(mapa.obtenerTodos().values());
+        assertEquals(mapa.obtenerTodos().size(), completo.tamano());
+        
+        // Todos los nombres se encuentran por su propio prefijo y a distancia cero
+        for (Pokemon pokemon : mapa.obtenerTodos().values()) {
+            List<Pokemon> porPrefijo = completo.buscarPorPrefijo(pokemon.getName().toUpperCase(), 1000);
+            assertTrue(porPrefijo.contains(pokemon), pokemon.getName());
+            assertEquals(pokemon, completo.buscarAproximado(pokemon.getName(), 0, 1).get(0));
+        }
+        assertEquals("Pikachu", completo.buscarAproximado("pikachoo", 2, 1).get(0).getName());
+        
+        // Coincide con recorrer todo el catálogo
+        int esperados = 0;
+        for (String nombre : mapa.obtenerTodos().keySet()) {
+            if (nombre.toLowerCase().startsWith("char")) {
+                esperados++;
+            }
+        }
+        assertEquals(esperados, completo.contarPorPrefijo("Char"));
+    }
+    
+    @Test
+    public void testCatalogoVacio() {
+        IndiceNombres vacio = IndiceNombres.construir(new ArrayList<>());
+        assertTrue(vacio.buscarPorPrefijo("pi", 5).isEmpty());
+        assertTrue(vacio.buscarAproximado("pi", 2, 5).isEmpty());
+    }
+}
@@ -0,0 +1,127 @@
+package com.pokemon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.util.LectorCSV;
+
+/**
+ * Pruebas para el índice por número de Pokédex
+ * Autor: Fatima Navarro
+ */
+public class IndicePokedexTest {
+    
+    @Test
+    public void testDensoConRepetidos() {
+        IndicePokedex indice = new IndicePokedex();
+        indice.agregar(crear("Charmander", 4));
+        indice.agregar(crear("Bulbasaur", 1));
+        indice.agregar(crear("Venusaur", 3));
+        indice.agregar(crear("Venusaur-Mega", 3));
+        indice.agregar(crear("Venusaur-Gmax", 3));
+        
+        assertTrue(indice.esDenso());
+        assertEquals(5, indice.tamano());
+        assertEquals("Venusaur", indice.obtener(3).getName());
+        assertNull(indice.obtener(2));
+        assertNull(indice.obtener(-1));
+        assertNull(indice.obtener(100000));
+        assertEquals(List.of("Bulbasaur", "Venusaur", "Venusaur-Mega", "Venusaur-Gmax", "Charmander"),
+                     nombres(indice.enOrden()));
+        assertEquals(List.of("Venusaur", "Venusaur-Mega", "Venusaur-Gmax"), nombres(indice.rango(2, 3)));
+        assertEquals(List.of(), nombres(indice.rango(5, 4)));
+        
+        // Al quitar el primero, el siguiente en llegar ocupa la casilla
+        indice.eliminar(crear("Venusaur", 3));
+        assertEquals("Venusaur-Mega", indice.obtener(3).getName());
+        indice.reemplazar(crear("Venusaur-Gmax", 3), crear("Venusaur-Gmax", 3));
+        indice.reemplazar(crear("Charmander", 4), crear("Charmander", 5));
+        assertNull(indice.obtener(4));
+        assertEquals(List.of("Bulbasaur", "Venusaur-Mega", "Venusaur-Gmax", "Charmander"), nombres(indice.enOrden()));
+        assertEquals(4, indice.tamano());
+    }
+    
+    @Test
+    public void testDispersoIgualQueReferencia() {
+        //--------
+        // Números negativos y muy grandes pasan la tabla a modo disperso;
+        // tras altas, reemplazos y bajas al azar debe coincidir con un TreeMap
+        //--------
+        Random azar = new Random(7);
+        IndicePokedex indice = new IndicePokedex();
+        TreeMap<Integer, Pokemon> referencia = new TreeMap<>();
+        for (int i = 0; i < 3000; i++) {
+            int numero = azar.nextInt(400) * 5000 - 1000000;
+            Pokemon nuevo = crear("P" + numero, numero);
+            Pokemon anterior = referencia.get(numero);
+            if (anterior != null && azar.nextBoolean()) {
+                indice.eliminar(anterior);
+                referencia.remove(numero);
+            } else if (anterior != null) {
+                indice.reemplazar(anterior, nuevo);
+                referencia.put(numero, nuevo);
+            } else {
+                indice.agregar(nuevo);
+                referencia.put(numero, nuevo);
+            }
+        }
+        
+        assertFalse(indice.esDenso());
+        assertEquals(referencia.size(), indice.tamano());
+        assertEquals(new ArrayList<>(referencia.values()), indice.enOrden());
+        assertEquals(new ArrayList<>(referencia.subMap(-20000, true, 500000, true).values()),
+                     indice.rango(-20000, 500000));
+        for (int numero = -1000000; numero < 1000000; numero += 5000) {
+            assertEquals(referencia.get(numero), indice.obtener(numero));
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testMapas(int tipo) throws IOException {
+        MapaPokemons mapa = LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", PokemonMapFactory.crearMapa(tipo));
+        
+        List<String> esperado = mapa.obtenerTodos().values().stream()
+            .sorted(Comparator.comparingInt(Pokemon::getPokedexNumber))
+            .map(Pokemon::getName)
+            .collect(Collectors.toList());
+        assertEquals(esperado, nombres(mapa.obtenerOrdenadosPorPokedex()));
+        assertEquals(esperado.subList(150, 251), nombres(mapa.obtenerRangoPokedex(151, 251)));
+        assertEquals("Pikachu", mapa.obtenerPorPokedex(25).getName());
+        assertNull(mapa.obtenerPorPokedex(0));
+        assertEquals(List.of(), mapa.obtenerRangoPokedex(2000, 3000));
+        
+        // Un número repetido queda detrás del que llegó primero
+        mapa.agregarPokemon(crear("Pikachu-Gmax", 25));
+        assertEquals(List.of("Pikachu", "Pikachu-Gmax", "Raichu"), nombres(mapa.obtenerRangoPokedex(25, 26)));
+        assertEquals("Pikachu", mapa.obtenerPorPokedex(25).getName());
+        
+        // Un reemplazo con otro número cambia de posición
+        mapa.agregarPokemon(crear("Pikachu-Gmax", 9000));
+        assertEquals(List.of("Pikachu", "Raichu"), nombres(mapa.obtenerRangoPokedex(25, 26)));
+        assertEquals("Pikachu-Gmax", mapa.obtenerPorPokedex(9000).getName());
+    }
+    
+    private static Pokemon crear(String nombre, int numero) {
+        return new Pokemon(nombre, numero, "Electric", "", "Test Pokémon", 1.0f, 1.0f, "Static", 1, false);
+    }
+    
+    private List<String> nombres(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.pokemon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.pokemon.metricas.RegistroMetricas;
+import com.pokemon.metricas.ResumenLatencia;
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+
+/**
+ * Pruebas para el decorador que mide las operaciones de un mapa
+ * Autor: Fatima Navarro
+ */
+public class InstrumentedMapaPokemonsTest {
+    
+    private Pokemon crear(String nombre, float peso) {
+        return new Pokemon(nombre, 1, "Water", "", "Test Pokémon", 1.0f, peso, "Torrent", 1, false);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testDelegaYRegistra(int tipo) {
+        RegistroMetricas registro = new RegistroMetricas();
+        MapaPokemons base = PokemonMapFactory.crearMapa(tipo);
+        MapaPokemons mapa = new InstrumentedMapaPokemons(base, registro);
+        
+        mapa.agregarPokemon(crear("Squirtle", 9.0f));
+        mapa.agregarTodos(Arrays.asList(crear("Wartortle", 22.5f), crear("Blastoise", 85.5f)));
+        
+        // Los resultados son los de la implementación envuelta
+        assertEquals(base.getTipoMapa(), mapa.getTipoMapa());
+        assertEquals("Squirtle", mapa.obtenerPokemon("Squirtle").getName());
+        assertEquals(true, mapa.existePokemon("Blastoise"));
+        assertEquals("Wartortle", mapa.resolverNombre("WARTORTLE"));
+        assertEquals("Blastoise", mapa.obtenerPokemonPlegado("blastoise").getName());
+        assertEquals(3, mapa.buscarPorHabilidad("torrent").size());
+        assertEquals(3, mapa.obtenerTodos().size());
+        assertEquals(3, mapa.obtenerOrdenadosPorTipo().size());
+        assertEquals(2, mapa.obtenerPagina(null, 2).getPokemons().size());
+        assertEquals("Blastoise", mapa.obtenerMayores(TopK.Criterio.PESO, 1, PokemonType.WATER, 1).get(0).getName());
+        assertEquals("Squirtle", mapa.obtenerMenores(TopK.Criterio.PESO, 1, null, 1).get(0).getName());
+        assertEquals(1, mapa.obtenerMayoresPorGeneracion(TopK.Criterio.PESO, 1, null).size());
+        assertThrows(IllegalArgumentException.class, () -> mapa.obtenerPagina(null, 0));
+        
+        //--------
+        // Una medición por llamada, con el nombre del tipo de mapa como
+        // prefijo; la página con tamaño inválido también se cuenta
+        //--------
+        Map<String, ResumenLatencia> operaciones = registro.getOperaciones();
+        String prefijo = base.getTipoMapa() + ".";
+        assertEquals(1, operaciones.get(prefijo + "agregarPokemon").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "agregarTodos").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "obtenerPokemon").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "existePokemon").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "resolverNombre").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "obtenerPokemonPlegado").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "buscarPorHabilidad").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "obtenerTodos").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "obtenerOrdenadosPorTipo").getCantidad());
+        assertEquals(2, operaciones.get(prefijo + "obtenerPagina").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "obtenerMayores").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "obtenerMenores").getCantidad());
+        assertEquals(1, operaciones.get(prefijo + "obtenerMayoresPorGeneracion").getCantidad());
+    }
+}
@@ -155,6 +155,28 @@ public class LinkedHashMapPokemonTest {
         }
     }
     
+    @Test
+    public void testReordenarPorPokedex() {
+        // Bulbasaur llega último pero tiene el número más bajo
+        mapaPokemons.agregarPokemon(new Pokemon(
+            "Bulbasaur", 1, "Grass", "Poison", "Seed Pokémon", 0.7f, 6.9f, "Overgrow", 1, false
+        ));
+        List<String> esperado = List.of("Bulbasaur", "Squirtle", "Pikachu", "Jigglypuff", "Meowth");
+        
+        // Recorrer en orden de Pokédex no modifica el orden de inserción
+        List<String> ordenados = new ArrayList<>();
+        for (Pokemon pokemon : mapaPokemons.obtenerOrdenadosPorPokedex()) {
+            ordenados.add(pokemon.getName());
+        }
+        assertEquals(esperado, ordenados);
+        assertEquals("Meowth", new ArrayList<>(mapaPokemons.obtenerTodos().keySet()).get(3));
+        
+        ((LinkedHashMapPokemon) mapaPokemons).reordenarPorPokedex();
+        assertEquals(esperado, new ArrayList<>(mapaPokemons.obtenerTodos().keySet()));
+        assertEquals("Bulbasaur", mapaPokemons.obtenerPagina(null, 1).getPokemons().get(0).getName());
+        assertEquals("Bulbasaur", mapaPokemons.obtenerPorPokedex(1).getName());
+    }
+    
     @Test
     public void testGetTipoMapa() {
         // Verificar que devuelve el tipo correcto
@@ -0,0 +1,128 @@
+package com.pokemon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.util.LectorCSV;
+
+/**
+ * Pruebas para el catálogo congelado y su hash perfecto
+ * Autor: Fatima Navarro
+ */
+public class MapaPokemonsCongeladoTest {
+    
+    @Test
+    public void testHashPerfectoEsMinimo() {
+        //--------
+        // Cada nombre recibe una casilla distinta entre 0 y n - 1;
+        // "Aa" y "BB" tienen el mismo hashCode y deben separarse
+        //--------
+        for (int tamano : new int[] {1, 2, 5, 905, 100000}) {
+            String[] nombres = new String[tamano];
+            for (int i = 0; i < tamano; i++) {
+                nombres[i] = i == 0 ? "Aa" : i == 1 ? "BB" : "Pokemon-" + i;
+            }
+            HashPerfecto hash = HashPerfecto.construir(nombres);
+            // Con hashCode repetidos se recorren los caracteres
+            assertEquals(tamano < 2, hash.usaHashCode());
+            boolean[] usada = new boolean[tamano];
+            for (String nombre : nombres) {
+                int casilla = hash.casilla(nombre);
+                assertTrue(casilla >= 0 && casilla < tamano);
+                assertFalse(usada[casilla], "Casilla repetida para " + nombre);
+                usada[casilla] = true;
+            }
+            int otra = hash.casilla("Ausente");
+            assertTrue(otra >= 0 && otra < tamano);
+        }
+        assertEquals(-1, HashPerfecto.construir(new String[0]).casilla("Pikachu"));
+    }
+    
+    @Test
+    public void testHashPerfectoRechazaRepetidos() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> HashPerfecto.construir(new String[] {"Pikachu", "Mew", "Pikachu"}));
+    }
+    
+    @Test
+    public void testPocosBitsPorNombre() {
+        String[] nombres = new String[100000];
+        for (int i = 0; i < nombres.length; i++) {
+            nombres[i] = "Sintetico-" + i;
+        }
+        assertTrue(HashPerfecto.construir(nombres).bitsPorNombre() < 4.0);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testCongelarConservaContenidoYOrden(int tipo) throws IOException {
+        MapaPokemons origen = PokemonMapFactory.crearMapa(tipo);
+        LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", origen);
+        MapaPokemonsCongelado congelado = PokemonMapFactory.congelar(origen);
+        
+        assertEquals("Congelado", congelado.getTipoMapa());
+        assertEquals(origen.getTipoMapa(), congelado.getTipoOrigen());
+        List<String> claves = new ArrayList<>(origen.obtenerTodos().keySet());
+        assertEquals(claves, new ArrayList<>(congelado.obtenerTodos().keySet()));
+        // Columnar crea los Pokémon al consultarlos: se compara el contenido
+        for (Map.Entry<String, Pokemon> entrada : origen.obtenerTodos().entrySet()) {
+            Pokemon pokemon = congelado.obtenerPokemon(entrada.getKey());
+            assertEquals(entrada.getKey(), pokemon.getName());
+            assertEquals(entrada.getValue().getPokedexNumber(), pokemon.getPokedexNumber());
+        }
+        assertNull(congelado.obtenerPokemon("Agumon"));
+        assertNull(congelado.obtenerPokemon(null));
+        assertFalse(congelado.existePokemon("pikachu"));
+        assertEquals("Pikachu", congelado.resolverNombre("PIKACHU"));
+        
+        assertEquals(origen.buscarPorHabilidad("blaze").keySet(), congelado.buscarPorHabilidad("blaze").keySet());
+        assertEquals(nombresDe(origen.obtenerOrdenadosPorTipo()), nombresDe(congelado.obtenerOrdenadosPorTipo()));
+        assertEquals(nombresDe(origen.obtenerRangoPokedex(1, 151)), nombresDe(congelado.obtenerRangoPokedex(1, 151)));
+        // Las páginas siguen el orden de obtenerTodos()
+        assertEquals(claves.subList(100, 120), nombresDe(congelado.obtenerPagina("100", 20).getPokemons()));
+        assertEquals("Pikachu", congelado.obtenerPorPokedex(25).getName());
+    }
+    
+    @Test
+    public void testRechazaEscrituras() throws IOException {
+        MapaPokemons origen = new HashMapPokemon();
+        LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", origen);
+        MapaPokemonsCongelado congelado = PokemonMapFactory.congelar(origen);
+        Pokemon mew = origen.obtenerPokemon("Mew");
+        
+        assertThrows(UnsupportedOperationException.class, () -> congelado.agregarPokemon(mew));
+        assertThrows(UnsupportedOperationException.class, () -> congelado.agregarTodos(Collections.emptyList()));
+        assertThrows(UnsupportedOperationException.class, () -> congelado.obtenerTodos().put("Mew", mew));
+        assertThrows(UnsupportedOperationException.class, () -> congelado.obtenerTodos().clear());
+        assertThrows(UnsupportedOperationException.class, () -> congelado.obtenerOrdenadosPorTipo().clear());
+        
+        // Congelar de nuevo no copia, y el origen sigue admitiendo escrituras
+        assertSame(congelado, PokemonMapFactory.congelar(congelado));
+        origen.agregarPokemon(new Pokemon("Missingno", 0, "Normal", "", "Glitch", 1.0f, 1.0f, "", 1, false));
+        assertFalse(congelado.existePokemon("Missingno"));
+        assertTrue(congelado.getEstadisticasRendimiento().contains("Cantidad de elementos: " + congelado.obtenerTodos().size()));
+    }
+    
+    private static List<String> nombresDe(List<Pokemon> pokemons) {
+        List<String> nombres = new ArrayList<>(pokemons.size());
+        for (Pokemon pokemon : pokemons) {
+            nombres.add(pokemon.getName());
+        }
+        return nombres;
+    }
+}
@@ -0,0 +1,84 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.pokemon.model.Pokemon;
+
+/**
+ * Pruebas de la paginación por cursor en todas las implementaciones
+ * Autor: Fatima Navarro
+ */
+public class PaginacionTest {
+    
+    private static final int CANTIDAD = 25;
+    
+    private MapaPokemons crearMapaConDatos(int tipo) {
+        MapaPokemons mapa = PokemonMapFactory.crearMapa(tipo);
+        // Nombres en orden inverso al alfabético, para distinguir ambos órdenes
+        for (int i = CANTIDAD; i >= 1; i--) {
+            mapa.agregarPokemon(crear(String.format("Pokemon%02d", i), i));
+        }
+        return mapa;
+    }
+    
+    private Pokemon crear(String nombre, int numero) {
+        return new Pokemon(nombre, numero, "Normal", "", "Prueba", 1.0f, 1.0f, "Run-away", 1, false);
+    }
+    
+    private List<String> recorrerPaginas(MapaPokemons mapa, int tamano) {
+        List<String> nombres = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaPokemon pagina = mapa.obtenerPagina(cursor, tamano);
+            assertTrue(pagina.getPokemons().size() <= tamano);
+            for (Pokemon pokemon : pagina.getPokemons()) {
+                nombres.add(pokemon.getName());
+            }
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+        return nombres;
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testRecorrePaginasSinRepetir(int tipo) {
+        MapaPokemons mapa = crearMapaConDatos(tipo);
+        
+        // Reemplazar un Pokémon no lo duplica ni lo mueve de página
+        mapa.agregarPokemon(crear("Pokemon10", 10));
+        
+        List<String> nombres = recorrerPaginas(mapa, 7);
+        assertEquals(CANTIDAD, nombres.size());
+        assertEquals(CANTIDAD, nombres.stream().distinct().count());
+        
+        // TreeMap pagina por nombre; los demás en orden de inserción
+        assertEquals(tipo == 2 ? "Pokemon01" : "Pokemon25", nombres.get(0));
+        
+        // Páginas de tamaño exacto: la última no deja cursor
+        assertEquals(CANTIDAD, recorrerPaginas(mapa, CANTIDAD).size());
+        assertNull(mapa.obtenerPagina(null, CANTIDAD).getSiguienteCursor());
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testParametrosInvalidos(int tipo) {
+        MapaPokemons mapa = crearMapaConDatos(tipo);
+        assertThrows(IllegalArgumentException.class, () -> mapa.obtenerPagina(null, 0));
+        if (tipo != 2) {
+            assertThrows(IllegalArgumentException.class, () -> mapa.obtenerPagina("no-es-numero", 5));
+        }
+        
+        // Un mapa vacío devuelve una sola página vacía
+        PaginaPokemon vacia = PokemonMapFactory.crearMapa(tipo).obtenerPagina(null, 5);
+        assertTrue(vacia.getPokemons().isEmpty());
+        assertNull(vacia.getSiguienteCursor());
+    }
+}
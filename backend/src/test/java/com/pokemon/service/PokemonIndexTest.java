@@ -0,0 +1,96 @@
+package com.pokemon.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+import com.pokemon.util.LectorCSV;
+
+/**
+ * Pruebas para los índices de mapas de bits
+ * Autor: Fatima Navarro
+ */
+public class PokemonIndexTest {
+    
+    private PokemonIndex indice;
+    
+    @BeforeEach
+    public void setUp() {
+        indice = new PokemonIndex();
+        indice.agregar(crear("Dialga", "Steel", "Dragon", 4, true));
+        indice.agregar(crear("Garchomp", "Dragon", "Ground", 4, false));
+        indice.agregar(crear("Giratina", "Ghost", "Dragon", 4, true));
+        indice.agregar(crear("Rayquaza", "Dragon", "Flying", 3, true));
+        indice.agregar(crear("Pikachu", "Electric", "", 1, false));
+    }
+    
+    private Pokemon crear(String nombre, String tipo1, String tipo2, int generacion, boolean legendario) {
+        return new Pokemon(nombre, 1, tipo1, tipo2, "Test Pokémon", 1.0f, 1.0f, "Pressure", generacion, legendario);
+    }
+    
+    private String nombres(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getName).collect(Collectors.joining(","));
+    }
+    
+    @Test
+    public void testFiltrosCompuestos() {
+        assertEquals("Dialga,Giratina", nombres(indice.buscar(PokemonType.DRAGON, 4, true)));
+        assertEquals("Garchomp", nombres(indice.buscar(PokemonType.DRAGON, 4, false)));
+        assertEquals("Dialga,Garchomp,Giratina,Rayquaza",
+                     nombres(indice.buscar(PokemonType.DRAGON, PokemonIndex.CUALQUIER_GENERACION, null)));
+        assertEquals("Dialga,Giratina,Rayquaza",
+                     nombres(indice.buscar(null, PokemonIndex.CUALQUIER_GENERACION, true)));
+        assertEquals("Pikachu", nombres(indice.buscar(null, 1, null)));
+        assertEquals("", nombres(indice.buscar(PokemonType.FIRE, 4, null)));
+        assertEquals("", nombres(indice.buscar(null, 9, null)));
+        
+        assertEquals(5, indice.contar(null, PokemonIndex.CUALQUIER_GENERACION, null));
+        assertEquals(3, indice.contar(null, 4, null));
+        assertEquals(2, indice.contar(PokemonType.DRAGON, 4, true));
+        assertEquals(4, indice.generacionMaxima());
+    }
+    
+    @Test
+    public void testReemplazarYEliminar() {
+        // El reemplazo conserva el ordinal y actualiza los mapas de bits
+        indice.agregar(crear("Garchomp", "Dragon", "Ground", 4, true));
+        assertEquals("Dialga,Garchomp,Giratina", nombres(indice.buscar(PokemonType.DRAGON, 4, true)));
+        assertEquals(5, indice.tamano());
+        
+        assertTrue(indice.eliminar("Dialga"));
+        assertFalse(indice.eliminar("Dialga"));
+        assertEquals("Garchomp,Giratina", nombres(indice.buscar(PokemonType.DRAGON, 4, true)));
+        assertEquals(0, indice.contar(PokemonType.STEEL, PokemonIndex.CUALQUIER_GENERACION, null));
+        assertEquals(4, indice.tamano());
+        
+        // Volver a agregarlo reutiliza su posición
+        indice.agregar(crear("Dialga", "Steel", "Dragon", 4, true));
+        assertEquals("Dialga,Garchomp,Giratina", nombres(indice.buscar(PokemonType.DRAGON, 4, true)));
+    }
+    
+    @Test
+    public void testCoincideConFiltrosDeStreams() throws Exception {
+        MapaPokemons mapa = LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", new LinkedHashMapPokemon());
+        PokemonIndex completo = new PokemonIndex();
+        for (Pokemon pokemon : mapa.obtenerTodos().values()) {
+            completo.agregar(pokemon);
+        }
+        
+        for (PokemonType tipo : PokemonType.values()) {
+            for (int generacion = 1; generacion <= completo.generacionMaxima(); generacion++) {
+                int gen = generacion;
+                List<Pokemon> esperados = mapa.obtenerTodos().values().stream()
+                    .filter(p -> p.tieneTipo(tipo) && p.getGeneration() == gen && p.isLegendary())
+                    .collect(Collectors.toList());
+                assertEquals(esperados, completo.buscar(tipo, generacion, true));
+            }
+        }
+    }
+}
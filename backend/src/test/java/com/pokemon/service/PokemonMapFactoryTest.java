@@ -2,6 +2,7 @@ package com.pokemon.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
@@ -30,6 +31,22 @@ public class PokemonMapFactoryTest {
         assertNotNull(linkedHashMap);
         assertEquals("LinkedHashMap", linkedHashMap.getTipoMapa());
         assertTrue(linkedHashMap instanceof LinkedHashMapPokemon);
+        
+        // Probar creación de ConcurrentMapaPokemons
+        MapaPokemons concurrente = PokemonMapFactory.crearMapa(4);
+        assertNotNull(concurrente);
+        assertEquals("Concurrent", concurrente.getTipoMapa());
+        assertTrue(concurrente instanceof ConcurrentMapaPokemons);
+        
+        // Probar creación de PokemonStore
+        MapaPokemons columnar = PokemonMapFactory.crearMapa(5);
+        assertEquals("Columnar", columnar.getTipoMapa());
+        assertTrue(columnar instanceof PokemonStore);
+        
+        // Probar creación de la tabla hash propia
+        MapaPokemons tablaHash = PokemonMapFactory.crearMapa(6);
+        assertEquals("TablaHash", tablaHash.getTipoMapa());
+        assertTrue(tablaHash instanceof TablaHashAbiertaPokemon);
     }
     
     @Test
@@ -50,6 +67,34 @@ public class PokemonMapFactoryTest {
         assertNotNull(linkedHashMap);
         assertEquals("LinkedHashMap", linkedHashMap.getTipoMapa());
         assertTrue(linkedHashMap instanceof LinkedHashMapPokemon);
+        
+        MapaPokemons concurrente = PokemonMapFactory.crearMapaPorNombre("concurrent");
+        assertTrue(concurrente instanceof ConcurrentMapaPokemons);
+        
+        MapaPokemons columnar = PokemonMapFactory.crearMapaPorNombre("Columnar");
+        assertTrue(columnar instanceof PokemonStore);
+        
+        MapaPokemons tablaHash = PokemonMapFactory.crearMapaPorNombre("TablaHash");
+        assertTrue(tablaHash instanceof TablaHashAbiertaPokemon);
+    }
+    
+    @Test
+    public void testCrearMapaInstrumentado() {
+        MapaPokemons instrumentado = PokemonMapFactory.crearMapa(2, true);
+        assertTrue(instrumentado instanceof InstrumentedMapaPokemons);
+        assertTrue(((InstrumentedMapaPokemons) instrumentado).getDelegado() instanceof TreeMapPokemon);
+        assertEquals("TreeMap", instrumentado.getTipoMapa());
+        
+        // Sin instrumentación se entrega la implementación tal cual
+        assertTrue(PokemonMapFactory.crearMapa(2, false) instanceof TreeMapPokemon);
+    }
+    
+    @Test
+    public void testTipoInvalido() {
+        // Un tipo desconocido debe rechazarse
+        assertThrows(IllegalArgumentException.class, () -> PokemonMapFactory.crearMapa(0));
+        assertThrows(IllegalArgumentException.class, () -> PokemonMapFactory.crearMapa(7));
+        assertThrows(IllegalArgumentException.class, () -> PokemonMapFactory.crearMapaPorNombre("ArrayList"));
     }
 
 }
@@ -0,0 +1,194 @@
+package com.pokemon.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+
+/**
+ * Pruebas para el almacenamiento por columnas PokemonStore
+ * Autor: Fatima Navarro
+ */
+public class PokemonStoreTest {
+    
+    private PokemonStore store;
+    
+    @BeforeEach
+    public void setUp() {
+        store = new PokemonStore();
+        store.agregarPokemon(new Pokemon("Pikachu", 25, "Electric", "", "Mouse Pokémon",
+                                         0.4f, 6.0f, "Static, Lightning-rod", 1, false));
+        store.agregarPokemon(new Pokemon("Bulbasaur", 1, "Grass", "Poison", "Seed Pokémon",
+                                         0.7f, 6.9f, "Overgrow, Chlorophyll", 1, false));
+        store.agregarPokemon(new Pokemon("Mewtwo", 150, "Psychic", null, "Genetic Pokémon",
+                                         2.0f, 122.0f, "Pressure, Unnerve", 1, true));
+        store.agregarPokemon(new Pokemon("Raichu", 26, "Electric", "", "Mouse Pokémon",
+                                         0.8f, 30.0f, "Static, Lightning-rod", 1, false));
+        store.agregarPokemon(new Pokemon("Lugia", 249, "Psychic", "Flying", "Diving Pokémon",
+                                         5.2f, 216.0f, "Pressure, Multiscale", 2, true));
+    }
+    
+    private List<String> nombres(Iterable<Pokemon> pokemons) {
+        List<String> resultado = new ArrayList<>();
+        for (Pokemon p : pokemons) {
+            resultado.add(p.getName());
+        }
+        return resultado;
+    }
+    
+    @Test
+    public void testReconstruyeLosAtributos() {
+        Pokemon bulbasaur = store.obtenerPokemon("Bulbasaur");
+        assertEquals(1, bulbasaur.getPokedexNumber());
+        assertEquals("Grass", bulbasaur.getType1());
+        assertEquals("Poison", bulbasaur.getType2());
+        assertEquals("Seed Pokémon", bulbasaur.getClassification());
+        assertEquals(0.7f, bulbasaur.getHeight());
+        assertEquals(6.9f, bulbasaur.getWeight());
+        assertEquals("Overgrow, Chlorophyll", bulbasaur.getAbilities());
+        assertEquals(1, bulbasaur.getGeneration());
+        assertFalse(bulbasaur.isLegendary());
+        
+        // Los textos nulos se conservan
+        assertNull(store.obtenerPokemon("Mewtwo").getType2());
+        assertTrue(store.obtenerPokemon("Mewtwo").isLegendary());
+        
+        // Los textos repetidos se guardan una sola vez en el diccionario
+        assertSame(store.obtenerPokemon("Pikachu").getAbilities(),
+                   store.obtenerPokemon("Raichu").getAbilities());
+    }
+    
+    @Test
+    public void testOperacionesBasicas() {
+        assertEquals("Columnar", store.getTipoMapa());
+        assertTrue(store.existePokemon("Lugia"));
+        assertFalse(store.existePokemon("Charmander"));
+        assertNull(store.obtenerPokemon("Charmander"));
+        
+        // obtenerTodos es una vista de solo lectura en orden de inserción
+        Map<String, Pokemon> todos = store.obtenerTodos();
+        assertEquals(5, todos.size());
+        assertEquals(List.of("Pikachu", "Bulbasaur", "Mewtwo", "Raichu", "Lugia"), new ArrayList<>(todos.keySet()));
+        assertEquals(150, todos.get("Mewtwo").getPokedexNumber());
+        assertTrue(todos.containsKey("Raichu"));
+        assertThrows(UnsupportedOperationException.class, () -> todos.remove("Pikachu"));
+    }
+    
+    @Test
+    public void testReemplazoConservaPosicion() {
+        store.agregarPokemon(new Pokemon("Bulbasaur", 1, "Grass", "Poison", "Seed Pokémon",
+                                         0.7f, 7.5f, "Overgrow", 1, false));
+        
+        assertEquals(5, store.obtenerTodos().size());
+        assertEquals("Bulbasaur", nombres(store.obtenerTodos().values()).get(1));
+        assertEquals(7.5f, store.obtenerPokemon("Bulbasaur").getWeight());
+        assertTrue(store.buscarPorHabilidad("chlorophyll").isEmpty());
+    }
+    
+    @Test
+    public void testBuscarPorHabilidad() {
+        assertEquals(List.of("Pikachu", "Raichu"), new ArrayList<>(store.buscarPorHabilidad("STATIC").keySet()));
+        assertEquals(List.of("Mewtwo", "Lugia"), new ArrayList<>(store.buscarPorHabilidad("pressure").keySet()));
+        assertEquals(5, store.buscarPorHabilidad("").size());
+        assertTrue(store.buscarPorHabilidad("levitate").isEmpty());
+    }
+    
+    @Test
+    public void testOrdenadosPorTipo() {
+        List<Pokemon> ordenados = store.obtenerOrdenadosPorTipo();
+        assertEquals(List.of("Pikachu", "Raichu", "Bulbasaur", "Lugia", "Mewtwo"), nombres(ordenados));
+        
+        // Sin escrituras se reutiliza la misma vista
+        assertSame(ordenados, store.obtenerOrdenadosPorTipo());
+        assertThrows(UnsupportedOperationException.class, () -> ordenados.remove(0));
+        
+        store.agregarPokemon(new Pokemon("Abra", 63, "Psychic", "", "Psi Pokémon",
+                                         0.9f, 19.5f, "Synchronize", 1, false));
+        assertEquals("Abra", store.obtenerOrdenadosPorTipo().get(3).getName());
+    }
+    
+    @Test
+    public void testFiltrosPorColumna() {
+        assertEquals(2, store.contarLegendarios());
+        assertEquals(List.of("Mewtwo", "Lugia"), nombres(store.buscarLegendarios()));
+        assertEquals(List.of("Lugia"), nombres(store.buscarPorGeneracion(2)));
+        assertEquals(List.of("Pikachu", "Bulbasaur"), nombres(store.buscarPorRangoDePeso(6.0f, 6.9f)));
+        assertEquals(List.of("Lugia"), nombres(store.buscarPorTipo(PokemonType.FLYING)));
+        assertTrue(store.buscarPorTipo(PokemonType.ICE).isEmpty());
+    }
+    
+    @Test
+    public void testMismaInstanciaHastaEscribir() {
+        // Las lecturas seguidas reutilizan el Pokémon (y su JSON) de la fila
+        Pokemon pikachu = store.obtenerPokemon("Pikachu");
+        assertSame(pikachu, store.obtenerPokemon("Pikachu"));
+        assertSame(pikachu, store.obtenerTodos().get("Pikachu"));
+        assertSame(pikachu, store.obtenerPorPokedex(25));
+        assertSame(pikachu, store.obtenerPagina(null, 1).getPokemons().get(0));
+        
+        store.agregarPokemon(new Pokemon("Pikachu", 25, "Electric", "", "Mouse Pokémon",
+                                         0.4f, 7.0f, "Static, Lightning-rod", 1, false));
+        Pokemon nuevo = store.obtenerPokemon("Pikachu");
+        assertFalse(pikachu == nuevo);
+        assertEquals(7.0f, nuevo.getWeight());
+        assertSame(store.obtenerPokemon("Bulbasaur"), store.obtenerPokemon("Bulbasaur"));
+    }
+    
+    @Test
+    public void testCacheAcotadaDevuelveLaFilaCorrecta() {
+        //--------
+        // La fila 0 y la 256 comparten casilla en la caché de recientes:
+        // cada lectura debe devolver el Pokémon de su propia fila
+        //--------
+        PokemonStore grande = new PokemonStore();
+        for (int i = 0; i < 600; i++) {
+            grande.agregarPokemon(new Pokemon("Fila-" + i, i + 1, "Normal", "", "Test Pokémon",
+                                              1.0f, i, "Run-away", 1, false));
+        }
+        for (Pokemon pokemon : grande.obtenerTodos().values()) {
+            assertEquals(pokemon.getPokedexNumber() - 1.0f, pokemon.getWeight());
+        }
+        assertEquals("Fila-0", grande.obtenerPokemon("Fila-0").getName());
+        assertEquals("Fila-256", grande.obtenerPokemon("Fila-256").getName());
+        assertEquals("Fila-0", grande.obtenerPagina(null, 1).getPokemons().get(0).getName());
+        assertEquals(257, grande.obtenerPorPokedex(257).getPokedexNumber());
+        assertEquals(1, grande.obtenerPorPokedex(1).getPokedexNumber());
+    }
+    
+    @Test
+    public void testTipoEscritoDistinto() {
+        // "grass" y " Ice" son tipos conocidos: los filtros por ordinal deben encontrarlos
+        store.agregarPokemon(new Pokemon("Oddish", 43, "grass", "poison", "Weed Pokémon",
+                                         0.5f, 5.4f, "Chlorophyll", 1, false));
+        store.agregarPokemon(new Pokemon("Snorunt", 361, " Ice", "", "Snow Hat Pokémon",
+                                         0.7f, 16.8f, "Inner-focus", 3, false));
+        assertEquals(List.of("Bulbasaur", "Oddish"), nombres(store.buscarPorTipo(PokemonType.GRASS)));
+        assertEquals(List.of("Bulbasaur", "Oddish"), nombres(store.buscarPorTipo(PokemonType.POISON)));
+        assertEquals(List.of("Snorunt"), nombres(store.buscarPorTipo(PokemonType.ICE)));
+        assertTrue(store.obtenerPokemon("Oddish").tieneTipo(PokemonType.GRASS));
+    }
+    
+    @Test
+    public void testCrecimiento() {
+        // Más filas que la capacidad inicial de las columnas y de la tabla
+        for (int i = 0; i < 5000; i++) {
+            store.agregarPokemon(new Pokemon("Sintetico-" + i, 1000 + i, "Normal", "", "Test Pokémon",
+                                             1.0f, i, "Run-away", 1 + i % 8, i % 100 == 0));
+        }
+        assertEquals(5005, store.obtenerTodos().size());
+        assertEquals(4999 + 1000, store.obtenerPokemon("Sintetico-4999").getPokedexNumber());
+        assertEquals(52, store.contarLegendarios());
+        assertEquals("Pikachu", store.obtenerPokemon("Pikachu").getName());
+    }
+}
@@ -0,0 +1,111 @@
+package com.pokemon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.util.LectorCSV;
+
+/**
+ * Pruebas para la tabla hash de direccionamiento abierto
+ * Autor: Fatima Navarro
+ */
+public class TablaHashAbiertaPokemonTest {
+    
+    @Test
+    public void testIgualQueHashMap() {
+        //--------
+        // Altas, reemplazos y búsquedas al azar con varias redimensiones;
+        // "Aa" y "BB" tienen el mismo hashCode y deben convivir
+        //--------
+        Random azar = new Random(11);
+        TablaHashAbierta tabla = new TablaHashAbierta(16);
+        Map<String, Pokemon> referencia = new HashMap<>();
+        List<String> orden = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            String nombre = i % 50 == 0 ? (azar.nextBoolean() ? "Aa" : "BB") + i % 7 : "P" + azar.nextInt(8000);
+            Pokemon pokemon = crear(nombre, i);
+            Pokemon esperado = referencia.put(nombre, pokemon);
+            if (esperado == null) {
+                orden.add(nombre);
+            }
+            assertSame(esperado, tabla.poner(pokemon));
+        }
+        
+        assertEquals(referencia.size(), tabla.tamano());
+        assertTrue(tabla.getRedimensiones() > 0);
+        for (int entrada = 0; entrada < orden.size(); entrada++) {
+            assertEquals(orden.get(entrada), tabla.nombre(entrada));
+            assertSame(referencia.get(orden.get(entrada)), tabla.obtener(orden.get(entrada)));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(tabla.contiene("Ausente" + i));
+        }
+        assertFalse(tabla.contiene(null));
+    }
+    
+    @Test
+    public void testReservarEvitaRedimensiones() {
+        TablaHashAbierta tabla = new TablaHashAbierta(16);
+        tabla.reservar(100000);
+        int capacidad = tabla.capacidad();
+        for (int i = 0; i < 100000; i++) {
+            tabla.poner(crear("P" + i, i));
+        }
+        assertEquals(capacidad, tabla.capacidad());
+        assertEquals(1, tabla.getRedimensiones());
+        assertTrue(tabla.distanciaPromedio() < 2.0);
+        assertTrue(tabla.bytesEstimados() < TablaHashAbierta.bytesHashMap(100000));
+    }
+    
+    @Test
+    public void testCargaDelCsv() throws IOException {
+        TablaHashAbiertaPokemon mapa = new TablaHashAbiertaPokemon();
+        LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", mapa);
+        LinkedHashMapPokemon referencia = new LinkedHashMapPokemon();
+        LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", referencia);
+        
+        // Mismo orden de inserción que LinkedHashMap, sin redimensionar
+        assertEquals(new ArrayList<>(referencia.obtenerTodos().keySet()), new ArrayList<>(mapa.obtenerTodos().keySet()));
+        assertEquals(referencia.obtenerPagina("100", 20).getPokemons().get(19).getName(),
+                     mapa.obtenerPagina("100", 20).getPokemons().get(19).getName());
+        assertEquals(referencia.buscarPorHabilidad("blaze").keySet(), mapa.buscarPorHabilidad("blaze").keySet());
+        assertTrue(mapa.getEstadisticasRendimiento().contains("Redimensiones de la tabla: 0"));
+        
+        // Reemplazar conserva la posición
+        Pokemon pikachu = mapa.obtenerPokemon("Pikachu");
+        int posicion = new ArrayList<>(mapa.obtenerTodos().keySet()).indexOf("Pikachu");
+        mapa.agregarPokemon(crear("Pikachu", 25));
+        assertEquals(posicion, new ArrayList<>(mapa.obtenerTodos().keySet()).indexOf("Pikachu"));
+        assertEquals(1.0f, mapa.obtenerPokemon("Pikachu").getHeight());
+        assertFalse(pikachu == mapa.obtenerPokemon("Pikachu"));
+        assertEquals(referencia.obtenerTodos().size(), mapa.obtenerTodos().size());
+    }
+    
+    @Test
+    public void testVistaDeSoloLectura() {
+        TablaHashAbiertaPokemon mapa = new TablaHashAbiertaPokemon();
+        mapa.agregarPokemon(crear("Mew", 151));
+        assertTrue(mapa.obtenerTodos().containsKey("Mew"));
+        assertNull(mapa.obtenerTodos().get(151));
+        assertThrows(UnsupportedOperationException.class, () -> mapa.obtenerTodos().put("Mewtwo", crear("Mewtwo", 150)));
+        assertThrows(UnsupportedOperationException.class, () -> mapa.obtenerTodos().clear());
+    }
+    
+    private static Pokemon crear(String nombre, int numero) {
+        return new Pokemon(nombre, numero, "Psychic", "", "Test Pokémon", 1.0f, 1.0f, "Synchronize", 1, false);
+    }
+}
@@ -0,0 +1,150 @@
+package com.pokemon.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.model.PokemonType;
+import com.pokemon.util.LectorCSV;
+
+/**
+ * Pruebas para la selección top-k con montículo acotado
+ * Autor: Fatima Navarro
+ */
+public class TopKTest {
+    
+    @Test
+    public void testMayoresYMenores() {
+        //--------
+        // Claves con muchos empates: el resultado debe coincidir con un
+        // ordenamiento estable completo, incluido el orden de los empates
+        //--------
+        Random azar = new Random(42);
+        List<int[]> valores = new ArrayList<>();
+        TopK<int[]> mayores = TopK.mayores(100);
+        TopK<int[]> menores = TopK.menores(100);
+        for (int i = 0; i < 5000; i++) {
+            int[] valor = {azar.nextInt(300), i};
+            valores.add(valor);
+            mayores.ofrecer(valor[0], valor);
+            menores.ofrecer(valor[0], valor);
+        }
+        
+        List<int[]> esperadoMayores = valores.stream()
+            .sorted(Comparator.comparingInt((int[] v) -> v[0]).reversed())
+            .limit(100)
+            .collect(Collectors.toList());
+        List<int[]> esperadoMenores = valores.stream()
+            .sorted(Comparator.comparingInt((int[] v) -> v[0]))
+            .limit(100)
+            .collect(Collectors.toList());
+        
+        assertEquals(100, mayores.tamano());
+        assertEquals(esperadoMayores, mayores.resultado());
+        assertEquals(esperadoMenores, menores.resultado());
+    }
+    
+    @Test
+    public void testMenosElementosQueK() {
+        TopK<String> seleccion = TopK.mayores(10);
+        seleccion.ofrecer(1.5, "b");
+        seleccion.ofrecer(3.0, "a");
+        seleccion.ofrecer(1.5, "c");
+        
+        assertEquals(List.of("a", "b", "c"), seleccion.resultado());
+        assertEquals(List.of(), TopK.<String>menores(3).resultado());
+        assertThrows(IllegalArgumentException.class, () -> TopK.mayores(0));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    public void testMapas(int tipo) throws IOException {
+        MapaPokemons mapa = LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", PokemonMapFactory.crearMapa(tipo));
+        
+        for (TopK.Criterio criterio : TopK.Criterio.values()) {
+            assertEquals(ordenarTodo(mapa, criterio, true, 10, PokemonType.WATER, PokemonIndex.CUALQUIER_GENERACION),
+                         nombres(mapa.obtenerMayores(criterio, 10, PokemonType.WATER, PokemonIndex.CUALQUIER_GENERACION)));
+            assertEquals(ordenarTodo(mapa, criterio, false, 7, null, 3),
+                         nombres(mapa.obtenerMenores(criterio, 7, null, 3)));
+            // La altura tiene muchos empates: prueba el orden entre empatados
+            assertEquals(ordenarTodo(mapa, criterio, true, 2000, null, PokemonIndex.CUALQUIER_GENERACION),
+                         nombres(mapa.obtenerMayores(criterio, 2000, null, PokemonIndex.CUALQUIER_GENERACION)));
+        }
+        
+        // Después de una escritura las columnas ordenadas se recalculan
+        mapa.agregarPokemon(new Pokemon("Gigante", 9999, "Water", "", "Test Pokémon", 99.0f, 9999.0f, "Swift-swim", 1, false));
+        assertEquals("Gigante", mapa.obtenerMayores(TopK.Criterio.PESO, 1, PokemonType.WATER, 1).get(0).getName());
+        
+        Map<Integer, List<Pokemon>> masAltos = mapa.obtenerMayoresPorGeneracion(TopK.Criterio.ALTURA, 1, null);
+        assertEquals(8, masAltos.size());
+        assertEquals("Gigante", masAltos.get(1).get(0).getName());
+        assertEquals(ordenarTodo(mapa, TopK.Criterio.ALTURA, true, 1, null, 4), nombres(masAltos.get(4)));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 5, 6})
+    public void testTipoEnMinusculasIgualEnTodosLosMapas(int tipo) {
+        //--------
+        // Un tipo conocido escrito en minúsculas o con espacios debe
+        // filtrarse igual en todos los motores, incluido el camino por
+        // columnas ordenadas de Columnar
+        //--------
+        MapaPokemons referencia = PokemonMapFactory.crearMapa(1);
+        MapaPokemons mapa = PokemonMapFactory.crearMapa(tipo);
+        for (int i = 0; i < 40; i++) {
+            String tipo1 = i % 3 == 0 ? "water" : i % 3 == 1 ? " Water" : "Water";
+            Pokemon pokemon = new Pokemon("Acuatico-" + i, 500 + i, tipo1, i % 2 == 0 ? "fire" : "",
+                                          "Test Pokémon", 1.0f + i % 7, 10.0f + i, "Swift-swim", 1 + i % 3, false);
+            referencia.agregarPokemon(pokemon);
+            mapa.agregarPokemon(pokemon);
+        }
+        
+        //--------
+        // Los empates salen en el orden de recorrido de cada mapa: cada
+        // uno se compara con su ordenamiento completo, y entre motores se
+        // compara el conjunto elegido
+        //--------
+        for (TopK.Criterio criterio : TopK.Criterio.values()) {
+            List<String> mayores = nombres(mapa.obtenerMayores(criterio, 10, PokemonType.WATER, PokemonIndex.CUALQUIER_GENERACION));
+            assertEquals(ordenarTodo(mapa, criterio, true, 10, PokemonType.WATER, PokemonIndex.CUALQUIER_GENERACION), mayores);
+            List<String> menores = nombres(mapa.obtenerMenores(criterio, 5, PokemonType.FIRE, 2));
+            assertEquals(ordenarTodo(mapa, criterio, false, 5, PokemonType.FIRE, 2), menores);
+            if (criterio == TopK.Criterio.NUMERO) {
+                // Sin empates: el resultado es idéntico en todos los motores
+                assertEquals(nombres(referencia.obtenerMayores(criterio, 10, PokemonType.WATER, PokemonIndex.CUALQUIER_GENERACION)), mayores);
+                assertEquals(nombres(referencia.obtenerMenores(criterio, 5, PokemonType.FIRE, 2)), menores);
+            }
+        }
+        assertEquals(10, mapa.obtenerMayores(TopK.Criterio.PESO, 10, PokemonType.WATER, PokemonIndex.CUALQUIER_GENERACION).size());
+    }
+    
+    /**
+     * Resultado de referencia: filtrar, ordenar todo (en forma estable) y cortar.
+     */
+    private List<String> ordenarTodo(MapaPokemons mapa, TopK.Criterio criterio, boolean mayores,
+                                     int k, PokemonType tipo, int generacion) {
+        Comparator<Pokemon> orden = Comparator.comparingDouble(criterio::clave);
+        return mapa.obtenerTodos().values().stream()
+            .filter(p -> TopK.cumple(p, tipo, generacion))
+            .sorted(mayores ? orden.reversed() : orden)
+            .limit(k)
+            .map(Pokemon::getName)
+            .collect(Collectors.toList());
+    }
+    
+    private List<String> nombres(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getName).collect(Collectors.toList());
+    }
+}
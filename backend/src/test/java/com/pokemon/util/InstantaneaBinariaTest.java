@@ -0,0 +1,137 @@
+package com.pokemon.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.HashMapPokemon;
+import com.pokemon.service.LinkedHashMapPokemon;
+import com.pokemon.service.MapaPokemons;
+
+/**
+ * Pruebas para la instantánea binaria del catálogo
+ * Autor: Fatima Navarro
+ */
+public class InstantaneaBinariaTest {
+    
+    @TempDir
+    Path directorio;
+    
+    private Path csv;
+    
+    @BeforeEach
+    public void setUp() throws IOException {
+        csv = directorio.resolve("pokemon.csv");
+        Files.copy(Path.of("data/pokemon_data_pokeapi.csv"), csv);
+    }
+    
+    private List<String> resumen(MapaPokemons mapa) {
+        List<String> lineas = new ArrayList<>();
+        for (Pokemon p : mapa.obtenerTodos().values()) {
+            lineas.add(p.toJson());
+        }
+        return lineas;
+    }
+    
+    @Test
+    public void testEscribirYLeerConservaLosDatos() throws IOException {
+        MapaPokemons original = LectorCSV.leerArchivoPokemon(csv.toString(), new LinkedHashMapPokemon());
+        Path archivo = directorio.resolve("pokemon.bin");
+        InstantaneaBinaria.escribir(original.obtenerTodos().values(), csv, archivo);
+        
+        InstantaneaBinaria instantanea = InstantaneaBinaria.abrir(archivo);
+        assertEquals(905, instantanea.getCantidadPokemon());
+        assertTrue(instantanea.esVigentePara(csv));
+        
+        // Mismos datos y en el mismo orden del archivo
+        MapaPokemons cargado = new LinkedHashMapPokemon();
+        ResultadoCarga resultado = instantanea.cargarEn(cargado);
+        assertTrue(resultado.isDesdeInstantanea());
+        assertEquals(resumen(original), resumen(cargado));
+        
+        // Las cadenas repetidas se comparten entre Pokémon
+        assertSame(cargado.obtenerPokemon("Bulbasaur").getAbilities(),
+                   cargado.obtenerPokemon("Ivysaur").getAbilities());
+    }
+    
+    @Test
+    public void testBuscarPorNombreEnElIndice() throws IOException {
+        MapaPokemons original = LectorCSV.leerArchivoPokemon(csv.toString(), new LinkedHashMapPokemon());
+        Path archivo = directorio.resolve("pokemon.bin");
+        InstantaneaBinaria.escribir(original.obtenerTodos().values(), csv, archivo);
+        InstantaneaBinaria instantanea = InstantaneaBinaria.abrir(archivo);
+        
+        for (Pokemon p : original.obtenerTodos().values()) {
+            assertEquals(p.toJson(), instantanea.obtenerPokemon(p.getName()).toJson());
+        }
+        assertNull(instantanea.obtenerPokemon("Missingno"));
+        assertNull(instantanea.obtenerPokemon("bulbasaur"));
+    }
+    
+    @Test
+    public void testInstantaneaDanadaSeRechaza() throws IOException {
+        MapaPokemons original = LectorCSV.leerArchivoPokemon(csv.toString(), new LinkedHashMapPokemon());
+        Path archivo = directorio.resolve("pokemon.bin");
+        InstantaneaBinaria.escribir(original.obtenerTodos().values(), csv, archivo);
+        
+        byte[] bytes = Files.readAllBytes(archivo);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(archivo, bytes);
+        assertThrows(IOException.class, () -> InstantaneaBinaria.abrir(archivo));
+        
+        Files.write(archivo, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> InstantaneaBinaria.abrir(archivo));
+    }
+    
+    @Test
+    public void testLecturaConInstantaneaSeReconstruyeSiCambiaElCsv() throws IOException {
+        Path archivo = LectorCSV.rutaInstantanea(csv);
+        assertEquals(directorio.resolve("pokemon.bin"), archivo);
+        
+        // Primer inicio: se lee el CSV y se escribe la instantánea
+        ResultadoCarga primero = LectorCSV.leerConInstantanea(csv.toString(), new HashMapPokemon(), 2);
+        assertFalse(primero.isDesdeInstantanea());
+        assertTrue(Files.exists(archivo));
+        
+        // Siguiente inicio: se usa la instantánea
+        MapaPokemons mapa = new HashMapPokemon();
+        ResultadoCarga segundo = LectorCSV.leerConInstantanea(csv.toString(), mapa, 2);
+        assertTrue(segundo.isDesdeInstantanea());
+        assertEquals(905, mapa.obtenerTodos().size());
+        
+        // Si el CSV cambia, la instantánea deja de estar vigente
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(Files.getLastModifiedTime(csv).toMillis() + 5000));
+        assertFalse(InstantaneaBinaria.abrir(archivo).esVigentePara(csv));
+        ResultadoCarga tercero = LectorCSV.leerConInstantanea(csv.toString(), new HashMapPokemon(), 2);
+        assertFalse(tercero.isDesdeInstantanea());
+        assertTrue(InstantaneaBinaria.abrir(archivo).esVigentePara(csv));
+    }
+    
+    @Test
+    public void testInstantaneaConservaElOrdenDelArchivo() throws IOException {
+        // La instantánea la escribe una carga en HashMap, que recorre en orden de hash
+        MapaPokemons primero = new HashMapPokemon();
+        assertFalse(LectorCSV.leerConInstantanea(csv.toString(), primero, 2).isDesdeInstantanea());
+        
+        // Una carga posterior con orden de inserción debe ver el orden del CSV
+        MapaPokemons segundo = new LinkedHashMapPokemon();
+        assertTrue(LectorCSV.leerConInstantanea(csv.toString(), segundo, 2).isDesdeInstantanea());
+        MapaPokemons esperado = LectorCSV.leerArchivoPokemon(csv.toString(), new LinkedHashMapPokemon());
+        assertEquals(new ArrayList<>(esperado.obtenerTodos().keySet()), new ArrayList<>(segundo.obtenerTodos().keySet()));
+        assertEquals("Bulbasaur", segundo.obtenerTodos().keySet().iterator().next());
+    }
+}
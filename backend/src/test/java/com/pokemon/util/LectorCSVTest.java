@@ -0,0 +1,273 @@
+package com.pokemon.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pokemon.model.Pokemon;
+import com.pokemon.service.LinkedHashMapPokemon;
+import com.pokemon.service.MapaPokemons;
+
+/**
+ * Pruebas para el lector de archivos CSV
+ * Autor: Fatima Navarro
+ */
+public class LectorCSVTest {
+    
+    private static final String ENCABEZADO =
+        "Name,Pokedex Number,Type1,Type2,Classification,Height (m),Weight (kg),Abilities,Generation,Legendary Status";
+    
+    @TempDir
+    Path directorio;
+    
+    private Path crearArchivo(int filas, String finDeLinea) throws IOException {
+        StringBuilder sb = new StringBuilder(ENCABEZADO).append(finDeLinea);
+        for (int i = 1; i <= filas; i++) {
+            sb.append("Pokémon-").append(i).append(",")
+              .append(i).append(",")
+              .append(i % 2 == 0 ? "Water" : "Fire").append(",")
+              .append(i % 3 == 0 ? "Flying" : "").append(",")
+              .append("Test Pokémon,")
+              .append(i % 20 / 10.0f).append(",")
+              .append(i * 1.5f).append(",")
+              .append(i % 5 == 0 ? "Blaze" : "Torrent").append(",")
+              .append(1 + i % 8).append(",")
+              .append(i % 50 == 0 ? "Legendary" : "No")
+              .append(finDeLinea);
+        }
+        Path archivo = directorio.resolve("pokemon.csv");
+        Files.write(archivo, sb.toString().getBytes(StandardCharsets.UTF_8));
+        return archivo;
+    }
+    
+    private List<String> resumen(MapaPokemons mapa) {
+        List<String> lineas = new ArrayList<>();
+        for (Pokemon p : mapa.obtenerTodos().values()) {
+            lineas.add(p.toJson());
+        }
+        return lineas;
+    }
+    
+    @Test
+    public void testCargaParalelaIgualASecuencial() throws IOException {
+        Path archivo = crearArchivo(5000, "\n");
+        MapaPokemons secuencial = LectorCSV.leerArchivoPokemon(archivo.toString(), new LinkedHashMapPokemon());
+        
+        // El resultado debe ser el mismo, y en el mismo orden, con cualquier paralelismo
+        for (int hilos : new int[] {1, 3, 8}) {
+            MapaPokemons paralelo = new LinkedHashMapPokemon();
+            ResultadoCarga resultado = LectorCSV.leerArchivoPokemonParalelo(archivo.toString(), paralelo, hilos);
+            
+            assertEquals(5000, resultado.getFilasCargadas());
+            assertEquals(0, resultado.getFilasOmitidas());
+            assertEquals(hilos, resultado.getParalelismo());
+            assertTrue(resultado.getFilasPorSegundo() > 0);
+            assertEquals(resumen(secuencial), resumen(paralelo));
+        }
+    }
+    
+    @Test
+    public void testCargaParalelaConFinDeLineaWindows() throws IOException {
+        Path archivo = crearArchivo(100, "\r\n");
+        MapaPokemons mapa = new LinkedHashMapPokemon();
+        LectorCSV.leerArchivoPokemonParalelo(archivo.toString(), mapa, 4);
+        
+        assertEquals(100, mapa.obtenerTodos().size());
+        Pokemon ultimo = mapa.obtenerPokemon("Pokémon-100");
+        // La última columna no debe arrastrar el '\r'
+        assertTrue(ultimo.isLegendary());
+        assertEquals(5, ultimo.getGeneration());
+    }
+    
+    @Test
+    public void testCargaParalelaOmiteFilasInvalidas() throws IOException {
+        Path archivo = directorio.resolve("invalido.csv");
+        Files.write(archivo, (ENCABEZADO + "\n"
+            + "Pikachu,25,Electric,,Mouse Pokémon,0.4,6,Static,1,No\n"
+            + "incompleta,1,2\n"
+            + "Raichu,veintiseis,Electric,,Mouse Pokémon,0.8,30,Static,1,No\n").getBytes(StandardCharsets.UTF_8));
+        
+        MapaPokemons mapa = new LinkedHashMapPokemon();
+        ResultadoCarga resultado = LectorCSV.leerArchivoPokemonParalelo(archivo.toString(), mapa, 2);
+        
+        assertEquals(1, resultado.getFilasCargadas());
+        assertEquals(2, resultado.getFilasOmitidas());
+        assertTrue(mapa.existePokemon("Pikachu"));
+    }
+    
+    @Test
+    public void testCargaMapeadaIgualAParalela() throws IOException {
+        Path archivo = crearArchivo(5000, "\n");
+        MapaPokemons paralelo = new LinkedHashMapPokemon();
+        LectorCSV.leerArchivoPokemonParalelo(archivo.toString(), paralelo, 4);
+        
+        // Los números se convierten desde los bytes y deben coincidir exactamente
+        MapaPokemons mapeado = new LinkedHashMapPokemon();
+        ResultadoCarga resultado = LectorCSV.leerArchivoPokemonMapeado(archivo.toString(), mapeado);
+        
+        assertEquals(5000, resultado.getFilasCargadas());
+        assertEquals(resumen(paralelo), resumen(mapeado));
+    }
+    
+    @Test
+    public void testCargaMapeadaRespetaComillas() throws IOException {
+        Path archivo = directorio.resolve("comillas.csv");
+        Files.write(archivo, (ENCABEZADO + "\r\n"
+            + "Bulbasaur,1,Grass,Poison,Seed Pokémon,0.7,6.9,\"Overgrow, Chlorophyll\",1,No\r\n"
+            + "Flabébé,669,Fairy,,Single Bloom Pokémon,0.1,0.1,\"Flower-veil, \"\"Symbiosis\"\"\",6,No\r\n"
+            + "Mewtwo,150,Psychic,,Genetic Pokémon,2,122,Pressure,1,Legendary\r\n").getBytes(StandardCharsets.UTF_8));
+        
+        MapaPokemons mapa = new LinkedHashMapPokemon();
+        ResultadoCarga resultado = LectorCSV.leerArchivoPokemonMapeado(archivo.toString(), mapa);
+        assertEquals(3, resultado.getFilasCargadas());
+        
+        Pokemon bulbasaur = mapa.obtenerPokemon("Bulbasaur");
+        assertEquals("Overgrow, Chlorophyll", bulbasaur.getAbilities());
+        assertEquals(1, bulbasaur.getGeneration());
+        assertEquals(0.7f, bulbasaur.getHeight());
+        assertEquals(6.9f, bulbasaur.getWeight());
+        
+        Pokemon flabebe = mapa.obtenerPokemon("Flabébé");
+        assertEquals("Flower-veil, \"Symbiosis\"", flabebe.getAbilities());
+        assertEquals("", flabebe.getType2());
+        
+        assertTrue(mapa.obtenerPokemon("Mewtwo").isLegendary());
+    }
+    
+    @Test
+    public void testCargaMapeadaEstadoLegendario() throws IOException {
+        // El estado se lee desde los bytes con las mismas reglas que los otros modos
+        Path archivo = directorio.resolve("legendarios.csv");
+        Files.write(archivo, (ENCABEZADO + "\n"
+            + "Uno,1,Psychic,,Test Pokémon,1,1,Pressure,1, YES \n"
+            + "Dos,2,Psychic,,Test Pokémon,1,1,Pressure,1,True\n"
+            + "Tres,3,Psychic,,Test Pokémon,1,1,Pressure,1,Sub-LEGENDARY\n"
+            + "Cuatro,4,Psychic,,Test Pokémon,1,1,Pressure,1,No\n"
+            + "Cinco,5,Psychic,,Test Pokémon,1,1,Pressure,1,yess\n"
+            + "Seis,6,Psychic,,Test Pokémon,1,1,Pressure,1,Yes\r\n"
+            + "Siete,7,Psychic,,Test Pokémon,1,1,Pressure,1,\n").getBytes(StandardCharsets.UTF_8));
+        
+        MapaPokemons secuencial = LectorCSV.leerArchivoPokemon(archivo.toString(), new LinkedHashMapPokemon());
+        MapaPokemons mapeado = new LinkedHashMapPokemon();
+        LectorCSV.leerArchivoPokemonMapeado(archivo.toString(), mapeado);
+        
+        for (String nombre : new String[] {"Uno", "Dos", "Tres", "Seis"}) {
+            assertTrue(mapeado.obtenerPokemon(nombre).isLegendary(), nombre);
+        }
+        for (String nombre : new String[] {"Cuatro", "Cinco", "Siete"}) {
+            assertFalse(mapeado.obtenerPokemon(nombre).isLegendary(), nombre);
+        }
+        assertEquals(resumen(secuencial), resumen(mapeado));
+    }
+    
+    @Test
+    public void testCargaMapeadaArchivoReal() throws IOException {
+        // Todas las filas del CSV incluido, aunque sus habilidades tengan comas
+        MapaPokemons mapa = new LinkedHashMapPokemon();
+        ResultadoCarga resultado = LectorCSV.leerArchivoPokemonMapeado("data/pokemon_data_pokeapi.csv", mapa);
+        
+        assertEquals(905, resultado.getFilasCargadas());
+        assertEquals(0, resultado.getFilasOmitidas());
+        assertEquals("Overgrow, Chlorophyll", mapa.obtenerPokemon("Bulbasaur").getAbilities());
+    }
+    
+    @Test
+    public void testCargaSecuencialArchivoReal() throws IOException {
+        // Las habilidades entre comillas ya no desplazan las columnas
+        MapaPokemons mapa = LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", new LinkedHashMapPokemon());
+        
+        assertEquals(905, mapa.obtenerTodos().size());
+        Pokemon bulbasaur = mapa.obtenerPokemon("Bulbasaur");
+        assertEquals("Overgrow, Chlorophyll", bulbasaur.getAbilities());
+        assertEquals(1, bulbasaur.getGeneration());
+        
+        // El CSV marca a los legendarios con "Yes"
+        assertTrue(mapa.obtenerPokemon("Mewtwo").isLegendary());
+        assertFalse(bulbasaur.isLegendary());
+        
+        MapaPokemons paralelo = new LinkedHashMapPokemon();
+        LectorCSV.leerArchivoPokemonParalelo("data/pokemon_data_pokeapi.csv", paralelo, 4);
+        assertEquals(resumen(mapa), resumen(paralelo));
+    }
+    
+    @Test
+    public void testTextosRepetidosCompartidos() throws IOException {
+        // Los textos repetidos son la misma instancia en todos los Pokémon
+        for (boolean enParalelo : new boolean[] {false, true}) {
+            MapaPokemons mapa = new LinkedHashMapPokemon();
+            if (enParalelo) {
+                LectorCSV.leerArchivoPokemonParalelo("data/pokemon_data_pokeapi.csv", mapa, 4);
+            } else {
+                LectorCSV.leerArchivoPokemon("data/pokemon_data_pokeapi.csv", mapa);
+            }
+            
+            Pokemon bulbasaur = mapa.obtenerPokemon("Bulbasaur");
+            Pokemon ivysaur = mapa.obtenerPokemon("Ivysaur");
+            Pokemon mew = mapa.obtenerPokemon("Mew");
+            assertSame(bulbasaur.getType1(), ivysaur.getType1());
+            assertSame(bulbasaur.getClassification(), ivysaur.getClassification());
+            assertSame(bulbasaur.getAbilities(), ivysaur.getAbilities());
+            assertSame("Grass", bulbasaur.getType1());
+            assertSame(mapa.obtenerPokemon("Mewtwo").getType1(), mew.getType1());
+        }
+    }
+    
+    @Test
+    public void testColumnasPorNombreDeEncabezado() throws IOException {
+        // Columnas en otro orden, sin Type2 y con una columna extra
+        Path archivo = directorio.resolve("reordenado.csv");
+        Files.write(archivo, ("\uFEFFPokedex Number,Name,Extra,Abilities,Type1,Classification,"
+            + "Weight (kg),Height (m),Generation,Legendary Status\n"
+            + "25,Pikachu,x,\"Static, Lightning-rod\",Electric,Mouse Pokémon,6,0.4,1,No\n"
+            + "150,Mewtwo,y,Pressure,Psychic,Genetic Pokémon,122,2,1,Yes\n").getBytes(StandardCharsets.UTF_8));
+        
+        MapaPokemons secuencial = LectorCSV.leerArchivoPokemon(archivo.toString(), new LinkedHashMapPokemon());
+        MapaPokemons paralelo = new LinkedHashMapPokemon();
+        LectorCSV.leerArchivoPokemonParalelo(archivo.toString(), paralelo, 2);
+        MapaPokemons mapeado = new LinkedHashMapPokemon();
+        LectorCSV.leerArchivoPokemonMapeado(archivo.toString(), mapeado);
+        
+        Pokemon pikachu = secuencial.obtenerPokemon("Pikachu");
+        assertEquals(25, pikachu.getPokedexNumber());
+        assertEquals("Static, Lightning-rod", pikachu.getAbilities());
+        assertEquals(0.4f, pikachu.getHeight());
+        assertEquals(6.0f, pikachu.getWeight());
+        assertEquals("", pikachu.getType2());
+        assertTrue(secuencial.obtenerPokemon("Mewtwo").isLegendary());
+        
+        // Los tres modos de lectura usan el mismo mapeo de columnas
+        assertEquals(resumen(secuencial), resumen(paralelo));
+        assertEquals(resumen(secuencial), resumen(mapeado));
+    }
+    
+    @Test
+    public void testEncabezadoSinColumnaObligatoria() throws IOException {
+        Path archivo = directorio.resolve("sin-nombre.csv");
+        Files.write(archivo, "Pokedex Number,Type1\n1,Grass\n".getBytes(StandardCharsets.UTF_8));
+        
+        assertThrows(IOException.class,
+            () -> LectorCSV.leerArchivoPokemon(archivo.toString(), new LinkedHashMapPokemon()));
+        assertThrows(IOException.class,
+            () -> LectorCSV.leerArchivoPokemonParalelo(archivo.toString(), new LinkedHashMapPokemon(), 2));
+        assertThrows(IOException.class,
+            () -> LectorCSV.leerArchivoPokemonMapeado(archivo.toString(), new LinkedHashMapPokemon()));
+    }
+    
+    @Test
+    public void testParalelismoInvalido() throws IOException {
+        Path archivo = crearArchivo(1, "\n");
+        assertThrows(IllegalArgumentException.class,
+            () -> LectorCSV.leerArchivoPokemonParalelo(archivo.toString(), new LinkedHashMapPokemon(), 0));
+    }
+}
@@ -0,0 +1,84 @@
+package com.pokemon.util;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas para el tokenizador de CSV
+ * Autor: Fatima Navarro
+ */
+public class TokenizadorCSVTest {
+    
+    private TokenizadorCSV crear(String texto) {
+        return new TokenizadorCSV(new StringReader(texto));
+    }
+    
+    @Test
+    public void testCamposEntreComillas() throws IOException {
+        TokenizadorCSV tokenizador = crear(
+            "Bulbasaur,\"Overgrow, Chlorophyll\",1\n"
+            + "Flabébé,\"Flower-veil, \"\"Symbiosis\"\"\",6\n");
+        
+        // Las comas dentro de las comillas no separan campos
+        assertTrue(tokenizador.siguienteFila());
+        assertArrayEquals(new String[] {"Bulbasaur", "Overgrow, Chlorophyll", "1"}, tokenizador.campos());
+        
+        // Las comillas dobles escapadas se reducen a una
+        assertTrue(tokenizador.siguienteFila());
+        assertEquals("Flower-veil, \"Symbiosis\"", tokenizador.campo(1));
+        assertEquals(6, tokenizador.entero(2));
+        
+        assertFalse(tokenizador.siguienteFila());
+    }
+    
+    @Test
+    public void testSaltoDeLineaDentroDeComillas() throws IOException {
+        TokenizadorCSV tokenizador = crear("a,\"linea 1\r\nlinea 2\",c\r\nd,e,f");
+        
+        assertTrue(tokenizador.siguienteFila());
+        assertEquals(3, tokenizador.getCantidadCampos());
+        assertEquals("linea 1\r\nlinea 2", tokenizador.campo(1));
+        
+        // La última fila no tiene salto de línea final
+        assertTrue(tokenizador.siguienteFila());
+        assertArrayEquals(new String[] {"d", "e", "f"}, tokenizador.campos());
+        assertFalse(tokenizador.siguienteFila());
+    }
+    
+    @Test
+    public void testFinDeLineaWindowsYBom() throws IOException {
+        TokenizadorCSV tokenizador = crear("\uFEFFName,Legendary Status\r\nMewtwo,Yes\r\n\r\n");
+        
+        assertTrue(tokenizador.siguienteFila());
+        assertEquals("Name", tokenizador.campo(0));
+        assertTrue(tokenizador.siguienteFila());
+        assertEquals("Yes", tokenizador.campo(1));
+        
+        // La línea en blanco se reconoce como fila vacía
+        assertTrue(tokenizador.siguienteFila());
+        assertTrue(tokenizador.esFilaVacia());
+        assertFalse(tokenizador.siguienteFila());
+    }
+    
+    @Test
+    public void testCamposVaciosYNumeros() throws IOException {
+        TokenizadorCSV tokenizador = crear("Pikachu,, 0.4 ,13,\"\",x\n");
+        
+        assertTrue(tokenizador.siguienteFila());
+        assertEquals(6, tokenizador.getCantidadCampos());
+        assertEquals("", tokenizador.campo(1));
+        assertEquals("0.4", tokenizador.campoSinEspacios(2));
+        assertEquals(0.4f, tokenizador.decimal(2));
+        assertEquals(13.0f, tokenizador.decimal(3));
+        assertEquals("", tokenizador.campo(4));
+        assertThrows(NumberFormatException.class, () -> tokenizador.entero(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> tokenizador.campo(6));
+    }
+}